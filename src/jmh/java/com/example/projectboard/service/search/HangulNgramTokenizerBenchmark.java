@@ -0,0 +1,112 @@
+package com.example.projectboard.service.search;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * <p>
+ * {@link HangulNgramTokenizer} 처리량 측정
+ *
+ * <p>
+ * data.sql 의 게시글 문자열(영문)과 같은 길이의 한글 문단을 번갈아 토큰화하며,
+ * 초당 처리한 문서 수(ops)와 함께 초당 생성한 토큰 수(tokens)를 보고한다.
+ * <pre>
+ *     ./gradlew jmh
+ * </pre>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class HangulNgramTokenizerBenchmark {
+
+    private static final String[] HANGUL_WORDS = {
+            "스프링", "부트", "게시판", "게시글", "댓글", "해시태그", "검색", "색인", "데이터베이스", "트랜잭션",
+            "을", "를", "은", "는", "이", "가", "에서", "으로", "하였다", "합니다", "입니다", "공부", "프로젝트", "설정"
+    };
+
+    private final HangulNgramTokenizer tokenizer = new HangulNgramTokenizer();
+
+    private List<String> corpus;
+    private int cursor;
+
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.OPERATIONS)
+    public static class TokenCounter {
+        public long tokens;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            tokens = 0;
+        }
+    }
+
+    @Setup
+    public void setUp() throws IOException {
+        List<String> latin = readQuotedStrings();
+        Random random = new Random(42);
+
+        corpus = new ArrayList<>(latin.size() * 2);
+        for (String text : latin) {
+            corpus.add(text);
+            corpus.add(hangulParagraph(random, text.length()));
+        }
+    }
+
+    @Benchmark
+    public int tokenize(TokenCounter counter) {
+        String text = corpus.get(cursor);
+        cursor = (cursor + 1) % corpus.size();
+
+        int size = tokenizer.tokenize(text).size();
+        counter.tokens += size;
+        return size;
+    }
+
+    private static List<String> readQuotedStrings() throws IOException {
+        String sql;
+        try (InputStream in = HangulNgramTokenizerBenchmark.class.getResourceAsStream("/data.sql")) {
+            if (in == null) {
+                throw new IllegalStateException("data.sql 을 찾을 수 없습니다.");
+            }
+            sql = new String(in.readAllBytes(), StandardCharsets.UTF_8);
+        }
+
+        // 게시글/댓글 제목, 본문만 사용하기 위해 짧은 값(아이디, 날짜 등)은 제외한다.
+        List<String> strings = new ArrayList<>();
+        int start = -1;
+        for (int i = 0; i < sql.length(); i++) {
+            if (sql.charAt(i) != '\'') {
+                continue;
+            }
+            if (start < 0) {
+                start = i + 1;
+            } else {
+                String value = sql.substring(start, i);
+                if (value.length() > 20) {
+                    strings.add(value);
+                }
+                start = -1;
+            }
+        }
+
+        return strings;
+    }
+
+    private static String hangulParagraph(Random random, int length) {
+        StringBuilder builder = new StringBuilder(length + 16);
+        while (builder.length() < length) {
+            builder.append(HANGUL_WORDS[random.nextInt(HANGUL_WORDS.length)]);
+            if (random.nextInt(3) > 0) {
+                builder.append(' ');
+            }
+        }
+        return builder.toString();
+    }
+}
@@ -0,0 +1,38 @@
+package com.example.projectboard.config;
+
+import lombok.Getter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.ConstructorBinding;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.nio.file.Path;
+
+@Getter
+@ConstructorBinding
+@ConfigurationProperties("board.import")
+public class ArticleImportProperties {
+    /**
+     * 한 트랜잭션으로 저장(커밋)하는 게시글 수
+     */
+    private final int chunkSize;
+
+    /**
+     * 애플리케이션 시작 시 불러올 NDJSON 파일, 없다면 불러오지 않는다. (ArticleImportRunner)
+     */
+    private final Path file;
+
+    /**
+     * 파일을 불러오는 사용자 id, 게시글, 해시태그의 생성자로 기록된다.
+     */
+    private final String operator;
+
+    public ArticleImportProperties(
+            @DefaultValue("500") int chunkSize,
+            Path file,
+            String operator
+    ) {
+        this.chunkSize = chunkSize;
+        this.file = file;
+        this.operator = operator;
+    }
+}
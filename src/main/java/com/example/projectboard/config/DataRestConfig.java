@@ -8,6 +8,11 @@ import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.data.rest.webmvc.config.RepositoryRestConfigurer;
 
+/**
+ * Spring Data REST 는 엔티티 id 를 기존처럼 JSON 숫자로 내보낸다.
+ * Snowflake id 는 2^53 을 넘으므로 JavaScript 에서 다룰 때는 숫자 id 대신 _links 의 주소를 사용한다.
+ * (화면에서 쓰는 /api/** 응답은 댓글 id 를 항상 문자열로 내보낸다. {@link com.example.projectboard.dto.response.ArticleCommentResponse})
+ */
 @Configuration
 public class DataRestConfig {
 
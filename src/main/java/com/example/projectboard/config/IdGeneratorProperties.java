@@ -0,0 +1,20 @@
+package com.example.projectboard.config;
+
+import lombok.Getter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.ConstructorBinding;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+@Getter
+@ConstructorBinding
+@ConfigurationProperties("board.id-generator")
+public class IdGeneratorProperties {
+    /**
+     * 게시글, 댓글 id(Snowflake)에 들어가는 노드 id (0 ~ 1023), 같은 DB 를 쓰는 노드끼리 겹치지 않아야 한다.
+     */
+    private final int nodeId;
+
+    public IdGeneratorProperties(@DefaultValue("0") int nodeId) {
+        this.nodeId = nodeId;
+    }
+}
@@ -1,6 +1,8 @@
 package com.example.projectboard.config;
 
+import com.example.projectboard.domain.id.SnowflakeIdGenerator;
 import com.example.projectboard.dto.security.BoardPrincipal;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.data.domain.AuditorAware;
@@ -27,4 +29,10 @@ public class JpaConfig {
                 .map(BoardPrincipal::getUsername)
                 ;
     }
+
+    // Hibernate 가 직접 만드는 id 생성기(SnowflakeIdGenerator)에 노드 id 를 넘긴다.
+    @Bean
+    public HibernatePropertiesCustomizer idGeneratorPropertiesCustomizer(IdGeneratorProperties idGeneratorProperties){
+        return hibernateProperties -> hibernateProperties.put(SnowflakeIdGenerator.NODE_ID_SETTING, idGeneratorProperties.getNodeId());
+    }
 }
@@ -0,0 +1,42 @@
+package com.example.projectboard.config;
+
+import lombok.Getter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.ConstructorBinding;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+@Getter
+@ConstructorBinding
+@ConfigurationProperties("board.pagination")
+public class PaginationProperties {
+    /**
+     * 게시글 목록의 전체 개수를 구하는 방식
+     */
+    private final CountMode countMode;
+
+    /**
+     * APPROXIMATE 모드에서 캐시된 전체 개수를 다시 세는 주기
+     */
+    private final Duration countRefreshInterval;
+
+    public PaginationProperties(
+            @DefaultValue("exact") CountMode countMode,
+            @DefaultValue("1m") Duration countRefreshInterval
+    ) {
+        this.countMode = countMode;
+        this.countRefreshInterval = countRefreshInterval;
+    }
+
+    public enum CountMode {
+        /**
+         * 페이지를 조회할 때마다 count 쿼리를 실행한다.
+         */
+        EXACT,
+        /**
+         * 페이지는 count 쿼리 없이(Slice) 조회하고, 전체 개수는 검색 조건별로 캐시해두고 백그라운드에서 주기적으로 다시 센다.
+         */
+        APPROXIMATE
+    }
+}
@@ -0,0 +1,10 @@
+package com.example.projectboard.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+// 메모리에 유지하는 집계(ex. ArticleCounter)를 DB 와 주기적으로 맞추고, 게시글이 없어진 해시태그를 수거(OrphanHashtagCollector)하기 위해 사용
+@EnableScheduling
+@Configuration
+public class SchedulingConfig {
+}
@@ -0,0 +1,35 @@
+package com.example.projectboard.config;
+
+import lombok.Getter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.ConstructorBinding;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+@Getter
+@ConstructorBinding
+@ConfigurationProperties("board.search")
+public class SearchProperties {
+    /**
+     * 본문(SearchType.CONTENT) 검색 방식
+     */
+    private final ContentBackend contentBackend;
+
+    public SearchProperties(@DefaultValue("index") ContentBackend contentBackend) {
+        this.contentBackend = contentBackend;
+    }
+
+    public enum ContentBackend {
+        /**
+         * 메모리 역색인, 색인으로 처리할 수 없는 검색어는 LIKE 검색을 사용한다.
+         */
+        INDEX,
+        /**
+         * PostgreSQL tsvector 컬럼과 GIN 인덱스를 사용한 전문 검색 (schema-postgresql.sql)
+         */
+        FULL_TEXT,
+        /**
+         * LIKE '%검색어%' 검색
+         */
+        LIKE
+    }
+}
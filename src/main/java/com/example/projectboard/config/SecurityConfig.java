@@ -40,6 +40,8 @@ public class SecurityConfig{
         return http
                 .authorizeHttpRequests(auth -> auth
                         .requestMatchers(PathRequest.toStaticResources().atCommonLocations()).permitAll()
+                        // 게시글 대량 등록은 로그인한 사용자의 게시글로 등록한다.
+                        .mvcMatchers(HttpMethod.POST, "/api/articles:bulk").authenticated()
                         .mvcMatchers("/api/**").permitAll()
                         .mvcMatchers(
                                 HttpMethod.GET,
@@ -118,7 +120,6 @@ public class SecurityConfig{
             String registrationId = userRequest.getClientRegistration().getRegistrationId();
             String providerId = String.valueOf(kakaoResponse.id());
             String username = registrationId + "_" + providerId; // kakao_123456
-            String dummyPassword = passwordEncoder.encode("{bcrypt}" + UUID.randomUUID());
 
             /**
              * Optional orElse 와 orElseGet 의 차이점
@@ -132,7 +133,8 @@ public class SecurityConfig{
                             BoardPrincipal.from(
                                     userAccountService.saveUser(
                                             username,
-                                            dummyPassword,
+                                            // bcrypt 해싱은 비용이 크므로 처음 가입할 때만 만든다.
+                                            passwordEncoder.encode("{bcrypt}" + UUID.randomUUID()),
                                             kakaoResponse.email(),
                                             kakaoResponse.nickname(),
                                             null
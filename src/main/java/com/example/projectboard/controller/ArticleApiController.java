@@ -0,0 +1,47 @@
+package com.example.projectboard.controller;
+
+import com.example.projectboard.dto.response.ArticleImportResponse;
+import com.example.projectboard.dto.security.BoardPrincipal;
+import com.example.projectboard.service.importer.ArticleImportService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import javax.servlet.http.HttpServletRequest;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * 게시글 대량 등록 API
+ */
+@RequiredArgsConstructor
+@RequestMapping("/api")
+@RestController
+public class ArticleApiController {
+
+    public static final String NDJSON_VALUE = "application/x-ndjson";
+
+    private final ArticleImportService articleImportService;
+
+    /**
+     * <p>
+     * 요청 본문(NDJSON, 한 줄에 게시글 하나)을 읽는 대로 나눠 저장한다. 본문 전체를 메모리에 올리지 않는다.
+     * 모든 게시글의 작성자는 로그인한 사용자이다.
+     * <pre>
+     *     curl -b 'JSESSIONID={로그인 세션}' -H 'Content-Type: application/x-ndjson' --data-binary @articles.ndjson http://localhost:8080/api/articles:bulk
+     * </pre>
+     */
+    @PostMapping(value = "/articles:bulk", consumes = NDJSON_VALUE)
+    public ArticleImportResponse bulkImport(
+            HttpServletRequest request,
+            @AuthenticationPrincipal BoardPrincipal boardPrincipal
+    ) throws IOException {
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(request.getInputStream(), StandardCharsets.UTF_8))) {
+            return articleImportService.importArticles(reader, boardPrincipal.getUsername());
+        }
+    }
+}
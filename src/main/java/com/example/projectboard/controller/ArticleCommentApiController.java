@@ -0,0 +1,68 @@
+package com.example.projectboard.controller;
+
+import com.example.projectboard.dto.ArticleCommentDto;
+import com.example.projectboard.dto.response.ArticleCommentsResponse;
+import com.example.projectboard.repository.querydsl.ArticleCursor;
+import com.example.projectboard.repository.querydsl.CursorSlice;
+import com.example.projectboard.service.ArticleCommentService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.Map;
+
+/**
+ * 게시글 상세 페이지에서 대댓글을 펼칠 때 호출하는 API
+ */
+@RequiredArgsConstructor
+@RequestMapping("/api/comments")
+@RestController
+public class ArticleCommentApiController {
+
+    private static final int MAX_PAGE_SIZE = 50;
+
+    private final ArticleCommentService articleCommentService;
+
+    /**
+     * 대댓글 목록 (작성순)
+     *
+     * @param after 마지막으로 본 대댓글의 커서, 없다면 첫 페이지
+     * @param size 최대 개수 (최대 50)
+     */
+    @GetMapping("/{parentCommentId}/child-comments")
+    public ArticleCommentsResponse childComments(
+            @PathVariable Long parentCommentId,
+            @RequestParam(required = false) String after,
+            @RequestParam(defaultValue = "10") int size
+    ) {
+        ArticleCursor cursor = ArticleCursor.of(after, null);
+        CursorSlice<ArticleCommentDto> childComments = articleCommentService.searchChildComments(parentCommentId, cursor, pageSize(size));
+        // 대댓글에도 답글을 달 수 있으므로, 대댓글마다 답글 수를 함께 내려준다.
+        Map<Long, Long> childCommentCounts = articleCommentService.countChildComments(
+                childComments.stream().map(ArticleCommentDto::id).toList());
+
+        return ArticleCommentsResponse.from(childComments, childCommentCounts);
+    }
+
+    /**
+     * 댓글과 모든 깊이의 답글 (깊이 우선 순서), 부모 댓글이 항상 답글보다 먼저 온다.
+     *
+     * @param after 마지막으로 본 답글의 경로(응답의 next), 없다면 첫 페이지
+     * @param size 최대 개수 (최대 50)
+     */
+    @GetMapping("/{articleCommentId}/thread")
+    public ArticleCommentsResponse thread(
+            @PathVariable Long articleCommentId,
+            @RequestParam(required = false) String after,
+            @RequestParam(defaultValue = "10") int size
+    ) {
+        return ArticleCommentsResponse.fromThread(articleCommentService.searchCommentThread(articleCommentId, after, pageSize(size)));
+    }
+
+    private static int pageSize(int size) {
+        return Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+    }
+}
@@ -2,15 +2,23 @@ package com.example.projectboard.controller;
 
 import com.example.projectboard.domain.constant.FormStatus;
 import com.example.projectboard.domain.constant.SearchType;
+import com.example.projectboard.domain.projection.HashtagUsage;
 import com.example.projectboard.dto.request.ArticleRequest;
 import com.example.projectboard.dto.security.BoardPrincipal;
+import com.example.projectboard.dto.response.ArticleCommentsResponse;
 import com.example.projectboard.dto.response.ArticleResponse;
+import com.example.projectboard.dto.response.ArticleSummaryResponse;
 import com.example.projectboard.dto.response.ArticleWithCommentsResponse;
+import com.example.projectboard.repository.querydsl.ArticleCursor;
 import com.example.projectboard.service.ArticleService;
+import com.example.projectboard.service.HashtagService;
 import com.example.projectboard.service.PaginationService;
+import com.example.projectboard.service.cache.ArticleDetailCache;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.web.PageableDefault;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
@@ -25,8 +33,13 @@ import java.util.List;
 @Controller
 public class ArticleController {
 
+    // 해시태그 검색 페이지에 보여줄 인기 해시태그 수, 나머지 해시태그는 자동완성(/api/hashtags/suggest)으로 찾는다.
+    private static final int POPULAR_HASHTAG_SIZE = 30;
+
     private final ArticleService articleService;
+    private final HashtagService hashtagService;
     private final PaginationService paginationService;
+    private final ArticleDetailCache articleDetailCache;
 
     @GetMapping
     public String articles(
@@ -35,7 +48,7 @@ public class ArticleController {
             @PageableDefault(size = 10, sort = "createdAt", direction = Sort.Direction.DESC) Pageable pageable,
             ModelMap map
     ){
-        Page<ArticleResponse> articles = articleService.searchArticles(searchType, searchValue, pageable).map(ArticleResponse::from);
+        Page<ArticleSummaryResponse> articles = articleService.searchArticles(searchType, searchValue, pageable).map(ArticleSummaryResponse::from);
         List<Integer> barNumbers = paginationService.getPaginationBarNumbers(pageable.getPageNumber(), articles.getTotalPages());
 
         map.addAttribute("articles", articles);
@@ -46,12 +59,52 @@ public class ArticleController {
         return "articles/index";
     }
 
+    /**
+     * 커서(keyset) 페이징 목록, 작성일 내림차순만 지원하며 페이지 번호 대신 이전/다음 링크를 보여준다.
+     * ex) /articles?paging=cursor&after={커서}
+     */
+    @GetMapping(params = "paging=cursor")
+    public String articlesByCursor(
+            @RequestParam(required = false) SearchType searchType,
+            @RequestParam(required = false) String searchValue,
+            @RequestParam(required = false) String after,
+            @RequestParam(required = false) String before,
+            @PageableDefault(size = 10) Pageable pageable,
+            ModelMap map
+    ){
+        ArticleCursor cursor = ArticleCursor.of(after, before);
+        Slice<ArticleSummaryResponse> articles = articleService.searchArticles(searchType, searchValue, cursor, pageable.getPageSize()).map(ArticleSummaryResponse::from);
+
+        map.addAttribute("articles", articles);
+        map.addAttribute("cursorBar", paginationService.getCursorBar(articles));
+        map.addAttribute("searchTypes", SearchType.values());
+        map.addAttribute("searchTypeHashtag", SearchType.HASHTAG);
+
+        return "articles/index";
+    }
+
+    /**
+     * 게시글 상세, 부모 댓글은 커서 페이징으로 보여주며 대댓글은 화면에서 /api/comments 로 불러온다.
+     *
+     * @param commentAfter 마지막으로 본 부모 댓글의 커서, 없다면 첫 페이지
+     */
     @GetMapping("/{articleId}")
-    public String article(@PathVariable Long articleId, ModelMap map){
-        ArticleWithCommentsResponse article = ArticleWithCommentsResponse.from(articleService.getArticleWithComments(articleId));
+    public String article(
+            @PathVariable Long articleId,
+            @RequestParam(required = false) String commentAfter,
+            ModelMap map
+    ){
+        ArticleWithCommentsResponse article = articleDetailCache.get(articleId);
+        ArticleCursor commentCursor = ArticleCursor.of(commentAfter, null);
+        ArticleCommentsResponse articleComments = commentCursor == null
+                ? article.articleCommentsResponse()
+                : articleDetailCache.getComments(articleId, commentCursor);
+
         map.addAttribute("article", article);
-        map.addAttribute("articleComments", article.articleCommentsResponse());
-        map.addAttribute("totalCount", articleService.getArticleCount());
+        map.addAttribute("articleComments", articleComments.comments());
+        map.addAttribute("nextCommentCursor", articleComments.next());
+        map.addAttribute("previousArticleId", articleService.getPreviousArticleId(articleId));
+        map.addAttribute("nextArticleId", articleService.getNextArticleId(articleId));
         map.addAttribute("searchTypeHashtag", SearchType.HASHTAG);
 
         return "articles/detail";
@@ -63,9 +116,9 @@ public class ArticleController {
             @PageableDefault(size = 10, sort = "createdAt", direction = Sort.Direction.DESC) Pageable pageable,
             ModelMap map
     ){
-        Page<ArticleResponse> articles = articleService.searchArticlesViaHashtag(searchValue, pageable).map(ArticleResponse::from);
+        Page<ArticleSummaryResponse> articles = articleService.searchArticlesViaHashtag(searchValue, pageable).map(ArticleSummaryResponse::from);
         List<Integer> barNumbers = paginationService.getPaginationBarNumbers(pageable.getPageNumber(), articles.getTotalPages());
-        List<String> hashtags = articleService.getHashtags();
+        List<HashtagUsage> hashtags = hashtagService.getHashtagCatalogue(PageRequest.of(0, POPULAR_HASHTAG_SIZE)).getContent();
 
         map.addAttribute("articles", articles);
         map.addAttribute("hashtags", hashtags);
@@ -75,6 +128,26 @@ public class ArticleController {
         return "articles/search-hashtag";
     }
 
+    @GetMapping(value = "/search-hashtag", params = "paging=cursor")
+    public String searchArticleHashtagByCursor(
+            @RequestParam(required = false) String searchValue,
+            @RequestParam(required = false) String after,
+            @RequestParam(required = false) String before,
+            @PageableDefault(size = 10) Pageable pageable,
+            ModelMap map
+    ){
+        ArticleCursor cursor = ArticleCursor.of(after, before);
+        Slice<ArticleSummaryResponse> articles = articleService.searchArticlesViaHashtag(searchValue, cursor, pageable.getPageSize()).map(ArticleSummaryResponse::from);
+        List<HashtagUsage> hashtags = hashtagService.getHashtagCatalogue(PageRequest.of(0, POPULAR_HASHTAG_SIZE)).getContent();
+
+        map.addAttribute("articles", articles);
+        map.addAttribute("hashtags", hashtags);
+        map.addAttribute("cursorBar", paginationService.getCursorBar(articles));
+        map.addAttribute("searchType", SearchType.HASHTAG);
+
+        return "articles/search-hashtag";
+    }
+
     @GetMapping("/form")
     public String articleForm(ModelMap map) {
         map.addAttribute("formStatus", FormStatus.CREATE);
@@ -0,0 +1,41 @@
+package com.example.projectboard.controller;
+
+import com.example.projectboard.dto.response.HashtagSuggestionResponse;
+import com.example.projectboard.service.HashtagService;
+import com.example.projectboard.service.search.HashtagSuggester;
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+/**
+ * 해시태그 검색 페이지의 자동완성에서 호출하는 API
+ */
+@RequiredArgsConstructor
+@RequestMapping("/api/hashtags")
+@RestController
+public class HashtagController {
+
+    private static final int MAX_SUGGESTION_SIZE = HashtagSuggester.MAX_LIMIT;
+
+    private final HashtagService hashtagService;
+
+    /**
+     * 해시태그 자동완성
+     *
+     * @param prefix 해시태그 이름 접두어 (대소문자 구분 없음)
+     * @param size 최대 개수 (최대 50)
+     */
+    @GetMapping("/suggest")
+    public List<HashtagSuggestionResponse> suggest(
+            @RequestParam(defaultValue = "") String prefix,
+            @RequestParam(defaultValue = "10") int size
+    ) {
+        return hashtagService.suggestHashtags(prefix.strip(), Math.max(0, Math.min(size, MAX_SUGGESTION_SIZE))).stream()
+                .map(HashtagSuggestionResponse::from)
+                .toList();
+    }
+}
@@ -1,8 +1,10 @@
 package com.example.projectboard.domain;
 
+import com.example.projectboard.domain.id.SnowflakeIdGenerator;
 import lombok.Getter;
 import lombok.Setter;
 import lombok.ToString;
+import org.hibernate.annotations.GenericGenerator;
 
 import javax.persistence.*;
 import java.util.Collection;
@@ -20,8 +22,16 @@ import java.util.Set;
 @Entity
 public class Article extends AuditingFields{
 
+    public static final int TITLE_MAX_LENGTH = 255;
+    public static final int CONTENT_MAX_LENGTH = 10000;
+
+    /**
+     * IDENTITY 는 insert 를 실행해야 id 를 알 수 있어, 노드가 여럿이면 DB 가 id 를 나눠주는 병목이 되고 insert 를 batch 로 묶지도 못한다.
+     * 각 노드가 시간 순서의 id 를 직접 만든다. ({@link SnowflakeIdGenerator})
+     */
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(generator = "snowflake")
+    @GenericGenerator(name = "snowflake", strategy = "com.example.projectboard.domain.id.SnowflakeIdGenerator")
     private Long id;
 
     @Setter
@@ -30,10 +40,10 @@ public class Article extends AuditingFields{
     private UserAccount userAccount; // 유저 정보(ID)
 
     @Setter
-    @Column(nullable = false)
+    @Column(nullable = false, length = TITLE_MAX_LENGTH)
     private String title; // 제목
     @Setter
-    @Column(nullable = false, length = 10000)
+    @Column(nullable = false, length = CONTENT_MAX_LENGTH)
     private String content; // 본문
 
     /**
@@ -1,8 +1,11 @@
 package com.example.projectboard.domain;
 
+import com.example.projectboard.domain.id.SnowflakeIdListener;
+import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.Setter;
 import lombok.ToString;
+import org.hibernate.annotations.GenericGenerator;
 import org.springframework.core.annotation.Order;
 
 import javax.persistence.*;
@@ -16,12 +19,21 @@ import java.util.Set;
         @Index(columnList = "content"),
         @Index(columnList = "createdAt"),
         @Index(columnList = "createdBy"),
+        // 게시글 상세의 부모 댓글, 대댓글 커서 페이징
+        @Index(columnList = "article_id, parentCommentId, createdAt"),
+        @Index(columnList = "parentCommentId, createdAt"),
+        // 답글 묶음(subtree) 조회, 삭제 - path like '부모 경로%'
+        @Index(columnList = "path"),
 })
 @Entity
-public class ArticleComment extends AuditingFields{
+public class ArticleComment extends AuditingFields implements SnowflakeIdListener {
+
+    public static final int PATH_SEGMENT_LENGTH = 19; // Long 최대 자릿수
+    public static final int MAX_DEPTH = 32; // 루트 댓글 포함
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(generator = "snowflake")
+    @GenericGenerator(name = "snowflake", strategy = "com.example.projectboard.domain.id.SnowflakeIdGenerator")
     private Long id;
 
     @Setter
@@ -62,6 +74,30 @@ public class ArticleComment extends AuditingFields{
     @OneToMany(mappedBy = "parentCommentId", cascade = CascadeType.ALL)
     private Set<ArticleComment> childComments = new LinkedHashSet<>();
 
+    /**
+     * <p>
+     * 댓글 경로(materialized path), 루트 댓글부터 자신까지의 id 를 PATH_SEGMENT_LENGTH 자리로 채워 이어 붙인다.
+     * <pre>
+     *     댓글 1         : 0000000000000000001
+     *     └ 답글 5       : 00000000000000000010000000000000000005
+     *       └ 답글 12    : 000000000000000000100000000000000000050000000000000000012
+     * </pre>
+     *
+     * <p>
+     * 자리 수가 같으므로 경로 순서가 곧 깊이 우선 순서(형제끼리는 id 순서)이고,
+     * 답글 묶음 전체는 재귀 조회 없이 path like '댓글 경로%' 범위 조회 한 번으로 읽거나 지울 수 있다.
+     * 저장 전에 {@link #assignPath} 로 부모를 정해두면, 저장(persist)하며 id 가 만들어질 때({@link #onIdGenerated}) 경로를 채우므로
+     * 경로도 insert 한 번에 들어간다. (부모를 정하지 않았다면 루트 댓글)
+     */
+    @Column(length = PATH_SEGMENT_LENGTH * MAX_DEPTH)
+    private String path;
+
+    // id 가 정해지기 전에 받아둔 부모 댓글의 경로, 루트 댓글이라면 ""
+    @Transient
+    @Getter(AccessLevel.NONE)
+    @ToString.Exclude
+    private String parentPath;
+
     @Setter
     @Column(nullable = false, length = 500)
     private String content; // 본문
@@ -86,6 +122,33 @@ public class ArticleComment extends AuditingFields{
         this.getChildComments().add(child);
     }
 
+    /**
+     * 부모 댓글의 경로 뒤에 자신의 id 를 붙인다. 부모가 없다면 루트 댓글이다.
+     * 저장 전이라면 id 가 만들어질 때 붙인다.
+     */
+    public void assignPath(ArticleComment parentComment) {
+        this.parentPath = parentComment == null ? "" : parentComment.getPath();
+        if (this.getId() != null) {
+            onIdGenerated(this.getId());
+        }
+    }
+
+    @Override
+    public void onIdGenerated(long id) {
+        this.path = (parentPath == null ? "" : parentPath) + pathSegment(id);
+    }
+
+    /**
+     * 루트 댓글은 0
+     */
+    public int getDepth() {
+        return path == null ? 0 : path.length() / PATH_SEGMENT_LENGTH - 1;
+    }
+
+    public static String pathSegment(Long id) {
+        return String.format("%0" + PATH_SEGMENT_LENGTH + "d", id);
+    }
+
     @Override
     public boolean equals(Object o) {
         if (this == o) return true;
@@ -20,7 +20,8 @@ import java.util.Set;
 public class Hashtag extends AuditingFields {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "hashtag_seq")
+    @SequenceGenerator(name = "hashtag_seq", sequenceName = "hashtag_seq", allocationSize = 50)
     private Long id;
 
     // LinkedHashSet : 순서를 유지하기 위함
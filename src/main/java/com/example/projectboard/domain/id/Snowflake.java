@@ -0,0 +1,73 @@
+package com.example.projectboard.domain.id;
+
+import java.time.Instant;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/**
+ * <p>
+ * 시간 순서의 64비트 id 생성기 (Snowflake)
+ * <pre>
+ *     | 0 | 시각(ms, EPOCH 기준) 41비트 | 노드 id 10비트 | 순번 12비트 |
+ * </pre>
+ *
+ * <p>
+ * 노드마다 다른 노드 id 를 쓰면 DB 에 묻지 않고도 노드끼리 겹치지 않는 id 를 만든다.
+ * 시각이 가장 앞자리이므로 id 순서가 곧 생성 순서이다. (노드 사이에서는 시계 차이만큼 어긋날 수 있다.)
+ *
+ * <p>
+ * (시각, 순번)을 AtomicLong 하나에 담아 CAS 로 갱신하므로 잠금 없이 여러 스레드에서 호출할 수 있다.
+ * 같은 ms 안에 순번(4096개)을 다 쓰거나 시계가 뒤로 가면, 기다리지 않고 마지막 시각에 이어서 순번을 올린다.
+ * (순번이 넘치면 다음 ms 를 미리 빌려 쓴다.) 따라서 한 노드 안에서 id 는 항상 증가한다.
+ */
+public final class Snowflake {
+
+    public static final long EPOCH = Instant.parse("2023-01-01T00:00:00Z").toEpochMilli();
+
+    private static final int TIMESTAMP_BITS = 41;
+    private static final int NODE_ID_BITS = 10;
+    private static final int SEQUENCE_BITS = 12;
+    public static final int MAX_NODE_ID = (1 << NODE_ID_BITS) - 1;
+    private static final long MAX_TIMESTAMP = (1L << TIMESTAMP_BITS) - 1;
+    private static final long SEQUENCE_MASK = (1L << SEQUENCE_BITS) - 1;
+
+    private final long nodeId;
+    private final LongSupplier clock;
+    private final AtomicLong lastState = new AtomicLong(); // (시각 << SEQUENCE_BITS) | 순번
+
+    public Snowflake(int nodeId) {
+        this(nodeId, System::currentTimeMillis);
+    }
+
+    Snowflake(int nodeId, LongSupplier clock) {
+        if (nodeId < 0 || nodeId > MAX_NODE_ID) {
+            throw new IllegalArgumentException("노드 id 는 0 ~ " + MAX_NODE_ID + " 사이여야 합니다 - nodeId: " + nodeId);
+        }
+        this.nodeId = nodeId;
+        this.clock = clock;
+    }
+
+    public long nextId() {
+        long state = lastState.updateAndGet(last -> {
+            long now = clock.getAsLong() - EPOCH;
+            return now > (last >>> SEQUENCE_BITS) ? now << SEQUENCE_BITS : last + 1;
+        });
+
+        long timestamp = state >>> SEQUENCE_BITS;
+        if (timestamp > MAX_TIMESTAMP) {
+            throw new IllegalStateException("id 의 시각 범위를 넘었습니다 - timestamp: " + timestamp);
+        }
+        return timestamp << (NODE_ID_BITS + SEQUENCE_BITS) | nodeId << SEQUENCE_BITS | (state & SEQUENCE_MASK);
+    }
+
+    /**
+     * id 를 만든 시각 (epoch ms)
+     */
+    public static long timestampOf(long id) {
+        return (id >>> (NODE_ID_BITS + SEQUENCE_BITS)) + EPOCH;
+    }
+
+    public static int nodeIdOf(long id) {
+        return (int) (id >>> SEQUENCE_BITS) & MAX_NODE_ID;
+    }
+}
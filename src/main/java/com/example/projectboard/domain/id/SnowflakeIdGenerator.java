@@ -0,0 +1,49 @@
+package com.example.projectboard.domain.id;
+
+import org.hibernate.engine.config.spi.ConfigurationService;
+import org.hibernate.engine.config.spi.StandardConverters;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.id.IdentifierGenerator;
+import org.hibernate.service.ServiceRegistry;
+import org.hibernate.type.Type;
+
+import java.io.Serializable;
+import java.util.Properties;
+
+/**
+ * <p>
+ * {@link Snowflake} id 를 쓰는 Hibernate id 생성기
+ * <pre>
+ *     &#64;Id
+ *     &#64;GeneratedValue(generator = "snowflake")
+ *     &#64;GenericGenerator(name = "snowflake", strategy = "com.example.projectboard.domain.id.SnowflakeIdGenerator")
+ *     private Long id;
+ * </pre>
+ *
+ * <p>
+ * id 를 메모리에서 만들므로 insert 전에 DB 를 다녀오지 않고, insert 도 batch 로 묶인다.
+ * 노드 id 는 Hibernate 설정 {@value #NODE_ID_SETTING} 에서 읽는다. (JpaConfig 가 board.id-generator.node-id 를 넘겨준다.)
+ * 엔티티가 {@link SnowflakeIdListener} 라면 만든 id 를 insert 전에 알려준다.
+ */
+public class SnowflakeIdGenerator implements IdentifierGenerator {
+
+    public static final String NODE_ID_SETTING = "board.id-generator.node-id";
+
+    private Snowflake snowflake;
+
+    @Override
+    public void configure(Type type, Properties params, ServiceRegistry serviceRegistry) {
+        String nodeId = serviceRegistry.getService(ConfigurationService.class)
+                .getSetting(NODE_ID_SETTING, StandardConverters.STRING, "0");
+        this.snowflake = new Snowflake(Integer.parseInt(nodeId));
+    }
+
+    @Override
+    public Serializable generate(SharedSessionContractImplementor session, Object object) {
+        long id = snowflake.nextId();
+        if (object instanceof SnowflakeIdListener listener) {
+            listener.onIdGenerated(id);
+        }
+        return id;
+    }
+}
@@ -0,0 +1,13 @@
+package com.example.projectboard.domain.id;
+
+/**
+ * <p>
+ * {@link SnowflakeIdGenerator} 가 id 를 만든 직후에 알림을 받는 엔티티
+ *
+ * <p>
+ * Hibernate 는 id 를 만든 다음에 insert 할 값을 읽으므로, 여기서 채운 필드(예: id 가 들어가는 댓글 경로)는 update 없이 insert 에 담긴다.
+ */
+public interface SnowflakeIdListener {
+
+    void onIdGenerated(long id);
+}
@@ -0,0 +1,7 @@
+package com.example.projectboard.domain.projection;
+
+/**
+ * 해시태그 색인 생성용 (게시글 id, 해시태그 이름) 한 쌍
+ * 해시태그가 없는 게시글은 hashtagName 이 null 인 한 건으로 조회된다.
+ */
+public record ArticleHashtagRow(Long articleId, String hashtagName) {}
@@ -0,0 +1,14 @@
+package com.example.projectboard.domain.projection;
+
+import java.time.LocalDateTime;
+
+/**
+ * 검색 색인 생성에 필요한 컬럼만 조회하기 위한 projection
+ * 작성자, 해시태그 등 연관 Entity 를 불러오지 않는다.
+ */
+public interface ArticleSearchDocument {
+    Long getId();
+    String getTitle();
+    String getContent();
+    LocalDateTime getCreatedAt();
+}
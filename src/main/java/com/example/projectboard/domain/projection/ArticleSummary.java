@@ -0,0 +1,70 @@
+package com.example.projectboard.domain.projection;
+
+import com.example.projectboard.domain.Article;
+import com.example.projectboard.domain.Hashtag;
+import com.example.projectboard.domain.UserAccount;
+
+import java.time.LocalDateTime;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * 게시글 목록용 projection
+ * 목록 화면에 필요한 컬럼만 조회하며, 본문(최대 10000자) 대신 SQL 에서 잘라낸 앞부분(excerpt)만 읽는다.
+ * 해시태그는 컬렉션이므로 페이지의 게시글 id 로 한 번 더 조회하여 채운다.
+ */
+public record ArticleSummary(
+        Long id,
+        String title,
+        String excerpt,
+        Set<String> hashtags,
+        LocalDateTime createdAt,
+        String userId,
+        String email,
+        String nickname
+) {
+
+    public static final int EXCERPT_LENGTH = 100;
+
+    /**
+     * querydsl Projections.constructor 용, 해시태그는 {@link #withHashtags(Set)} 로 채운다.
+     */
+    public ArticleSummary(Long id, String title, String excerpt, LocalDateTime createdAt, String userId, String email, String nickname) {
+        this(id, title, excerpt, Set.of(), createdAt, userId, email, nickname);
+    }
+
+    /**
+     * 이미 조회한 게시글 엔티티로 만든다. (ex. SQL 로 정렬할 수 없는 해시태그 정렬)
+     */
+    public static ArticleSummary from(Article article) {
+        UserAccount userAccount = article.getUserAccount();
+
+        return new ArticleSummary(
+                article.getId(),
+                article.getTitle(),
+                excerpt(article.getContent()),
+                article.getHashtags().stream()
+                        .map(Hashtag::getHashtagName)
+                        .collect(Collectors.toUnmodifiableSet()),
+                article.getCreatedAt(),
+                userAccount.getUserId(),
+                userAccount.getEmail(),
+                userAccount.getNickname()
+        );
+    }
+
+    /**
+     * SQL 의 substring(content, 1, EXCERPT_LENGTH) 과 같은 결과
+     */
+    public static String excerpt(String content) {
+        if (content == null || content.length() <= EXCERPT_LENGTH) {
+            return content;
+        }
+
+        return content.substring(0, EXCERPT_LENGTH);
+    }
+
+    public ArticleSummary withHashtags(Set<String> hashtags) {
+        return new ArticleSummary(id, title, excerpt, hashtags, createdAt, userId, email, nickname);
+    }
+}
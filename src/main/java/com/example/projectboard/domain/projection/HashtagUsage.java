@@ -0,0 +1,6 @@
+package com.example.projectboard.domain.projection;
+
+/**
+ * 해시태그 이름과 해시태그가 붙은 게시글 수
+ */
+public record HashtagUsage(String hashtagName, long articleCount) {}
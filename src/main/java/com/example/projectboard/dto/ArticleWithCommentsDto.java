@@ -1,46 +0,0 @@
-package com.example.projectboard.dto;
-
-import com.example.projectboard.domain.Article;
-
-import java.time.LocalDateTime;
-import java.util.LinkedHashSet;
-import java.util.Set;
-import java.util.stream.Collectors;
-
-public record ArticleWithCommentsDto(
-        Long id,
-        UserAccountDto userAccountDto,
-        Set<ArticleCommentDto> articleCommentDtos,
-        String title,
-        String content,
-        Set<HashtagDto> hashtagDtos,
-        LocalDateTime createdAt,
-        String createdBy,
-        LocalDateTime modifiedAt,
-        String modifiedBy
-) {
-    public static ArticleWithCommentsDto of(Long id, UserAccountDto userAccountDto, Set<ArticleCommentDto> articleCommentDtos, String title, String content, Set<HashtagDto> hashtagDtos, LocalDateTime createdAt, String createdBy, LocalDateTime modifiedAt, String modifiedBy) {
-        return new ArticleWithCommentsDto(id, userAccountDto, articleCommentDtos, title, content, hashtagDtos, createdAt, createdBy, modifiedAt, modifiedBy);
-    }
-
-    public static ArticleWithCommentsDto from(Article entity) {
-        return new ArticleWithCommentsDto(
-                entity.getId(),
-                UserAccountDto.from(entity.getUserAccount()),
-                entity.getArticleComments().stream()
-                        .map(ArticleCommentDto::from)
-                        // LinkedHashSet : 순서를 보장하기 위해 사용
-                        .collect(Collectors.toCollection(LinkedHashSet::new)),
-                entity.getTitle(),
-                entity.getContent(),
-                entity.getHashtags().stream()
-                        .map(HashtagDto::from)
-                        .collect(Collectors.toUnmodifiableSet()),
-                entity.getCreatedAt(),
-                entity.getCreatedBy(),
-                entity.getModifiedAt(),
-                entity.getModifiedBy()
-        );
-    }
-
-}
\ No newline at end of file
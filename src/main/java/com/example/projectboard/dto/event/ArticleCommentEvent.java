@@ -0,0 +1,14 @@
+package com.example.projectboard.dto.event;
+
+/**
+ * 댓글 변경 이벤트
+ * 트랜잭션이 커밋된 이후 댓글이 달린 게시글의 상세 캐시 등을 갱신하기 위해 사용한다.
+ *
+ * @param articleId 댓글이 달린 게시글 id
+ */
+public record ArticleCommentEvent(Long articleId) {
+
+    public static ArticleCommentEvent of(Long articleId) {
+        return new ArticleCommentEvent(articleId);
+    }
+}
@@ -0,0 +1,38 @@
+package com.example.projectboard.dto.event;
+
+import com.example.projectboard.dto.ArticleDto;
+
+/**
+ * 게시글 변경 이벤트
+ * 트랜잭션이 커밋된 이후 검색 색인, 캐시 등 메모리에 유지하는 정보를 갱신하기 위해 사용한다.
+ *
+ * @param eventType 변경 유형
+ * @param previous 변경 전 게시글 정보 (등록의 경우 null)
+ * @param current 변경 후 게시글 정보 (삭제의 경우 null)
+ */
+public record ArticleEvent(
+        EventType eventType,
+        ArticleDto previous,
+        ArticleDto current
+) {
+
+    public static ArticleEvent created(ArticleDto current) {
+        return new ArticleEvent(EventType.CREATED, null, current);
+    }
+
+    public static ArticleEvent updated(ArticleDto previous, ArticleDto current) {
+        return new ArticleEvent(EventType.UPDATED, previous, current);
+    }
+
+    public static ArticleEvent deleted(ArticleDto previous) {
+        return new ArticleEvent(EventType.DELETED, previous, null);
+    }
+
+    public Long articleId() {
+        return current != null ? current.id() : previous.id();
+    }
+
+    public enum EventType {
+        CREATED, UPDATED, DELETED
+    }
+}
@@ -0,0 +1,14 @@
+package com.example.projectboard.dto.event;
+
+/**
+ * 해시태그 삭제 이벤트
+ * 트랜잭션이 커밋된 이후 해시태그 이름 필터 등 메모리에 유지하는 정보에서 해시태그를 지우기 위해 사용한다.
+ *
+ * @param hashtagName 삭제된 해시태그 이름
+ */
+public record HashtagDeletedEvent(String hashtagName) {
+
+    public static HashtagDeletedEvent of(String hashtagName) {
+        return new HashtagDeletedEvent(hashtagName);
+    }
+}
@@ -0,0 +1,14 @@
+package com.example.projectboard.dto.event;
+
+/**
+ * 회원 저장 이벤트
+ * 트랜잭션이 커밋된 이후 회원 정보 캐시에서 해당 회원을 지우기 위해 사용한다.
+ *
+ * @param userId 저장된 회원 ID
+ */
+public record UserAccountSavedEvent(String userId) {
+
+    public static UserAccountSavedEvent of(String userId) {
+        return new UserAccountSavedEvent(userId);
+    }
+}
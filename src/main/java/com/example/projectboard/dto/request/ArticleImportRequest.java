@@ -0,0 +1,32 @@
+package com.example.projectboard.dto.request;
+
+import com.example.projectboard.dto.ArticleDto;
+import com.example.projectboard.dto.UserAccountDto;
+
+/**
+ * 대량 등록(NDJSON) 한 줄
+ * <pre>
+ *     {"userId": "jyuka", "title": "제목", "content": "본문 #해시태그"}
+ * </pre>
+ *
+ * @param userId 작성자 id, API 로 등록할 때는 생략하면 로그인한 사용자이다.
+ */
+public record ArticleImportRequest(
+        String userId,
+        String title,
+        String content
+) {
+
+    public static ArticleImportRequest of(String userId, String title, String content) {
+        return new ArticleImportRequest(userId, title, content);
+    }
+
+    public ArticleDto toDto(String userId) {
+        return ArticleDto.of(
+                UserAccountDto.of(userId, null, null, null, null),
+                title,
+                content,
+                null
+        );
+    }
+}
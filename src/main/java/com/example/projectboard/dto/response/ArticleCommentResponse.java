@@ -1,47 +1,45 @@
 package com.example.projectboard.dto.response;
 
 import com.example.projectboard.dto.ArticleCommentDto;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import com.fasterxml.jackson.databind.ser.std.ToStringSerializer;
 
 import java.time.LocalDateTime;
-import java.util.Comparator;
-import java.util.Set;
-import java.util.TreeSet;
 
 /**
  * 댓글 응답 표준 포맷, 아직까지는 컨트롤러가 아닌 곳에서는 @param 을 인식하지 못한다.
+ * 대댓글은 함께 담지 않고 개수만 가지며, 대댓글 목록은 /api/comments/{parentCommentId}/child-comments 로 불러온다.
+ * id 와 parentCommentId 는 값과 관계없이 항상 JSON 문자열로 내보낸다.
+ * (Snowflake id 는 2^53 을 넘으므로 JavaScript 의 number 로 받으면 반올림되어 다른 댓글의 id 가 된다.)
  */
 public record ArticleCommentResponse(
-        Long id,
+        @JsonSerialize(using = ToStringSerializer.class) Long id,
         String content,
         LocalDateTime createdAt,
         String email,
         String nickname,
         String userId,
-        Long parentCommentId,
-        Set<ArticleCommentResponse> childComments
+        @JsonSerialize(using = ToStringSerializer.class) Long parentCommentId,
+        long childCommentCount
 ) {
 
     public static ArticleCommentResponse of(Long id, String content, LocalDateTime createdAt, String email, String nickname, String userId) {
         return ArticleCommentResponse.of(id, content, createdAt, email, nickname, userId, null);
     }
 
-    /**
-     * TreeSet : 정렬 순서를 보장하기 위함
-     * Set 인터페이스를 구현하여 중복을 허용하지 않고, 오름차순이나 내림차순으로 객체를 정렬할 수 있음
-     * 내부적으로 이진검색트리(binary search tree)로 구현됨
-     * 이진검색트리에 저장하기 위해 각 객체를 비교해야 함
-     * 비교 대상이 되는 객체에 Comparable이나 Comparator 인터페이스를 구현 해야 TreeSet에 추가 될 수 있음
-     * String, Integer등 JDK의 많은 클래스들이 이미 Comparable을 구현했음
-     */
     public static ArticleCommentResponse of(Long id, String content, LocalDateTime createdAt, String email, String nickname, String userId, Long parentCommentId) {
-        // ArticleCommentResponse 의 정렬 순서를 생성시간응로 오름차순하며 중복 발생시 id 값도 같이 비교한다.
-        Comparator<ArticleCommentResponse> childCommentComparator = Comparator
-                .comparing(ArticleCommentResponse::createdAt)
-                .thenComparingLong(ArticleCommentResponse::id);
-        return new ArticleCommentResponse(id, content, createdAt, email, nickname, userId, parentCommentId, new TreeSet<>(childCommentComparator));
+        return ArticleCommentResponse.of(id, content, createdAt, email, nickname, userId, parentCommentId, 0L);
+    }
+
+    public static ArticleCommentResponse of(Long id, String content, LocalDateTime createdAt, String email, String nickname, String userId, Long parentCommentId, long childCommentCount) {
+        return new ArticleCommentResponse(id, content, createdAt, email, nickname, userId, parentCommentId, childCommentCount);
     }
 
     public static ArticleCommentResponse from(ArticleCommentDto dto) {
+        return ArticleCommentResponse.from(dto, 0L);
+    }
+
+    public static ArticleCommentResponse from(ArticleCommentDto dto, long childCommentCount) {
         String nickname = dto.userAccountDto().nickname();
         if (nickname == null || nickname.isBlank()) {
             nickname = dto.userAccountDto().userId();
@@ -54,7 +52,8 @@ public record ArticleCommentResponse(
                 dto.userAccountDto().email(),
                 nickname,
                 dto.userAccountDto().userId(),
-                dto.parentCommentId()
+                dto.parentCommentId(),
+                childCommentCount
         );
     }
 
@@ -62,4 +61,8 @@ public record ArticleCommentResponse(
         return parentCommentId != null;
     }
 
-}
\ No newline at end of file
+    public boolean hasChildComments(){
+        return childCommentCount > 0;
+    }
+
+}
@@ -0,0 +1,65 @@
+package com.example.projectboard.dto.response;
+
+import com.example.projectboard.dto.ArticleCommentDto;
+import com.example.projectboard.repository.querydsl.ArticleCursor;
+import org.springframework.data.domain.Slice;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 커서 페이징된 댓글 목록
+ *
+ * @param comments 한 페이지의 댓글
+ * @param next 다음 페이지의 커서(마지막 댓글의 위치), 다음 페이지가 없다면 null
+ */
+public record ArticleCommentsResponse(
+        List<ArticleCommentResponse> comments,
+        String next
+) {
+
+    public static ArticleCommentsResponse of(List<ArticleCommentResponse> comments, String next) {
+        return new ArticleCommentsResponse(comments, next);
+    }
+
+    public static ArticleCommentsResponse from(Slice<ArticleCommentDto> dtos) {
+        return ArticleCommentsResponse.from(dtos, Map.of());
+    }
+
+    /**
+     * @param childCommentCounts 부모 댓글 id 별 대댓글 수
+     */
+    public static ArticleCommentsResponse from(Slice<ArticleCommentDto> dtos, Map<Long, Long> childCommentCounts) {
+        List<ArticleCommentResponse> comments = dtos.stream()
+                .map(dto -> ArticleCommentResponse.from(dto, childCommentCounts.getOrDefault(dto.id(), 0L)))
+                .toList();
+
+        String next = null;
+        if (dtos.hasNext() && !comments.isEmpty()) {
+            ArticleCommentResponse last = comments.get(comments.size() - 1);
+            next = ArticleCursor.encode(last.createdAt(), last.id());
+        }
+
+        return new ArticleCommentsResponse(comments, next);
+    }
+
+    /**
+     * 답글 묶음(깊이 우선 순서), 다음 페이지의 커서는 마지막 답글의 경로이다.
+     */
+    public static ArticleCommentsResponse fromThread(Slice<ArticleCommentDto> dtos) {
+        List<ArticleCommentResponse> comments = dtos.stream()
+                .map(ArticleCommentResponse::from)
+                .toList();
+
+        String next = null;
+        if (dtos.hasNext() && !comments.isEmpty()) {
+            next = dtos.getContent().get(comments.size() - 1).path();
+        }
+
+        return new ArticleCommentsResponse(comments, next);
+    }
+
+    public boolean hasNext() {
+        return next != null;
+    }
+}
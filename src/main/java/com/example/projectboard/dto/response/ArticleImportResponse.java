@@ -0,0 +1,21 @@
+package com.example.projectboard.dto.response;
+
+import java.util.List;
+
+/**
+ * 대량 등록 결과
+ *
+ * @param imported 저장한 게시글 수
+ * @param skipped 저장하지 못한 줄 수
+ * @param errors 저장하지 못한 이유 (앞에서부터 최대 ArticleImportService.MAX_ERRORS 개)
+ */
+public record ArticleImportResponse(
+        int imported,
+        int skipped,
+        List<String> errors
+) {
+
+    public static ArticleImportResponse of(int imported, int skipped, List<String> errors) {
+        return new ArticleImportResponse(imported, skipped, errors);
+    }
+}
@@ -0,0 +1,41 @@
+package com.example.projectboard.dto.response;
+
+import com.example.projectboard.domain.projection.ArticleSummary;
+
+import java.time.LocalDateTime;
+import java.util.Set;
+
+/**
+ * 게시글 목록 화면용 응답, 본문 대신 앞부분(excerpt)만 가진다.
+ */
+public record ArticleSummaryResponse(
+        Long id,
+        String title,
+        String excerpt,
+        Set<String> hashtags,
+        LocalDateTime createdAt,
+        String email,
+        String nickname
+){
+
+    public static ArticleSummaryResponse of(Long id, String title, String excerpt, Set<String> hashtags, LocalDateTime createdAt, String email, String nickname) {
+        return new ArticleSummaryResponse(id, title, excerpt, hashtags, createdAt, email, nickname);
+    }
+
+    public static ArticleSummaryResponse from(ArticleSummary summary) {
+        return new ArticleSummaryResponse(
+                summary.id(),
+                summary.title(),
+                summary.excerpt(),
+                summary.hashtags(),
+                summary.createdAt(),
+                summary.email(),
+                nicknameOrUserId(summary.nickname(), summary.userId())
+        );
+    }
+
+    private static String nicknameOrUserId(String nickname, String userId) {
+        return nickname == null || nickname.isBlank() ? userId : nickname;
+    }
+
+}
@@ -1,15 +1,16 @@
 package com.example.projectboard.dto.response;
 
-import com.example.projectboard.dto.ArticleCommentDto;
-import com.example.projectboard.dto.ArticleWithCommentsDto;
+import com.example.projectboard.dto.ArticleDto;
 import com.example.projectboard.dto.HashtagDto;
 
 import java.time.LocalDateTime;
-import java.util.*;
-import java.util.function.Function;
-import java.util.stream.Collector;
+import java.util.Set;
 import java.util.stream.Collectors;
 
+/**
+ * 게시글 상세 응답, 댓글은 첫 페이지의 부모 댓글만 담는다. (댓글이 아무리 많아도 크기가 일정하다.)
+ * 다음 댓글 페이지와 대댓글은 커서로 따로 불러온다.
+ */
 public record ArticleWithCommentsResponse(
         Long id,
         String title,
@@ -19,14 +20,14 @@ public record ArticleWithCommentsResponse(
         String email,
         String nickname,
         String userId,
-        Set<ArticleCommentResponse> articleCommentsResponse
+        ArticleCommentsResponse articleCommentsResponse
 ){
 
-    public static ArticleWithCommentsResponse of(Long id, String title, String content, Set<String> hashtags, LocalDateTime createdAt, String email, String nickname, String userId, Set<ArticleCommentResponse> articleCommentResponses) {
-        return new ArticleWithCommentsResponse(id, title, content, hashtags, createdAt, email, nickname, userId, articleCommentResponses);
+    public static ArticleWithCommentsResponse of(Long id, String title, String content, Set<String> hashtags, LocalDateTime createdAt, String email, String nickname, String userId, ArticleCommentsResponse articleCommentsResponse) {
+        return new ArticleWithCommentsResponse(id, title, content, hashtags, createdAt, email, nickname, userId, articleCommentsResponse);
     }
 
-    public static ArticleWithCommentsResponse from(ArticleWithCommentsDto dto) {
+    public static ArticleWithCommentsResponse from(ArticleDto dto, ArticleCommentsResponse articleCommentsResponse) {
         String nickname = dto.userAccountDto().nickname();
         if (nickname == null || nickname.isBlank()) {
             nickname = dto.userAccountDto().userId();
@@ -43,36 +44,7 @@ public record ArticleWithCommentsResponse(
                 dto.userAccountDto().email(),
                 nickname,
                 dto.userAccountDto().userId(),
-                organizeChildComments(dto.articleCommentDtos())
+                articleCommentsResponse
         );
     }
-
-    private static Set<ArticleCommentResponse> organizeChildComments(Set<ArticleCommentDto> dtos){
-
-        // Map 의 key, value 를 각각 id, 하나의 response 객체로 구성
-        Map<Long, ArticleCommentResponse> map = dtos.stream()
-                .map(ArticleCommentResponse::from)
-                .collect(Collectors.toMap(ArticleCommentResponse::id, Function.identity()))
-                ;
-
-        // 부모 댓글이 있는 경우 자기 자신을 부모댓글의 childComments 에 추가
-        map.values().stream()
-                .filter(ArticleCommentResponse::hasParentComment)
-                .forEach(comment -> {
-                    ArticleCommentResponse parentComment = map.get(comment.parentCommentId());
-                    parentComment.childComments().add(comment);
-                });
-
-        // 이미 부모 댓글에 자식 댓글을 Set 형태로 가지고 있다.
-        // 부모 댓글이 없는 것을 걸러내어 return
-        return map.values().stream()
-                .filter(comment -> !comment.hasParentComment())
-                .collect(Collectors.toCollection(()->
-                            new TreeSet<>(Comparator
-                                    .comparing(ArticleCommentResponse::createdAt).reversed()
-                                    .thenComparingLong(ArticleCommentResponse::id)
-                            )
-                        ));
-
-    }
 }
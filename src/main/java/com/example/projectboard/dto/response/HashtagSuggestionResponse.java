@@ -0,0 +1,16 @@
+package com.example.projectboard.dto.response;
+
+import com.example.projectboard.domain.projection.HashtagUsage;
+
+public record HashtagSuggestionResponse(
+        String hashtagName,
+        long articleCount
+) {
+    public static HashtagSuggestionResponse of(String hashtagName, long articleCount) {
+        return new HashtagSuggestionResponse(hashtagName, articleCount);
+    }
+
+    public static HashtagSuggestionResponse from(HashtagUsage hashtagUsage) {
+        return new HashtagSuggestionResponse(hashtagUsage.hashtagName(), hashtagUsage.articleCount());
+    }
+}
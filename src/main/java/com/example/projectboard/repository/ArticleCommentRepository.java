@@ -3,6 +3,7 @@ package com.example.projectboard.repository;
 import com.example.projectboard.domain.ArticleComment;
 import com.example.projectboard.domain.QArticleComment;
 import com.example.projectboard.domain.projection.ArticleCommentProjection;
+import com.example.projectboard.repository.querydsl.ArticleCommentRepositoryCustom;
 import com.querydsl.core.types.dsl.DateTimeExpression;
 import com.querydsl.core.types.dsl.StringExpression;
 import org.springframework.data.jpa.repository.JpaRepository;
@@ -17,10 +18,10 @@ import java.util.List;
 public interface ArticleCommentRepository extends
         JpaRepository<ArticleComment,Long>,
         QuerydslPredicateExecutor<ArticleComment>, // 완전히 일치하는 검색이 가능(대소문자 구분 안함)
-        QuerydslBinderCustomizer<QArticleComment>  // web 검색시 모든 단어를 입력하지 않기 때문에 이를 위한 커스텀 적용
+        QuerydslBinderCustomizer<QArticleComment>, // web 검색시 모든 단어를 입력하지 않기 때문에 이를 위한 커스텀 적용
+        ArticleCommentRepositoryCustom // 댓글 커서 페이징
 {
     List<ArticleComment> findByArticle_Id(Long articleId);
-    void deleteByIdAndUserAccount_UserId(Long articleCommentId, String userId);
 
     // QuerydslBinderCustomizer 오버라이드
     @Override
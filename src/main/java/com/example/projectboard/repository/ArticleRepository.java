@@ -3,16 +3,22 @@ package com.example.projectboard.repository;
 import com.example.projectboard.domain.Article;
 import com.example.projectboard.domain.QArticle;
 import com.example.projectboard.domain.projection.ArticleProjection;
+import com.example.projectboard.domain.projection.ArticleSearchDocument;
 import com.example.projectboard.repository.querydsl.ArticleRepositoryCustom;
+import com.querydsl.core.types.Predicate;
 import com.querydsl.core.types.dsl.DateTimeExpression;
 import com.querydsl.core.types.dsl.StringExpression;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.querydsl.QuerydslPredicateExecutor;
 import org.springframework.data.querydsl.binding.QuerydslBinderCustomizer;
 import org.springframework.data.querydsl.binding.QuerydslBindings;
 import org.springframework.data.rest.core.annotation.RepositoryRestResource;
+import org.springframework.data.rest.core.annotation.RestResource;
+
+import java.util.List;
 
 @RepositoryRestResource(excerptProjection = ArticleProjection.class)
 public interface ArticleRepository extends
@@ -21,11 +27,31 @@ public interface ArticleRepository extends
         QuerydslBinderCustomizer<QArticle>,  // web 검색시 모든 단어를 입력하지 않기 때문에 이를 위한 커스텀 적용
         ArticleRepositoryCustom // query dsl 사용을 위한 적용
 {
+    /**
+     * 목록 조회는 작성자를 함께 조회(fetch join)하여 게시글마다 작성자 select 가 나가지 않도록 한다.
+     * 해시태그는 컬렉션이므로 페이징 쿼리에 함께 조회하지 않고, batch fetch 로 페이지당 한 번에 불러온다.
+     * (Spring Data REST 목록, excerpt projection 도 같은 메서드를 사용한다.)
+     */
+    @Override
+    @EntityGraph(attributePaths = "userAccount")
+    Page<Article> findAll(Pageable pageable);
+
+    @Override
+    @EntityGraph(attributePaths = "userAccount")
+    Page<Article> findAll(Predicate predicate, Pageable pageable);
+
+    @EntityGraph(attributePaths = "userAccount")
     Page<Article> findByTitleContaining(String title, Pageable pageable);
+    @EntityGraph(attributePaths = "userAccount")
     Page<Article> findByContentContaining(String content, Pageable pageable);
+    @EntityGraph(attributePaths = "userAccount")
     Page<Article> findByUserAccount_UserIdContaining(String userId, Pageable pageable);
+    @EntityGraph(attributePaths = "userAccount")
     Page<Article> findByUserAccount_NicknameContaining(String nickName, Pageable pageable);
-    void deleteByIdAndUserAccount_UserId(Long articleId, String userId);
+
+    // 검색 색인 생성용, id 를 기준으로 끊어서 읽는다.
+    @RestResource(exported = false)
+    List<ArticleSearchDocument> findByIdGreaterThanOrderByIdAsc(Long id, Pageable pageable);
 
     // 참고 url : https://jaime-note.tistory.com/80v
     // QuerydslBinderCustomizer 오버라이드
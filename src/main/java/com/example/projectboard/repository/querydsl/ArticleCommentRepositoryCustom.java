@@ -0,0 +1,54 @@
+package com.example.projectboard.repository.querydsl;
+
+import com.example.projectboard.domain.ArticleComment;
+
+import java.util.Collection;
+import java.util.Map;
+
+/**
+ * <p>
+ * 게시글 상세의 댓글은 한 번에 모두 읽지 않고 커서(keyset) 페이징으로 조회한다.
+ * 댓글이 아무리 많아도 한 페이지는 size + 1 개의 댓글과 작성자, 대댓글 수 쿼리로 조회된다.
+ *
+ * <p>
+ * 커서는 게시글과 같은 (작성일, id) 형식의 {@link ArticleCursor} 를 사용하며, 다음 페이지(after)만 지원한다.
+ * 답글 묶음(thread)은 댓글 경로({@link ArticleComment#getPath()}) 자체를 커서로 사용한다.
+ */
+public interface ArticleCommentRepositoryCustom {
+
+    /**
+     * 게시글의 부모 댓글을 최신순(작성일, id 내림차순)으로 조회한다. 대댓글은 포함하지 않는다.
+     */
+    CursorSlice<ArticleComment> findParentCommentsByCursor(Long articleId, ArticleCursor cursor, int size);
+
+    /**
+     * 부모 댓글의 대댓글을 작성순(작성일, id 오름차순)으로 조회한다.
+     */
+    CursorSlice<ArticleComment> findChildCommentsByCursor(Long parentCommentId, ArticleCursor cursor, int size);
+
+    /**
+     * 부모 댓글 id 별 대댓글 수, 대댓글이 없는 부모 댓글은 포함하지 않는다.
+     */
+    Map<Long, Long> countChildComments(Collection<Long> parentCommentIds);
+
+    /**
+     * <p>
+     * 댓글 경로(path)로 시작하는 댓글, 즉 댓글 자신과 모든 깊이의 답글을 경로 순서(깊이 우선)로 조회한다.
+     * 깊이와 관계없이 path 인덱스 범위 조회 한 번으로 읽으며, 부모 댓글이 항상 답글보다 먼저 온다.
+     *
+     * @param afterPath 마지막으로 본 댓글의 경로, 없다면 첫 페이지
+     */
+    CursorSlice<ArticleComment> findThreadByPath(String path, String afterPath, int size);
+
+    /**
+     * <p>
+     * 작성자가 맞다면 댓글과 모든 깊이의 답글을 지운다.
+     * 답글을 읽어 cascade 로 하나씩 지우지 않고, 댓글 경로를 조회한 뒤 path like '댓글 경로%' delete 문 한 번으로 처리한다.
+     *
+     * <p>
+     * 벌크 연산은 영속성 컨텍스트를 거치지 않으므로 실행 전에 flush 하고, 실행 후에는 영속성 컨텍스트를 비운다.
+     *
+     * @return 지운 댓글 수 (답글 포함), 댓글이 없거나 작성자가 아니라면 0
+     */
+    long deleteWithChildCommentsByIdAndUserId(Long articleCommentId, String userId);
+}
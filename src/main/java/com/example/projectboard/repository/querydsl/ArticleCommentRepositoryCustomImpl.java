@@ -0,0 +1,140 @@
+package com.example.projectboard.repository.querydsl;
+
+import com.example.projectboard.domain.ArticleComment;
+import com.example.projectboard.domain.QArticleComment;
+import com.querydsl.core.BooleanBuilder;
+import com.querydsl.core.Tuple;
+import com.querydsl.core.types.OrderSpecifier;
+import com.querydsl.core.types.Predicate;
+import com.querydsl.core.types.dsl.BooleanExpression;
+import org.springframework.data.jpa.repository.support.QuerydslRepositorySupport;
+
+import javax.persistence.EntityManager;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+public class ArticleCommentRepositoryCustomImpl extends QuerydslRepositorySupport implements ArticleCommentRepositoryCustom {
+
+    public ArticleCommentRepositoryCustomImpl() {
+        super(ArticleComment.class);
+    }
+
+    @Override
+    public CursorSlice<ArticleComment> findParentCommentsByCursor(Long articleId, ArticleCursor cursor, int size) {
+        QArticleComment articleComment = QArticleComment.articleComment;
+
+        BooleanBuilder where = new BooleanBuilder()
+                .and(articleComment.article.id.eq(articleId))
+                .and(articleComment.parentCommentId.isNull());
+        if (cursor != null) {
+            where.and(createdBefore(cursor));
+        }
+
+        return findByCursor(where, cursor != null, size, articleComment.createdAt.desc(), articleComment.id.desc());
+    }
+
+    @Override
+    public CursorSlice<ArticleComment> findChildCommentsByCursor(Long parentCommentId, ArticleCursor cursor, int size) {
+        QArticleComment articleComment = QArticleComment.articleComment;
+
+        BooleanBuilder where = new BooleanBuilder(articleComment.parentCommentId.eq(parentCommentId));
+        if (cursor != null) {
+            where.and(createdAfter(cursor));
+        }
+
+        return findByCursor(where, cursor != null, size, articleComment.createdAt.asc(), articleComment.id.asc());
+    }
+
+    @Override
+    public CursorSlice<ArticleComment> findThreadByPath(String path, String afterPath, int size) {
+        QArticleComment articleComment = QArticleComment.articleComment;
+
+        BooleanBuilder where = new BooleanBuilder(articleComment.path.startsWith(path));
+        if (afterPath != null) {
+            where.and(articleComment.path.gt(afterPath));
+        }
+
+        return findByCursor(where, afterPath != null, size, articleComment.path.asc());
+    }
+
+    @Override
+    public Map<Long, Long> countChildComments(Collection<Long> parentCommentIds) {
+        if (parentCommentIds.isEmpty()) {
+            return Map.of();
+        }
+
+        QArticleComment articleComment = QArticleComment.articleComment;
+        List<Tuple> rows = from(articleComment)
+                .where(articleComment.parentCommentId.in(parentCommentIds))
+                .groupBy(articleComment.parentCommentId)
+                .select(articleComment.parentCommentId, articleComment.count())
+                .fetch();
+
+        return rows.stream()
+                .collect(Collectors.toMap(
+                        row -> row.get(articleComment.parentCommentId),
+                        row -> row.get(articleComment.count())
+                ));
+    }
+
+    @Override
+    public long deleteWithChildCommentsByIdAndUserId(Long articleCommentId, String userId) {
+        QArticleComment articleComment = QArticleComment.articleComment;
+        EntityManager entityManager = getEntityManager();
+        entityManager.flush();
+
+        // 작성자 조건으로 댓글 경로를 먼저 조회하고, 경로로 시작하는 댓글(자신과 모든 답글)을 한 번에 지운다.
+        // 같은 테이블을 서브쿼리로 참조하는 delete 는 MySQL 에서 실행할 수 없으므로 두 문장으로 나눈다.
+        String path = from(articleComment)
+                .where(articleComment.id.eq(articleCommentId), articleComment.userAccount.userId.eq(userId))
+                .select(articleComment.path)
+                .fetchOne();
+        if (path == null) {
+            return 0;
+        }
+
+        long deleted = delete(articleComment)
+                .where(articleComment.path.startsWith(path))
+                .execute();
+
+        entityManager.clear();
+        return deleted;
+    }
+
+    /**
+     * 작성자는 함께 조회(fetch join)하여 댓글마다 작성자 select 가 나가지 않도록 한다.
+     */
+    private CursorSlice<ArticleComment> findByCursor(Predicate where, boolean hasPrevious, int size, OrderSpecifier<?>... orders) {
+        QArticleComment articleComment = QArticleComment.articleComment;
+
+        List<ArticleComment> rows = from(articleComment)
+                .innerJoin(articleComment.userAccount).fetchJoin()
+                .where(where)
+                .orderBy(orders)
+                .limit(size + 1L)
+                .fetch();
+
+        boolean hasNext = rows.size() > size;
+        List<ArticleComment> content = new ArrayList<>(hasNext ? rows.subList(0, size) : rows);
+
+        return new CursorSlice<>(content, size, hasPrevious, hasNext);
+    }
+
+    private static BooleanExpression createdBefore(ArticleCursor cursor) {
+        QArticleComment articleComment = QArticleComment.articleComment;
+
+        return articleComment.createdAt.lt(cursor.createdAt())
+                .or(articleComment.createdAt.eq(cursor.createdAt()).and(articleComment.id.lt(cursor.id())));
+    }
+
+    private static BooleanExpression createdAfter(ArticleCursor cursor) {
+        QArticleComment articleComment = QArticleComment.articleComment;
+
+        return articleComment.createdAt.gt(cursor.createdAt())
+                .or(articleComment.createdAt.eq(cursor.createdAt()).and(articleComment.id.gt(cursor.id())));
+    }
+}
@@ -0,0 +1,87 @@
+package com.example.projectboard.repository.querydsl;
+
+import org.springframework.data.domain.Sort;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * <p>
+ * 커서(keyset) 페이징 위치
+ *
+ * <p>
+ * 게시글 목록은 (작성일, id) 내림차순이므로 마지막으로 본 게시글의 (작성일, id) 만 알면 다음 페이지를 인덱스에서 바로 찾을 수 있다.
+ * 게시글, 댓글 id 는 시간 순서(Snowflake)이므로 작성일이 같은 행끼리도 id 순서가 곧 작성 순서이다.
+ * offset 페이징처럼 앞선 행을 읽고 버리지 않으므로 몇 번째 페이지든 조회 비용이 같다.
+ * <pre>
+ *     /articles?paging=cursor&amp;after={마지막 게시글 커서}   : 다음 페이지
+ *     /articles?paging=cursor&amp;before={첫 번째 게시글 커서} : 이전 페이지
+ * </pre>
+ *
+ * <p>
+ * 게시글 상세의 댓글도 같은 (작성일, id) 형식의 커서로 페이징한다. ({@link ArticleCommentRepositoryCustom})
+ *
+ * @param createdAt 기준 게시글의 작성일
+ * @param id 작성일이 같은 게시글의 순서를 정하기 위한 기준 게시글의 id
+ * @param direction 기준 게시글보다 오래된(NEXT) 게시글을 찾을지, 최신(PREVIOUS) 게시글을 찾을지
+ */
+public record ArticleCursor(LocalDateTime createdAt, Long id, Direction direction) {
+
+    /**
+     * 커서 페이징의 정렬 조건, 다른 정렬은 지원하지 않는다.
+     */
+    public static final Sort SORT = Sort.by(Sort.Order.desc("createdAt"), Sort.Order.desc("id"));
+
+    private static final String DELIMITER = "_";
+
+    public enum Direction {
+        NEXT, PREVIOUS
+    }
+
+    /**
+     * 요청 파라미터로 커서를 만든다. 둘 다 없거나 잘못된 값이라면 첫 페이지를 뜻하는 null 을 반환한다.
+     */
+    public static ArticleCursor of(String after, String before) {
+        if (after != null && !after.isBlank()) {
+            return decode(after, Direction.NEXT);
+        }
+        if (before != null && !before.isBlank()) {
+            return decode(before, Direction.PREVIOUS);
+        }
+
+        return null;
+    }
+
+    /**
+     * 게시글의 위치를 URL 에 그대로 쓸 수 있는 문자열로 만든다.
+     */
+    public static String encode(LocalDateTime createdAt, Long id) {
+        String raw = createdAt + DELIMITER + id;
+
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public boolean isBackward() {
+        return direction == Direction.PREVIOUS;
+    }
+
+    private static ArticleCursor decode(String token, Direction direction) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            int delimiter = raw.lastIndexOf(DELIMITER);
+            if (delimiter < 0) {
+                return null;
+            }
+
+            return new ArticleCursor(
+                    LocalDateTime.parse(raw.substring(0, delimiter)),
+                    Long.parseLong(raw.substring(delimiter + 1)),
+                    direction
+            );
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            return null;
+        }
+    }
+}
@@ -1,14 +1,29 @@
 package com.example.projectboard.repository.querydsl;
 
 import com.example.projectboard.domain.Article;
+import com.example.projectboard.domain.constant.SearchType;
+import com.example.projectboard.domain.projection.ArticleHashtagRow;
+import com.example.projectboard.domain.projection.ArticleSummary;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 
 import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
+/**
+ * 목록 조회 메서드는 엔티티 대신 {@link ArticleSummary} 를 반환한다. (본문 전체를 읽지 않는다.)
+ * 한 페이지는 목록, 해시태그, (필요하다면) count 쿼리로 조회된다.
+ */
 public interface ArticleRepositoryCustom {
 
+    /**
+     * 검색어와의 관련도(정확도) 순 정렬을 뜻하는 정렬 조건, 엔티티 속성이 아니므로 검색 쿼리에서만 사용할 수 있다.
+     * ex) /articles?searchType=CONTENT&searchValue=spring&sort=relevance
+     */
+    String SORT_RELEVANCE = "relevance";
+
     /**
      * @deprecated 해시태그 도메인을 새로 만들었으므로 이 코드는 더 이상 사용할 필요 없다.
      * @see HashtagRepositoryCustom#findAllHashtagNames()
@@ -17,4 +32,102 @@ public interface ArticleRepositoryCustom {
     List<String> findAllDistinctHashtags();
 
     Page<Article> findByHashtagNames(Collection<String> hashtagNames, Pageable pageable);
+
+    /**
+     * 해시태그 AND/OR/NOT 조건으로 게시글을 검색한다. 조인 대신 EXISTS 를 사용하므로 게시글이 중복되지 않는다.
+     */
+    Page<ArticleSummary> findByHashtagQuery(HashtagQuery hashtagQuery, Pageable pageable);
+
+    /**
+     * 전체 개수를 이미 알고 있다면(ex. 해시태그 색인) count 쿼리 없이 페이지만 조회한다.
+     */
+    Page<ArticleSummary> findByHashtagQuery(HashtagQuery hashtagQuery, Pageable pageable, long total);
+
+    /**
+     * count 쿼리 없이 검색 조건에 맞는 게시글 페이지를 조회한다. size + 1 개를 읽어 다음 페이지가 있는지만 판단한다.
+     * 검색 조건은 {@link #findByCursor} 와 같으며, 검색어가 비어있다면 전체 게시글을 조회한다.
+     */
+    Slice<ArticleSummary> findSliceBySearch(SearchType searchType, String keyword, Pageable pageable);
+
+    /**
+     * {@link #findSliceBySearch} 와 같은 검색 조건의 게시글 페이지, 전체 개수는 count 쿼리로 구한다.
+     * 해시태그(컬렉션)로는 정렬할 수 없다.
+     */
+    Page<ArticleSummary> findPageBySearch(SearchType searchType, String keyword, Pageable pageable);
+
+    /**
+     * {@link #findSliceBySearch} 와 같은 검색 조건의 게시글 수
+     */
+    long countBySearch(SearchType searchType, String keyword);
+
+    Slice<ArticleSummary> findSliceByHashtagQuery(HashtagQuery hashtagQuery, Pageable pageable);
+
+    long countByHashtagQuery(HashtagQuery hashtagQuery);
+
+    /**
+     * 검색 조건에 맞는 게시글을 커서 위치부터 (작성일, id) 내림차순으로 size 개 조회한다. (keyset 페이징)
+     * 검색어가 비어있다면 전체 게시글을 조회하며, offset 과 count 쿼리가 없으므로 뒤쪽 페이지도 첫 페이지와 비용이 같다.
+     *
+     * @param cursor 첫 페이지라면 null
+     */
+    CursorSlice<ArticleSummary> findByCursor(SearchType searchType, String keyword, ArticleCursor cursor, int size);
+
+    /**
+     * 해시태그 AND/OR/NOT 조건에 맞는 게시글을 커서 위치부터 (작성일, id) 내림차순으로 size 개 조회한다.
+     */
+    CursorSlice<ArticleSummary> findByHashtagQueryAndCursor(HashtagQuery hashtagQuery, ArticleCursor cursor, int size);
+
+    /**
+     * id 목록에 해당하는 게시글을 정렬, 페이징하여 조회한다. 전체 개수는 id 목록의 크기이다.
+     */
+    Page<ArticleSummary> findPageByIds(Collection<Long> articleIds, Pageable pageable);
+
+    /**
+     * id 목록에 해당하는 게시글을 순서 없이 조회한다. 없는 id 는 건너뛴다.
+     */
+    List<ArticleSummary> findSummariesByIds(Collection<Long> articleIds);
+
+    /**
+     * 해시태그 색인 생성용, lastId 다음 게시글 size 개의 해시태그 이름을 게시글 id 순서로 조회한다. (keyset 페이징)
+     * id 가 띄엄띄엄(Snowflake) 있어도 게시글 수만큼만 읽는다.
+     */
+    List<ArticleHashtagRow> findArticleHashtagRows(long lastId, int size);
+
+    /**
+     * 게시글 상세의 이전 글, id 가 띄엄띄엄(Snowflake) 있으므로 id - 1 대신 바로 앞의 id 를 조회한다.
+     */
+    Optional<Long> findPreviousId(Long articleId);
+
+    /**
+     * 게시글 상세의 다음 글, 바로 뒤의 id 를 조회한다.
+     */
+    Optional<Long> findNextId(Long articleId);
+
+    /**
+     * PostgreSQL 전문 검색(tsvector, GIN 인덱스)으로 본문을 검색한다.
+     * schema-postgresql.sql 로 만든 content_tsv 컬럼이 필요하므로 PostgreSQL 에서만 사용할 수 있다.
+     */
+    Page<ArticleSummary> findByContentFullText(String keyword, Pageable pageable);
+
+    /**
+     * count 쿼리 없이 전문 검색 페이지를 조회한다.
+     * @see #findByContentFullText(String, Pageable)
+     */
+    Slice<ArticleSummary> findSliceByContentFullText(String keyword, Pageable pageable);
+
+    long countByContentFullText(String keyword);
+
+    /**
+     * <p>
+     * 작성자가 맞다면 게시글과 댓글(대댓글 포함), 해시태그 연결을 지운다.
+     * 엔티티를 읽어 cascade 로 하나씩 지우지 않고, 댓글 수와 관계없이 delete 문 세 번으로 처리한다.
+     * 모든 delete 문이 (게시글 id, 작성자 id) 조건을 가지므로 작성자가 아니라면 아무것도 지우지 않는다.
+     *
+     * <p>
+     * 벌크 연산은 영속성 컨텍스트를 거치지 않으므로 실행 전에 flush 하고, 실행 후에는 영속성 컨텍스트를 비운다.
+     * 게시글이 없어진 해시태그는 지우지 않는다. ({@link HashtagRepositoryCustom#deleteWithoutArticles})
+     *
+     * @return 지운 게시글 수, 게시글이 없거나 작성자가 아니라면 0
+     */
+    long deleteWithCommentsByIdAndUserId(Long articleId, String userId);
 }
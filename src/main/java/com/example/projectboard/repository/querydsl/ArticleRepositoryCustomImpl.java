@@ -2,18 +2,55 @@ package com.example.projectboard.repository.querydsl;
 
 import com.example.projectboard.domain.Article;
 import com.example.projectboard.domain.QArticle;
+import com.example.projectboard.domain.QArticleComment;
 import com.example.projectboard.domain.QHashtag;
+import com.example.projectboard.domain.QUserAccount;
+import com.example.projectboard.domain.constant.SearchType;
+import com.example.projectboard.domain.projection.ArticleHashtagRow;
+import com.example.projectboard.domain.projection.ArticleSummary;
+import com.querydsl.core.BooleanBuilder;
+import com.querydsl.core.types.Expression;
+import com.querydsl.core.types.Predicate;
+import com.querydsl.core.types.Projections;
+import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.jpa.JPAExpressions;
 import com.querydsl.jpa.JPQLQuery;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.domain.Sort;
 import org.springframework.data.jpa.repository.support.QuerydslRepositorySupport;
 
+import javax.persistence.EntityManager;
+
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.StringJoiner;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 public class ArticleRepositoryCustomImpl extends QuerydslRepositorySupport implements ArticleRepositoryCustom {
 
+    // 전문 검색은 native query 이므로 정렬 조건을 컬럼명으로 바꿔준다.
+    private static final Map<String, String> FULL_TEXT_SORT_COLUMNS = Map.of(
+            "id", "a.id",
+            "title", "a.title",
+            "content", "a.content",
+            "userAccount.userId", "a.user_id",
+            "createdAt", "a.created_at",
+            "createdBy", "a.created_by",
+            "modifiedAt", "a.modified_at",
+            "modifiedBy", "a.modified_by"
+    );
+
     public ArticleRepositoryCustomImpl() {
         super(Article.class);
     }
@@ -35,11 +72,436 @@ public class ArticleRepositoryCustomImpl extends QuerydslRepositorySupport imple
         QHashtag hashtag = QHashtag.hashtag;
         QArticle article = QArticle.article;
 
-        JPQLQuery<Article> query = from(article)
+        JPQLQuery<Article> query = selectArticles()
                 .innerJoin(article.hashtags, hashtag)
                 .where(hashtag.hashtagName.in(hashtagNames));
         List<Article> articles = getQuerydsl().applyPagination(pageable, query).fetch();
 
         return new PageImpl<>(articles, pageable, query.fetchCount());
     }
+
+    @Override
+    public Page<ArticleSummary> findByHashtagQuery(HashtagQuery hashtagQuery, Pageable pageable) {
+        return findByHashtagQuery(hashtagQuery, pageable, countByHashtagQuery(hashtagQuery));
+    }
+
+    @Override
+    public Page<ArticleSummary> findByHashtagQuery(HashtagQuery hashtagQuery, Pageable pageable, long total) {
+        return findPage(toPredicate(hashtagQuery), pageable, total);
+    }
+
+    @Override
+    public Slice<ArticleSummary> findSliceBySearch(SearchType searchType, String keyword, Pageable pageable) {
+        return findSlice(toPredicate(searchType, keyword), pageable);
+    }
+
+    @Override
+    public Page<ArticleSummary> findPageBySearch(SearchType searchType, String keyword, Pageable pageable) {
+        return findPage(toPredicate(searchType, keyword), pageable, countBySearch(searchType, keyword));
+    }
+
+    @Override
+    public long countBySearch(SearchType searchType, String keyword) {
+        return from(QArticle.article).where(toPredicate(searchType, keyword)).fetchCount();
+    }
+
+    @Override
+    public Slice<ArticleSummary> findSliceByHashtagQuery(HashtagQuery hashtagQuery, Pageable pageable) {
+        return findSlice(toPredicate(hashtagQuery), pageable);
+    }
+
+    @Override
+    public long countByHashtagQuery(HashtagQuery hashtagQuery) {
+        return from(QArticle.article).where(toPredicate(hashtagQuery)).fetchCount();
+    }
+
+    @Override
+    public CursorSlice<ArticleSummary> findByCursor(SearchType searchType, String keyword, ArticleCursor cursor, int size) {
+        return findByCursor(toPredicate(searchType, keyword), cursor, size);
+    }
+
+    @Override
+    public CursorSlice<ArticleSummary> findByHashtagQueryAndCursor(HashtagQuery hashtagQuery, ArticleCursor cursor, int size) {
+        if (hashtagQuery.isEmpty()) {
+            return CursorSlice.empty(size);
+        }
+
+        return findByCursor(toPredicate(hashtagQuery), cursor, size);
+    }
+
+    @Override
+    public Page<ArticleSummary> findPageByIds(Collection<Long> articleIds, Pageable pageable) {
+        if (articleIds.isEmpty()) {
+            return Page.empty(pageable);
+        }
+
+        return findPage(QArticle.article.id.in(articleIds), pageable, articleIds.size());
+    }
+
+    @Override
+    public List<ArticleSummary> findSummariesByIds(Collection<Long> articleIds) {
+        if (articleIds.isEmpty()) {
+            return List.of();
+        }
+
+        return withHashtags(selectSummaries().where(QArticle.article.id.in(articleIds)).fetch());
+    }
+
+    @Override
+    public List<ArticleHashtagRow> findArticleHashtagRows(long lastId, int size) {
+        QArticle article = QArticle.article;
+        QHashtag hashtag = QHashtag.hashtag;
+
+        // 해시태그를 join 하면 게시글마다 행 수가 달라지므로 게시글 id 를 먼저 끊어 읽는다.
+        List<Long> articleIds = from(article)
+                .where(article.id.gt(lastId))
+                .orderBy(article.id.asc())
+                .limit(size)
+                .select(article.id)
+                .fetch();
+        if (articleIds.isEmpty()) {
+            return List.of();
+        }
+
+        return from(article)
+                .leftJoin(article.hashtags, hashtag)
+                .where(article.id.in(articleIds))
+                .orderBy(article.id.asc())
+                .select(Projections.constructor(ArticleHashtagRow.class, article.id, hashtag.hashtagName))
+                .fetch();
+    }
+
+    @Override
+    public Optional<Long> findPreviousId(Long articleId) {
+        QArticle article = QArticle.article;
+
+        return Optional.ofNullable(from(article)
+                .where(article.id.lt(articleId))
+                .orderBy(article.id.desc())
+                .select(article.id)
+                .fetchFirst());
+    }
+
+    @Override
+    public Optional<Long> findNextId(Long articleId) {
+        QArticle article = QArticle.article;
+
+        return Optional.ofNullable(from(article)
+                .where(article.id.gt(articleId))
+                .orderBy(article.id.asc())
+                .select(article.id)
+                .fetchFirst());
+    }
+
+    @Override
+    public Page<ArticleSummary> findByContentFullText(String keyword, Pageable pageable) {
+        String tsQuery = toPrefixTsQuery(keyword);
+        if (tsQuery.isEmpty()) {
+            return Page.empty(pageable);
+        }
+
+        List<ArticleSummary> content = findContentFullText(tsQuery, pageable, pageable.getPageSize());
+
+        return new PageImpl<>(content, pageable, countContentFullText(tsQuery));
+    }
+
+    @Override
+    public Slice<ArticleSummary> findSliceByContentFullText(String keyword, Pageable pageable) {
+        String tsQuery = toPrefixTsQuery(keyword);
+        if (tsQuery.isEmpty()) {
+            return new SliceImpl<>(List.of(), pageable, false);
+        }
+
+        List<ArticleSummary> content = findContentFullText(tsQuery, pageable, pageable.getPageSize() + 1);
+
+        return toSlice(content, pageable);
+    }
+
+    @Override
+    public long countByContentFullText(String keyword) {
+        String tsQuery = toPrefixTsQuery(keyword);
+
+        return tsQuery.isEmpty() ? 0L : countContentFullText(tsQuery);
+    }
+
+    @Override
+    public long deleteWithCommentsByIdAndUserId(Long articleId, String userId) {
+        QArticle article = QArticle.article;
+        QArticleComment articleComment = QArticleComment.articleComment;
+        EntityManager entityManager = getEntityManager();
+        entityManager.flush();
+
+        // 대댓글도 같은 게시글을 가리키므로 게시글 id 로 한 번에 지운다.
+        delete(articleComment)
+                .where(articleComment.article.id.in(JPAExpressions
+                        .select(article.id)
+                        .from(article)
+                        .where(article.id.eq(articleId), article.userAccount.userId.eq(userId))))
+                .execute();
+        // 해시태그 연결(@JoinTable)은 게시글 벌크 delete 를 실행할 때 Hibernate 가 같은 조건으로 먼저 지운다.
+        long deleted = delete(article)
+                .where(article.id.eq(articleId), article.userAccount.userId.eq(userId))
+                .execute();
+
+        entityManager.clear();
+        return deleted;
+    }
+
+    /**
+     * 1. GIN 인덱스로 조건에 맞는 게시글 id 페이지만 구한다.
+     * 2. id 로 게시글 목록 정보를 조회한 뒤 검색 결과 순서대로 다시 정렬한다.
+     */
+    private List<ArticleSummary> findContentFullText(String tsQuery, Pageable pageable, int limit) {
+        @SuppressWarnings("unchecked")
+        List<Number> ids = getEntityManager()
+                .createNativeQuery(
+                        "select a.id from article a" +
+                        " where a.content_tsv @@ to_tsquery('simple', :query)" +
+                        " order by " + toOrderBy(pageable.getSort()) +
+                        " limit :limit offset :offset"
+                )
+                .setParameter("query", tsQuery)
+                .setParameter("limit", limit)
+                .setParameter("offset", pageable.getOffset())
+                .getResultList();
+
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+
+        Map<Long, ArticleSummary> articles = findSummariesByIds(ids.stream().map(Number::longValue).toList()).stream()
+                .collect(Collectors.toMap(ArticleSummary::id, Function.identity()));
+
+        return ids.stream()
+                .map(id -> articles.get(id.longValue()))
+                .filter(Objects::nonNull)
+                .toList();
+    }
+
+    private long countContentFullText(String tsQuery) {
+        return ((Number) getEntityManager()
+                .createNativeQuery("select count(*) from article a where a.content_tsv @@ to_tsquery('simple', :query)")
+                .setParameter("query", tsQuery)
+                .getSingleResult())
+                .longValue();
+    }
+
+    /**
+     * 검색어를 공백 단위로 나누어 모든 단어로 시작하는 토큰을 찾는 tsquery 로 만든다.
+     * 한글은 조사가 붙어 저장되므로("스프링을") 접두어 검색(:*)을 사용한다.
+     * to_tsquery 문법 오류를 피하기 위해 문자, 숫자 외에는 모두 제거한다.
+     * <pre>
+     *     "스프링 jpa!" => "스프링:* & jpa:*"
+     * </pre>
+     */
+    private static String toPrefixTsQuery(String keyword) {
+        StringJoiner joiner = new StringJoiner(" & ");
+        for (String word : keyword.trim().split("\\s+")) {
+            String term = word.codePoints()
+                    .filter(Character::isLetterOrDigit)
+                    .collect(StringBuilder::new, StringBuilder::appendCodePoint, StringBuilder::append)
+                    .toString()
+                    .toLowerCase();
+            if (!term.isEmpty()) {
+                joiner.add(term + ":*");
+            }
+        }
+
+        return joiner.toString();
+    }
+
+    /**
+     * 컬럼으로 바꿀 수 없는 정렬 조건(ex. hashtags)은 무시하고, 마지막에 id 를 붙여 페이지 간 순서를 고정한다.
+     * 정확도(relevance) 정렬은 ts_rank 점수를 사용하며, LIMIT 이 있으므로 PostgreSQL 은 상위 N 개만 정렬(top-N heapsort)한다.
+     */
+    private static String toOrderBy(Sort sort) {
+        StringJoiner joiner = new StringJoiner(", ");
+        for (Sort.Order order : sort) {
+            if (SORT_RELEVANCE.equals(order.getProperty())) {
+                joiner.add("ts_rank(a.content_tsv, to_tsquery('simple', :query)) desc");
+                continue;
+            }
+            String column = FULL_TEXT_SORT_COLUMNS.get(order.getProperty());
+            if (column != null) {
+                joiner.add(column + (order.isAscending() ? " asc" : " desc"));
+            }
+        }
+        joiner.add("a.id desc");
+
+        return joiner.toString();
+    }
+
+    private Page<ArticleSummary> findPage(Predicate predicate, Pageable pageable, long total) {
+        JPQLQuery<ArticleSummary> query = selectSummaries().where(predicate);
+        List<ArticleSummary> articles = getQuerydsl().applyPagination(pageable, query).fetch();
+
+        return new PageImpl<>(withHashtags(articles), pageable, total);
+    }
+
+    /**
+     * 페이지 크기보다 하나 더 읽어 다음 페이지가 있는지 판단한다.
+     */
+    private Slice<ArticleSummary> findSlice(Predicate predicate, Pageable pageable) {
+        JPQLQuery<ArticleSummary> query = selectSummaries().where(predicate);
+        if (pageable.isPaged()) {
+            query.offset(pageable.getOffset()).limit(pageable.getPageSize() + 1L);
+        }
+        List<ArticleSummary> articles = getQuerydsl().applySorting(pageable.getSort(), query).fetch();
+        Slice<ArticleSummary> slice = toSlice(articles, pageable);
+
+        return new SliceImpl<>(withHashtags(slice.getContent()), pageable, slice.hasNext());
+    }
+
+    /**
+     * 목록 조회용 projection 쿼리, 작성자는 join 하고 본문은 앞부분(excerpt)만 잘라서 읽는다.
+     */
+    private JPQLQuery<ArticleSummary> selectSummaries() {
+        QArticle article = QArticle.article;
+        QUserAccount userAccount = QUserAccount.userAccount;
+
+        return from(article)
+                .innerJoin(article.userAccount, userAccount)
+                .select(summary(article, userAccount));
+    }
+
+    private static Expression<ArticleSummary> summary(QArticle article, QUserAccount userAccount) {
+        return Projections.constructor(ArticleSummary.class,
+                article.id,
+                article.title,
+                article.content.substring(0, ArticleSummary.EXCERPT_LENGTH),
+                article.createdAt,
+                userAccount.userId,
+                userAccount.email,
+                userAccount.nickname
+        );
+    }
+
+    /**
+     * 페이지의 게시글 id 로 해시태그를 한 번에 조회하여 채운다.
+     */
+    private List<ArticleSummary> withHashtags(List<ArticleSummary> articles) {
+        if (articles.isEmpty()) {
+            return articles;
+        }
+
+        QArticle article = QArticle.article;
+        QHashtag hashtag = QHashtag.hashtag;
+        Map<Long, Set<String>> hashtagNames = from(article)
+                .innerJoin(article.hashtags, hashtag)
+                .where(article.id.in(articles.stream().map(ArticleSummary::id).toList()))
+                .select(Projections.constructor(ArticleHashtagRow.class, article.id, hashtag.hashtagName))
+                .fetch()
+                .stream()
+                .collect(Collectors.groupingBy(
+                        ArticleHashtagRow::articleId,
+                        Collectors.mapping(ArticleHashtagRow::hashtagName, Collectors.toUnmodifiableSet())
+                ));
+
+        return articles.stream()
+                .map(summary -> summary.withHashtags(hashtagNames.getOrDefault(summary.id(), Set.of())))
+                .toList();
+    }
+
+    /**
+     * 목록 조회용 쿼리, 작성자를 함께 조회(fetch join)하여 게시글마다 작성자 select 가 나가지 않도록 한다.
+     * 해시태그는 컬렉션이라 fetch join 하면 페이징을 메모리에서 하게 되므로, batch fetch 로 페이지당 한 번에 불러온다.
+     * count 쿼리로 쓰일 때는 fetch 가 빠지고 join 만 남는다.
+     */
+    private JPQLQuery<Article> selectArticles() {
+        QArticle article = QArticle.article;
+
+        return from(article).innerJoin(article.userAccount).fetchJoin();
+    }
+
+    private static <T> Slice<T> toSlice(List<T> articles, Pageable pageable) {
+        boolean hasNext = pageable.isPaged() && articles.size() > pageable.getPageSize();
+
+        return new SliceImpl<>(hasNext ? articles.subList(0, pageable.getPageSize()) : articles, pageable, hasNext);
+    }
+
+    /**
+     * 기존 검색(findByTitleContaining 등)과 같은 LIKE 조건을 사용한다. 검색어가 없다면 조건 없음
+     */
+    private static Predicate toPredicate(SearchType searchType, String keyword) {
+        QArticle article = QArticle.article;
+        if (searchType == null || keyword == null || keyword.isBlank()) {
+            return new BooleanBuilder();
+        }
+
+        return switch (searchType) {
+            case TITLE -> article.title.contains(keyword);
+            case CONTENT -> article.content.contains(keyword);
+            case ID -> article.userAccount.userId.contains(keyword);
+            case NICKNAME -> article.userAccount.nickname.contains(keyword);
+            case HASHTAG -> toPredicate(HashtagQuery.parse(keyword));
+        };
+    }
+
+    /**
+     * 커서보다 뒤(오래된) 게시글은 (작성일, id) 내림차순으로, 앞(최신) 게시글은 오름차순으로 size + 1 개를 읽어 다음 페이지가 있는지 판단한다.
+     * 앞 페이지는 읽은 뒤 순서를 뒤집어 항상 내림차순으로 반환한다.
+     * 앞으로 가다 첫 페이지에 닿아 size 개를 채우지 못했다면 첫 페이지를 다시 조회한다.
+     */
+    private CursorSlice<ArticleSummary> findByCursor(Predicate predicate, ArticleCursor cursor, int size) {
+        QArticle article = QArticle.article;
+        boolean backward = cursor != null && cursor.isBackward();
+
+        BooleanBuilder where = new BooleanBuilder(predicate);
+        if (cursor != null) {
+            where.and(backward ? newerThan(cursor) : olderThan(cursor));
+        }
+
+        List<ArticleSummary> rows = selectSummaries()
+                .where(where)
+                .orderBy(
+                        backward ? article.createdAt.asc() : article.createdAt.desc(),
+                        backward ? article.id.asc() : article.id.desc()
+                )
+                .limit(size + 1L)
+                .fetch();
+
+        boolean hasMore = rows.size() > size;
+        List<ArticleSummary> content = new ArrayList<>(withHashtags(hasMore ? rows.subList(0, size) : rows));
+        if (!backward) {
+            return new CursorSlice<>(content, size, cursor != null, hasMore);
+        }
+        if (!hasMore && content.size() < size) {
+            return findByCursor(predicate, null, size);
+        }
+
+        Collections.reverse(content);
+        return new CursorSlice<>(content, size, hasMore, true);
+    }
+
+    private static BooleanExpression olderThan(ArticleCursor cursor) {
+        QArticle article = QArticle.article;
+
+        return article.createdAt.lt(cursor.createdAt())
+                .or(article.createdAt.eq(cursor.createdAt()).and(article.id.lt(cursor.id())));
+    }
+
+    private static BooleanExpression newerThan(ArticleCursor cursor) {
+        QArticle article = QArticle.article;
+
+        return article.createdAt.gt(cursor.createdAt())
+                .or(article.createdAt.eq(cursor.createdAt()).and(article.id.gt(cursor.id())));
+    }
+
+    /**
+     * any() 는 EXISTS 서브쿼리로 바뀌므로 해시태그를 여러 개 가진 게시글도 한 번만 조회된다.
+     */
+    private static BooleanBuilder toPredicate(HashtagQuery hashtagQuery) {
+        QArticle article = QArticle.article;
+        BooleanBuilder predicate = new BooleanBuilder();
+
+        if (!hashtagQuery.anyOf().isEmpty()) {
+            predicate.and(article.hashtags.any().hashtagName.in(hashtagQuery.anyOf()));
+        }
+        hashtagQuery.allOf().forEach(name -> predicate.and(article.hashtags.any().hashtagName.eq(name)));
+        if (!hashtagQuery.noneOf().isEmpty()) {
+            predicate.andNot(article.hashtags.any().hashtagName.in(hashtagQuery.noneOf()));
+        }
+
+        return predicate;
+    }
 }
@@ -0,0 +1,39 @@
+package com.example.projectboard.repository.querydsl;
+
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.SliceImpl;
+
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * <p>
+ * 커서 페이징 결과
+ *
+ * <p>
+ * 커서 페이징은 페이지 번호가 없으므로 {@link SliceImpl} 의 이전 페이지 여부(페이지 번호 > 0)를 직접 정해준다.
+ * 전체 개수를 세지 않기 때문에 count 쿼리가 없다.
+ */
+public class CursorSlice<T> extends SliceImpl<T> {
+
+    private final boolean hasPrevious;
+
+    public CursorSlice(List<T> content, int size, boolean hasPrevious, boolean hasNext) {
+        super(content, PageRequest.of(0, size, ArticleCursor.SORT), hasNext);
+        this.hasPrevious = hasPrevious;
+    }
+
+    public static <T> CursorSlice<T> empty(int size) {
+        return new CursorSlice<>(List.of(), size, false, false);
+    }
+
+    @Override
+    public boolean hasPrevious() {
+        return hasPrevious;
+    }
+
+    @Override
+    public <U> CursorSlice<U> map(Function<? super T, ? extends U> converter) {
+        return new CursorSlice<>(getConvertedContent(converter), getSize(), hasPrevious, hasNext());
+    }
+}
@@ -0,0 +1,65 @@
+package com.example.projectboard.repository.querydsl;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Collection;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * <p>
+ * 해시태그 이름 단위 잠금 (striped lock)
+ *
+ * <p>
+ * H2 의 MERGE 는 다른 트랜잭션이 저장 중인(커밋 전) 같은 이름을 보지 못하고 unique 제약 위반으로 실패한다.
+ * 이름을 고정된 개수의 잠금으로 나누어, 같은 이름을 저장하는 트랜잭션이 앞선 트랜잭션의 커밋(또는 롤백)을 기다리게 한다.
+ * 게시글에 연결할 해시태그와 게시글이 없어 지울 해시태그도 같은 잠금을 잡아, 연결하는 동안 해시태그가 지워지지 않게 한다.
+ * 하나의 JVM 안에서만 유효하므로, 행 잠금으로 기다려주는 DB(PostgreSQL, MySQL)에서는 사용하지 않는다.
+ *
+ * <p>
+ * 교착 상태에 빠지지 않도록 필요한 잠금을 한 번에, 번호 순서대로 잡는다.
+ */
+final class HashtagNameLocks {
+
+    private static final int STRIPE_COUNT = 64;
+
+    private final ReentrantLock[] stripes = new ReentrantLock[STRIPE_COUNT];
+
+    HashtagNameLocks() {
+        for (int i = 0; i < STRIPE_COUNT; i++) {
+            stripes[i] = new ReentrantLock();
+        }
+    }
+
+    /**
+     * 이름들에 해당하는 잠금을 잡고, 현재 트랜잭션이 끝나면 푼다. 트랜잭션이 없다면 잠그지 않는다.
+     */
+    void lockUntilTransactionEnds(Collection<String> hashtagNames) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+
+        int[] indexes = hashtagNames.stream()
+                .mapToInt(this::indexOf)
+                .distinct()
+                .sorted()
+                .toArray();
+
+        for (int index : indexes) {
+            stripes[index].lock();
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                for (int i = indexes.length - 1; i >= 0; i--) {
+                    stripes[indexes[i]].unlock();
+                }
+            }
+        });
+    }
+
+    private int indexOf(String hashtagName) {
+        return Math.floorMod(hashtagName.hashCode(), STRIPE_COUNT);
+    }
+}
@@ -0,0 +1,54 @@
+package com.example.projectboard.repository.querydsl;
+
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+/**
+ * <p>
+ * 여러 해시태그 검색 조건
+ *
+ * <p>
+ * 공백으로 나눈 검색어 중 + 로 시작하면 반드시 포함(AND), - 로 시작하면 제외(NOT), 그 외에는 하나라도 포함(OR) 한다.
+ * <pre>
+ *     "java spring +jpa -kotlin" => (java OR spring) AND jpa AND NOT kotlin
+ * </pre>
+ *
+ * @param anyOf 하나라도 포함해야 하는 해시태그, 비어있다면 조건 없음
+ * @param allOf 모두 포함해야 하는 해시태그
+ * @param noneOf 하나도 포함하지 않아야 하는 해시태그
+ */
+public record HashtagQuery(Set<String> anyOf, Set<String> allOf, Set<String> noneOf) {
+
+    public static HashtagQuery of(String hashtagName) {
+        return new HashtagQuery(Set.of(hashtagName), Set.of(), Set.of());
+    }
+
+    public static HashtagQuery parse(String keyword) {
+        Set<String> anyOf = new LinkedHashSet<>();
+        Set<String> allOf = new LinkedHashSet<>();
+        Set<String> noneOf = new LinkedHashSet<>();
+
+        for (String word : keyword.strip().split("\\s+")) {
+            if (word.length() > 1 && word.charAt(0) == '+') {
+                allOf.add(word.substring(1));
+            } else if (word.length() > 1 && word.charAt(0) == '-') {
+                noneOf.add(word.substring(1));
+            } else if (!word.isEmpty()) {
+                anyOf.add(word);
+            }
+        }
+
+        return new HashtagQuery(Set.copyOf(anyOf), Set.copyOf(allOf), Set.copyOf(noneOf));
+    }
+
+    public boolean isEmpty() {
+        return anyOf.isEmpty() && allOf.isEmpty() && noneOf.isEmpty();
+    }
+
+    /**
+     * 포함 조건(OR, AND) 없이 제외 조건만 있다면 해시태그와 관계없이 모든 게시글이 후보가 된다.
+     */
+    public boolean hasPositiveTerm() {
+        return !anyOf.isEmpty() || !allOf.isEmpty();
+    }
+}
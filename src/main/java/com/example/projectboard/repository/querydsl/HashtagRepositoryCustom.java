@@ -1,8 +1,84 @@
 package com.example.projectboard.repository.querydsl;
 
+import com.example.projectboard.domain.Hashtag;
+import com.example.projectboard.domain.projection.HashtagUsage;
+
+import java.util.Collection;
 import java.util.List;
 
 public interface HashtagRepositoryCustom {
 
     List<String> findAllHashtagNames();
+
+    /**
+     * 게시글이 하나 이상 붙은 해시태그의 이름과 게시글 수
+     */
+    List<HashtagUsage> findHashtagUsages();
+
+    /**
+     * <p>
+     * 같은 이름의 해시태그가 없을 때만 저장한다. unique 제약을 위반하지 않으므로 트랜잭션이 실패하지 않는다.
+     * 다른 트랜잭션이 같은 이름을 저장하고 있다면 그 트랜잭션이 끝날 때까지 기다린다.
+     * <pre>
+     *     PostgreSQL : INSERT ... ON CONFLICT (hashtag_name) DO NOTHING
+     *     MySQL : INSERT IGNORE ...
+     *     H2 : 이름 단위 잠금({@link HashtagNameLocks}) + MERGE INTO ... WHEN NOT MATCHED THEN INSERT ...
+     * </pre>
+     *
+     * <p>
+     * 서로 다른 순서로 저장하는 트랜잭션끼리 교착 상태에 빠지지 않도록 이름 순서대로 저장한다.
+     * 해시태그 수와 관계없이 여러 행을 한 문장으로 저장하며, 이미 있던 이름에 나눠 준 id 는 쓰이지 않고 버려진다.
+     *
+     * @return 새로 저장한 해시태그 수
+     */
+    int insertIfAbsent(Collection<String> hashtagNames);
+
+    /**
+     * <p>
+     * 게시글에 연결할 해시태그를 조회한다. 다른 트랜잭션이 커밋한 최신 행을 읽고,
+     * 트랜잭션이 끝날 때까지 {@link #deleteWithoutArticles} 가 지우지 못하도록 잠근다.
+     * <pre>
+     *     PostgreSQL : SELECT ... FOR SHARE
+     *     MySQL : SELECT ... FOR SHARE (5.7 이하 LOCK IN SHARE MODE)
+     *     H2 : 일반 조회, 잠금은 {@link #lockHashtagNames} 의 이름 잠금으로 대신한다. (READ COMMITTED)
+     * </pre>
+     *
+     * <p>
+     * MySQL 의 기본 격리 수준(REPEATABLE READ)에서 일반 조회는 트랜잭션의 첫 조회 시점 스냅샷을 읽는다.
+     * {@link #insertIfAbsent} 가 건너뛴 이름(그 사이 다른 트랜잭션이 저장한 해시태그)을 보지 못하므로 잠금 조회로 읽는다.
+     */
+    List<Hashtag> findByHashtagNamesForShare(Collection<String> hashtagNames);
+
+    /**
+     * <p>
+     * H2 에서만 이름 단위 잠금({@link HashtagNameLocks})을 트랜잭션이 끝날 때까지 잡는다. 다른 DB 는 행 잠금을 사용하므로 아무것도 하지 않는다.
+     *
+     * <p>
+     * 게시글에 연결할 해시태그 이름 전체로 조회 전에 한 번만 호출한다.
+     * 이후 같은 이름으로 {@link #insertIfAbsent} 를 호출해도 이미 잡은 잠금이므로 기다리지 않아, 잠금을 나눠 잡다 교착 상태에 빠지지 않는다.
+     */
+    void lockHashtagNames(Collection<String> hashtagNames);
+
+    /**
+     * <p>
+     * 주어진 해시태그 중 게시글이 하나도 없는 해시태그를 지운다.
+     * 해시태그 수와 관계없이 잠금 select, 확인 select, delete 한 번씩으로 처리하며, 지우기 전에 flush 하여 게시글 연결 변경을 반영한다.
+     *
+     * <p>
+     * 게시글에 연결하려고 해시태그를 조회한({@link #findByHashtagNamesForShare}) 트랜잭션과 겹치지 않도록, 지울 해시태그를 먼저 잠근다.
+     * <pre>
+     *     PostgreSQL, MySQL : SELECT ... FOR UPDATE SKIP LOCKED, 조회한 트랜잭션이 잠근 해시태그는 이번에 지우지 않는다.
+     *     H2 : 이름 단위 잠금, 조회한 트랜잭션이 끝날 때까지 기다린다.
+     * </pre>
+     * 잠근 뒤에 게시글이 없는지 다시 확인하므로, 그 사이 게시글이 붙은 해시태그는 지우지 않는다.
+     *
+     * @return 지운 해시태그 이름
+     */
+    List<String> deleteWithoutArticles(Collection<Long> hashtagIds);
+
+    /**
+     * 게시글이 하나도 없는 해시태그 id 를 afterId 다음부터 오름차순으로 limit 개 반환한다.
+     * 게시글 연결(article_hashtag)에 대한 not exists 로 찾으므로 해시태그마다 게시글 목록을 읽지 않는다.
+     */
+    List<Long> findIdsWithoutArticles(long afterId, int limit);
 }
@@ -1,15 +1,49 @@
 package com.example.projectboard.repository.querydsl;
 
 import com.example.projectboard.domain.Hashtag;
+import com.example.projectboard.domain.QArticle;
 import com.example.projectboard.domain.QHashtag;
+import com.example.projectboard.domain.projection.HashtagUsage;
+import com.querydsl.core.Tuple;
+import com.querydsl.core.types.Projections;
+import com.querydsl.jpa.impl.JPAQuery;
+import org.hibernate.LockOptions;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.dialect.Dialect;
+import org.hibernate.dialect.H2Dialect;
+import org.hibernate.dialect.PostgreSQL81Dialect;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.id.IdentifierGenerator;
+import org.springframework.data.domain.AuditorAware;
 import org.springframework.data.jpa.repository.support.QuerydslRepositorySupport;
 
+import javax.persistence.LockModeType;
+import javax.persistence.Query;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
 public class HashtagRepositoryCustomImpl extends QuerydslRepositorySupport implements HashtagRepositoryCustom{
 
-    public HashtagRepositoryCustomImpl() {
+    // 한 문장에 담는 해시태그 수 (바인딩 파라미터 수 제한)
+    private static final int INSERT_CHUNK_SIZE = 500;
+    private static final String INSERT_COLUMNS = "hashtag (id, hashtag_name, created_at, created_by, modified_at, modified_by) values ";
+    // ?1 : 생성, 수정 일시 / ?2 : 생성자, 수정자
+    private static final String INSERT_ROW = "(?%d, ?%d, ?1, ?2, ?1, ?2)";
+    private static final String MERGE_ROW = "(cast(?%d as bigint), cast(?%d as varchar(255)))";
+    private static final String MERGE_WHEN_NOT_MATCHED = "merge into hashtag h using (values %s) v(id, hashtag_name) on h.hashtag_name = v.hashtag_name"
+            + " when not matched then insert (id, hashtag_name, created_at, created_by, modified_at, modified_by) values (v.id, v.hashtag_name, ?1, ?2, ?1, ?2)";
+
+    // 네이티브 쿼리는 JPA Auditing 이 적용되지 않으므로 생성자, 수정자를 직접 채운다.
+    private final AuditorAware<String> auditorAware;
+    private final HashtagNameLocks hashtagNameLocks = new HashtagNameLocks();
+
+    public HashtagRepositoryCustomImpl(AuditorAware<String> auditorAware) {
         super(Hashtag.class);
+        this.auditorAware = auditorAware;
     }
 
     @Override
@@ -20,4 +54,169 @@ public class HashtagRepositoryCustomImpl extends QuerydslRepositorySupport imple
                 .select(hashtag.hashtagName)
                 .fetch();
     }
+
+    @Override
+    public List<HashtagUsage> findHashtagUsages() {
+        QHashtag hashtag = QHashtag.hashtag;
+        QArticle article = QArticle.article;
+
+        return from(hashtag)
+                .innerJoin(hashtag.articles, article)
+                .groupBy(hashtag.hashtagName)
+                .select(Projections.constructor(HashtagUsage.class, hashtag.hashtagName, article.count()))
+                .fetch();
+    }
+
+    @Override
+    public int insertIfAbsent(Collection<String> hashtagNames) {
+        List<String> sortedHashtagNames = hashtagNames.stream().distinct().sorted().toList();
+        if (sortedHashtagNames.isEmpty()) {
+            return 0;
+        }
+
+        Dialect dialect = dialect();
+        String auditor = auditorAware.getCurrentAuditor()
+                .orElseThrow(() -> new IllegalStateException("해시태그를 저장할 사용자 정보가 없습니다 - hashtagNames: " + sortedHashtagNames));
+        LocalDateTime now = LocalDateTime.now();
+
+        if (dialect instanceof H2Dialect) {
+            hashtagNameLocks.lockUntilTransactionEnds(sortedHashtagNames);
+        }
+
+        // 네이티브 insert 에는 id 를 직접 넣어야 하므로, 엔티티와 같은 시퀀스 생성기에서 받는다. (대부분 시퀀스 조회 없이 메모리에서 나눠 준다.)
+        SharedSessionContractImplementor session = getEntityManager().unwrap(SharedSessionContractImplementor.class);
+        IdentifierGenerator idGenerator = session.getFactory().getMetamodel().entityPersister(Hashtag.class).getIdentifierGenerator();
+
+        int inserted = 0;
+        for (int from = 0; from < sortedHashtagNames.size(); from += INSERT_CHUNK_SIZE) {
+            List<String> chunk = sortedHashtagNames.subList(from, Math.min(from + INSERT_CHUNK_SIZE, sortedHashtagNames.size()));
+            Query query = getEntityManager()
+                    .createNativeQuery(insertIfAbsentQuery(dialect, chunk.size()))
+                    .setParameter(1, now)
+                    .setParameter(2, auditor);
+            for (int i = 0; i < chunk.size(); i++) {
+                query.setParameter(3 + i * 2, idGenerator.generate(session, null));
+                query.setParameter(4 + i * 2, chunk.get(i));
+            }
+            inserted += query.executeUpdate();
+        }
+
+        return inserted;
+    }
+
+    @Override
+    public List<Hashtag> findByHashtagNamesForShare(Collection<String> hashtagNames) {
+        if (hashtagNames.isEmpty()) {
+            return List.of();
+        }
+
+        QHashtag hashtag = QHashtag.hashtag;
+        JPAQuery<Hashtag> query = new JPAQuery<>(getEntityManager())
+                .select(hashtag)
+                .from(hashtag)
+                .where(hashtag.hashtagName.in(hashtagNames));
+        if (!(dialect() instanceof H2Dialect)) {
+            query.setLockMode(LockModeType.PESSIMISTIC_READ);
+        }
+
+        return query.fetch();
+    }
+
+    @Override
+    public void lockHashtagNames(Collection<String> hashtagNames) {
+        if (dialect() instanceof H2Dialect) {
+            hashtagNameLocks.lockUntilTransactionEnds(hashtagNames);
+        }
+    }
+
+    @Override
+    public List<String> deleteWithoutArticles(Collection<Long> hashtagIds) {
+        if (hashtagIds.isEmpty()) {
+            return List.of();
+        }
+
+        QHashtag hashtag = QHashtag.hashtag;
+        getEntityManager().flush();
+
+        List<Long> lockedIds = lockOrphans(hashtagIds);
+        if (lockedIds.isEmpty()) {
+            return List.of();
+        }
+
+        // 잠금을 기다리는 동안 게시글이 붙었을 수 있으므로 잠근 뒤에 다시 확인한다.
+        List<Tuple> orphans = from(hashtag)
+                .where(hashtag.id.in(lockedIds), hashtag.articles.isEmpty())
+                .select(hashtag.id, hashtag.hashtagName)
+                .fetch();
+        if (orphans.isEmpty()) {
+            return List.of();
+        }
+
+        delete(hashtag)
+                .where(hashtag.id.in(orphans.stream().map(orphan -> orphan.get(hashtag.id)).toList()), hashtag.articles.isEmpty())
+                .execute();
+
+        return orphans.stream().map(orphan -> orphan.get(hashtag.hashtagName)).toList();
+    }
+
+    /**
+     * 게시글이 없는 해시태그를 지우기 위해 잠그고, 잠근 해시태그 id 를 반환한다.
+     */
+    private List<Long> lockOrphans(Collection<Long> hashtagIds) {
+        QHashtag hashtag = QHashtag.hashtag;
+
+        if (dialect() instanceof H2Dialect) {
+            List<Tuple> orphans = from(hashtag)
+                    .where(hashtag.id.in(hashtagIds), hashtag.articles.isEmpty())
+                    .select(hashtag.id, hashtag.hashtagName)
+                    .fetch();
+            hashtagNameLocks.lockUntilTransactionEnds(orphans.stream().map(orphan -> orphan.get(hashtag.hashtagName)).toList());
+            return orphans.stream().map(orphan -> orphan.get(hashtag.id)).toList();
+        }
+
+        return new JPAQuery<Long>(getEntityManager())
+                .select(hashtag.id)
+                .from(hashtag)
+                .where(hashtag.id.in(hashtagIds), hashtag.articles.isEmpty())
+                .setLockMode(LockModeType.PESSIMISTIC_WRITE)
+                .setHint(AvailableSettings.JPA_LOCK_TIMEOUT, LockOptions.SKIP_LOCKED)
+                .fetch();
+    }
+
+    @Override
+    public List<Long> findIdsWithoutArticles(long afterId, int limit) {
+        QHashtag hashtag = QHashtag.hashtag;
+
+        return from(hashtag)
+                .where(hashtag.id.gt(afterId), hashtag.articles.isEmpty())
+                .orderBy(hashtag.id.asc())
+                .limit(limit)
+                .select(hashtag.id)
+                .fetch();
+    }
+
+    private Dialect dialect() {
+        return getEntityManager().getEntityManagerFactory()
+                .unwrap(SessionFactoryImplementor.class)
+                .getJdbcServices()
+                .getDialect();
+    }
+
+    private static String insertIfAbsentQuery(Dialect dialect, int rowCount) {
+        if (dialect instanceof H2Dialect) {
+            return MERGE_WHEN_NOT_MATCHED.formatted(rows(MERGE_ROW, rowCount));
+        }
+
+        String values = rows(INSERT_ROW, rowCount);
+        if (dialect instanceof PostgreSQL81Dialect) {
+            return "insert into " + INSERT_COLUMNS + values + " on conflict (hashtag_name) do nothing";
+        }
+        return "insert ignore into " + INSERT_COLUMNS + values;
+    }
+
+    private static String rows(String row, int rowCount) {
+        return IntStream.range(0, rowCount)
+                .mapToObj(i -> row.formatted(3 + i * 2, 4 + i * 2))
+                .collect(Collectors.joining(", "));
+    }
 }
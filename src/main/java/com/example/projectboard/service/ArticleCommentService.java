@@ -4,16 +4,23 @@ import com.example.projectboard.domain.Article;
 import com.example.projectboard.domain.ArticleComment;
 import com.example.projectboard.domain.UserAccount;
 import com.example.projectboard.dto.ArticleCommentDto;
+import com.example.projectboard.dto.event.ArticleCommentEvent;
 import com.example.projectboard.repository.ArticleCommentRepository;
 import com.example.projectboard.repository.ArticleRepository;
 import com.example.projectboard.repository.UserAccountRepository;
+import com.example.projectboard.repository.querydsl.ArticleCursor;
+import com.example.projectboard.repository.querydsl.CursorSlice;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import javax.persistence.EntityNotFoundException;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 
 @Slf4j
 @Service
@@ -24,6 +31,7 @@ public class ArticleCommentService {
     private final ArticleCommentRepository articleCommentRepository;
     private final ArticleRepository articleRepository;
     private final UserAccountRepository userAccountRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Transactional(readOnly = true)
     public List<ArticleCommentDto> searchArticleComments(Long articleId) {
@@ -33,19 +41,65 @@ public class ArticleCommentService {
                 .toList();
     }
 
+    /**
+     * 게시글 상세에 보여줄 부모 댓글 페이지(최신순), 대댓글은 {@link #searchChildComments} 로 따로 불러온다.
+     */
+    @Transactional(readOnly = true)
+    public CursorSlice<ArticleCommentDto> searchParentComments(Long articleId, ArticleCursor cursor, int size) {
+        return articleCommentRepository.findParentCommentsByCursor(articleId, cursor, size).map(ArticleCommentDto::from);
+    }
+
+    /**
+     * 부모 댓글의 대댓글 페이지(작성순)
+     */
+    @Transactional(readOnly = true)
+    public CursorSlice<ArticleCommentDto> searchChildComments(Long parentCommentId, ArticleCursor cursor, int size) {
+        return articleCommentRepository.findChildCommentsByCursor(parentCommentId, cursor, size).map(ArticleCommentDto::from);
+    }
+
+    /**
+     * 댓글과 모든 깊이의 답글을 깊이 우선 순서로 조회한다. 댓글이 없다면 빈 페이지를 반환한다.
+     *
+     * @param afterPath 마지막으로 본 답글의 경로, 없다면 첫 페이지
+     */
+    @Transactional(readOnly = true)
+    public CursorSlice<ArticleCommentDto> searchCommentThread(Long articleCommentId, String afterPath, int size) {
+        return articleCommentRepository.findById(articleCommentId)
+                .map(ArticleComment::getPath)
+                .map(path -> articleCommentRepository.findThreadByPath(path, afterPath, size).map(ArticleCommentDto::from))
+                .orElseGet(() -> CursorSlice.empty(size));
+    }
+
+    /**
+     * 부모 댓글 id 별 대댓글 수, 대댓글이 없다면 포함하지 않는다.
+     */
+    @Transactional(readOnly = true)
+    public Map<Long, Long> countChildComments(Collection<Long> parentCommentIds) {
+        return articleCommentRepository.countChildComments(parentCommentIds);
+    }
+
     public void saveArticleComment(ArticleCommentDto dto) {
         try {
             Article article = articleRepository.getReferenceById(dto.articleId());
             UserAccount userAccount = userAccountRepository.getReferenceById(dto.userAccountDto().userId());
             ArticleComment articleComment = dto.toEntity(article, userAccount);
 
+            // 답글은 깊이 제한(MAX_DEPTH)에 닿으면 부모 댓글과 같은 깊이에 단다.
+            ArticleComment parentComment = null;
             if(dto.parentCommentId() != null){
-                ArticleComment parentComment = articleCommentRepository.getReferenceById(dto.parentCommentId());
-                parentComment.addChildComment(articleComment);
-            }else{
-                articleCommentRepository.save(articleComment);
+                parentComment = articleCommentRepository.getReferenceById(dto.parentCommentId());
+                if(parentComment.getDepth() >= ArticleComment.MAX_DEPTH - 1){
+                    parentComment = articleCommentRepository.getReferenceById(parentComment.getParentCommentId());
+                }
+                articleComment.setParentCommentId(parentComment.getId());
             }
 
+            // 경로에 들어가는 자신의 id 는 저장하며 만들어지므로, 부모만 정해두면 insert 전에 경로가 채워진다.
+            articleComment.assignPath(parentComment);
+            articleCommentRepository.save(articleComment);
+
+            eventPublisher.publishEvent(ArticleCommentEvent.of(dto.articleId()));
+
         } catch (EntityNotFoundException e) {
             log.warn("댓글 저장 실패. 댓글 작성에 필요한 정보를 찾을 수 없습니다 - dto: {}", e.getLocalizedMessage());
         }
@@ -65,6 +119,18 @@ public class ArticleCommentService {
     }
 
     public void deleteArticleComment(Long articleCommentId, String userId) {
-        articleCommentRepository.deleteByIdAndUserAccount_UserId(articleCommentId, userId);
+        // 삭제한 뒤에는 댓글이 달린 게시글을 알 수 없으므로 미리 조회해둔다.
+        Optional<Long> articleId = articleCommentRepository.findById(articleCommentId)
+                .filter(articleComment -> articleComment.getUserAccount().getUserId().equals(userId))
+                .map(articleComment -> articleComment.getArticle().getId());
+
+        if (articleId.isEmpty()) {
+            return;
+        }
+
+        // 대댓글을 하나씩 읽어 지우지 않고, 작성자 조건으로 댓글과 대댓글을 한 번에 지운다.
+        if (articleCommentRepository.deleteWithChildCommentsByIdAndUserId(articleCommentId, userId) > 0) {
+            eventPublisher.publishEvent(ArticleCommentEvent.of(articleId.get()));
+        }
     }
 }
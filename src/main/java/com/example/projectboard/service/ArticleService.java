@@ -1,25 +1,43 @@
 package com.example.projectboard.service;
 
+import com.example.projectboard.config.PaginationProperties;
+import com.example.projectboard.config.SearchProperties;
 import com.example.projectboard.domain.Article;
 import com.example.projectboard.domain.Hashtag;
 import com.example.projectboard.domain.UserAccount;
 import com.example.projectboard.domain.constant.SearchType;
+import com.example.projectboard.domain.projection.ArticleSummary;
 import com.example.projectboard.dto.ArticleDto;
-import com.example.projectboard.dto.ArticleWithCommentsDto;
+import com.example.projectboard.dto.event.ArticleEvent;
 import com.example.projectboard.repository.ArticleRepository;
-import com.example.projectboard.repository.HashtagRepository;
 import com.example.projectboard.repository.UserAccountRepository;
+import com.example.projectboard.repository.querydsl.ArticleCursor;
+import com.example.projectboard.repository.querydsl.ArticleRepositoryCustom;
+import com.example.projectboard.repository.querydsl.CursorSlice;
+import com.example.projectboard.repository.querydsl.HashtagQuery;
+import com.example.projectboard.service.cache.ArticleCountCache;
+import com.example.projectboard.service.cache.ArticleSearchCache;
+import com.example.projectboard.service.search.ArticleSearchIndex;
+import com.example.projectboard.service.search.HashtagBitmapIndex;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import javax.persistence.EntityNotFoundException;
-import java.util.Arrays;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Set;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @Service
@@ -28,36 +46,99 @@ import java.util.stream.Collectors;
 @Slf4j
 public class ArticleService {
 
+    // 해시태그 색인으로 찾은 게시글이 이보다 적다면 id IN 조건으로, 많다면 EXISTS 조건으로 페이지를 조회한다.
+    private static final long HASHTAG_ID_IN_LIMIT = 1_000L;
+
     private final ArticleRepository articleRepository;
     private final UserAccountRepository userAccountRepository;
     private final HashtagService hashtagService;
-    private final HashtagRepository hashtagRepository;
+    private final ArticleSearchIndex articleSearchIndex;
+    private final ApplicationEventPublisher eventPublisher;
+    private final SearchProperties searchProperties;
+    private final ArticleSearchCache articleSearchCache;
+    private final HashtagBitmapIndex hashtagBitmapIndex;
+    private final PaginationProperties paginationProperties;
+    private final ArticleCountCache articleCountCache;
 
+    /**
+     * 목록 화면용 검색, 게시글 엔티티 대신 목록에 필요한 컬럼만 담은 {@link ArticleSummary} 를 반환한다.
+     * 검색 결과는 {@link ArticleSearchCache} 에 게시글 id 목록으로 저장해두고, 캐시가 있다면 id 로만 게시글을 조회한다.
+     */
     @Transactional(readOnly = true)
-    public Page<ArticleDto> searchArticles(SearchType searchType, String searchKeyword, Pageable pageable) {
+    public Page<ArticleSummary> searchArticles(SearchType searchType, String searchKeyword, Pageable pageable) {
+        ArticleSearchCache.Key key = ArticleSearchCache.Key.of(searchType, searchKeyword, pageable);
+        Page<Long> cachedArticleIds = articleSearchCache.get(key);
+        if (cachedArticleIds != null) {
+            return findArticlesByIds(cachedArticleIds);
+        }
+
+        // 캐시 키와 같은 (정규화한) 검색어로 조회해야, 같은 키에 다른 검색어의 결과가 저장되지 않는다.
+        long generation = articleSearchCache.generation();
+        Page<ArticleSummary> articles = findArticles(key.searchType(), key.keyword(), pageable);
+        articleSearchCache.put(key, generation, articles);
+
+        return articles;
+    }
+
+    /**
+     * 커서(keyset) 페이징 검색, 몇 번째 페이지든 조회 비용이 같으므로 검색 캐시를 거치지 않는다.
+     */
+    @Transactional(readOnly = true)
+    public CursorSlice<ArticleSummary> searchArticles(SearchType searchType, String searchKeyword, ArticleCursor cursor, int size) {
+        return articleRepository.findByCursor(searchType, searchKeyword, cursor, size);
+    }
+
+    private Page<ArticleSummary> findArticles(SearchType searchType, String searchKeyword, Pageable pageable) {
+        // 정확도 정렬은 검색 색인, 전문 검색만 지원하므로 그 외의 DB 조회는 기본 정렬(작성일 내림차순)을 사용한다.
+        Pageable dbPageable = withoutRelevanceSort(pageable);
+
         if(searchKeyword == null || searchKeyword.isBlank()){
-            return articleRepository.findAll(pageable).map(ArticleDto::from);
+            return searchArticlesByLike(null, null, dbPageable);
         }
 
         return switch (searchType){
-            case TITLE -> articleRepository.findByTitleContaining(searchKeyword, pageable).map(ArticleDto::from);
-            case CONTENT -> articleRepository.findByContentContaining(searchKeyword, pageable).map(ArticleDto::from);
-            case ID -> articleRepository.findByUserAccount_UserIdContaining(searchKeyword, pageable).map(ArticleDto::from);
-            case NICKNAME -> articleRepository.findByUserAccount_NicknameContaining(searchKeyword, pageable).map(ArticleDto::from);
-            case HASHTAG -> articleRepository.findByHashtagNames(
-                            Arrays.stream(searchKeyword.split(" ")).toList(),
-                            pageable
-                    )
-                    .map(ArticleDto::from);
+            // 제목, 본문 검색은 색인이 준비되어 있다면 LIKE 검색 대신 색인을 사용한다.
+            case TITLE -> articleSearchIndex.canServe(searchKeyword, pageable.getSort())
+                    ? findArticlesByIds(articleSearchIndex.search(searchType, searchKeyword, pageable))
+                    : searchArticlesByLike(searchType, searchKeyword, dbPageable);
+            case CONTENT -> searchArticlesByContent(searchKeyword, pageable);
+            case ID, NICKNAME -> searchArticlesByLike(searchType, searchKeyword, dbPageable);
+            case HASHTAG -> searchArticlesByHashtags(HashtagQuery.parse(searchKeyword), dbPageable);
         };
     }
 
-    @Transactional(readOnly = true)
-    public ArticleWithCommentsDto getArticleWithComments(long articleId) {
-        return articleRepository.findById(articleId)
-                .map(ArticleWithCommentsDto::from)
-                .orElseThrow(() -> new EntityNotFoundException("게시글이 없습니다 - articleId: " + articleId))
-                ;
+    /**
+     * 전체 조회와 LIKE 검색, 전체 개수를 대략적으로 구하는 설정이라면 count 쿼리 없이 조회한다.
+     */
+    private Page<ArticleSummary> searchArticlesByLike(SearchType searchType, String searchKeyword, Pageable pageable) {
+        if (sortsByHashtags(pageable)) {
+            return searchArticleEntitiesByLike(searchType, searchKeyword, pageable);
+        }
+        if (countsApproximately(pageable)) {
+            return toApproximatePage(
+                    articleRepository.findSliceBySearch(searchType, searchKeyword, pageable),
+                    ArticleCountCache.Key.of(searchType, searchKeyword)
+            );
+        }
+
+        return articleRepository.findPageBySearch(searchType, searchKeyword, pageable);
+    }
+
+    /**
+     * 해시태그(컬렉션) 정렬은 projection 쿼리로 정렬할 수 없으므로 엔티티를 조회하여 목록 정보로 바꾼다.
+     */
+    private Page<ArticleSummary> searchArticleEntitiesByLike(SearchType searchType, String searchKeyword, Pageable pageable) {
+        if (searchType == null) {
+            return articleRepository.findAll(pageable).map(ArticleSummary::from);
+        }
+
+        return switch (searchType) {
+            case TITLE -> articleRepository.findByTitleContaining(searchKeyword, pageable).map(ArticleSummary::from);
+            case CONTENT -> articleRepository.findByContentContaining(searchKeyword, pageable).map(ArticleSummary::from);
+            case ID -> articleRepository.findByUserAccount_UserIdContaining(searchKeyword, pageable).map(ArticleSummary::from);
+            case NICKNAME -> articleRepository.findByUserAccount_NicknameContaining(searchKeyword, pageable).map(ArticleSummary::from);
+            case HASHTAG -> searchArticlesByHashtags(HashtagQuery.parse(searchKeyword), pageable);
+        };
     }
 
     @Transactional(readOnly = true)
@@ -77,10 +158,53 @@ public class ArticleService {
         // Set의 경우 중복되는 값의 경우 변경되지 않는다. 이러한 이유로 addAll 이 가능하다.
         article.addHashtags(hashtags);
 
-        articleRepository.save(article);
+        Article savedArticle = articleRepository.save(article);
+        eventPublisher.publishEvent(ArticleEvent.created(ArticleDto.from(savedArticle)));
     }
 
 
+    /**
+     * <p>
+     * 게시글 여러 개를 한 트랜잭션으로 저장한다. (대량 등록, {@link com.example.projectboard.service.importer.ArticleImportService})
+     *
+     * <p>
+     * 작성자와 해시태그는 게시글마다 조회하지 않고 묶음 전체를 한 번에 조회, 저장한다.
+     * 게시글 id 는 메모리에서 만들므로 게시글과 게시글-해시태그 insert 는 JDBC batch 로 묶인다.
+     *
+     * @return 없는 사용자라서 저장하지 않은 게시글의 작성자 id
+     */
+    public Set<String> saveArticles(List<ArticleDto> dtos) {
+        Set<String> userIds = dtos.stream()
+                .map(dto -> dto.userAccountDto().userId())
+                .collect(Collectors.toSet());
+        Map<String, UserAccount> userAccounts = userAccountRepository.findAllById(userIds).stream()
+                .collect(Collectors.toMap(UserAccount::getUserId, Function.identity()));
+
+        List<ArticleDto> savableDtos = dtos.stream()
+                .filter(dto -> userAccounts.containsKey(dto.userAccountDto().userId()))
+                .toList();
+        List<Set<String>> hashtagNames = savableDtos.stream()
+                .map(dto -> hashtagService.parseHashtagNames(dto.content()))
+                .toList();
+        Map<String, Hashtag> hashtags = renewHashtags(hashtagNames.stream().flatMap(Set::stream).collect(Collectors.toSet()))
+                .stream()
+                .collect(Collectors.toMap(Hashtag::getHashtagName, Function.identity()));
+
+        List<Article> articles = new ArrayList<>(savableDtos.size());
+        for (int i = 0; i < savableDtos.size(); i++) {
+            ArticleDto dto = savableDtos.get(i);
+            Article article = dto.toEntity(userAccounts.get(dto.userAccountDto().userId()));
+            article.addHashtags(hashtagNames.get(i).stream().map(hashtags::get).toList());
+            articles.add(article);
+        }
+
+        articleRepository.saveAll(articles);
+        articles.forEach(article -> eventPublisher.publishEvent(ArticleEvent.created(ArticleDto.from(article))));
+
+        userIds.removeAll(userAccounts.keySet());
+        return userIds;
+    }
+
     public void  updateArticle(Long articleId, ArticleDto dto) {
 
         try{
@@ -95,6 +219,8 @@ public class ArticleService {
 
             // 게시글 등록자와 수정 요청할 사용자가 동일한지 파악
             if(article.getUserAccount().equals(userAccount)){
+                ArticleDto previous = ArticleDto.from(article);
+
                 if(dto.title() != null){
                     article.setTitle(dto.title());
                 }
@@ -103,17 +229,9 @@ public class ArticleService {
                     article.setContent(dto.content());
                 }
 
-                // 기존에 게시글이 가지고 있던 해시태그 Entity 의 id 를 추출한다.
-                Set<Long> hashtagIds = article.getHashtags().stream()
-                        .map(Hashtag::getId)
-                        .collect(Collectors.toUnmodifiableSet());
-
                 // 게시글이 기존에 가지고 있던 해시태그들의 정보를 지운다.
+                // 사용되는 곳이 없어진 해시태그 Entity 는 커밋 이후 OrphanHashtagCollector 가 모아서 지운다.
                 article.clearHashtags();
-                articleRepository.flush();
-
-                // 기존에 가지고 있던 해시태그들이 사용되는 곳이 없다면 해시태그 Entity 를 삭제한다.
-                hashtagIds.forEach(hashtagService::deleteHashtagWithoutArticles);
 
                 // 게시글 등록시 해시태그 등록을 하던 방식과 동일하다.
                 Set<Hashtag> hashtags = renewHashtagsFromContent(dto.content());
@@ -125,6 +243,8 @@ public class ArticleService {
                  *
                  */
                 // articleRepository.save(dto.toEntity());
+
+                eventPublisher.publishEvent(ArticleEvent.updated(previous, ArticleDto.from(article)));
             }
 
         }catch (EntityNotFoundException e){
@@ -136,48 +256,179 @@ public class ArticleService {
 
         Article article = articleRepository.getReferenceById(articleId);
 
-        // 기존에 게시글이 가지고 있던 해시태그 Entity 의 id 를 추출한다.
-        Set<Long> hashtagIds = article.getHashtags().stream()
-                .map(Hashtag::getId)
-                .collect(Collectors.toUnmodifiableSet());
+        // 삭제 이벤트에 담을 게시글 정보, 삭제 후에는 영속성 컨텍스트가 비워지므로 미리 만들어둔다.
+        ArticleDto previous = article.getUserAccount().getUserId().equals(userId) ? ArticleDto.from(article) : null;
 
-        // 게시글이 기존에 가지고 있던 해시태그들의 정보를 지운다.
-        articleRepository.deleteByIdAndUserAccount_UserId(articleId, userId);
-        articleRepository.flush();
+        // 댓글, 대댓글, 해시태그 연결, 게시글을 작성자 조건으로 한 번씩 지운다. 작성자가 아니라면 아무것도 지우지 않는다.
+        if (previous == null || articleRepository.deleteWithCommentsByIdAndUserId(articleId, userId) == 0) {
+            return;
+        }
 
-        // 기존에 가지고 있던 해시태그들이 사용되는 곳이 없다면 해시태그 Entity 를 삭제한다.
-        hashtagIds.forEach(hashtagService::deleteHashtagWithoutArticles);
+        // 사용되는 곳이 없어진 해시태그 Entity 는 이벤트의 해시태그를 후보로 OrphanHashtagCollector 가 모아서 지운다.
+        eventPublisher.publishEvent(ArticleEvent.deleted(previous));
+    }
 
+    /**
+     * 게시글 상세의 이전 글 id, 없다면 null
+     */
+    @Transactional(readOnly = true)
+    public Long getPreviousArticleId(Long articleId) {
+        return articleRepository.findPreviousId(articleId).orElse(null);
     }
 
-    public long getArticleCount() {
-        return articleRepository.count();
+    /**
+     * 게시글 상세의 다음 글 id, 없다면 null
+     */
+    @Transactional(readOnly = true)
+    public Long getNextArticleId(Long articleId) {
+        return articleRepository.findNextId(articleId).orElse(null);
     }
 
     @Transactional(readOnly = true)
-    public Page<ArticleDto> searchArticlesViaHashtag(String hashtagName, Pageable pageable) {
+    public Page<ArticleSummary> searchArticlesViaHashtag(String hashtagName, Pageable pageable) {
         if(hashtagName == null || hashtagName.isBlank()){
             return Page.empty(pageable);
         }
 
-        return articleRepository.findByHashtagNames(List.of(hashtagName),pageable).map(ArticleDto::from);
+        ArticleSearchCache.Key key = ArticleSearchCache.Key.ofHashtagName(hashtagName, pageable);
+        Page<Long> cachedArticleIds = articleSearchCache.get(key);
+        if (cachedArticleIds != null) {
+            return findArticlesByIds(cachedArticleIds);
+        }
+
+        long generation = articleSearchCache.generation();
+        Page<ArticleSummary> articles = searchArticlesByHashtags(HashtagQuery.of(key.keyword()), pageable);
+        articleSearchCache.put(key, generation, articles);
+
+        return articles;
     }
 
-    public List<String> getHashtags() {
-        // TODO: hashtagService 로의 이동을 고려해보자.
-        return hashtagRepository.findAllHashtagNames();
+    @Transactional(readOnly = true)
+    public CursorSlice<ArticleSummary> searchArticlesViaHashtag(String hashtagName, ArticleCursor cursor, int size) {
+        if(hashtagName == null || hashtagName.isBlank()){
+            return CursorSlice.empty(size);
+        }
+
+        return articleRepository.findByHashtagQueryAndCursor(HashtagQuery.of(hashtagName), cursor, size);
+    }
+
+    /**
+     * 본문 검색은 설정(board.search.content-backend)에 따라 검색 방식을 고른다.
+     * ex) 운영(PostgreSQL) : 전문 검색, testdb(H2) : LIKE 검색
+     */
+    private Page<ArticleSummary> searchArticlesByContent(String searchKeyword, Pageable pageable) {
+        return switch (searchProperties.getContentBackend()) {
+            case FULL_TEXT -> countsApproximately(pageable)
+                    ? toApproximatePage(articleRepository.findSliceByContentFullText(searchKeyword, pageable), ArticleCountCache.Key.ofFullText(searchKeyword))
+                    : articleRepository.findByContentFullText(searchKeyword, pageable);
+            case INDEX -> articleSearchIndex.canServe(searchKeyword, pageable.getSort())
+                    ? findArticlesByIds(articleSearchIndex.search(SearchType.CONTENT, searchKeyword, pageable))
+                    : searchArticlesByLike(SearchType.CONTENT, searchKeyword, withoutRelevanceSort(pageable));
+            case LIKE -> searchArticlesByLike(SearchType.CONTENT, searchKeyword, withoutRelevanceSort(pageable));
+        };
+    }
+
+    /**
+     * 해시태그 색인이 준비되어 있다면 비트맵 연산으로 게시글 id 와 정확한 개수를 구하고, count 쿼리 없이 페이지만 조회한다.
+     */
+    private Page<ArticleSummary> searchArticlesByHashtags(HashtagQuery hashtagQuery, Pageable pageable) {
+        if (hashtagQuery.isEmpty()) {
+            return Page.empty(pageable);
+        }
+        if (!hashtagBitmapIndex.isReady()) {
+            return countsApproximately(pageable)
+                    ? toApproximatePage(articleRepository.findSliceByHashtagQuery(hashtagQuery, pageable), ArticleCountCache.Key.of(hashtagQuery))
+                    : articleRepository.findByHashtagQuery(hashtagQuery, pageable);
+        }
+
+        HashtagBitmapIndex.Matches matches = hashtagBitmapIndex.search(hashtagQuery);
+        long total = matches.count();
+        if (pageable.getOffset() >= total) {
+            return new PageImpl<>(List.of(), pageable, total);
+        }
+        if (total <= HASHTAG_ID_IN_LIMIT) {
+            return articleRepository.findPageByIds(matches.articleIds(), pageable);
+        }
+
+        return articleRepository.findByHashtagQuery(hashtagQuery, pageable, total);
+    }
+
+    /**
+     * 해시태그(컬렉션) 정렬은 Querydsl 로 정렬할 수 없으므로 기존 방식(count 쿼리)으로 조회한다.
+     */
+    private boolean countsApproximately(Pageable pageable) {
+        return paginationProperties.getCountMode() == PaginationProperties.CountMode.APPROXIMATE
+                && !sortsByHashtags(pageable);
+    }
+
+    private static boolean sortsByHashtags(Pageable pageable) {
+        return pageable.getSort().getOrderFor("hashtags") != null;
+    }
+
+    /**
+     * count 쿼리 없이 조회한 Slice 를 캐시된 전체 개수로 페이지로 만든다.
+     * 캐시된 개수가 오래되었더라도 다음 페이지가 있다면 다음 페이지 번호까지는, 없다면 현재 페이지까지만 보이도록 보정한다.
+     */
+    private Page<ArticleSummary> toApproximatePage(Slice<ArticleSummary> articles, ArticleCountCache.Key key) {
+        long fetched = articles.getPageable().isPaged()
+                ? articles.getPageable().getOffset() + articles.getNumberOfElements()
+                : articles.getNumberOfElements();
+        long total = articles.hasNext()
+                ? Math.max(articleCountCache.getApproximateCount(key), fetched + 1)
+                : fetched;
+
+        return new PageImpl<>(articles.getContent(), articles.getPageable(), total);
+    }
+
+    /**
+     * 정확도(relevance) 정렬은 엔티티 속성이 아니므로 JPA 쿼리에 그대로 넘기면 예외가 발생한다.
+     * 정확도 정렬을 제외하고, 남는 정렬 조건이 없다면 작성일 내림차순으로 정렬한다.
+     */
+    private static Pageable withoutRelevanceSort(Pageable pageable) {
+        if (pageable.getSort().getOrderFor(ArticleRepositoryCustom.SORT_RELEVANCE) == null) {
+            return pageable;
+        }
+
+        Sort sort = Sort.by(pageable.getSort().stream()
+                .filter(order -> !ArticleRepositoryCustom.SORT_RELEVANCE.equals(order.getProperty()))
+                .toList());
+
+        return PageRequest.of(
+                pageable.getPageNumber(),
+                pageable.getPageSize(),
+                sort.isSorted() ? sort : Sort.by(Sort.Direction.DESC, "createdAt")
+        );
+    }
+
+    /**
+     * 검색 색인, 검색 캐시가 찾아준 게시글 id 페이지를 실제 게시글로 채운다.
+     * 색인과 DB 사이에 잠깐의 차이가 있을 수 있으므로 그 사이 삭제된 게시글은 건너뛴다.
+     */
+    private Page<ArticleSummary> findArticlesByIds(Page<Long> articleIds) {
+        Map<Long, ArticleSummary> articles = articleRepository.findSummariesByIds(articleIds.getContent()).stream()
+                .collect(Collectors.toMap(ArticleSummary::id, Function.identity()));
+
+        List<ArticleSummary> content = articleIds.getContent().stream()
+                .map(articles::get)
+                .filter(Objects::nonNull)
+                .toList();
+
+        return new PageImpl<>(content, articleIds.getPageable(), articleIds.getTotalElements());
     }
 
     /**
      * 1. 게시글을 파싱하여 해시태그들을 추출한다.
      * 2. 추출한 해시태그들 중 이미 DB에 값이 존재하는지 파악한다.
-     * 3. DB에 존재하지 않는 해시태그의 경우 추가하여 리턴한다.
+     * 3. DB에 존재하지 않는 해시태그의 경우 저장하여(동시에 같은 해시태그를 저장해도 실패하지 않는다) 리턴한다.
      */
     private Set<Hashtag> renewHashtagsFromContent(String content) {
  
         // 본문 내용을 파싱하여 해시태그를 추출한다.
-        Set<String> hashtagNamesInContent = hashtagService.parseHashtagNames(content);
-        
+        return renewHashtags(hashtagService.parseHashtagNames(content));
+    }
+
+    private Set<Hashtag> renewHashtags(Set<String> hashtagNamesInContent) {
+
         // 추출된 해시태그 중 DB에 이미 저장되어 있는 해시태그 Entity 들을 호출한다.
         Set<Hashtag> hashtags = hashtagService.findHashtagsByNames(hashtagNamesInContent);
 
@@ -186,12 +437,11 @@ public class ArticleService {
                 .map(Hashtag::getHashtagName)
                 .collect(Collectors.toUnmodifiableSet());
 
-        // 추출된 해시태그가 DB에 존재 하지 않다면 해시태그 Entity Set 에 추가한다.
-        hashtagNamesInContent.forEach(newHashtagName ->{
-            if(!existingHashtagNames.contains(newHashtagName)){
-                hashtags.add(Hashtag.of(newHashtagName));
-            }
-        });
+        // 추출된 해시태그가 DB에 존재 하지 않다면 저장하여 해시태그 Entity Set 에 추가한다.
+        Set<String> newHashtagNames = hashtagNamesInContent.stream()
+                .filter(hashtagName -> !existingHashtagNames.contains(hashtagName))
+                .collect(Collectors.toUnmodifiableSet());
+        hashtags.addAll(hashtagService.saveHashtagsIfAbsent(newHashtagNames));
 
         return hashtags;
     }
@@ -1,15 +1,28 @@
 package com.example.projectboard.service;
 
 import com.example.projectboard.domain.Hashtag;
+import com.example.projectboard.domain.projection.HashtagUsage;
 import com.example.projectboard.repository.HashtagRepository;
+import com.example.projectboard.dto.event.HashtagDeletedEvent;
+import com.example.projectboard.service.cache.ArticleCounter;
+import com.example.projectboard.service.cleanup.OrphanHashtagCollector;
+import com.example.projectboard.service.search.HashtagNameFilter;
+import com.example.projectboard.service.search.HashtagSuggester;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Set;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
+import java.util.stream.Collectors;
 
 @Service
 @Transactional
@@ -17,6 +30,10 @@ import java.util.regex.Pattern;
 public class HashtagService {
 
     private final HashtagRepository hashtagRepository;
+    private final HashtagSuggester hashtagSuggester;
+    private final ArticleCounter articleCounter;
+    private final HashtagNameFilter hashtagNameFilter;
+    private final ApplicationEventPublisher eventPublisher;
 
     public Set<String> parseHashtagNames(String content) {
 
@@ -35,21 +52,79 @@ public class HashtagService {
         return Set.copyOf(result);
     }
 
+    /**
+     * <p>
+     * {@link HashtagNameFilter} 에 없는 이름은 저장되지 않은 것이 확실하므로 조회하지 않는다.
+     *
+     * <p>
+     * 게시글에 연결할 해시태그를 찾는 조회이므로, 트랜잭션이 끝날 때까지 {@link OrphanHashtagCollector} 가 지우지 못하도록 잠근다.
+     * 잠그지 않으면 조회한 뒤 연결하기 전에 해시태그가 지워져 게시글 저장이 외래 키 위반으로 실패한다.
+     */
     public Set<Hashtag> findHashtagsByNames(Set<String> hashtagNames) {
-        return new HashSet<>(hashtagRepository.findByHashtagNameIn(hashtagNames));
+        hashtagRepository.lockHashtagNames(hashtagNames);
+
+        Set<String> candidates = hashtagNames.stream()
+                .filter(hashtagNameFilter::mightExist)
+                .collect(Collectors.toUnmodifiableSet());
+
+        if(candidates.isEmpty()){
+            return new HashSet<>();
+        }
+
+        return new HashSet<>(hashtagRepository.findByHashtagNamesForShare(candidates));
+    }
+
+    /**
+     * <p>
+     * 없는 해시태그만 저장하고, 입력한 이름의 해시태그를 모두 반환한다.
+     *
+     * <p>
+     * 조회 후 저장하는 방식은 같은 새 해시태그로 게시글을 동시에 저장하면 한쪽이 unique 제약 위반으로 실패한다.
+     * {@link HashtagRepository#insertIfAbsent} 는 먼저 저장한 트랜잭션이 끝날 때까지 기다렸다가 저장하지 않고 넘어가므로,
+     * 이후 조회에서 먼저 저장된 해시태그를 받는다. (MySQL 의 스냅샷 조회로는 보이지 않으므로 잠금 조회로 읽는다.)
+     */
+    public Set<Hashtag> saveHashtagsIfAbsent(Set<String> hashtagNames) {
+        if(hashtagNames.isEmpty()){
+            return new HashSet<>();
+        }
+
+        hashtagNames.forEach(hashtagNameFilter::add);
+        hashtagRepository.insertIfAbsent(hashtagNames);
+
+        return new HashSet<>(hashtagRepository.findByHashtagNamesForShare(hashtagNames));
     }
 
     /**
      * 게시글 삭제 시 연관된 해시태그도 같이 삭제되어야 하는게 맞지만
      * 삭제되어야 하는 해시태그가 다른 게시글에서도 사용 될 수 있음으로 이를 체크하는 로직이다.
+     * 해시태그마다 게시글 목록을 읽지 않고, 해시태그 수와 관계없이 select 한 번, delete 한 번으로 처리한다.
+     * 게시글 수정/삭제 요청에서는 호출하지 않고, {@link OrphanHashtagCollector} 가 백그라운드에서 나눠서 호출한다.
      */
-    public void deleteHashtagWithoutArticles(Long hashtagId) {
+    public int deleteHashtagsWithoutArticles(Collection<Long> hashtagIds) {
+        List<String> deleted = hashtagRepository.deleteWithoutArticles(hashtagIds);
+        deleted.forEach(hashtagName -> eventPublisher.publishEvent(HashtagDeletedEvent.of(hashtagName)));
 
-        Hashtag hashtag = hashtagRepository.getReferenceById(hashtagId);
+        return deleted.size();
+    }
 
-        if(hashtag.getArticles().isEmpty()){
-            hashtagRepository.delete(hashtag);
-        }
+    /**
+     * 접두어로 시작하는 해시태그를 게시글이 많은 순서로 반환한다. DB 를 조회하지 않는다.
+     */
+    @Transactional(readOnly = true)
+    public List<HashtagUsage> suggestHashtags(String prefix, int limit) {
+        return hashtagSuggester.suggest(prefix, limit);
+    }
+
+    /**
+     * 해시태그 목록을 게시글이 많은 순서로 반환한다. (해시태그 검색 페이지)
+     * 해시태그별 게시글 수는 {@link ArticleCounter} 가 게시글 등록/수정/삭제 시점에 갱신하므로 DB 를 조회하지 않는다.
+     */
+    @Transactional(readOnly = true)
+    public Page<HashtagUsage> getHashtagCatalogue(Pageable pageable) {
+        List<HashtagUsage> ranking = articleCounter.getHashtagRanking();
+        int from = (int) Math.min(pageable.getOffset(), ranking.size());
+        int to = Math.min(from + pageable.getPageSize(), ranking.size());
 
+        return new PageImpl<>(ranking.subList(from, to), pageable, ranking.size());
     }
-}
\ No newline at end of file
+}
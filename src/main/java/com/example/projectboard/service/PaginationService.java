@@ -1,5 +1,8 @@
 package com.example.projectboard.service;
 
+import com.example.projectboard.dto.response.ArticleSummaryResponse;
+import com.example.projectboard.repository.querydsl.ArticleCursor;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 
 import java.util.List;
@@ -21,4 +24,29 @@ public class PaginationService {
     public int currentBarLength(){
         return BAR_LENGTH;
     }
+
+    /**
+     * 커서 페이징은 전체 페이지 수를 모르므로 번호 대신 이전/다음 링크만 만든다.
+     * 이전 페이지는 첫 번째 게시글 앞에서, 다음 페이지는 마지막 게시글 뒤에서 시작한다.
+     */
+    public CursorBar getCursorBar(Slice<ArticleSummaryResponse> articles){
+        if (!articles.hasContent()) {
+            return new CursorBar(null, null);
+        }
+
+        ArticleSummaryResponse first = articles.getContent().get(0);
+        ArticleSummaryResponse last = articles.getContent().get(articles.getNumberOfElements() - 1);
+
+        return new CursorBar(
+                articles.hasPrevious() ? ArticleCursor.encode(first.createdAt(), first.id()) : null,
+                articles.hasNext() ? ArticleCursor.encode(last.createdAt(), last.id()) : null
+        );
+    }
+
+    /**
+     * @param previous 이전 페이지 커서(before), 없다면 null
+     * @param next 다음 페이지 커서(after), 없다면 null
+     */
+    public record CursorBar(String previous, String next) {
+    }
 }
@@ -2,8 +2,11 @@ package com.example.projectboard.service;
 
 import com.example.projectboard.domain.UserAccount;
 import com.example.projectboard.dto.UserAccountDto;
+import com.example.projectboard.dto.event.UserAccountSavedEvent;
 import com.example.projectboard.repository.UserAccountRepository;
+import com.example.projectboard.service.cache.UserAccountCache;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -15,17 +18,28 @@ import java.util.Optional;
 public class UserAccountService {
 
     private final UserAccountRepository userAccountRepository;
+    private final UserAccountCache userAccountCache;
+    private final ApplicationEventPublisher eventPublisher;
 
+    /**
+     * 인증할 때마다 호출되므로 {@link UserAccountCache} 에 있다면 DB 를 조회하지 않는다.
+     */
     @Transactional(readOnly = true)
     public Optional<UserAccountDto> searchUser(String username) {
-        return userAccountRepository.findById(username)
-                .map(UserAccountDto::from);
+        return Optional.ofNullable(userAccountCache.get(username, id ->
+                userAccountRepository.findById(id)
+                        .map(UserAccountDto::from)
+                        .orElse(null)
+        ));
     }
 
     public UserAccountDto saveUser(String username, String password, String email, String nickname, String memo) {
-        return UserAccountDto.from(
+        UserAccountDto saved = UserAccountDto.from(
                 userAccountRepository.save(UserAccount.of(username, password, email, nickname, memo, username))
         );
+        eventPublisher.publishEvent(UserAccountSavedEvent.of(username));
+
+        return saved;
     }
 
 }
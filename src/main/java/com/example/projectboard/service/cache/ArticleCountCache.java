@@ -0,0 +1,107 @@
+package com.example.projectboard.service.cache;
+
+import com.example.projectboard.config.PaginationProperties;
+import com.example.projectboard.domain.constant.SearchType;
+import com.example.projectboard.repository.ArticleRepository;
+import com.example.projectboard.repository.querydsl.HashtagQuery;
+import com.github.benmanes.caffeine.cache.AsyncLoadingCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * <p>
+ * 게시글 목록의 대략적인 전체 개수 캐시
+ *
+ * <p>
+ * 목록 페이지마다 실행되는 count(*) 는 페이지 조회보다 비싼 경우가 많다.
+ * 검색 조건(검색 유형, 검색어)별로 전체 개수를 저장해두고, 페이지 번호 바를 그리는 데에만 사용한다.
+ *
+ * <p>
+ * 처음 요청된 검색 조건과 갱신 주기(board.pagination.count-refresh-interval)가 지난 검색 조건은 백그라운드에서 다시 세며,
+ * 그동안 요청 스레드는 기다리지 않고 이전 값(처음이라면 0)을 사용한다.
+ */
+@Slf4j
+@Component
+public class ArticleCountCache {
+
+    private static final int MAXIMUM_SIZE = 1_000;
+    private static final Duration EXPIRE_AFTER_ACCESS = Duration.ofMinutes(30);
+
+    private final ArticleRepository articleRepository;
+    private final AsyncLoadingCache<Key, Long> cache;
+
+    @Autowired
+    public ArticleCountCache(ArticleRepository articleRepository, PaginationProperties paginationProperties, MeterRegistry meterRegistry) {
+        this(articleRepository, paginationProperties, meterRegistry, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * @param executor 개수를 세는 스레드, 테스트에서는 호출한 스레드에서 바로 세도록 바꿀 수 있다.
+     */
+    ArticleCountCache(ArticleRepository articleRepository, PaginationProperties paginationProperties, MeterRegistry meterRegistry, Executor executor) {
+        this.articleRepository = articleRepository;
+        this.cache = Caffeine.newBuilder()
+                .executor(executor)
+                .maximumSize(MAXIMUM_SIZE)
+                .refreshAfterWrite(paginationProperties.getCountRefreshInterval())
+                .expireAfterAccess(EXPIRE_AFTER_ACCESS)
+                .recordStats()
+                .buildAsync(this::count);
+        CaffeineCacheMetrics.monitor(meterRegistry, cache.synchronous(), "articleCount");
+    }
+
+    /**
+     * 캐시된 전체 개수를 반환한다. 아직 세는 중이거나 세지 못했다면 0 을 반환한다.
+     */
+    public long getApproximateCount(Key key) {
+        CompletableFuture<Long> count = cache.get(key);
+        if (!count.isDone() || count.isCompletedExceptionally()) {
+            return 0L;
+        }
+
+        return count.join();
+    }
+
+    private long count(Key key) {
+        log.debug("게시글 수 갱신 - {}", key);
+
+        if (key.hashtagQuery() != null) {
+            return articleRepository.countByHashtagQuery(key.hashtagQuery());
+        }
+        if (key.fullText()) {
+            return articleRepository.countByContentFullText(key.keyword());
+        }
+
+        return articleRepository.countBySearch(key.searchType(), key.keyword());
+    }
+
+    /**
+     * @param searchType 검색어가 없는 전체 조회라면 null
+     * @param hashtagQuery 해시태그 검색이라면 검색 조건, 그 외에는 null
+     * @param fullText true 라면 PostgreSQL 전문 검색으로 찾은 본문 검색
+     */
+    public record Key(SearchType searchType, String keyword, HashtagQuery hashtagQuery, boolean fullText) {
+
+        public static Key of(SearchType searchType, String keyword) {
+            boolean blank = keyword == null || keyword.isBlank();
+            return new Key(blank ? null : searchType, blank ? null : keyword, null, false);
+        }
+
+        public static Key ofFullText(String keyword) {
+            return new Key(SearchType.CONTENT, keyword, null, true);
+        }
+
+        public static Key of(HashtagQuery hashtagQuery) {
+            return new Key(SearchType.HASHTAG, null, hashtagQuery, false);
+        }
+    }
+}
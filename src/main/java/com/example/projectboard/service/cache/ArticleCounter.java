@@ -0,0 +1,154 @@
+package com.example.projectboard.service.cache;
+
+import com.example.projectboard.domain.projection.HashtagUsage;
+import com.example.projectboard.dto.ArticleDto;
+import com.example.projectboard.dto.HashtagDto;
+import com.example.projectboard.dto.event.ArticleEvent;
+import com.example.projectboard.repository.HashtagRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * <p>
+ * 해시태그별 게시글 수
+ *
+ * <p>
+ * 해시태그 순위를 구할 때마다 article_hashtag 를 group by 하지 않도록 기동 시 한 번 센 값을 메모리에 두고,
+ * 이후에는 게시글 등록/수정/삭제({@link ArticleEvent}) 트랜잭션이 커밋될 때마다 바뀐 해시태그만 더하거나 뺀다.
+ *
+ * <p>
+ * 서비스를 거치지 않은 변경을 바로잡기 위해 주기적으로(board.article-counter.reconcile-interval) DB 에서 다시 센다.
+ * 다시 세는 동안 커밋된 변경은 따로 모아두었다가 새로 센 값에 더한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ArticleCounter {
+
+    private static final Comparator<HashtagUsage> POPULARITY = Comparator.comparingLong(HashtagUsage::articleCount).reversed()
+            .thenComparing(HashtagUsage::hashtagName);
+
+    private final HashtagRepository hashtagRepository;
+
+    private volatile Map<String, Long> hashtagCounts = new ConcurrentHashMap<>();
+    // 게시글 수 내림차순으로 정렬한 해시태그, 개수가 바뀌면 비우고 다음 조회 때 다시 정렬한다.
+    private volatile List<HashtagUsage> hashtagRanking;
+    // 해시태그별 게시글 수가 바뀔 때마다 올린다. 정렬하는 동안 바뀌었다면 정렬한 순위를 저장하지 않는다.
+    private volatile long hashtagGeneration;
+
+    // 다시 세는 동안 커밋된 변경
+    private boolean reconciling;
+    private final Map<String, Long> pendingHashtagCounts = new HashMap<>();
+
+    public long getHashtagArticleCount(String hashtagName) {
+        return hashtagCounts.getOrDefault(hashtagName, 0L);
+    }
+
+    /**
+     * <p>
+     * 게시글이 많은 순서(같다면 이름 순서)로 정렬한 해시태그 목록, 게시글이 없는 해시태그는 포함하지 않는다.
+     *
+     * <p>
+     * 정렬은 잠금 밖에서 하므로 그 사이에 개수가 바뀔 수 있다.
+     * 그대로 저장하면 개수가 바뀌며 비운 순위를 오래된 순위로 덮어쓰게 되므로, 세대(hashtagGeneration)가 그대로일 때만 저장한다.
+     */
+    public List<HashtagUsage> getHashtagRanking() {
+        List<HashtagUsage> ranking = hashtagRanking;
+        if (ranking == null) {
+            long generation = hashtagGeneration;
+            ranking = hashtagCounts.entrySet().stream()
+                    .map(entry -> new HashtagUsage(entry.getKey(), entry.getValue()))
+                    .sorted(POPULARITY)
+                    .toList();
+            synchronized (this) {
+                if (hashtagGeneration == generation) {
+                    hashtagRanking = ranking;
+                }
+            }
+        }
+        return ranking;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(
+            initialDelayString = "${board.article-counter.reconcile-interval:PT10M}",
+            fixedDelayString = "${board.article-counter.reconcile-interval:PT10M}"
+    )
+    public void reconcile() {
+        synchronized (this) {
+            reconciling = true;
+            pendingHashtagCounts.clear();
+        }
+
+        Map<String, Long> countedHashtags = new ConcurrentHashMap<>();
+        try {
+            hashtagRepository.findHashtagUsages()
+                    .forEach(usage -> countedHashtags.put(usage.hashtagName(), usage.articleCount()));
+        } catch (RuntimeException e) {
+            synchronized (this) {
+                reconciling = false;
+            }
+            log.warn("해시태그별 게시글 수 재집계 실패, 기존 값을 유지합니다. - {}", e.getLocalizedMessage());
+            return;
+        }
+
+        synchronized (this) {
+            pendingHashtagCounts.forEach((name, delta) -> merge(countedHashtags, name, delta));
+            if (!hashtagCounts.equals(countedHashtags)) {
+                log.info("해시태그별 게시글 수 재집계 - 메모리의 값이 DB 와 달라 다시 센 값으로 바꿉니다. (해시태그 수 메모리: {}, DB: {})", hashtagCounts.size(), countedHashtags.size());
+            }
+            hashtagCounts = countedHashtags;
+            hashtagRanking = null;
+            hashtagGeneration++;
+            reconciling = false;
+        }
+    }
+
+    @TransactionalEventListener
+    public synchronized void onArticleEvent(ArticleEvent event) {
+        Set<String> previous = hashtagNames(event.previous());
+        Set<String> current = hashtagNames(event.current());
+        previous.stream().filter(name -> !current.contains(name)).forEach(name -> applyHashtag(name, -1));
+        current.stream().filter(name -> !previous.contains(name)).forEach(name -> applyHashtag(name, 1));
+    }
+
+    private void applyHashtag(String hashtagName, long delta) {
+        merge(hashtagCounts, hashtagName, delta);
+        hashtagRanking = null;
+        hashtagGeneration++;
+        if (reconciling) {
+            pendingHashtagCounts.merge(hashtagName, delta, Long::sum);
+        }
+    }
+
+    /**
+     * 0 이하가 된 해시태그는 지운다. (OrphanHashtagCollector 가 지우는 해시태그)
+     */
+    private static void merge(Map<String, Long> counts, String hashtagName, long delta) {
+        counts.compute(hashtagName, (name, count) -> {
+            long merged = (count == null ? 0L : count) + delta;
+            return merged > 0 ? merged : null;
+        });
+    }
+
+    private static Set<String> hashtagNames(ArticleDto article) {
+        Set<String> names = new HashSet<>();
+        if (article != null && article.hashtagDtos() != null) {
+            article.hashtagDtos().stream().map(HashtagDto::hashtagName).forEach(names::add);
+        }
+        return names;
+    }
+}
@@ -0,0 +1,125 @@
+package com.example.projectboard.service.cache;
+
+import com.example.projectboard.dto.ArticleCommentDto;
+import com.example.projectboard.dto.event.ArticleCommentEvent;
+import com.example.projectboard.dto.event.ArticleEvent;
+import com.example.projectboard.dto.response.ArticleCommentResponse;
+import com.example.projectboard.dto.response.ArticleCommentsResponse;
+import com.example.projectboard.dto.response.ArticleWithCommentsResponse;
+import com.example.projectboard.repository.querydsl.ArticleCursor;
+import com.example.projectboard.repository.querydsl.CursorSlice;
+import com.example.projectboard.service.ArticleCommentService;
+import com.example.projectboard.service.ArticleService;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.Map;
+
+/**
+ * <p>
+ * 게시글 상세(게시글 + 댓글 첫 페이지) 캐시
+ *
+ * <p>
+ * 게시글 상세 페이지는 게시글과 작성자, 부모 댓글 첫 페이지({@link #COMMENT_PAGE_SIZE} 개)와 그 대댓글 수를 조회한다.
+ * 다음 댓글 페이지({@link #getComments})는 커서마다 결과가 다르므로 캐시하지 않는다.
+ * 조회가 몰리는 게시글은 수정 사이에 수천 번 같은 결과를 만들기 때문에, 만들어진 {@link ArticleWithCommentsResponse} 를 게시글 id 로 저장한다.
+ *
+ * <p>
+ * 게시글 수정/삭제({@link ArticleEvent}), 댓글 등록/삭제({@link ArticleCommentEvent}) 트랜잭션이 커밋되면 해당 게시글만 지운다.
+ * 캐시를 채우는 도중에 지우는 요청이 오면 채우기가 끝날 때까지 기다렸다 지우므로 수정 전 내용이 남지 않는다.
+ *
+ * <p>
+ * 본문과 댓글이 긴 게시글이 메모리를 차지하지 않도록 문자열 길이로 무게를 재어 전체 무게를 제한하고,
+ * 한 게시글이 {@link #MAXIMUM_ENTRY_WEIGHT} 를 넘으면 캐시하지 않는다.
+ */
+@Component
+public class ArticleDetailCache {
+
+    public static final int COMMENT_PAGE_SIZE = 20;
+
+    // 대략적인 byte 단위, 문자 하나는 2 byte 로 계산한다.
+    private static final long MAXIMUM_WEIGHT = 32L * 1024 * 1024;
+    private static final int MAXIMUM_ENTRY_WEIGHT = 1024 * 1024;
+    // 문자열 외의 필드, 객체 헤더 등의 무게, 캐시할 수 있는 게시글 수의 상한(MAXIMUM_WEIGHT / ENTRY_WEIGHT)이 된다.
+    private static final int ENTRY_WEIGHT = 1024;
+    private static final int COMMENT_WEIGHT = 128;
+    // 서비스를 거치지 않은 변경(ex. DB 직접 수정)을 위한 안전장치
+    private static final Duration EXPIRE_AFTER_WRITE = Duration.ofMinutes(10);
+
+    private final ArticleService articleService;
+    private final ArticleCommentService articleCommentService;
+    private final Cache<Long, ArticleWithCommentsResponse> cache;
+
+    public ArticleDetailCache(ArticleService articleService, ArticleCommentService articleCommentService, MeterRegistry meterRegistry) {
+        this.articleService = articleService;
+        this.articleCommentService = articleCommentService;
+        this.cache = Caffeine.newBuilder()
+                .maximumWeight(MAXIMUM_WEIGHT)
+                .weigher((Long articleId, ArticleWithCommentsResponse article) -> weigh(article))
+                .expireAfterWrite(EXPIRE_AFTER_WRITE)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "articleDetail");
+    }
+
+    /**
+     * 캐시에 없다면 게시글을 조회하여 채운다. 같은 게시글을 동시에 요청하면 한 번만 조회한다.
+     * @throws javax.persistence.EntityNotFoundException 게시글이 없는 경우, 캐시하지 않는다.
+     */
+    public ArticleWithCommentsResponse get(long articleId) {
+        ArticleWithCommentsResponse article = cache.get(articleId,
+                id -> ArticleWithCommentsResponse.from(articleService.getArticle(id), getComments(id, null)));
+
+        if (weigh(article) > MAXIMUM_ENTRY_WEIGHT) {
+            cache.invalidate(articleId);
+        }
+
+        return article;
+    }
+
+    /**
+     * 부모 댓글 한 페이지와 각 부모 댓글의 대댓글 수를 조회한다. (캐시하지 않는다.)
+     * @param cursor 마지막으로 본 부모 댓글의 위치, null 이라면 첫 페이지
+     */
+    public ArticleCommentsResponse getComments(long articleId, ArticleCursor cursor) {
+        CursorSlice<ArticleCommentDto> comments = articleCommentService.searchParentComments(articleId, cursor, COMMENT_PAGE_SIZE);
+        Map<Long, Long> childCommentCounts = articleCommentService.countChildComments(
+                comments.stream().map(ArticleCommentDto::id).toList());
+
+        return ArticleCommentsResponse.from(comments, childCommentCounts);
+    }
+
+    @TransactionalEventListener
+    public void onArticleEvent(ArticleEvent event) {
+        cache.invalidate(event.articleId());
+    }
+
+    @TransactionalEventListener
+    public void onArticleCommentEvent(ArticleCommentEvent event) {
+        cache.invalidate(event.articleId());
+    }
+
+    static int weigh(ArticleWithCommentsResponse article) {
+        long chars = length(article.title()) + length(article.content()) + length(article.email()) + length(article.nickname());
+        long weight = ENTRY_WEIGHT;
+        for (String hashtag : article.hashtags()) {
+            chars += length(hashtag);
+        }
+
+        for (ArticleCommentResponse comment : article.articleCommentsResponse().comments()) {
+            weight += COMMENT_WEIGHT;
+            chars += length(comment.content()) + length(comment.email()) + length(comment.nickname());
+        }
+
+        return (int) Math.min(Integer.MAX_VALUE, weight + chars * 2);
+    }
+
+    private static long length(String value) {
+        return value == null ? 0 : value.length();
+    }
+}
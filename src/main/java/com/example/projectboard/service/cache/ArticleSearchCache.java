@@ -0,0 +1,179 @@
+package com.example.projectboard.service.cache;
+
+import com.example.projectboard.domain.constant.SearchType;
+import com.example.projectboard.domain.projection.ArticleSummary;
+import com.example.projectboard.dto.ArticleDto;
+import com.example.projectboard.dto.HashtagDto;
+import com.example.projectboard.dto.event.ArticleEvent;
+import com.example.projectboard.repository.querydsl.HashtagQuery;
+import com.example.projectboard.service.search.ArticleSearchIndex;
+import com.example.projectboard.service.search.HashtagBitmapIndex;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Locale;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
+
+/**
+ * <p>
+ * 게시글 검색 결과 캐시
+ *
+ * <p>
+ * 인기 해시태그, 운영자 닉네임처럼 같은 검색이 반복되면 매번 LIKE 검색과 count 쿼리가 실행된다.
+ * (검색 유형, 정규화한 검색어, 페이지) 를 키로 게시글 id 목록과 전체 개수만 저장하고, 게시글 내용은 id 로 다시 조회한다.
+ *
+ * <p>
+ * 게시글이 등록/수정/삭제되면 수정 전후의 게시글이 검색 조건에 걸리는 캐시만 지운다.
+ * 검색 조건에 걸리지 않는 게시글은 검색 결과(순서, 개수)를 바꿀 수 없기 때문이다.
+ *
+ * <p>
+ * 적중률은 actuator 에서 확인할 수 있다. ex) /actuator/metrics/cache.gets?tag=cache:articleSearch
+ */
+@Component
+public class ArticleSearchCache {
+
+    private static final int MAXIMUM_SIZE = 1_000;
+    // 서비스를 거치지 않은 변경(ex. DB 직접 수정)을 위한 안전장치
+    private static final Duration EXPIRE_AFTER_WRITE = Duration.ofMinutes(10);
+
+    private final Cache<Key, Page<Long>> cache;
+    // 캐시를 지울 때마다 증가, 검색 도중 게시글이 바뀌었다면 오래된 결과를 저장하지 않기 위해 사용한다.
+    private final AtomicLong generation = new AtomicLong();
+
+    public ArticleSearchCache(MeterRegistry meterRegistry) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(MAXIMUM_SIZE)
+                .expireAfterWrite(EXPIRE_AFTER_WRITE)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "articleSearch");
+    }
+
+    /**
+     * 검색 결과를 저장하기 전에 호출하여 현재 세대를 받아둔다.
+     * @see #put(Key, long, Page)
+     */
+    public long generation() {
+        return generation.get();
+    }
+
+    public Page<Long> get(Key key) {
+        return cache.getIfPresent(key);
+    }
+
+    /**
+     * @param generation 검색을 시작하기 전에 받아둔 {@link #generation()}, 그 사이 캐시가 지워졌다면 저장하지 않는다.
+     */
+    public void put(Key key, long generation, Page<ArticleSummary> articles) {
+        Page<Long> articleIds = new PageImpl<>(
+                articles.getContent().stream().map(ArticleSummary::id).toList(),
+                articles.getPageable(),
+                articles.getTotalElements()
+        );
+
+        cache.put(key, articleIds);
+        if (this.generation.get() != generation) {
+            cache.invalidate(key);
+        }
+    }
+
+    /**
+     * 검색 색인({@link ArticleSearchIndex}, {@link HashtagBitmapIndex})이 이벤트를 반영한 뒤에 지운다.
+     * 먼저 지우면 그 사이 새 세대를 받은 검색이 아직 바뀌지 않은 색인으로 만든 결과를 캐시에 남길 수 있다.
+     */
+    @Order(Ordered.LOWEST_PRECEDENCE)
+    @TransactionalEventListener
+    public void onArticleEvent(ArticleEvent event) {
+        generation.incrementAndGet();
+        cache.asMap().keySet().removeIf(key -> key.matches(event.previous()) || key.matches(event.current()));
+    }
+
+    /**
+     * @param searchType 검색어가 없는 전체 조회라면 null
+     * @param keyword 앞뒤 공백을 없애고 연속된 공백은 하나로 줄인 검색어
+     * @param hashtagName true 라면 해시태그 이름 하나와 일치하는 게시글 검색 (ArticleService#searchArticlesViaHashtag)
+     */
+    public record Key(SearchType searchType, String keyword, boolean hashtagName, Pageable pageable) {
+
+        public static Key of(SearchType searchType, String keyword, Pageable pageable) {
+            String normalized = normalize(keyword);
+            return new Key(normalized.isEmpty() ? null : searchType, normalized.isEmpty() ? null : normalized, false, pageable);
+        }
+
+        public static Key ofHashtagName(String hashtagName, Pageable pageable) {
+            return new Key(SearchType.HASHTAG, normalize(hashtagName), true, pageable);
+        }
+
+        /**
+         * 게시글이 이 검색 조건에 걸리는지 판단한다.
+         * 검색 방식(색인, 전문 검색, LIKE)마다 일치 기준이 조금씩 다르므로 어느 방식으로든 걸릴 수 있다면 true 를 반환한다.
+         */
+        boolean matches(ArticleDto article) {
+            if (article == null) {
+                return false;
+            }
+            if (searchType == null) {
+                return true;
+            }
+
+            return switch (searchType) {
+                case TITLE -> containsKeyword(article.title());
+                case CONTENT -> containsKeyword(article.content());
+                case ID -> article.userAccountDto() != null && containsIgnoreCase(article.userAccountDto().userId(), keyword);
+                case NICKNAME -> article.userAccountDto() != null && containsIgnoreCase(article.userAccountDto().nickname(), keyword);
+                case HASHTAG -> matchesHashtagQuery(article, hashtagName ? HashtagQuery.of(keyword) : HashtagQuery.parse(keyword));
+            };
+        }
+
+        private boolean containsKeyword(String text) {
+            if (text == null) {
+                return false;
+            }
+
+            // LIKE, 검색 색인, 전문 검색(접두어) : 검색어의 모든 단어가 본문 어딘가에 들어있다.
+            // (LIKE 와 검색 색인은 검색어가 그대로 들어있어야 하므로 이보다 좁다.)
+            String lowerText = text.toLowerCase(Locale.ROOT);
+            return Arrays.stream(keyword.toLowerCase(Locale.ROOT).split(" "))
+                    .allMatch(lowerText::contains);
+        }
+
+        /**
+         * 포함 조건(OR, AND)의 해시태그를 하나도 갖지 않은 게시글은 검색 결과에 들어갈 수 없다.
+         * 제외 조건만 있다면 모든 게시글이 검색 결과에 영향을 준다.
+         */
+        private static boolean matchesHashtagQuery(ArticleDto article, HashtagQuery hashtagQuery) {
+            if (!hashtagQuery.hasPositiveTerm()) {
+                return true;
+            }
+
+            return Stream.concat(hashtagQuery.anyOf().stream(), hashtagQuery.allOf().stream())
+                    .anyMatch(name -> hasHashtag(article.hashtagDtos(), name));
+        }
+
+        private static boolean hasHashtag(Set<HashtagDto> hashtags, String name) {
+            return hashtags != null && hashtags.stream().anyMatch(hashtag -> hashtag.hashtagName().equalsIgnoreCase(name));
+        }
+
+        // DB collation 에 따라 대소문자를 구분하지 않을 수 있으므로 넓게 판단한다.
+        private static boolean containsIgnoreCase(String text, String keyword) {
+            return text != null && text.toLowerCase(Locale.ROOT).contains(keyword.toLowerCase(Locale.ROOT));
+        }
+
+        private static String normalize(String keyword) {
+            return keyword == null ? "" : keyword.strip().replaceAll("\\s+", " ");
+        }
+    }
+}
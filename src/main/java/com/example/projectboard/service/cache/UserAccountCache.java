@@ -0,0 +1,58 @@
+package com.example.projectboard.service.cache;
+
+import com.example.projectboard.dto.UserAccountDto;
+import com.example.projectboard.dto.event.UserAccountSavedEvent;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.function.Function;
+
+/**
+ * <p>
+ * 회원 정보 캐시
+ *
+ * <p>
+ * 폼 로그인(UserDetailsService)과 카카오 로그인(OAuth2UserService)은 인증할 때마다 회원을 조회한다.
+ * 출근 시간처럼 로그인이 몰리면 같은 회원을 반복해서 조회하게 되므로 username 으로 회원 정보를 저장한다.
+ *
+ * <p>
+ * 없는 회원은 저장하지 않으며(가입 직후 바로 조회되어야 한다), 회원 정보가 저장되면({@link UserAccountSavedEvent}) 해당 회원만 지운다.
+ * 트랜잭션 안에서 지우면 커밋 전에 다른 요청이 이전 회원 정보를 다시 채울 수 있으므로 커밋된 이후에 지운다.
+ */
+@Component
+public class UserAccountCache {
+
+    private static final int MAXIMUM_SIZE = 10_000;
+    // 서비스를 거치지 않은 변경(ex. DB 직접 수정)을 위한 안전장치
+    private static final Duration EXPIRE_AFTER_WRITE = Duration.ofMinutes(10);
+
+    private final Cache<String, UserAccountDto> cache;
+
+    public UserAccountCache(MeterRegistry meterRegistry) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(MAXIMUM_SIZE)
+                .expireAfterWrite(EXPIRE_AFTER_WRITE)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "userAccount");
+    }
+
+    /**
+     * 캐시에 없다면 loader 로 조회하여 채운다. 같은 회원을 동시에 요청하면 한 번만 조회한다.
+     * @param loader 회원이 없다면 null 을 반환, 캐시하지 않는다.
+     * @return 회원이 없다면 null
+     */
+    public UserAccountDto get(String username, Function<String, UserAccountDto> loader) {
+        return cache.get(username, loader);
+    }
+
+    @TransactionalEventListener
+    public void onUserAccountSavedEvent(UserAccountSavedEvent event) {
+        cache.invalidate(event.userId());
+    }
+}
@@ -0,0 +1,126 @@
+package com.example.projectboard.service.cleanup;
+
+import com.example.projectboard.dto.ArticleDto;
+import com.example.projectboard.dto.HashtagDto;
+import com.example.projectboard.dto.event.ArticleEvent;
+import com.example.projectboard.repository.HashtagRepository;
+import com.example.projectboard.service.HashtagService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+/**
+ * <p>
+ * 게시글이 없어진 해시태그 수거
+ *
+ * <p>
+ * 게시글 수정/삭제 요청에서 해시태그가 아직 쓰이는지 확인하지 않는다.
+ * 게시글에서 빠진 해시태그 id 를 후보로 모아두었다가({@link ArticleEvent} 커밋 이후),
+ * 주기적으로(board.hashtag-collector.interval) BATCH_SIZE 개씩 게시글이 없는 해시태그만 골라 지운다.
+ * 게시글을 저장/수정하는 트랜잭션이 연결하려고 조회한 해시태그는 잠겨 있으므로 지우지 않는다. ({@link HashtagRepository#deleteWithoutArticles})
+ *
+ * <p>
+ * 후보는 메모리에만 있으므로 재기동으로 잃어버린 후보나 서비스를 거치지 않은 변경은
+ * 하루 한 번(board.hashtag-collector.sweep-cron) 해시태그 전체를 id 순서로 훑어 지운다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class OrphanHashtagCollector {
+
+    static final int BATCH_SIZE = 500;
+
+    private final HashtagService hashtagService;
+    private final HashtagRepository hashtagRepository;
+
+    private final Set<Long> candidates = ConcurrentHashMap.newKeySet();
+
+    public int getCandidateCount() {
+        return candidates.size();
+    }
+
+    /**
+     * 수정/삭제로 게시글에서 빠진 해시태그를 후보로 기록한다. DB 를 조회하지 않는다.
+     */
+    @TransactionalEventListener
+    public void onArticleEvent(ArticleEvent event) {
+        Set<Long> current = hashtagIds(event.current());
+        hashtagIds(event.previous()).stream()
+                .filter(id -> !current.contains(id))
+                .forEach(candidates::add);
+    }
+
+    /**
+     * 후보를 BATCH_SIZE 개씩 나눠 지운다. 묶음마다 트랜잭션이 따로이므로 오래 잠금을 잡지 않는다.
+     * 실패하면 남은 후보를 되돌려두고 다음 주기에 다시 시도한다.
+     */
+    @Scheduled(
+            initialDelayString = "${board.hashtag-collector.interval:PT1M}",
+            fixedDelayString = "${board.hashtag-collector.interval:PT1M}"
+    )
+    public void collect() {
+        List<Long> drained = new ArrayList<>();
+        Iterator<Long> iterator = candidates.iterator();
+        while (iterator.hasNext()) {
+            drained.add(iterator.next());
+            iterator.remove();
+        }
+
+        int deleted = 0;
+        for (int from = 0; from < drained.size(); from += BATCH_SIZE) {
+            List<Long> batch = drained.subList(from, Math.min(from + BATCH_SIZE, drained.size()));
+            try {
+                deleted += hashtagService.deleteHashtagsWithoutArticles(batch);
+            } catch (RuntimeException e) {
+                candidates.addAll(drained.subList(from, drained.size()));
+                log.warn("해시태그 수거 실패, 다음 주기에 다시 시도합니다. - {}", e.getLocalizedMessage());
+                break;
+            }
+        }
+
+        if (deleted > 0) {
+            log.info("해시태그 수거 - 후보: {}, 삭제: {}", drained.size(), deleted);
+        }
+    }
+
+    /**
+     * 게시글이 없는 해시태그를 id 순서로 BATCH_SIZE 개씩 찾아 지운다.
+     */
+    @Scheduled(cron = "${board.hashtag-collector.sweep-cron:0 0 4 * * *}")
+    public void sweep() {
+        long afterId = 0;
+        int deleted = 0;
+        List<Long> orphanIds;
+        do {
+            orphanIds = hashtagRepository.findIdsWithoutArticles(afterId, BATCH_SIZE);
+            if (orphanIds.isEmpty()) {
+                break;
+            }
+            deleted += hashtagService.deleteHashtagsWithoutArticles(orphanIds);
+            afterId = orphanIds.get(orphanIds.size() - 1);
+        } while (orphanIds.size() == BATCH_SIZE);
+
+        log.info("해시태그 전체 수거 - 삭제: {}", deleted);
+    }
+
+    private static Set<Long> hashtagIds(ArticleDto article) {
+        if (article == null) {
+            return Set.of();
+        }
+
+        return article.hashtagDtos().stream()
+                .map(HashtagDto::id)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toUnmodifiableSet());
+    }
+}
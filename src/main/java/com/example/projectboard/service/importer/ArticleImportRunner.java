@@ -0,0 +1,60 @@
+package com.example.projectboard.service.importer;
+
+import com.example.projectboard.config.ArticleImportProperties;
+import com.example.projectboard.dto.response.ArticleImportResponse;
+import com.example.projectboard.dto.security.BoardPrincipal;
+import com.example.projectboard.service.UserAccountService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.Optional;
+
+/**
+ * <p>
+ * 애플리케이션 시작 시 NDJSON 파일의 게시글을 불러온다. (명령줄 대량 등록)
+ * <pre>
+ *     java -jar project-board.jar --board.import.file=articles.ndjson --board.import.operator=jyuka
+ * </pre>
+ *
+ * <p>
+ * 게시글, 해시태그의 생성자(JPA Auditing)는 로그인한 사용자에서 가져오므로, 불러오는 동안 operator 사용자로 로그인한 상태로 둔다.
+ * 게시글의 작성자는 줄마다 적힌 userId 이다.
+ */
+@Slf4j
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "board.import", name = "file")
+@Component
+public class ArticleImportRunner implements ApplicationRunner {
+
+    private final ArticleImportService articleImportService;
+    private final UserAccountService userAccountService;
+    private final ArticleImportProperties articleImportProperties;
+
+    @Override
+    public void run(ApplicationArguments args) throws Exception {
+        BoardPrincipal operator = Optional.ofNullable(articleImportProperties.getOperator())
+                .flatMap(userAccountService::searchUser)
+                .map(BoardPrincipal::from)
+                .orElseThrow(() -> new IllegalStateException("게시글을 불러올 사용자(board.import.operator)가 없습니다 - operator: " + articleImportProperties.getOperator()));
+
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(operator, null, operator.getAuthorities())
+        );
+        try (BufferedReader reader = Files.newBufferedReader(articleImportProperties.getFile(), StandardCharsets.UTF_8)) {
+            ArticleImportResponse response = articleImportService.importArticles(reader, null);
+            response.errors().forEach(error -> log.warn("게시글 불러오기 - {}", error));
+            log.info("게시글 불러오기 완료 - file: {}, 저장: {}, 건너뜀: {}", articleImportProperties.getFile(), response.imported(), response.skipped());
+        } finally {
+            SecurityContextHolder.clearContext();
+        }
+    }
+}
@@ -0,0 +1,189 @@
+package com.example.projectboard.service.importer;
+
+import com.example.projectboard.config.ArticleImportProperties;
+import com.example.projectboard.domain.Article;
+import com.example.projectboard.dto.ArticleDto;
+import com.example.projectboard.dto.request.ArticleImportRequest;
+import com.example.projectboard.dto.response.ArticleImportResponse;
+import com.example.projectboard.service.ArticleService;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * <p>
+ * 게시글 대량 등록 (NDJSON, 한 줄에 게시글 하나)
+ *
+ * <p>
+ * 입력을 한 줄씩 읽어 chunkSize 개마다 {@link ArticleService#saveArticles} 로 저장한다.
+ * 묶음마다 트랜잭션을 따로 커밋하므로, 입력 크기와 관계없이 메모리에는 한 묶음과 최대 MAX_ERRORS 개의 오류만 남는다.
+ * 저장하지 못한 줄(형식 오류, 없는 사용자 등)은 건너뛰고 계속 진행한다.
+ * 컬럼 길이는 줄마다 미리 확인하고, 그래도 묶음 저장이 실패하면 한 줄씩 다시 저장해 실패한 줄만 건너뛴다.
+ * <pre>
+ *     {"userId": "jyuka", "title": "첫 번째 글", "content": "본문 #spring"}
+ *     {"userId": "jyuka2", "title": "두 번째 글", "content": "본문 #java"}
+ * </pre>
+ */
+@Slf4j
+@RequiredArgsConstructor
+@Service
+public class ArticleImportService {
+
+    static final int MAX_ERRORS = 100;
+
+    private final ArticleService articleService;
+    private final ObjectMapper objectMapper;
+    private final ArticleImportProperties articleImportProperties;
+
+    /**
+     * @param ownerId 작성자, null 이 아니라면 모든 게시글을 이 사용자로 등록하고 다른 작성자의 줄은 건너뛴다. (API)
+     *                null 이라면 줄마다 적힌 작성자로 등록한다. (ArticleImportRunner)
+     */
+    public ArticleImportResponse importArticles(Reader reader, String ownerId) throws IOException {
+        BufferedReader lines = reader instanceof BufferedReader bufferedReader ? bufferedReader : new BufferedReader(reader);
+        Chunk chunk = new Chunk(articleImportProperties.getChunkSize());
+        Tally tally = new Tally();
+
+        String line;
+        int lineNumber = 0;
+        while ((line = lines.readLine()) != null) {
+            lineNumber++;
+            if (line.isBlank()) {
+                continue;
+            }
+
+            try {
+                chunk.add(lineNumber, toDto(objectMapper.readValue(line, ArticleImportRequest.class), ownerId));
+            } catch (JsonProcessingException e) {
+                tally.skip(lineNumber, "JSON 형식이 아닙니다.");
+                continue;
+            } catch (IllegalArgumentException e) {
+                tally.skip(lineNumber, e.getMessage());
+                continue;
+            }
+
+            if (chunk.isFull()) {
+                save(chunk, tally);
+            }
+        }
+        save(chunk, tally);
+
+        log.info("게시글 대량 등록 - 저장: {}, 건너뜀: {}", tally.imported, tally.skipped);
+        return ArticleImportResponse.of(tally.imported, tally.skipped, tally.errors);
+    }
+
+    private ArticleDto toDto(ArticleImportRequest request, String ownerId) {
+        if (request.title() == null || request.title().isBlank() || request.content() == null || request.content().isBlank()) {
+            throw new IllegalArgumentException("제목과 본문이 필요합니다.");
+        }
+        if (length(request.title()) > Article.TITLE_MAX_LENGTH || length(request.content()) > Article.CONTENT_MAX_LENGTH) {
+            throw new IllegalArgumentException("제목은 " + Article.TITLE_MAX_LENGTH + "자, 본문은 " + Article.CONTENT_MAX_LENGTH + "자까지 입력할 수 있습니다.");
+        }
+        if (ownerId != null && request.userId() != null && !ownerId.equals(request.userId())) {
+            throw new IllegalArgumentException("다른 사용자의 게시글은 등록할 수 없습니다 - userId: " + request.userId());
+        }
+
+        String userId = ownerId != null ? ownerId : request.userId();
+        if (userId == null) {
+            throw new IllegalArgumentException("작성자(userId)가 없습니다.");
+        }
+        return request.toDto(userId);
+    }
+
+    /**
+     * DB 는 컬럼 길이를 글자(code point) 단위로 센다.
+     */
+    private static int length(String value) {
+        return value.codePointCount(0, value.length());
+    }
+
+    private void save(Chunk chunk, Tally tally) {
+        if (chunk.dtos.isEmpty()) {
+            return;
+        }
+
+        try {
+            saveRows(chunk.lineNumbers, chunk.dtos, tally);
+        } catch (RuntimeException e) {
+            log.warn("게시글 대량 등록 실패, 한 줄씩 다시 저장 - lines: {} ~ {}", chunk.lineNumbers.get(0), chunk.lineNumbers.get(chunk.lineNumbers.size() - 1), e);
+            for (int i = 0; i < chunk.dtos.size(); i++) {
+                int lineNumber = chunk.lineNumbers.get(i);
+                try {
+                    if (chunk.dtos.size() == 1) {
+                        throw e;
+                    }
+                    saveRows(List.of(lineNumber), List.of(chunk.dtos.get(i)), tally);
+                } catch (RuntimeException rowException) {
+                    tally.skip(lineNumber, "저장하지 못했습니다 - " + rowException.getClass().getSimpleName());
+                }
+            }
+        }
+
+        chunk.clear();
+    }
+
+    private void saveRows(List<Integer> lineNumbers, List<ArticleDto> dtos, Tally tally) {
+        Set<String> missingUserIds = articleService.saveArticles(List.copyOf(dtos));
+        for (int i = 0; i < dtos.size(); i++) {
+            String userId = dtos.get(i).userAccountDto().userId();
+            if (missingUserIds.contains(userId)) {
+                tally.skip(lineNumbers.get(i), "없는 사용자입니다 - userId: " + userId);
+            } else {
+                tally.imported++;
+            }
+        }
+    }
+
+    /**
+     * 다음에 저장할 묶음, 오류를 알려주기 위해 줄 번호를 함께 둔다.
+     */
+    private static final class Chunk {
+
+        private final int size;
+        private final List<ArticleDto> dtos;
+        private final List<Integer> lineNumbers;
+
+        Chunk(int size) {
+            this.size = size;
+            this.dtos = new ArrayList<>(size);
+            this.lineNumbers = new ArrayList<>(size);
+        }
+
+        void add(int lineNumber, ArticleDto dto) {
+            lineNumbers.add(lineNumber);
+            dtos.add(dto);
+        }
+
+        boolean isFull() {
+            return dtos.size() >= size;
+        }
+
+        void clear() {
+            dtos.clear();
+            lineNumbers.clear();
+        }
+    }
+
+    private static final class Tally {
+
+        private int imported;
+        private int skipped;
+        private final List<String> errors = new ArrayList<>();
+
+        void skip(int lineNumber, String reason) {
+            skipped++;
+            if (errors.size() < MAX_ERRORS) {
+                errors.add(lineNumber + "번째 줄: " + reason);
+            }
+        }
+    }
+}
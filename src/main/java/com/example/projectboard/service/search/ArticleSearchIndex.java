@@ -0,0 +1,375 @@
+package com.example.projectboard.service.search;
+
+import com.example.projectboard.domain.constant.SearchType;
+import com.example.projectboard.domain.projection.ArticleSearchDocument;
+import com.example.projectboard.dto.ArticleDto;
+import com.example.projectboard.dto.event.ArticleEvent;
+import com.example.projectboard.repository.ArticleRepository;
+import com.example.projectboard.repository.querydsl.ArticleRepositoryCustom;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * <p>
+ * 게시글 제목, 본문 검색을 위한 메모리 역색인(inverted index)
+ *
+ * <p>
+ * LIKE '%검색어%' 는 인덱스를 탈 수 없어 게시글이 많아질수록 본문 전체를 훑게 된다.
+ * 검색어(term) 마다 해당 검색어를 포함하는 게시글 id 목록을 들고 있다가 검색 시 목록의 교집합만 구한다.
+ * n-gram 의 교집합은 n-gram 이 본문 여기저기에 흩어진 게시글도 포함하므로 후보로만 쓰고,
+ * 소문자로 저장해 둔 제목/본문에 검색어가 그대로 들어있는지(LIKE '%검색어%') 확인한 게시글만 결과와 전체 개수에 넣는다.
+ *
+ * <p>
+ * 애플리케이션 기동 시 DB 에서 전체 게시글을 읽어 색인을 만들고,
+ * 이후에는 게시글 등록/수정/삭제 트랜잭션이 커밋된 뒤 발행되는 {@link ArticleEvent} 로 갱신한다.
+ *
+ * <p>
+ * 정렬 조건으로 relevance 를 주면 작성일 대신 BM25 점수(제목 가중치 적용) 순서로 반환한다.
+ * 어느 정렬이든 요청한 페이지까지의 상위 k 개만 {@link TopK} 로 골라내므로 검색 결과 전체를 정렬하지 않는다.
+ * 다만 전체 개수를 함께 반환하므로 후보는 모두 확인하고 점수도 모두 매긴다. (상위 k 개를 찾은 뒤 멈추지 않는다)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ArticleSearchIndex {
+
+    private static final int REBUILD_BATCH_SIZE = 500;
+    private static final HangulNgramTokenizer TOKENIZER = new HangulNgramTokenizer();
+    private static final String SORT_PROPERTY = "createdAt";
+
+    // BM25 파라미터, 일반적으로 사용하는 값을 그대로 쓴다.
+    private static final double K1 = 1.2;
+    private static final double B = 0.75;
+    // 제목에 들어간 검색어는 본문보다 게시글을 더 잘 설명한다고 보고 가중치를 준다.
+    private static final double TITLE_BOOST = 2.0;
+
+    private final ArticleRepository articleRepository;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    // 색인을 다시 만드는 동안 들어온 이벤트, 새 색인으로 교체한 뒤 다시 적용한다.
+    private final List<ArticleEvent> pendingEvents = new ArrayList<>();
+    private Segment segment = new Segment();
+    private boolean rebuilding = false;
+    private volatile boolean ready = false;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        lock.writeLock().lock();
+        try {
+            rebuilding = true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        Segment rebuilt = new Segment();
+        long lastId = 0L;
+        List<ArticleSearchDocument> documents;
+        do {
+            documents = articleRepository.findByIdGreaterThanOrderByIdAsc(lastId, PageRequest.of(0, REBUILD_BATCH_SIZE));
+            for (ArticleSearchDocument document : documents) {
+                rebuilt.add(document.getId(), document.getTitle(), document.getContent(), document.getCreatedAt());
+                lastId = document.getId();
+            }
+        } while (documents.size() == REBUILD_BATCH_SIZE);
+
+        lock.writeLock().lock();
+        try {
+            pendingEvents.forEach(rebuilt::apply);
+            pendingEvents.clear();
+            segment = rebuilt;
+            rebuilding = false;
+            ready = true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        log.info("게시글 검색 색인 생성 완료 - 게시글 수: {}", rebuilt.articles.size());
+    }
+
+    // 검색 캐시(ArticleSearchCache)가 지워지기 전에 반영한다.
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    @TransactionalEventListener
+    public void onArticleEvent(ArticleEvent event) {
+        lock.writeLock().lock();
+        try {
+            if (rebuilding) {
+                pendingEvents.add(event);
+            } else {
+                segment.apply(event);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 색인이 준비되었고, 요청한 검색어와 정렬 조건을 색인만으로 처리할 수 있는지 판단한다.
+     * 작성일 정렬, 정확도(relevance) 정렬, 정렬 없음만 지원하며 그 외의 경우 호출하는 쪽에서 DB 검색을 사용한다.
+     */
+    public boolean canServe(String keyword, Sort sort) {
+        if (!ready || !TOKENIZER.isSearchable(keyword)) {
+            return false;
+        }
+
+        return sort.stream().allMatch(order ->
+                SORT_PROPERTY.equals(order.getProperty()) || ArticleRepositoryCustom.SORT_RELEVANCE.equals(order.getProperty())
+        );
+    }
+
+    /**
+     * 검색어를 모두 포함하는 게시글 id 를 작성일 또는 정확도 순서로 페이징하여 반환한다.
+     *
+     * @param searchType 검색 대상 필드 (TITLE, CONTENT)
+     * @param keyword 검색어, {@link HangulNgramTokenizer} 로 자른 토큰을 모두 포함하는 게시글 중 검색어가 그대로 들어있는 게시글을 찾는다.
+     */
+    public Page<Long> search(SearchType searchType, String keyword, Pageable pageable) {
+        Set<String> terms = TOKENIZER.tokenizeQuery(keyword);
+        if (terms.isEmpty()) {
+            return Page.empty(pageable);
+        }
+
+        boolean byRelevance = pageable.getSort().getOrderFor(ArticleRepositoryCustom.SORT_RELEVANCE) != null;
+        Sort.Order order = pageable.getSort().getOrderFor(SORT_PROPERTY);
+        boolean ascending = order != null && order.isAscending();
+
+        lock.readLock().lock();
+        try {
+            Map<String, PostingList> postings = segment.postings(searchType);
+            List<PostingList> matched = new ArrayList<>(terms.size());
+            for (String term : terms) {
+                PostingList postingList = postings.get(term);
+                if (postingList == null) {
+                    return Page.empty(pageable);
+                }
+                matched.add(postingList);
+            }
+
+            long[] ids = segment.containing(searchType, PostingList.intersect(matched), keyword.toLowerCase(Locale.ROOT));
+            if (pageable.getOffset() >= ids.length) {
+                return new PageImpl<>(List.of(), pageable, ids.length);
+            }
+
+            // 요청한 페이지의 마지막 게시글까지만 순위를 매긴다.
+            int k = (int) Math.min(pageable.getOffset() + pageable.getPageSize(), ids.length);
+            List<Long> top = byRelevance
+                    ? segment.topByRelevance(ids, terms, k)
+                    : segment.topByCreatedAt(ids, ascending, k);
+
+            return new PageImpl<>(List.copyOf(top.subList((int) pageable.getOffset(), top.size())), pageable, ids.length);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 실제 색인 자료구조, lock 을 잡은 상태에서만 접근한다.
+     */
+    private static final class Segment {
+
+        private final Map<String, PostingList> titlePostings = new HashMap<>();
+        private final Map<String, PostingList> contentPostings = new HashMap<>();
+        private final Map<Long, IndexedArticle> articles = new HashMap<>();
+        // 평균 문서 길이(BM25)를 구하기 위한 토큰 수 합계
+        private long titleLengthSum;
+        private long contentLengthSum;
+
+        void apply(ArticleEvent event) {
+            ArticleDto previous = event.previous();
+            ArticleDto current = event.current();
+
+            switch (event.eventType()) {
+                case CREATED -> add(current.id(), current.title(), current.content(), current.createdAt());
+                case DELETED -> remove(previous.id(), previous.title(), previous.content());
+                case UPDATED -> {
+                    // 수정 전후 모두 존재하는 단어는 그대로 두어야 같은 이벤트가 두 번 적용되어도 결과가 같다.
+                    removeAll(titlePostings, previous.id(), difference(previous.title(), current.title()));
+                    removeAll(contentPostings, previous.id(), difference(previous.content(), current.content()));
+                    add(current.id(), current.title(), current.content(), current.createdAt());
+                }
+            }
+        }
+
+        void add(Long id, String title, String content, LocalDateTime createdAt) {
+            int titleLength = addAll(titlePostings, id, TOKENIZER.countTokens(title));
+            int contentLength = addAll(contentPostings, id, TOKENIZER.countTokens(content));
+
+            IndexedArticle replaced = articles.put(id, new IndexedArticle(createdAt, titleLength, contentLength, lowerCase(title), lowerCase(content)));
+            if (replaced != null) {
+                titleLengthSum -= replaced.titleLength();
+                contentLengthSum -= replaced.contentLength();
+            }
+            titleLengthSum += titleLength;
+            contentLengthSum += contentLength;
+        }
+
+        void remove(Long id, String title, String content) {
+            removeAll(titlePostings, id, TOKENIZER.tokenize(title));
+            removeAll(contentPostings, id, TOKENIZER.tokenize(content));
+
+            IndexedArticle removed = articles.remove(id);
+            if (removed != null) {
+                titleLengthSum -= removed.titleLength();
+                contentLengthSum -= removed.contentLength();
+            }
+        }
+
+        /**
+         * 후보 중 검색어가 그대로 들어있는 게시글만 남긴다. (후보의 순서 유지)
+         */
+        long[] containing(SearchType searchType, long[] candidates, String lowerCaseKeyword) {
+            long[] matched = new long[candidates.length];
+            int size = 0;
+            for (long id : candidates) {
+                IndexedArticle article = articles.get(id);
+                if (article != null && article.text(searchType).contains(lowerCaseKeyword)) {
+                    matched[size++] = id;
+                }
+            }
+            return size == matched.length ? matched : Arrays.copyOf(matched, size);
+        }
+
+        Map<String, PostingList> postings(SearchType searchType) {
+            return switch (searchType) {
+                case TITLE -> titlePostings;
+                case CONTENT -> contentPostings;
+                default -> throw new IllegalArgumentException("색인 검색을 지원하지 않는 검색 유형입니다 - searchType: " + searchType);
+            };
+        }
+
+        List<Long> topByCreatedAt(long[] ids, boolean ascending, int k) {
+            Comparator<Long> byCreatedAt = Comparator
+                    .comparing((Long id) -> createdAt(id), Comparator.nullsFirst(Comparator.naturalOrder()))
+                    .thenComparing(Comparator.naturalOrder());
+
+            TopK<Long> topK = new TopK<>(k, ascending ? byCreatedAt : byCreatedAt.reversed());
+            for (long id : ids) {
+                topK.offer(id);
+            }
+
+            return topK.toList();
+        }
+
+        /**
+         * 제목, 본문 각각의 BM25 점수를 구해 제목에 가중치를 주어 더한다. 점수가 같다면 최신 게시글이 앞선다.
+         * 검색어별 목록과 idf 는 게시글마다가 아니라 한 번만 구한다.
+         */
+        List<Long> topByRelevance(long[] ids, Set<String> terms, int k) {
+            int documentCount = articles.size();
+            double averageTitleLength = Math.max(1.0, (double) titleLengthSum / documentCount);
+            double averageContentLength = Math.max(1.0, (double) contentLengthSum / documentCount);
+
+            List<ScoredTerm> titleTerms = scoredTerms(titlePostings, terms, documentCount);
+            List<ScoredTerm> contentTerms = scoredTerms(contentPostings, terms, documentCount);
+
+            TopK<ScoredArticle> topK = new TopK<>(k, Comparator
+                    .comparingDouble(ScoredArticle::score).reversed()
+                    .thenComparing(ScoredArticle::createdAt, Comparator.nullsLast(Comparator.reverseOrder()))
+                    .thenComparing(ScoredArticle::id, Comparator.reverseOrder()));
+
+            for (long id : ids) {
+                IndexedArticle article = articles.get(id);
+                if (article == null) {
+                    continue;
+                }
+
+                double score = TITLE_BOOST * bm25(titleTerms, id, article.titleLength(), averageTitleLength)
+                        + bm25(contentTerms, id, article.contentLength(), averageContentLength);
+                topK.offer(new ScoredArticle(id, score, article.createdAt()));
+            }
+
+            return topK.toList().stream().map(ScoredArticle::id).toList();
+        }
+
+        private LocalDateTime createdAt(Long id) {
+            IndexedArticle article = articles.get(id);
+            return article == null ? null : article.createdAt();
+        }
+
+        /**
+         * 검색어별 목록과 idf, 필드에 한 번도 나오지 않는 검색어는 점수가 0 이므로 뺀다.
+         */
+        private static List<ScoredTerm> scoredTerms(Map<String, PostingList> postings, Set<String> terms, int documentCount) {
+            List<ScoredTerm> scoredTerms = new ArrayList<>(terms.size());
+            for (String term : terms) {
+                PostingList postingList = postings.get(term);
+                if (postingList != null) {
+                    int documentFrequency = postingList.size();
+                    double idf = Math.log(1 + (documentCount - documentFrequency + 0.5) / (documentFrequency + 0.5));
+                    scoredTerms.add(new ScoredTerm(postingList, idf));
+                }
+            }
+            return scoredTerms;
+        }
+
+        private static double bm25(List<ScoredTerm> scoredTerms, long id, int length, double averageLength) {
+            double normalizedLength = 1 - B + B * length / averageLength;
+
+            double score = 0;
+            for (ScoredTerm scoredTerm : scoredTerms) {
+                int frequency = scoredTerm.postingList().frequency(id);
+                if (frequency > 0) {
+                    score += scoredTerm.idf() * frequency * (K1 + 1) / (frequency + K1 * normalizedLength);
+                }
+            }
+            return score;
+        }
+
+        private static int addAll(Map<String, PostingList> postings, Long id, Map<String, Integer> termCounts) {
+            int length = 0;
+            for (Map.Entry<String, Integer> termCount : termCounts.entrySet()) {
+                postings.computeIfAbsent(termCount.getKey(), key -> new PostingList()).add(id, termCount.getValue());
+                length += termCount.getValue();
+            }
+            return length;
+        }
+
+        private static String lowerCase(String text) {
+            return text == null ? "" : text.toLowerCase(Locale.ROOT);
+        }
+
+        private static Set<String> difference(String before, String after) {
+            Set<String> removed = TOKENIZER.tokenize(before);
+            removed.removeAll(TOKENIZER.tokenize(after));
+            return removed;
+        }
+
+        private static void removeAll(Map<String, PostingList> postings, Long id, Set<String> terms) {
+            for (String term : terms) {
+                PostingList postingList = postings.get(term);
+                if (postingList != null && postingList.remove(id) && postingList.isEmpty()) {
+                    postings.remove(term);
+                }
+            }
+        }
+    }
+
+    /**
+     * 정렬과 점수 계산, 검색어 확인에 필요한 게시글 정보 (작성일, 제목/본문 토큰 수, 소문자로 바꾼 제목/본문)
+     */
+    private record IndexedArticle(LocalDateTime createdAt, int titleLength, int contentLength, String title, String content) {
+
+        String text(SearchType searchType) {
+            return searchType == SearchType.TITLE ? title : content;
+        }
+    }
+
+    private record ScoredArticle(long id, double score, LocalDateTime createdAt) {}
+
+    private record ScoredTerm(PostingList postingList, double idf) {}
+}
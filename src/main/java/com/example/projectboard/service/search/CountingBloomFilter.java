@@ -0,0 +1,89 @@
+package com.example.projectboard.service.search;
+
+/**
+ * <p>
+ * 삭제를 지원하는 블룸 필터(counting bloom filter)
+ *
+ * <p>
+ * 비트 대신 위치마다 카운터(byte)를 두어, 추가할 때 k 개의 카운터를 올리고 삭제할 때 내린다.
+ * {@link #mightContain(String)} 이 false 라면 한 번도 추가되지 않은(또는 모두 삭제된) 값이고, true 라면 거짓 양성일 수 있다.
+ * 카운터가 최대값(255)에 닿으면 더 이상 내리지 않는다. 거짓 음성을 만들지 않기 위해서다.
+ *
+ * <p>
+ * k 개의 위치는 64 bit FNV-1a 해시의 상위/하위 32 bit 를 조합하여(Kirsch-Mitzenmacher) 구한다.
+ * 동기화는 하지 않으며 {@link HashtagNameFilter} 의 lock 안에서만 사용한다.
+ */
+final class CountingBloomFilter {
+
+    private static final int MAX_COUNT = 0xFF;
+    private static final long FNV_OFFSET_BASIS = 0xcbf29ce484222325L;
+    private static final long FNV_PRIME = 0x100000001b3L;
+
+    private final byte[] counters;
+    private final int hashCount;
+
+    /**
+     * @param expectedInsertions 예상하는 값의 개수
+     * @param falsePositiveRate 원하는 거짓 양성 확률 (0 ~ 1)
+     */
+    CountingBloomFilter(int expectedInsertions, double falsePositiveRate) {
+        int n = Math.max(1, expectedInsertions);
+        long size = (long) Math.ceil(-n * Math.log(falsePositiveRate) / (Math.log(2) * Math.log(2)));
+        this.counters = new byte[(int) Math.min(Integer.MAX_VALUE - 8, Math.max(64, size))];
+        this.hashCount = Math.max(1, (int) Math.round((double) counters.length / n * Math.log(2)));
+    }
+
+    void add(String value) {
+        long hash = hash(value);
+        for (int i = 0; i < hashCount; i++) {
+            int index = index(hash, i);
+            int count = counters[index] & MAX_COUNT;
+            if (count < MAX_COUNT) {
+                counters[index] = (byte) (count + 1);
+            }
+        }
+    }
+
+    /**
+     * 추가된 적 없는 값을 지우면 다른 값의 거짓 음성이 생길 수 있으므로, 추가했던 값만 지워야 한다.
+     */
+    void remove(String value) {
+        if (!mightContain(value)) {
+            return;
+        }
+
+        long hash = hash(value);
+        for (int i = 0; i < hashCount; i++) {
+            int index = index(hash, i);
+            int count = counters[index] & MAX_COUNT;
+            if (count < MAX_COUNT) {
+                counters[index] = (byte) (count - 1);
+            }
+        }
+    }
+
+    boolean mightContain(String value) {
+        long hash = hash(value);
+        for (int i = 0; i < hashCount; i++) {
+            if (counters[index(hash, i)] == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private int index(long hash, int i) {
+        int combined = (int) hash + i * (int) (hash >>> 32);
+        return (combined & Integer.MAX_VALUE) % counters.length;
+    }
+
+    private static long hash(String value) {
+        long hash = FNV_OFFSET_BASIS;
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            hash = (hash ^ (c & 0xFF)) * FNV_PRIME;
+            hash = (hash ^ (c >>> 8)) * FNV_PRIME;
+        }
+        return hash;
+    }
+}
@@ -0,0 +1,157 @@
+package com.example.projectboard.service.search;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Consumer;
+
+/**
+ * <p>
+ * 검색 색인용 토크나이저
+ *
+ * <p>
+ * 한글은 조사, 어미가 단어에 붙어 쓰이기 때문에(교착어) 공백 단위로 자르면 "스프링을", "스프링은" 이 서로 다른 단어가 된다.
+ * 이를 위해 연속된 한글 음절은 2-gram, 3-gram 으로 잘라 색인한다.
+ * 그 외 문자(영문, 숫자, _)도 LIKE '%검색어%' 처럼 단어의 일부("Spring" => "SpringBoot")로 찾을 수 있도록 소문자로 바꿔 같은 방식으로 자른다.
+ * 한글과 그 외 문자가 붙어 있다면 각각 따로 자른다.
+ * <pre>
+ *     "스프링부트 #java" => [스프, 프링, 링부, 부트, 스프링, 프링부, 링부트, ja, av, va, jav, ava]
+ * </pre>
+ *
+ * <p>
+ * 검색어 역시 같은 규칙으로 자르되, 세 글자 이상이면 3-gram 만 사용하여 후보를 좁힌다.
+ * 한 글자 검색어는 n-gram 으로 찾을 수 없으므로 {@link #isSearchable(String)} 로 걸러낸다.
+ *
+ * <p>
+ * 정규식 없이 문자 배열을 한 번만 훑으며, 상태를 가지지 않으므로 여러 스레드에서 공유해도 된다.
+ */
+public final class HangulNgramTokenizer {
+
+    private static final char HANGUL_BEGIN = '가';
+    private static final char HANGUL_END = '힣';
+
+    private static final int DELIMITER = 0;
+    private static final int HANGUL = 1;
+    private static final int WORD = 2;
+
+    /**
+     * 색인할 문서를 토큰으로 자른다.
+     */
+    public Set<String> tokenize(String text) {
+        Set<String> tokens = new HashSet<>();
+        emitIndexTokens(text, tokens::add);
+
+        return tokens;
+    }
+
+    /**
+     * 색인할 문서를 토큰으로 자르고 토큰별 등장 횟수를 센다. (BM25 점수 계산용)
+     * 모든 횟수의 합이 문서의 길이가 된다.
+     */
+    public Map<String, Integer> countTokens(String text) {
+        Map<String, Integer> counts = new HashMap<>();
+        emitIndexTokens(text, token -> counts.merge(token, 1, Integer::sum));
+
+        return counts;
+    }
+
+    /**
+     * 검색어를 토큰으로 자른다.
+     * 색인된 토큰 중 가장 긴 것(3-gram)을 사용해야 교집합 대상이 되는 게시글 목록이 짧아진다.
+     */
+    public Set<String> tokenizeQuery(String query) {
+        Set<String> tokens = new HashSet<>();
+        if (query == null || query.isEmpty()) {
+            return tokens;
+        }
+
+        scan(query, (chars, start, end) -> {
+            int length = end - start;
+            if (length <= 2) {
+                tokens.add(new String(chars, start, length));
+                return;
+            }
+            for (int i = start; i + 3 <= end; i++) {
+                tokens.add(new String(chars, i, 3));
+            }
+        });
+
+        return tokens;
+    }
+
+    /**
+     * 한 글자짜리 검색어는 더 긴 단어의 일부로 들어간 경우를 색인에서 찾을 수 없다.
+     */
+    public boolean isSearchable(String query) {
+        if (query == null) {
+            return false;
+        }
+
+        boolean[] searchable = {true};
+        scan(query, (chars, start, end) -> {
+            if (end - start == 1) {
+                searchable[0] = false;
+            }
+        });
+
+        return searchable[0];
+    }
+
+    private void emitIndexTokens(String text, Consumer<String> tokens) {
+        if (text == null || text.isEmpty()) {
+            return;
+        }
+
+        scan(text, (chars, start, end) -> {
+            int length = end - start;
+            if (length == 1) {
+                tokens.accept(String.valueOf(chars[start]));
+                return;
+            }
+            for (int i = start; i + 2 <= end; i++) {
+                tokens.accept(new String(chars, i, 2));
+            }
+            for (int i = start; i + 3 <= end; i++) {
+                tokens.accept(new String(chars, i, 3));
+            }
+        });
+    }
+
+    private void scan(String text, RunConsumer consumer) {
+        char[] chars = text.toCharArray();
+        int start = -1;
+        boolean hangulRun = false;
+
+        for (int i = 0; i <= chars.length; i++) {
+            int type = i < chars.length ? typeOf(chars[i]) : DELIMITER;
+
+            if (start >= 0 && (type == DELIMITER || (type == HANGUL) != hangulRun)) {
+                consumer.accept(chars, start, i);
+                start = -1;
+            }
+            if (start < 0 && type != DELIMITER) {
+                start = i;
+                hangulRun = type == HANGUL;
+            }
+            if (type == WORD) {
+                chars[i] = Character.toLowerCase(chars[i]);
+            }
+        }
+    }
+
+    private static int typeOf(char c) {
+        if (c >= HANGUL_BEGIN && c <= HANGUL_END) {
+            return HANGUL;
+        }
+        if (Character.isLetterOrDigit(c) || c == '_') {
+            return WORD;
+        }
+        return DELIMITER;
+    }
+
+    @FunctionalInterface
+    private interface RunConsumer {
+        void accept(char[] chars, int start, int end);
+    }
+}
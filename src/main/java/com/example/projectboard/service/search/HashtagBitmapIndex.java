@@ -0,0 +1,276 @@
+package com.example.projectboard.service.search;
+
+import com.example.projectboard.domain.projection.ArticleHashtagRow;
+import com.example.projectboard.dto.ArticleDto;
+import com.example.projectboard.dto.HashtagDto;
+import com.example.projectboard.dto.event.ArticleEvent;
+import com.example.projectboard.repository.ArticleRepository;
+import com.example.projectboard.repository.querydsl.HashtagQuery;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.roaringbitmap.RoaringBitmap;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.*;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * <p>
+ * 해시태그 → 게시글 압축 비트맵(Roaring Bitmap) 색인
+ *
+ * <p>
+ * article_hashtag 를 IN 조건으로 조인하면 해시태그를 여러 개 가진 게시글이 중복되고, count 쿼리가 같은 조인을 한 번 더 실행한다.
+ * 해시태그마다 게시글 비트맵을 들고 있다가 {@link HashtagQuery} 의 OR/AND/NOT 을 비트맵 합집합/교집합/차집합으로 계산한다.
+ * 비트맵은 값 구간(65536 개) 단위로 압축되어 있어, 연산 비용은 해시태그가 붙은 게시글 수가 아닌 구간 수에 비례한다.
+ *
+ * <p>
+ * Snowflake id 는 밀리초가 바뀔 때마다 2^22 씩 건너뛰므로, id 를 그대로 넣으면 게시글마다 구간이 따로 생겨 압축되지 않는다.
+ * 그래서 게시글에 0 부터 빽빽한 번호(ordinal)를 매겨 비트맵에는 번호를 넣고, 번호 → id 배열로 되돌린다.
+ * 삭제된 게시글의 번호는 다시 쓰지 않으며 다음 재생성 때 정리된다.
+ *
+ * <p>
+ * 애플리케이션 기동 시 게시글 id 순서로 끊어 읽어(keyset) 색인을 만들고, 이후에는 {@link ArticleEvent} 로 갱신한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class HashtagBitmapIndex {
+
+    static final int REBUILD_BATCH_SIZE = 500;
+
+    private final ArticleRepository articleRepository;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    // 색인을 다시 만드는 동안 들어온 이벤트, 새 색인으로 교체한 뒤 다시 적용한다.
+    private final List<ArticleEvent> pendingEvents = new ArrayList<>();
+    private Map<String, RoaringBitmap> postings = new HashMap<>();
+    // 제외 조건만 있는 검색을 위한 전체 게시글
+    private RoaringBitmap allArticles = new RoaringBitmap();
+    private Ordinals ordinals = new Ordinals();
+    private boolean rebuilding = false;
+    private volatile boolean ready = false;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        lock.writeLock().lock();
+        try {
+            rebuilding = true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        Map<String, RoaringBitmap> rebuiltPostings = new HashMap<>();
+        RoaringBitmap rebuiltAllArticles = new RoaringBitmap();
+        Ordinals rebuiltOrdinals = new Ordinals();
+        long lastId = 0L;
+        int articleCount;
+        do {
+            articleCount = 0;
+            // 행은 게시글 id 순서로 오므로 id 가 바뀔 때마다 게시글 하나로 센다.
+            for (ArticleHashtagRow row : articleRepository.findArticleHashtagRows(lastId, REBUILD_BATCH_SIZE)) {
+                if (row.articleId() != lastId) {
+                    lastId = row.articleId();
+                    articleCount++;
+                }
+                int ordinal = rebuiltOrdinals.assign(row.articleId());
+                rebuiltAllArticles.add(ordinal);
+                if (row.hashtagName() != null) {
+                    rebuiltPostings.computeIfAbsent(row.hashtagName(), key -> new RoaringBitmap()).add(ordinal);
+                }
+            }
+        } while (articleCount == REBUILD_BATCH_SIZE);
+
+        lock.writeLock().lock();
+        try {
+            postings = rebuiltPostings;
+            allArticles = rebuiltAllArticles;
+            ordinals = rebuiltOrdinals;
+            pendingEvents.forEach(this::apply);
+            pendingEvents.clear();
+            rebuilding = false;
+            ready = true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        log.info("해시태그 색인 생성 완료 - 해시태그 수: {}, 게시글 수: {}", rebuiltPostings.size(), rebuiltAllArticles.getCardinality());
+    }
+
+    // 검색 캐시(ArticleSearchCache)가 지워지기 전에 반영한다.
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    @TransactionalEventListener
+    public void onArticleEvent(ArticleEvent event) {
+        lock.writeLock().lock();
+        try {
+            if (rebuilding) {
+                pendingEvents.add(event);
+            } else {
+                apply(event);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    /**
+     * 검색 조건에 맞는 게시글을 구한다.
+     *
+     * @return 조건에 맞는 게시글, 호출한 쪽에서 수정해도 색인에 영향이 없는 복사본
+     */
+    public Matches search(HashtagQuery hashtagQuery) {
+        lock.readLock().lock();
+        try {
+            RoaringBitmap result = new RoaringBitmap();
+
+            if (!hashtagQuery.anyOf().isEmpty()) {
+                hashtagQuery.anyOf().forEach(name -> result.or(postings(name)));
+            } else if (!hashtagQuery.allOf().isEmpty()) {
+                result.or(postings(hashtagQuery.allOf().iterator().next()));
+            } else {
+                result.or(allArticles);
+            }
+
+            hashtagQuery.allOf().forEach(name -> result.and(postings(name)));
+            hashtagQuery.noneOf().forEach(name -> result.andNot(postings(name)));
+
+            // 번호 → id 배열은 뒤에만 덧붙이므로, lock 을 놓은 뒤에도 결과에 있는 번호는 그대로 읽을 수 있다.
+            return new Matches(result, ordinals.articleIds);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 비트맵이 차지하는 크기(byte), 번호 → id 배열은 포함하지 않는다.
+     */
+    long getSizeInBytes() {
+        lock.readLock().lock();
+        try {
+            long size = allArticles.getLongSizeInBytes();
+            for (RoaringBitmap bitmap : postings.values()) {
+                size += bitmap.getLongSizeInBytes();
+            }
+            return size;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private RoaringBitmap postings(String hashtagName) {
+        return postings.getOrDefault(hashtagName, new RoaringBitmap());
+    }
+
+    /**
+     * lock 을 잡은 상태에서만 호출한다.
+     * 수정 이벤트는 수정 전 해시태그를 모두 지운 뒤 수정 후 해시태그를 넣으므로 같은 이벤트가 두 번 적용되어도 결과가 같다.
+     */
+    private void apply(ArticleEvent event) {
+        ArticleDto previous = event.previous();
+        ArticleDto current = event.current();
+
+        if (previous != null) {
+            Integer ordinal = ordinals.find(previous.id());
+            if (ordinal != null) {
+                hashtagNames(previous).forEach(name -> {
+                    RoaringBitmap bitmap = postings.get(name);
+                    if (bitmap != null) {
+                        bitmap.remove(ordinal);
+                        if (bitmap.isEmpty()) {
+                            postings.remove(name);
+                        }
+                    }
+                });
+                allArticles.remove(ordinal);
+            }
+            // 수정이라면 같은 번호를 그대로 쓴다.
+            if (current == null) {
+                ordinals.release(previous.id());
+            }
+        }
+        if (current != null) {
+            int ordinal = ordinals.assign(current.id());
+            hashtagNames(current).forEach(name -> postings.computeIfAbsent(name, key -> new RoaringBitmap()).add(ordinal));
+            allArticles.add(ordinal);
+        }
+    }
+
+    private static Set<String> hashtagNames(ArticleDto article) {
+        if (article.hashtagDtos() == null) {
+            return Set.of();
+        }
+
+        Set<String> names = new HashSet<>();
+        for (HashtagDto hashtag : article.hashtagDtos()) {
+            names.add(hashtag.hashtagName());
+        }
+        return names;
+    }
+
+    /**
+     * 검색 결과, 비트맵에는 게시글 번호가 들어있고 번호 → id 배열로 게시글 id 를 구한다.
+     */
+    public record Matches(RoaringBitmap ordinals, long[] articleIdsByOrdinal) {
+
+        public long count() {
+            return ordinals.getLongCardinality();
+        }
+
+        public boolean isEmpty() {
+            return ordinals.isEmpty();
+        }
+
+        /**
+         * @return 게시글 id 오름차순 목록
+         */
+        public List<Long> articleIds() {
+            long[] articleIds = new long[ordinals.getCardinality()];
+            int index = 0;
+            for (int ordinal : ordinals) {
+                articleIds[index++] = articleIdsByOrdinal[ordinal];
+            }
+            Arrays.sort(articleIds);
+            return Arrays.stream(articleIds).boxed().toList();
+        }
+    }
+
+    /**
+     * 게시글 id ↔ 번호, lock 안에서만 수정한다.
+     */
+    private static final class Ordinals {
+        private final Map<Long, Integer> ordinalsById = new HashMap<>();
+        // 이미 매긴 번호의 칸은 바꾸지 않고, 배열이 차면 복사한 새 배열로 바꾼다.
+        private long[] articleIds = new long[1024];
+        private int size = 0;
+
+        Integer find(long articleId) {
+            return ordinalsById.get(articleId);
+        }
+
+        int assign(long articleId) {
+            Integer ordinal = ordinalsById.get(articleId);
+            if (ordinal != null) {
+                return ordinal;
+            }
+            if (size == articleIds.length) {
+                articleIds = Arrays.copyOf(articleIds, size * 2);
+            }
+            articleIds[size] = articleId;
+            ordinalsById.put(articleId, size);
+            return size++;
+        }
+
+        void release(long articleId) {
+            ordinalsById.remove(articleId);
+        }
+    }
+}
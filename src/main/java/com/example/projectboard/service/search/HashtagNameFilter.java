@@ -0,0 +1,90 @@
+package com.example.projectboard.service.search;
+
+import com.example.projectboard.dto.event.HashtagDeletedEvent;
+import com.example.projectboard.repository.HashtagRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * <p>
+ * 저장된 해시태그 이름 필터
+ *
+ * <p>
+ * 게시글을 등록/수정할 때마다 본문의 해시태그가 이미 저장되어 있는지 IN 조건으로 조회한다.
+ * 해시태그 이름을 {@link CountingBloomFilter} 에 담아두고, 필터에 없는 이름은 새 해시태그가 확실하므로 조회하지 않는다.
+ *
+ * <p>
+ * 거짓 음성은 중복 저장(unique 제약 위반)으로 이어지기 때문에 필터는 항상 실제보다 넉넉하게 유지한다.
+ * <ul>
+ *     <li>기동 후 필터가 만들어지기 전에는 모든 이름이 있다고 판단한다.</li>
+ *     <li>추가는 저장하기 전에 바로 반영한다. 롤백되면 거짓 양성으로 남을 뿐이다.</li>
+ *     <li>삭제는 트랜잭션이 커밋된 이후({@link HashtagDeletedEvent})에 반영한다.</li>
+ * </ul>
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class HashtagNameFilter {
+
+    private static final int MINIMUM_EXPECTED_INSERTIONS = 100_000;
+    private static final double FALSE_POSITIVE_RATE = 0.01;
+
+    private final HashtagRepository hashtagRepository;
+
+    private CountingBloomFilter filter = new CountingBloomFilter(MINIMUM_EXPECTED_INSERTIONS, FALSE_POSITIVE_RATE);
+    // 필터를 다시 만드는 동안 추가된 이름, 새 필터로 교체한 뒤 다시 적용한다.
+    // 그 사이 삭제된 이름은 다시 적용하지 않는다. 새 필터에 없는 이름을 지우면 다른 이름의 카운터가 내려가기 때문이다.
+    private final List<String> pendingAdditions = new ArrayList<>();
+    private boolean rebuilding = false;
+    private volatile boolean ready = false;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        synchronized (this) {
+            rebuilding = true;
+        }
+
+        List<String> hashtagNames = hashtagRepository.findAllHashtagNames();
+        CountingBloomFilter rebuilt = new CountingBloomFilter(Math.max(MINIMUM_EXPECTED_INSERTIONS, hashtagNames.size() * 2), FALSE_POSITIVE_RATE);
+        hashtagNames.forEach(rebuilt::add);
+
+        synchronized (this) {
+            pendingAdditions.forEach(rebuilt::add);
+            pendingAdditions.clear();
+            filter = rebuilt;
+            rebuilding = false;
+            ready = true;
+        }
+
+        log.info("해시태그 이름 필터 생성 완료 - 해시태그 수: {}", hashtagNames.size());
+    }
+
+    /**
+     * @return false 라면 저장되지 않은 해시태그 이름, true 라면 저장되어 있을 수 있다.
+     */
+    public synchronized boolean mightExist(String hashtagName) {
+        return !ready || filter.mightContain(hashtagName);
+    }
+
+    /**
+     * 새 해시태그를 저장하기 전에 호출한다.
+     */
+    public synchronized void add(String hashtagName) {
+        filter.add(hashtagName);
+        if (rebuilding) {
+            pendingAdditions.add(hashtagName);
+        }
+    }
+
+    @TransactionalEventListener
+    public synchronized void onHashtagDeletedEvent(HashtagDeletedEvent event) {
+        filter.remove(event.hashtagName());
+    }
+}
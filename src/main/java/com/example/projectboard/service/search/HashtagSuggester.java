@@ -0,0 +1,93 @@
+package com.example.projectboard.service.search;
+
+import com.example.projectboard.domain.projection.HashtagUsage;
+import com.example.projectboard.dto.ArticleDto;
+import com.example.projectboard.dto.HashtagDto;
+import com.example.projectboard.dto.event.ArticleEvent;
+import com.example.projectboard.repository.HashtagRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * <p>
+ * 해시태그 자동완성
+ *
+ * <p>
+ * 해시태그 이름을 {@link HashtagTrie} 에 담아두고 접두어로 시작하는 해시태그를 많이 쓰인 순서로 돌려준다.
+ * 기동 시 해시태그별 게시글 수를 한 번 조회하고, 이후에는 {@link ArticleEvent} 의 수정 전후 해시태그 차이만큼 게시글 수를 더하거나 뺀다.
+ * 게시글 등록/수정으로 새 해시태그가 생기면 트라이에 추가되고, 게시글 수가 0 이 되면(OrphanHashtagCollector 가 지우는 해시태그) 트라이에서도 빠진다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class HashtagSuggester {
+
+    // 트라이의 노드마다 정렬해 두는 개수, 이보다 많이 요청해도 이만큼만 반환한다.
+    public static final int MAX_LIMIT = HashtagTrie.TOP_K;
+
+    private final HashtagRepository hashtagRepository;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private HashtagTrie trie = new HashtagTrie();
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        HashtagTrie rebuilt = new HashtagTrie();
+        List<HashtagUsage> usages = hashtagRepository.findHashtagUsages();
+        usages.forEach(usage -> rebuilt.add(usage.hashtagName(), usage.articleCount()));
+
+        lock.writeLock().lock();
+        try {
+            trie = rebuilt;
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        log.info("해시태그 자동완성 트라이 생성 완료 - 해시태그 수: {}", usages.size());
+    }
+
+    @TransactionalEventListener
+    public void onArticleEvent(ArticleEvent event) {
+        Set<String> previous = hashtagNames(event.previous());
+        Set<String> current = hashtagNames(event.current());
+
+        lock.writeLock().lock();
+        try {
+            previous.stream().filter(name -> !current.contains(name)).forEach(name -> trie.add(name, -1));
+            current.stream().filter(name -> !previous.contains(name)).forEach(name -> trie.add(name, 1));
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * @param prefix 해시태그 이름 접두어 (대소문자 구분 없음), 비어있다면 전체 해시태그 중 많이 쓰인 순서
+     * @param limit 최대 개수, {@link #MAX_LIMIT} 개까지
+     */
+    public List<HashtagUsage> suggest(String prefix, int limit) {
+        lock.readLock().lock();
+        try {
+            return trie.suggest(prefix, limit);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private static Set<String> hashtagNames(ArticleDto article) {
+        Set<String> names = new HashSet<>();
+        if (article != null && article.hashtagDtos() != null) {
+            article.hashtagDtos().stream().map(HashtagDto::hashtagName).forEach(names::add);
+        }
+        return names;
+    }
+}
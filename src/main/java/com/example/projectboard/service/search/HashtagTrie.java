@@ -0,0 +1,130 @@
+package com.example.projectboard.service.search;
+
+import com.example.projectboard.domain.projection.HashtagUsage;
+
+import java.util.*;
+
+/**
+ * <p>
+ * 해시태그 이름 접두어 트라이, 이름마다 해시태그가 붙은 게시글 수를 함께 저장한다.
+ *
+ * <p>
+ * 대소문자 구분 없이 찾을 수 있도록 소문자로 경로를 만들고, 이름의 원래 표기는 마지막 노드에 둔다.
+ * 동기화는 하지 않으며 {@link HashtagSuggester} 의 lock 안에서만 사용한다.
+ *
+ * <p>
+ * 노드마다 하위 트리에서 게시글이 많은 해시태그 최대 {@link #TOP_K} 개를 정렬해 두므로,
+ * 자동완성은 하위 트리를 훑지 않고 접두어 노드의 목록만 잘라 반환한다. (짧은 접두어일수록 하위 트리가 크다)
+ * 게시글 수가 바뀌면 해당 이름의 경로에 있는 노드의 목록만 고친다.
+ */
+final class HashtagTrie {
+
+    static final int TOP_K = 50;
+
+    private static final Comparator<HashtagUsage> POPULARITY = Comparator
+            .comparingLong(HashtagUsage::articleCount).reversed()
+            .thenComparing(HashtagUsage::hashtagName);
+
+    private final Node root = new Node();
+
+    /**
+     * 게시글 수를 더하거나 뺀다. 0 이하가 되면 이름을 지우고 더 이상 쓰이지 않는 노드를 정리한다.
+     */
+    void add(String hashtagName, long delta) {
+        String key = hashtagName.toLowerCase(Locale.ROOT);
+        List<Node> path = new ArrayList<>(key.length() + 1);
+        Node node = root;
+        path.add(node);
+        for (int i = 0; i < key.length(); i++) {
+            node = node.children.computeIfAbsent(key.charAt(i), c -> new Node());
+            path.add(node);
+        }
+
+        long count = node.counts.getOrDefault(hashtagName, 0L) + delta;
+        HashtagUsage usage = null;
+        if (count > 0) {
+            node.counts.put(hashtagName, count);
+            usage = new HashtagUsage(hashtagName, count);
+        } else {
+            node.counts.remove(hashtagName);
+            // 비어있는 노드를 아래에서부터 부모와 끊는다.
+            for (int i = key.length(); i > 0; i--) {
+                if (!path.get(i).isEmpty()) {
+                    break;
+                }
+                path.get(i - 1).children.remove(key.charAt(i - 1));
+            }
+        }
+
+        // 부모는 자식의 목록으로 다시 모을 수 있으므로 아래에서부터 고친다.
+        for (int i = path.size() - 1; i >= 0; i--) {
+            path.get(i).rank(hashtagName, usage);
+        }
+    }
+
+    /**
+     * 접두어로 시작하는 해시태그를 게시글 수가 많은 순서로 최대 limit 개({@link #TOP_K} 개까지) 반환한다.
+     * 게시글 수가 같다면 이름 순으로 정렬한다.
+     */
+    List<HashtagUsage> suggest(String prefix, int limit) {
+        String key = prefix == null ? "" : prefix.toLowerCase(Locale.ROOT);
+        Node node = root;
+        for (int i = 0; i < key.length() && node != null; i++) {
+            node = node.children.get(key.charAt(i));
+        }
+        if (node == null || limit <= 0) {
+            return List.of();
+        }
+
+        return List.copyOf(node.top.subList(0, Math.min(limit, node.top.size())));
+    }
+
+    private static final class Node {
+        private final Map<Character, Node> children = new HashMap<>();
+        // 대소문자만 다른 이름이 있을 수 있으므로 원래 이름별로 센다.
+        private final Map<String, Long> counts = new HashMap<>(1);
+        // 하위 트리(자신 포함)에서 게시글이 많은 순서로 최대 TOP_K 개
+        private List<HashtagUsage> top = new ArrayList<>(1);
+
+        boolean isEmpty() {
+            return children.isEmpty() && counts.isEmpty();
+        }
+
+        /**
+         * 이름의 게시글 수가 바뀐 것을 목록에 반영한다. 자식 노드의 목록은 이미 반영되어 있어야 한다.
+         *
+         * @param usage 바뀐 게시글 수, null 이라면 지워진 이름
+         */
+        void rank(String hashtagName, HashtagUsage usage) {
+            boolean full = top.size() >= TOP_K;
+            boolean ranked = top.removeIf(entry -> entry.hashtagName().equals(hashtagName));
+
+            // 목록에서 빠지거나 맨 뒤로 밀린 이름은 목록 밖에 있던 이름보다 뒤일 수 있으므로 다시 모은다.
+            if (ranked && full && (usage == null || POPULARITY.compare(usage, top.get(top.size() - 1)) > 0)) {
+                collect();
+                return;
+            }
+            if (usage == null) {
+                return;
+            }
+
+            int position = -Collections.binarySearch(top, usage, POPULARITY) - 1;
+            if (position < TOP_K) {
+                top.add(position, usage);
+                if (top.size() > TOP_K) {
+                    top.remove(top.size() - 1);
+                }
+            }
+        }
+
+        /**
+         * 자신의 이름과 자식 노드의 목록에서 다시 고른다. 자식의 목록이 각 하위 트리의 상위 TOP_K 개이므로 그 밖을 볼 필요는 없다.
+         */
+        private void collect() {
+            TopK<HashtagUsage> topK = new TopK<>(TOP_K, POPULARITY);
+            counts.forEach((name, count) -> topK.offer(new HashtagUsage(name, count)));
+            children.values().forEach(child -> child.top.forEach(topK::offer));
+            top = new ArrayList<>(topK.toList());
+        }
+    }
+}
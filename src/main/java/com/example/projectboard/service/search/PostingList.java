@@ -0,0 +1,120 @@
+package com.example.projectboard.service.search;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * 하나의 검색어(term)를 포함하는 게시글 id 목록
+ * 오름차순으로 정렬된 long 배열로 관리하며, 같은 위치의 int 배열에 게시글 안에서의 등장 횟수(term frequency)를 둔다.
+ *
+ * 새로 등록되는 게시글의 id 는 대부분 기존 id 보다 크기 때문에 추가는 배열 끝에 붙이는 것으로 끝난다.
+ * 동기화는 하지 않으며 {@link ArticleSearchIndex} 의 lock 안에서만 사용한다.
+ */
+final class PostingList {
+
+    private long[] ids = new long[4];
+    private int[] frequencies = new int[4];
+    private int size;
+
+    /**
+     * 이미 들어있는 id 라면 등장 횟수만 갱신한다.
+     */
+    boolean add(long id, int frequency) {
+        if (size == 0 || ids[size - 1] < id) {
+            ensureCapacity();
+            ids[size] = id;
+            frequencies[size++] = frequency;
+            return true;
+        }
+
+        int index = Arrays.binarySearch(ids, 0, size, id);
+        if (index >= 0) {
+            frequencies[index] = frequency;
+            return false;
+        }
+
+        int insertion = -index - 1;
+        ensureCapacity();
+        System.arraycopy(ids, insertion, ids, insertion + 1, size - insertion);
+        System.arraycopy(frequencies, insertion, frequencies, insertion + 1, size - insertion);
+        ids[insertion] = id;
+        frequencies[insertion] = frequency;
+        size++;
+        return true;
+    }
+
+    boolean remove(long id) {
+        int index = Arrays.binarySearch(ids, 0, size, id);
+        if (index < 0) {
+            return false;
+        }
+
+        System.arraycopy(ids, index + 1, ids, index, size - index - 1);
+        System.arraycopy(frequencies, index + 1, frequencies, index, size - index - 1);
+        size--;
+        return true;
+    }
+
+    boolean contains(long id) {
+        return Arrays.binarySearch(ids, 0, size, id) >= 0;
+    }
+
+    /**
+     * 게시글 안에서 검색어가 등장한 횟수, 목록에 없다면 0
+     */
+    int frequency(long id) {
+        int index = Arrays.binarySearch(ids, 0, size, id);
+        return index >= 0 ? frequencies[index] : 0;
+    }
+
+    boolean isEmpty() {
+        return size == 0;
+    }
+
+    int size() {
+        return size;
+    }
+
+    long[] toArray() {
+        return Arrays.copyOf(ids, size);
+    }
+
+    /**
+     * 모든 목록에 공통으로 들어있는 id 를 구한다.
+     * 가장 짧은 목록을 기준으로 나머지 목록을 이진 탐색하기 때문에 비용은 가장 짧은 목록의 길이에 비례한다.
+     */
+    static long[] intersect(List<PostingList> postingLists) {
+        if (postingLists.isEmpty()) {
+            return new long[0];
+        }
+
+        List<PostingList> sorted = postingLists.stream()
+                .sorted(Comparator.comparingInt(PostingList::size))
+                .toList();
+
+        PostingList smallest = sorted.get(0);
+        long[] result = new long[smallest.size];
+        int count = 0;
+
+        for (int i = 0; i < smallest.size; i++) {
+            long id = smallest.ids[i];
+            boolean containedInAll = true;
+            for (int j = 1; j < sorted.size() && containedInAll; j++) {
+                containedInAll = sorted.get(j).contains(id);
+            }
+            if (containedInAll) {
+                result[count++] = id;
+            }
+        }
+
+        return Arrays.copyOf(result, count);
+    }
+
+    private void ensureCapacity() {
+        if (size == ids.length) {
+            ids = Arrays.copyOf(ids, size * 2);
+            frequencies = Arrays.copyOf(frequencies, size * 2);
+        }
+    }
+}
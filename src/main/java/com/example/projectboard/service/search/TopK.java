@@ -0,0 +1,49 @@
+package com.example.projectboard.service.search;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+
+/**
+ * 전체 후보 중 앞에서부터 k 개만 골라낸다.
+ *
+ * 가장 뒤 순위의 원소가 맨 위에 오는 크기 k 의 힙을 유지하며, 새 원소가 그보다 앞설 때만 교체한다.
+ * 후보 n 개를 모두 정렬하는 O(n log n) 대신 O(n log k) 로 끝나고, 메모리도 k 개만 사용한다.
+ */
+final class TopK<T> {
+
+    private final int k;
+    private final Comparator<? super T> order;
+    private final PriorityQueue<T> heap;
+
+    /**
+     * @param order 앞 순위가 작은 값이 되는 비교 기준
+     */
+    TopK(int k, Comparator<? super T> order) {
+        this.k = k;
+        this.order = order;
+        this.heap = new PriorityQueue<>(Math.max(1, k), order.reversed());
+    }
+
+    void offer(T candidate) {
+        if (k <= 0) {
+            return;
+        }
+        if (heap.size() < k) {
+            heap.add(candidate);
+        } else if (order.compare(candidate, heap.peek()) < 0) {
+            heap.poll();
+            heap.add(candidate);
+        }
+    }
+
+    /**
+     * 골라낸 원소를 순위대로 정렬하여 반환한다.
+     */
+    List<T> toList() {
+        List<T> result = new ArrayList<>(heap);
+        result.sort(order);
+        return result;
+    }
+}
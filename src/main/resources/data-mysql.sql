@@ -0,0 +1,4 @@
+-- 샘플 데이터(data.sql)는 id 를 직접 넣으므로, 애플리케이션이 나눠 줄 id 가 겹치지 않도록 시퀀스를 뒤로 옮긴다.
+-- 게시글, 댓글 id 는 시각이 앞자리인 Snowflake id 이므로 샘플 id 와 겹치지 않는다.
+-- MySQL 에는 시퀀스가 없어 Hibernate 가 같은 이름의 테이블(next_val)로 대신한다.
+update hashtag_seq set next_val = 1050;
@@ -0,0 +1,4 @@
+-- 샘플 데이터(data.sql)는 id 를 직접 넣으므로, 애플리케이션이 나눠 줄 id 가 겹치지 않도록 시퀀스를 뒤로 옮긴다.
+-- 게시글, 댓글 id 는 시각이 앞자리인 Snowflake id 이므로 샘플 id 와 겹치지 않는다.
+-- pooled optimizer 는 시퀀스 값을 할당 구간의 끝으로 쓰므로(allocationSize = 50), 1050 이면 1001 번부터 나눠 준다.
+alter sequence hashtag_seq restart with 1050;
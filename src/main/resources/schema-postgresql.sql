@@ -0,0 +1,11 @@
+-- 본문 전문 검색 (board.search.content-backend: full-text)
+-- 한글은 형태소 분석 사전이 없으므로 'simple' 설정으로 공백 단위 토큰만 만들고, 검색 시 접두어 검색(:*)을 사용한다.
+alter table article
+    add column if not exists content_tsv tsvector
+        generated always as (to_tsvector('simple', coalesce(content, ''))) stored;
+
+create index if not exists idx_article_content_tsv on article using gin (content_tsv);
+
+-- 답글 묶음 조회, 삭제 (path like '댓글 경로%')
+-- 기본 collation 의 btree 인덱스는 like 접두어 검색에 쓰이지 않으므로 pattern ops 인덱스를 따로 만든다.
+create index if not exists idx_article_comment_path_pattern on article_comment (path varchar_pattern_ops);
@@ -0,0 +1,65 @@
+// 게시글 상세에서 '답글 N개 보기' 를 누르면 대댓글을 불러와 댓글 아래에 채운다.
+// 대댓글에도 답글을 달 수 있으므로, 불러온 대댓글마다 같은 버튼과 답글 양식을 붙인다.
+(() => {
+  const comments = document.getElementById('article-comments');
+  const template = document.getElementById('child-comment-template');
+  if (!comments || !template) {
+    return;
+  }
+
+  const PAGE_SIZE = 10;
+  const userId = comments.dataset.userId;
+
+  comments.addEventListener('click', event => {
+    const button = event.target.closest('.child-comments-more');
+    if (!button || button.disabled) {
+      return;
+    }
+
+    button.disabled = true;
+    const after = button.dataset.after;
+    const url = button.dataset.url + '?size=' + PAGE_SIZE + (after ? '&after=' + encodeURIComponent(after) : '');
+
+    fetch(url)
+      .then(response => response.ok ? response.json() : Promise.reject(response.status))
+      .then(page => {
+        const list = button.closest('li').querySelector(':scope > ul');
+        list.append(...page.comments.map(render));
+
+        if (page.next) {
+          button.dataset.after = page.next;
+          button.textContent = '답글 더 보기';
+          button.disabled = false;
+        } else {
+          button.remove();
+        }
+      })
+      .catch(() => button.disabled = false);
+  });
+
+  function render(comment) {
+    const item = template.content.firstElementChild.cloneNode(true);
+    const form = item.querySelector('.comment-delete-form');
+    const time = item.querySelector('time');
+    const more = item.querySelector('.child-comments-more');
+
+    form.action = '/comments/' + comment.id + '/delete';
+    item.querySelector('strong').textContent = comment.nickname;
+    time.dateTime = comment.createdAt;
+    time.textContent = comment.createdAt.replace('T', ' ').substring(0, 19);
+    item.querySelector('p').textContent = comment.content;
+    if (!userId || comment.userId !== userId) {
+      form.querySelector('button').remove();
+    }
+
+    if (comment.childCommentCount > 0) {
+      more.dataset.url = '/api/comments/' + comment.id + '/child-comments';
+      more.textContent = '답글 ' + comment.childCommentCount + '개 보기';
+    } else {
+      more.remove();
+    }
+    item.querySelector('.parent-comment-id').value = comment.id;
+
+    return item;
+  }
+})();
@@ -0,0 +1,35 @@
+// 해시태그 입력창에 접두어 자동완성 목록을 채운다.
+(() => {
+  const input = document.getElementById('hashtag-search-value');
+  const datalist = document.getElementById('hashtag-suggestions');
+  if (!input || !datalist) {
+    return;
+  }
+
+  let timer;
+  let lastPrefix;
+
+  input.addEventListener('input', () => {
+    clearTimeout(timer);
+    timer = setTimeout(() => suggest(input.value.trim().replace(/^#/, '')), 150);
+  });
+
+  function suggest(prefix) {
+    if (!prefix || prefix === lastPrefix) {
+      return;
+    }
+    lastPrefix = prefix;
+
+    fetch('/api/hashtags/suggest?size=10&prefix=' + encodeURIComponent(prefix))
+      .then(response => response.ok ? response.json() : [])
+      .then(suggestions => {
+        datalist.replaceChildren(...suggestions.map(suggestion => {
+          const option = document.createElement('option');
+          option.value = suggestion.hashtagName;
+          option.label = suggestion.articleCount + '개의 게시글';
+          return option;
+        }));
+      })
+      .catch(() => datalist.replaceChildren());
+  }
+})();
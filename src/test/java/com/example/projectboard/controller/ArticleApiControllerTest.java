@@ -0,0 +1,83 @@
+package com.example.projectboard.controller;
+
+import com.example.projectboard.config.TestSecurityConfig;
+import com.example.projectboard.dto.response.ArticleImportResponse;
+import com.example.projectboard.service.importer.ArticleImportService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.MediaType;
+import org.springframework.security.test.context.support.TestExecutionEvent;
+import org.springframework.security.test.context.support.WithUserDetails;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.io.BufferedReader;
+import java.io.Reader;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@Import(TestSecurityConfig.class)
+@DisplayName("API 컨트롤러 - 게시글 대량 등록")
+@WebMvcTest(ArticleApiController.class)
+@ActiveProfiles("testdb")
+class ArticleApiControllerTest {
+
+    private final MockMvc mvc;
+
+    @MockBean
+    private ArticleImportService articleImportService;
+
+    ArticleApiControllerTest(@Autowired MockMvc mvc) {
+        this.mvc = mvc;
+    }
+
+    @DisplayName("[API][POST] 게시글 대량 등록 - 로그인한 사용자가 NDJSON 을 보내면, 그 사용자의 게시글로 등록하고 결과를 반환한다.")
+    @WithUserDetails(value = "jyukaTest", setupBefore = TestExecutionEvent.TEST_EXECUTION)
+    @Test
+    void givenNdjsonWithAuthentication_whenRequestingBulkImport_thenImportsAsLoginUser() throws Exception {
+        // Given
+        String ndjson = """
+                {"title": "title", "content": "content #java"}
+                not json
+                """;
+        String[] firstLine = new String[1];
+        given(articleImportService.importArticles(any(Reader.class), eq("jyukaTest"))).willAnswer(invocation -> {
+            firstLine[0] = ((BufferedReader) invocation.getArgument(0)).readLine();
+            return ArticleImportResponse.of(1, 1, List.of("2번째 줄: JSON 형식이 아닙니다."));
+        });
+
+        // When & Then
+        mvc.perform(post("/api/articles:bulk")
+                        .contentType(ArticleApiController.NDJSON_VALUE)
+                        .content(ndjson))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_JSON))
+                .andExpect(jsonPath("$.imported").value(1))
+                .andExpect(jsonPath("$.skipped").value(1))
+                .andExpect(jsonPath("$.errors[0]").value("2번째 줄: JSON 형식이 아닙니다."));
+        assertThat(firstLine[0]).isEqualTo("{\"title\": \"title\", \"content\": \"content #java\"}");
+        then(articleImportService).should().importArticles(any(Reader.class), eq("jyukaTest"));
+    }
+
+    @DisplayName("[API][POST] 게시글 대량 등록 - 인증 없이 호출하면, 로그인 페이지로 이동한다.")
+    @Test
+    void givenNoAuthentication_whenRequestingBulkImport_thenRedirectsToLoginPage() throws Exception {
+        // When & Then
+        mvc.perform(post("/api/articles:bulk")
+                        .contentType(ArticleApiController.NDJSON_VALUE)
+                        .content("{\"title\": \"title\", \"content\": \"content\"}"))
+                .andExpect(status().is3xxRedirection())
+                .andExpect(redirectedUrlPattern("**/login"));
+        then(articleImportService).shouldHaveNoInteractions();
+    }
+}
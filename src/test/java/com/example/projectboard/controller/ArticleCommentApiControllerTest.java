@@ -0,0 +1,149 @@
+package com.example.projectboard.controller;
+
+import com.example.projectboard.config.TestSecurityConfig;
+import com.example.projectboard.domain.ArticleComment;
+import com.example.projectboard.dto.ArticleCommentDto;
+import com.example.projectboard.dto.UserAccountDto;
+import com.example.projectboard.repository.querydsl.ArticleCursor;
+import com.example.projectboard.repository.querydsl.CursorSlice;
+import com.example.projectboard.service.ArticleCommentService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@Import(TestSecurityConfig.class)
+@DisplayName("API 컨트롤러 - 대댓글")
+@WebMvcTest(ArticleCommentApiController.class)
+@ActiveProfiles("testdb")
+class ArticleCommentApiControllerTest {
+
+    private final MockMvc mvc;
+
+    @MockBean
+    private ArticleCommentService articleCommentService;
+
+    ArticleCommentApiControllerTest(@Autowired MockMvc mvc) {
+        this.mvc = mvc;
+    }
+
+    @DisplayName("[API][GET] 대댓글 목록 - 인증 없이 호출하면, 대댓글과 다음 페이지 커서를 반환한다.")
+    @Test
+    void givenParentCommentId_whenRequestingChildComments_thenReturnsChildCommentsWithNextCursor() throws Exception {
+        // Given
+        long parentCommentId = 1L;
+        LocalDateTime createdAt = LocalDateTime.of(2023, 3, 14, 10, 0);
+        given(articleCommentService.searchChildComments(parentCommentId, null, 10))
+                .willReturn(new CursorSlice<>(List.of(createArticleCommentDto(2L, parentCommentId, createdAt)), 10, false, true));
+        given(articleCommentService.countChildComments(List.of(2L))).willReturn(Map.of(2L, 3L));
+
+        // When & Then
+        mvc.perform(get("/api/comments/" + parentCommentId + "/child-comments"))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_JSON))
+                .andExpect(jsonPath("$.comments[0].id").value("2"))
+                .andExpect(jsonPath("$.comments[0].parentCommentId").value(String.valueOf(parentCommentId)))
+                .andExpect(jsonPath("$.comments[0].nickname").value("jyuka"))
+                .andExpect(jsonPath("$.comments[0].createdAt").value("2023-03-14T10:00:00"))
+                .andExpect(jsonPath("$.comments[0].childCommentCount").value(3))
+                .andExpect(jsonPath("$.next").value(ArticleCursor.encode(createdAt, 2L)));
+        then(articleCommentService).should().searchChildComments(parentCommentId, null, 10);
+        then(articleCommentService).should().countChildComments(List.of(2L));
+    }
+
+    @DisplayName("[API][GET] 대댓글 목록 - 커서와 최대 개수를 넘겨 요청하면, 커서 다음부터 최대 개수까지만 조회한다.")
+    @Test
+    void givenCursorAndTooLargeSize_whenRequestingChildComments_thenLimitsSize() throws Exception {
+        // Given
+        long parentCommentId = 1L;
+        String after = ArticleCursor.encode(LocalDateTime.of(2023, 3, 14, 10, 0), 2L);
+        ArticleCursor cursor = ArticleCursor.of(after, null);
+        given(articleCommentService.searchChildComments(parentCommentId, cursor, 50)).willReturn(CursorSlice.empty(50));
+
+        // When & Then
+        mvc.perform(get("/api/comments/" + parentCommentId + "/child-comments")
+                        .queryParam("after", after)
+                        .queryParam("size", "1000"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.comments").isEmpty())
+                .andExpect(jsonPath("$.next").isEmpty());
+        then(articleCommentService).should().searchChildComments(parentCommentId, cursor, 50);
+    }
+
+    @DisplayName("[API][GET] 답글 묶음 - 인증 없이 호출하면, 댓글과 모든 깊이의 답글을 경로 순서로 반환하고 마지막 경로를 다음 커서로 반환한다.")
+    @Test
+    void givenArticleCommentId_whenRequestingThread_thenReturnsThreadWithNextPath() throws Exception {
+        // Given
+        long articleCommentId = 1L;
+        String after = ArticleComment.pathSegment(1L) + ArticleComment.pathSegment(2L);
+        String lastPath = ArticleComment.pathSegment(1L) + ArticleComment.pathSegment(2L) + ArticleComment.pathSegment(3L);
+        ArticleCommentDto reply = createArticleCommentDto(3L, 2L, LocalDateTime.of(2023, 3, 14, 10, 0), lastPath);
+        given(articleCommentService.searchCommentThread(articleCommentId, after, 50))
+                .willReturn(new CursorSlice<>(List.of(reply), 50, true, true));
+
+        // When & Then
+        mvc.perform(get("/api/comments/" + articleCommentId + "/thread")
+                        .queryParam("after", after)
+                        .queryParam("size", "1000"))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_JSON))
+                .andExpect(jsonPath("$.comments[0].id").value("3"))
+                .andExpect(jsonPath("$.comments[0].parentCommentId").value("2"))
+                .andExpect(jsonPath("$.next").value(lastPath));
+        then(articleCommentService).should().searchCommentThread(articleCommentId, after, 50);
+    }
+
+    @DisplayName("[API][GET] 답글 묶음 - 댓글 id 는 크기와 관계없이(Snowflake 포함) 문자열로 반환한다.")
+    @Test
+    void givenSnowflakeIds_whenRequestingThread_thenReturnsIdsAsString() throws Exception {
+        // Given
+        long articleCommentId = 462_581_253_718_016_001L;
+        long replyId = 462_581_253_718_016_002L;
+        String rootPath = ArticleComment.pathSegment(articleCommentId);
+        given(articleCommentService.searchCommentThread(articleCommentId, null, 10))
+                .willReturn(new CursorSlice<>(List.of(
+                        createArticleCommentDto(replyId, articleCommentId, LocalDateTime.of(2023, 3, 14, 10, 0), rootPath + ArticleComment.pathSegment(replyId))
+                ), 10, false, false));
+
+        // When & Then
+        mvc.perform(get("/api/comments/" + articleCommentId + "/thread"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.comments[0].id").value(String.valueOf(replyId)))
+                .andExpect(jsonPath("$.comments[0].parentCommentId").value(String.valueOf(articleCommentId)))
+                .andExpect(jsonPath("$.comments[0].childCommentCount").value(0));
+        then(articleCommentService).should().searchCommentThread(articleCommentId, null, 10);
+    }
+
+    private ArticleCommentDto createArticleCommentDto(Long id, Long parentCommentId, LocalDateTime createdAt) {
+        return createArticleCommentDto(id, parentCommentId, createdAt, null);
+    }
+
+    private ArticleCommentDto createArticleCommentDto(Long id, Long parentCommentId, LocalDateTime createdAt, String path) {
+        return ArticleCommentDto.of(
+                id,
+                1L,
+                UserAccountDto.of("jyuka", "pw", "jyuka@mail.com", "jyuka", null),
+                parentCommentId,
+                "child comment",
+                createdAt,
+                "jyuka",
+                createdAt,
+                "jyuka",
+                path
+        );
+    }
+}
@@ -3,14 +3,21 @@ package com.example.projectboard.controller;
 import com.example.projectboard.config.TestSecurityConfig;
 import com.example.projectboard.domain.constant.FormStatus;
 import com.example.projectboard.domain.constant.SearchType;
+import com.example.projectboard.domain.projection.HashtagUsage;
 import com.example.projectboard.dto.ArticleDto;
-import com.example.projectboard.dto.ArticleWithCommentsDto;
 import com.example.projectboard.dto.HashtagDto;
 import com.example.projectboard.dto.UserAccountDto;
 import com.example.projectboard.dto.request.ArticleRequest;
+import com.example.projectboard.dto.response.ArticleCommentResponse;
+import com.example.projectboard.dto.response.ArticleCommentsResponse;
 import com.example.projectboard.dto.response.ArticleResponse;
+import com.example.projectboard.dto.response.ArticleWithCommentsResponse;
+import com.example.projectboard.repository.querydsl.ArticleCursor;
+import com.example.projectboard.repository.querydsl.CursorSlice;
 import com.example.projectboard.service.ArticleService;
+import com.example.projectboard.service.HashtagService;
 import com.example.projectboard.service.PaginationService;
+import com.example.projectboard.service.cache.ArticleDetailCache;
 import com.example.projectboard.util.FormDataEncoder;
 import org.junit.jupiter.api.Disabled;
 import org.junit.jupiter.api.DisplayName;
@@ -20,6 +27,7 @@ import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.context.annotation.Import;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
@@ -34,6 +42,8 @@ import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Set;
 
+import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.nullValue;
 import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.BDDMockito.*;
 import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.csrf;
@@ -60,9 +70,15 @@ class ArticleControllerTest {
     @MockBean // 생성자 지원을 하지 않음
     private ArticleService articleService;
 
+    @MockBean
+    private HashtagService hashtagService;
+
     @MockBean
     private PaginationService paginationService;
 
+    @MockBean
+    private ArticleDetailCache articleDetailCache;
+
     // 실제 코드에서는 @Autowired를 생략이 가능하지만 테스트 코드의 경우 명시해줘야함
     ArticleControllerTest(
             @Autowired MockMvc mvc,
@@ -97,6 +113,34 @@ class ArticleControllerTest {
         then(paginationService).should().getPaginationBarNumbers(anyInt(),anyInt());
     }
 
+    @DisplayName("[view][GET] 게시글 리스트 (게시판) 페이지 - 커서 페이징으로 호출")
+    @Test
+    void givenCursor_whenRequestingArticlesViewByCursor_thenReturnsArticlesViewWithCursorBar() throws Exception {
+        // given
+        LocalDateTime createdAt = LocalDateTime.of(2023, 1, 1, 0, 0);
+        String after = ArticleCursor.encode(createdAt, 10L);
+        PaginationService.CursorBar cursorBar = new PaginationService.CursorBar("previous", "next");
+        given(articleService.searchArticles(eq(null), eq(null), any(ArticleCursor.class), eq(10))).willReturn(CursorSlice.empty(10));
+        given(paginationService.getCursorBar(any())).willReturn(cursorBar);
+
+        // when & then
+        mvc.perform(
+                get("/articles")
+                        .queryParam("paging", "cursor")
+                        .queryParam("after", after)
+                )
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.TEXT_HTML))
+                .andExpect(view().name("articles/index"))
+                .andExpect(model().attributeExists("articles"))
+                .andExpect(model().attribute("cursorBar", cursorBar))
+                .andExpect(model().attributeDoesNotExist("paginationBarNumbers"))
+        ;
+        then(articleService).should().searchArticles(null, null, new ArticleCursor(createdAt, 10L, ArticleCursor.Direction.NEXT), 10);
+        then(articleService).should(never()).searchArticles(any(), any(), any(Pageable.class));
+        then(paginationService).should().getCursorBar(any());
+    }
+
     @DisplayName("[view][GET] 게시글 페이지 - 인증 없을 땐 로그인 페이지로 이동")
     @Test
     void givenNothing_whenRequestingArticlePage_thenRedirectsToLoginPage() throws Exception {
@@ -175,6 +219,31 @@ class ArticleControllerTest {
         then(paginationService).should().getPaginationBarNumbers(pageable.getPageNumber(), Page.empty().getTotalPages());
     }
 
+    @DisplayName("[view][GET] 게시글 리스트 (게시판) 페이지 - 검색어와 함께 정확도순 정렬")
+    @Test
+    void givenSearchKeywordAndRelevanceSort_whenSearchingArticlesView_thenReturnsArticlesView() throws Exception {
+        //Given
+        SearchType searchType = SearchType.CONTENT;
+        String searchValue = "spring";
+        Pageable pageable = PageRequest.of(0, 10, Sort.by(Sort.Order.asc("relevance")));
+        given(articleService.searchArticles(searchType, searchValue, pageable)).willReturn(Page.empty());
+        given(paginationService.getPaginationBarNumbers(anyInt(), anyInt())).willReturn(List.of(0, 1, 2, 3, 4));
+
+        //When & then
+        mvc.perform(
+                get("/articles")
+                        .queryParam("searchType", searchType.name())
+                        .queryParam("searchValue", searchValue)
+                        .queryParam("sort", "relevance")
+                )
+                .andExpect(status().isOk())
+                .andExpect(view().name("articles/index"))
+                .andExpect(model().attributeExists("articles"))
+        ;
+
+        then(articleService).should().searchArticles(searchType, searchValue, pageable);
+    }
+
     @WithMockUser  // 인증정보를 구분할 필요가 없을때, 인증이 되었다고 signal 을 보내는 것과 동일한 효과
     @DisplayName("[view][GET] 게시글 페이지 - 정상 호출, 인증된 사용자")
     @Test
@@ -183,10 +252,12 @@ class ArticleControllerTest {
         // 서비스 로직의 동작 유무를 파악하는것이 아님
         // ArgumentMatchers 를 사용하게 된다면 모든 매개변수가 ArgumentMatchers 를 사용해야 한다.
         Long articleId = 1L;
-        Long totalCount = 1L;
+        Long nextArticleId = 2L;
+        String nextCommentCursor = ArticleCursor.encode(LocalDateTime.of(2023, 3, 14, 10, 0), 10L);
 
-        given(articleService.getArticleWithComments(articleId)).willReturn(createArticleWithCommentsDto());
-        given(articleService.getArticleCount()).willReturn(totalCount);
+        given(articleDetailCache.get(articleId)).willReturn(createArticleWithCommentsResponse(nextCommentCursor));
+        given(articleService.getPreviousArticleId(articleId)).willReturn(null);
+        given(articleService.getNextArticleId(articleId)).willReturn(nextArticleId);
 
         // when & then
         mvc.perform(get("/articles/" + articleId))
@@ -194,13 +265,41 @@ class ArticleControllerTest {
                 .andExpect(content().contentTypeCompatibleWith(MediaType.TEXT_HTML))
                 .andExpect(view().name("articles/detail"))
                 .andExpect(model().attributeExists("article"))
-                .andExpect(model().attributeExists("articleComments"))
-                .andExpect(model().attribute("totalCount", totalCount))
+                .andExpect(model().attribute("articleComments", hasSize(1)))
+                .andExpect(model().attribute("nextCommentCursor", nextCommentCursor))
+                .andExpect(model().attribute("previousArticleId", nullValue()))
+                .andExpect(model().attribute("nextArticleId", nextArticleId))
                 .andExpect(model().attribute("searchTypeHashtag", SearchType.HASHTAG))
         ;
 
-        then(articleService).should().getArticleWithComments(articleId);
-        then(articleService).should().getArticleCount();
+        then(articleDetailCache).should().get(articleId);
+        then(articleDetailCache).should(never()).getComments(anyLong(), any());
+        then(articleService).should().getPreviousArticleId(articleId);
+        then(articleService).should().getNextArticleId(articleId);
+    }
+
+    @WithMockUser
+    @DisplayName("[view][GET] 게시글 페이지 - 댓글 커서와 함께 호출하면, 다음 댓글 페이지를 보여준다.")
+    @Test
+    void givenCommentCursor_whenRequestingArticleView_thenReturnsArticleViewWithNextComments() throws Exception {
+        // given
+        Long articleId = 1L;
+        String commentAfter = ArticleCursor.encode(LocalDateTime.of(2023, 3, 14, 10, 0), 10L);
+        ArticleCursor commentCursor = ArticleCursor.of(commentAfter, null);
+
+        given(articleDetailCache.get(articleId)).willReturn(createArticleWithCommentsResponse(commentAfter));
+        given(articleDetailCache.getComments(articleId, commentCursor)).willReturn(ArticleCommentsResponse.of(List.of(), null));
+
+        // when & then
+        mvc.perform(get("/articles/" + articleId).queryParam("commentAfter", commentAfter))
+                .andExpect(status().isOk())
+                .andExpect(view().name("articles/detail"))
+                .andExpect(model().attribute("articleComments", List.of()))
+                .andExpect(model().attribute("nextCommentCursor", nullValue()))
+        ;
+
+        then(articleDetailCache).should().get(articleId);
+        then(articleDetailCache).should().getComments(articleId, commentCursor);
     }
 
 
@@ -208,13 +307,13 @@ class ArticleControllerTest {
     @Test
     void givenNothing_whenRequestingArticleSearchHashtagView_thenReturnsArticleSearchHashtagView() throws Exception {
         // given
-        List<String> hashtags = List.of("#java","#spring","#boot");
+        List<HashtagUsage> hashtags = List.of(new HashtagUsage("java", 3), new HashtagUsage("spring", 2), new HashtagUsage("boot", 1));
         given(articleService.searchArticlesViaHashtag(eq(null), any(Pageable.class)))
                 .willReturn(Page.empty());
         given(paginationService.getPaginationBarNumbers(anyInt(), anyInt()))
                 .willReturn(List.of(1,2,3,4,5));
-        given(articleService.getHashtags())
-                .willReturn(hashtags);
+        given(hashtagService.getHashtagCatalogue(any(Pageable.class)))
+                .willReturn(new PageImpl<>(hashtags));
 
 
         // when & then
@@ -230,7 +329,7 @@ class ArticleControllerTest {
 
         then(articleService).should().searchArticlesViaHashtag(eq(null),any(Pageable.class));
         then(paginationService).should().getPaginationBarNumbers(anyInt(),anyInt());
-        then(articleService).should().getHashtags();
+        then(hashtagService).should().getHashtagCatalogue(any(Pageable.class));
     }
 
     @DisplayName("[view][GET] 게시글 해시태그 검색 페이지 - 정상 호출, 해시태그 입력")
@@ -238,13 +337,13 @@ class ArticleControllerTest {
     void givenHashtag_whenRequestingArticleSearchHashtagView_thenReturnsArticleSearchHashtagView() throws Exception {
         // given
         String hashtag = "#java";
-        List<String> hashtags = List.of("#java","#spring","#boot");
+        List<HashtagUsage> hashtags = List.of(new HashtagUsage("java", 3), new HashtagUsage("spring", 2), new HashtagUsage("boot", 1));
         given(articleService.searchArticlesViaHashtag(eq(hashtag), any(Pageable.class)))
                 .willReturn(Page.empty());
         given(paginationService.getPaginationBarNumbers(anyInt(), anyInt()))
                 .willReturn(List.of(1,2,3,4,5));
-        given(articleService.getHashtags())
-                .willReturn(hashtags);
+        given(hashtagService.getHashtagCatalogue(any(Pageable.class)))
+                .willReturn(new PageImpl<>(hashtags));
 
         // when & then
         mvc.perform(
@@ -262,7 +361,32 @@ class ArticleControllerTest {
 
         then(articleService).should().searchArticlesViaHashtag(eq(hashtag),any(Pageable.class));
         then(paginationService).should().getPaginationBarNumbers(anyInt(),anyInt());
-        then(articleService).should().getHashtags();
+        then(hashtagService).should().getHashtagCatalogue(any(Pageable.class));
+    }
+
+    @DisplayName("[view][GET] 게시글 해시태그 검색 페이지 - 커서 페이징으로 호출")
+    @Test
+    void givenHashtagAndNoCursor_whenRequestingArticleSearchHashtagViewByCursor_thenReturnsFirstSlice() throws Exception {
+        // given
+        String hashtag = "#java";
+        given(articleService.searchArticlesViaHashtag(hashtag, null, 10)).willReturn(CursorSlice.empty(10));
+        given(paginationService.getCursorBar(any())).willReturn(new PaginationService.CursorBar(null, null));
+        given(hashtagService.getHashtagCatalogue(any(Pageable.class))).willReturn(Page.empty());
+
+        // when & then
+        mvc.perform(
+                get("/articles/search-hashtag")
+                        .queryParam("paging", "cursor")
+                        .queryParam("searchValue", hashtag)
+                )
+                .andExpect(status().isOk())
+                .andExpect(view().name("articles/search-hashtag"))
+                .andExpect(model().attributeExists("cursorBar"))
+                .andExpect(model().attribute("searchType", SearchType.HASHTAG))
+        ;
+
+        then(articleService).should().searchArticlesViaHashtag(hashtag, null, 10);
+        then(paginationService).should().getCursorBar(any());
     }
 
     @WithMockUser
@@ -422,18 +546,13 @@ class ArticleControllerTest {
         );
     }
 
-    private ArticleWithCommentsDto createArticleWithCommentsDto() {
-        return ArticleWithCommentsDto.of(
-                1L,
-                createUserAccountDto(),
-                Set.of(),
-                "title",
-                "content",
-                Set.of(HashtagDto.of("java")),
-                LocalDateTime.now(),
-                "jyuka",
-                LocalDateTime.now(),
-                "jyuka"
+    private ArticleWithCommentsResponse createArticleWithCommentsResponse(String nextCommentCursor) {
+        return ArticleWithCommentsResponse.from(
+                ArticleDto.of(1L, createUserAccountDto(), "title", "content", Set.of(HashtagDto.of("java")), LocalDateTime.now(), "jyuka", LocalDateTime.now(), "jyuka"),
+                ArticleCommentsResponse.of(
+                        List.of(ArticleCommentResponse.of(10L, "comment", LocalDateTime.now(), "jyuka@mail.com", "jyuka", "jyuka", null, 2L)),
+                        nextCommentCursor
+                )
         );
     }
 
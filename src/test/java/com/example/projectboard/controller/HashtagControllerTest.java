@@ -0,0 +1,68 @@
+package com.example.projectboard.controller;
+
+import com.example.projectboard.config.TestSecurityConfig;
+import com.example.projectboard.domain.projection.HashtagUsage;
+import com.example.projectboard.service.HashtagService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.List;
+
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@Import(TestSecurityConfig.class)
+@DisplayName("API 컨트롤러 - 해시태그")
+@WebMvcTest(HashtagController.class)
+@ActiveProfiles("testdb")
+class HashtagControllerTest {
+
+    private final MockMvc mvc;
+
+    @MockBean
+    private HashtagService hashtagService;
+
+    HashtagControllerTest(@Autowired MockMvc mvc) {
+        this.mvc = mvc;
+    }
+
+    @DisplayName("[API][GET] 해시태그 자동완성 - 인증 없이 호출")
+    @Test
+    void givenPrefix_whenRequestingSuggestions_thenReturnsHashtagSuggestions() throws Exception {
+        // Given
+        String prefix = "ja";
+        given(hashtagService.suggestHashtags(prefix, 10))
+                .willReturn(List.of(new HashtagUsage("java", 10), new HashtagUsage("jakarta", 2)));
+
+        // When & Then
+        mvc.perform(get("/api/hashtags/suggest").queryParam("prefix", prefix))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_JSON))
+                .andExpect(jsonPath("$[0].hashtagName").value("java"))
+                .andExpect(jsonPath("$[0].articleCount").value(10))
+                .andExpect(jsonPath("$[1].hashtagName").value("jakarta"));
+        then(hashtagService).should().suggestHashtags(prefix, 10);
+    }
+
+    @DisplayName("[API][GET] 해시태그 자동완성 - 최대 개수를 넘겨 요청하면 최대 개수까지만 조회")
+    @Test
+    void givenTooLargeSize_whenRequestingSuggestions_thenLimitsSize() throws Exception {
+        // Given
+        given(hashtagService.suggestHashtags("", 50)).willReturn(List.of());
+
+        // When & Then
+        mvc.perform(get("/api/hashtags/suggest").queryParam("size", "1000"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$").isEmpty());
+        then(hashtagService).should().suggestHashtags("", 50);
+    }
+}
@@ -0,0 +1,103 @@
+package com.example.projectboard.domain.id;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("도메인 - Snowflake id 생성기")
+class SnowflakeTest {
+
+    private static final long NOW = Snowflake.EPOCH + 1_000_000L;
+
+    @DisplayName("id 를 만들면, 시각과 노드 id 가 들어가고 만든 순서대로 커진다.")
+    @Test
+    void givenNodeId_whenGeneratingIds_thenContainsTimestampAndNodeIdInOrder() {
+        // Given
+        AtomicLong clock = new AtomicLong(NOW);
+        Snowflake snowflake = new Snowflake(7, clock::get);
+
+        // When
+        long first = snowflake.nextId();
+        long second = snowflake.nextId();
+        clock.addAndGet(1);
+        long third = snowflake.nextId();
+
+        // Then
+        assertThat(first).isLessThan(second).isLessThan(third);
+        assertThat(Snowflake.timestampOf(first)).isEqualTo(NOW);
+        assertThat(Snowflake.timestampOf(third)).isEqualTo(NOW + 1);
+        assertThat(Snowflake.nodeIdOf(first)).isEqualTo(7);
+        assertThat(Snowflake.nodeIdOf(third)).isEqualTo(7);
+    }
+
+    @DisplayName("같은 ms 에 순번을 다 쓰거나 시계가 뒤로 가도, 기다리지 않고 계속 커지는 id 를 만든다.")
+    @Test
+    void givenExhaustedSequenceOrClockGoingBack_whenGeneratingIds_thenKeepsIncreasing() {
+        // Given
+        AtomicLong clock = new AtomicLong(NOW);
+        Snowflake snowflake = new Snowflake(1, clock::get);
+
+        // When
+        long[] ids = LongStream.range(0, 10_000).map(i -> snowflake.nextId()).toArray();
+        clock.addAndGet(-5_000);
+        long afterClockWentBack = snowflake.nextId();
+
+        // Then
+        for (int i = 1; i < ids.length; i++) {
+            assertThat(ids[i]).isGreaterThan(ids[i - 1]);
+        }
+        assertThat(Snowflake.timestampOf(ids[ids.length - 1])).isEqualTo(NOW + 2); // 4096개씩 다음 ms 를 빌려 쓴다.
+        assertThat(afterClockWentBack).isGreaterThan(ids[ids.length - 1]);
+    }
+
+    @DisplayName("여러 스레드에서 동시에 id 를 만들어도, 겹치는 id 가 없다.")
+    @Test
+    void givenConcurrentCalls_whenGeneratingIds_thenReturnsUniqueIds() throws Exception {
+        // Given
+        Snowflake snowflake = new Snowflake(3);
+        int threadCount = 8;
+        int idsPerThread = 20_000;
+        Set<Long> ids = ConcurrentHashMap.newKeySet();
+        ExecutorService executor = Executors.newFixedThreadPool(threadCount);
+
+        // When
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int i = 0; i < threadCount; i++) {
+                futures.add(executor.submit(() -> {
+                    for (int j = 0; j < idsPerThread; j++) {
+                        ids.add(snowflake.nextId());
+                    }
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        // Then
+        assertThat(ids).hasSize(threadCount * idsPerThread);
+    }
+
+    @DisplayName("범위를 벗어난 노드 id 를 주면, 예외를 던진다.")
+    @Test
+    void givenNodeIdOutOfRange_whenCreating_thenThrowsException() {
+        // When & Then
+        assertThatThrownBy(() -> new Snowflake(Snowflake.MAX_NODE_ID + 1)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new Snowflake(-1)).isInstanceOf(IllegalArgumentException.class);
+    }
+}
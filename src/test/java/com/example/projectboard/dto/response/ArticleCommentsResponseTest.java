@@ -0,0 +1,146 @@
+package com.example.projectboard.dto.response;
+
+import com.example.projectboard.dto.ArticleCommentDto;
+import com.example.projectboard.dto.UserAccountDto;
+import com.example.projectboard.repository.querydsl.ArticleCursor;
+import com.example.projectboard.repository.querydsl.CursorSlice;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("DTO - 댓글 페이지 응답 테스트")
+class ArticleCommentsResponseTest {
+
+    @DisplayName("댓글 페이지를 api 응답으로 변환할 때, 조회한 순서를 유지하고 부모 댓글마다 대댓글 수를 채운다.")
+    @Test
+    void givenCommentSliceAndChildCommentCounts_whenMapping_thenKeepsOrderWithChildCommentCounts() {
+        // Given
+        LocalDateTime now = LocalDateTime.now();
+        CursorSlice<ArticleCommentDto> input = new CursorSlice<>(List.of(
+                createArticleCommentDto(3L, now.plusDays(2L)),
+                createArticleCommentDto(1L, now.plusDays(1L)),
+                createArticleCommentDto(2L, now)
+        ), 3, false, false);
+
+        // When
+        ArticleCommentsResponse actual = ArticleCommentsResponse.from(input, Map.of(1L, 2L, 3L, 5L));
+
+        // Then
+        assertThat(actual.comments())
+                .containsExactly(
+                        createArticleCommentResponse(3L, now.plusDays(2L), 5L),
+                        createArticleCommentResponse(1L, now.plusDays(1L), 2L),
+                        createArticleCommentResponse(2L, now, 0L)
+                );
+        assertThat(actual.hasNext()).isFalse();
+        assertThat(actual.next()).isNull();
+    }
+
+    @DisplayName("다음 페이지가 있다면, 마지막 댓글의 위치를 다음 커서로 반환한다.")
+    @Test
+    void givenSliceWithNext_whenMapping_thenReturnsCursorOfLastComment() {
+        // Given
+        LocalDateTime now = LocalDateTime.of(2023, 3, 14, 10, 0);
+        CursorSlice<ArticleCommentDto> input = new CursorSlice<>(List.of(
+                createArticleCommentDto(2L, now.plusDays(1L)),
+                createArticleCommentDto(1L, now)
+        ), 2, false, true);
+
+        // When
+        ArticleCommentsResponse actual = ArticleCommentsResponse.from(input);
+
+        // Then
+        assertThat(actual.next()).isEqualTo(ArticleCursor.encode(now, 1L));
+        assertThat(ArticleCursor.of(actual.next(), null))
+                .isEqualTo(new ArticleCursor(now, 1L, ArticleCursor.Direction.NEXT));
+    }
+
+    @DisplayName("답글 묶음을 api 응답으로 변환할 때, 다음 페이지가 있다면 마지막 답글의 경로를 다음 커서로 반환한다.")
+    @Test
+    void givenThreadSliceWithNext_whenMapping_thenReturnsPathOfLastComment() {
+        // Given
+        LocalDateTime now = LocalDateTime.of(2023, 3, 14, 10, 0);
+        CursorSlice<ArticleCommentDto> input = new CursorSlice<>(List.of(
+                createArticleCommentDto(1L, now, "a"),
+                createArticleCommentDto(2L, now.plusDays(1L), "ab")
+        ), 2, false, true);
+
+        // When
+        ArticleCommentsResponse actual = ArticleCommentsResponse.fromThread(input);
+
+        // Then
+        assertThat(actual.comments()).extracting(ArticleCommentResponse::id).containsExactly(1L, 2L);
+        assertThat(actual.next()).isEqualTo("ab");
+        assertThat(ArticleCommentsResponse.fromThread(new CursorSlice<>(input.getContent(), 2, false, false)).next()).isNull();
+    }
+
+    @DisplayName("닉네임이 없는 작성자는, 유저 id 를 닉네임으로 보여준다.")
+    @Test
+    void givenUserWithoutNickname_whenMapping_thenUsesUserIdAsNickname() {
+        // Given
+        LocalDateTime now = LocalDateTime.now();
+        UserAccountDto userAccountDto = UserAccountDto.of("jyuka", "password", "jyuka@mail.com", null, null);
+        ArticleCommentDto dto = ArticleCommentDto.of(1L, 1L, userAccountDto, null, "comment", now, "jyuka", now, "jyuka");
+
+        // When
+        ArticleCommentsResponse actual = ArticleCommentsResponse.from(new CursorSlice<>(List.of(dto), 10, false, false));
+
+        // Then
+        assertThat(actual.comments())
+                .singleElement()
+                .hasFieldOrPropertyWithValue("nickname", "jyuka")
+                .hasFieldOrPropertyWithValue("childCommentCount", 0L);
+    }
+
+
+    private UserAccountDto createUserAccountDto() {
+        return UserAccountDto.of(
+                "jyuka",
+                "password",
+                "jyuka@mail.com",
+                "Jyuka",
+                "This is memo",
+                LocalDateTime.now(),
+                "jyuka",
+                LocalDateTime.now(),
+                "jyuka"
+        );
+    }
+
+    private ArticleCommentDto createArticleCommentDto(Long id, LocalDateTime createdAt) {
+        return createArticleCommentDto(id, createdAt, null);
+    }
+
+    private ArticleCommentDto createArticleCommentDto(Long id, LocalDateTime createdAt, String path) {
+        return ArticleCommentDto.of(
+                id,
+                1L,
+                createUserAccountDto(),
+                null,
+                "test comment " + id,
+                createdAt,
+                "jyuka",
+                createdAt,
+                "jyuka",
+                path
+        );
+    }
+
+    private ArticleCommentResponse createArticleCommentResponse(Long id, LocalDateTime createdAt, long childCommentCount) {
+        return ArticleCommentResponse.of(
+                id,
+                "test comment " + id,
+                createdAt,
+                "jyuka@mail.com",
+                "Jyuka",
+                "jyuka",
+                null,
+                childCommentCount
+        );
+    }
+}
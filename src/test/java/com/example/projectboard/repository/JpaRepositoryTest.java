@@ -1,9 +1,19 @@
 package com.example.projectboard.repository;
 
 import com.example.projectboard.domain.Article;
+import com.example.projectboard.dto.ArticleCommentDto;
+import com.example.projectboard.domain.projection.ArticleHashtagRow;
+import com.example.projectboard.domain.projection.ArticleSummary;
+import com.example.projectboard.repository.querydsl.ArticleCursor;
+import com.example.projectboard.repository.querydsl.CursorSlice;
+import com.example.projectboard.repository.querydsl.HashtagQuery;
 import com.example.projectboard.domain.ArticleComment;
 import com.example.projectboard.domain.Hashtag;
 import com.example.projectboard.domain.UserAccount;
+import com.example.projectboard.domain.id.Snowflake;
+import com.example.projectboard.domain.QArticle;
+import com.example.projectboard.domain.constant.SearchType;
+import com.example.projectboard.util.QueryCounter;
 import org.assertj.core.api.InstanceOfAssertFactories;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -16,11 +26,18 @@ import org.springframework.data.domain.*;
 import org.springframework.data.jpa.repository.config.EnableJpaAuditing;
 import org.springframework.test.context.ActiveProfiles;
 
+import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.entry;
 
 /**
  * @AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
@@ -35,27 +52,33 @@ import static org.assertj.core.api.Assertions.assertThat;
  * @DataJpaTest 사용한 Jpa 에 대한 슬라이스 테스트로 security context 정보를 불러오지 못하기 때문
  * 기존 @Import(JpaConfig.class) 에서 변경
  */
-@Import(JpaRepositoryTest.TestJpaConfig.class) //테스트 시 config 클래스를 인식하지 못하기 때문에 추가
+@Import({JpaRepositoryTest.TestJpaConfig.class, QueryCounter.class}) //테스트 시 config 클래스를 인식하지 못하기 때문에 추가
 @DisplayName("JPA 연결 테스트")
 @ActiveProfiles("testdb")
-@DataJpaTest
+@DataJpaTest(properties = {
+        "spring.jpa.properties.hibernate.generate_statistics=true",
+        "logging.level.org.hibernate.engine.internal.StatisticalLoggingSessionEventListener=warn"
+})
 class JpaRepositoryTest {
     private final ArticleRepository articleRepository;
     private final ArticleCommentRepository articleCommentRepository;
     private final UserAccountRepository userAccountRepository;
     private final HashtagRepository hashtagRepository;
+    private final QueryCounter queryCounter;
 
 
     JpaRepositoryTest(
             @Autowired ArticleRepository articleRepository,
             @Autowired ArticleCommentRepository articleCommentRepository,
             @Autowired UserAccountRepository userAccountRepository,
-            @Autowired HashtagRepository hashtagRepository
+            @Autowired HashtagRepository hashtagRepository,
+            @Autowired QueryCounter queryCounter
     ) {
         this.articleRepository = articleRepository;
         this.articleCommentRepository = articleCommentRepository;
         this.userAccountRepository = userAccountRepository;
         this.hashtagRepository = hashtagRepository;
+        this.queryCounter = queryCounter;
     }
 
     @DisplayName("insert 테스트")
@@ -194,12 +217,266 @@ class JpaRepositoryTest {
         long previousArticleCommentCount = articleCommentRepository.count();
 
         // When
-        articleCommentRepository.deleteByIdAndUserAccount_UserId(1L, "jyuka");
+        long deleted = articleCommentRepository.deleteWithChildCommentsByIdAndUserId(1L, "jyuka");
 
         // Then
+        assertThat(deleted).isEqualTo(5L);
         assertThat(articleCommentRepository.count()).isEqualTo(previousArticleCommentCount - 5); // 테스트 댓글 + 대댓글 4개
     }
 
+    @DisplayName("댓글 벌크 삭제 테스트 - 작성자가 아니면 아무것도 지우지 않는다.")
+    @Test
+    void givenArticleCommentIdAndDifferentUserId_whenDeletingParentComment_thenDeletesNothing() {
+        // Given
+        long previousArticleCommentCount = articleCommentRepository.count();
+
+        // When
+        long deleted = articleCommentRepository.deleteWithChildCommentsByIdAndUserId(1L, "not-writer");
+
+        // Then
+        assertThat(deleted).isZero();
+        assertThat(articleCommentRepository.count()).isEqualTo(previousArticleCommentCount);
+    }
+
+    @DisplayName("게시글 벌크 삭제 테스트 - 댓글, 해시태그 연결과 함께 댓글 수와 관계없이 delete 문 세 번으로 지운다.")
+    @Test
+    void givenArticleHavingCommentsAndHashtags_whenBulkDeleting_thenDeletesEverythingWithFixedStatements() {
+        // Given
+        Article article = articleCommentRepository.getReferenceById(1L).getArticle();
+        Long articleId = article.getId();
+        String userId = article.getUserAccount().getUserId();
+        long previousArticleCommentCount = articleCommentRepository.count();
+        int commentCount = articleCommentRepository.findByArticle_Id(articleId).size();
+        List<Long> hashtagIds = article.getHashtags().stream().map(Hashtag::getId).toList();
+        long[] deleted = new long[1];
+
+        // When
+        long statements = queryCounter.count(() -> deleted[0] = articleRepository.deleteWithCommentsByIdAndUserId(articleId, userId));
+
+        // Then
+        assertThat(commentCount).isGreaterThan(4);
+        assertThat(hashtagIds).isNotEmpty();
+        assertThat(deleted[0]).isEqualTo(1L);
+        assertThat(statements).isEqualTo(3);
+        assertThat(articleRepository.existsById(articleId)).isFalse();
+        assertThat(articleCommentRepository.count()).isEqualTo(previousArticleCommentCount - commentCount);
+        assertThat(hashtagRepository.findAllById(hashtagIds))
+                .allSatisfy(hashtag -> assertThat(hashtag.getArticles()).extracting(Article::getId).doesNotContain(articleId));
+    }
+
+    @DisplayName("게시글 벌크 삭제 테스트 - 작성자가 아니면 게시글, 댓글, 해시태그 연결 모두 지우지 않는다.")
+    @Test
+    void givenDifferentUserId_whenBulkDeletingArticle_thenDeletesNothing() {
+        // Given
+        Article article = articleCommentRepository.getReferenceById(1L).getArticle();
+        Long articleId = article.getId();
+        int hashtagCount = article.getHashtags().size();
+        long previousArticleCommentCount = articleCommentRepository.count();
+
+        // When
+        long deleted = articleRepository.deleteWithCommentsByIdAndUserId(articleId, "not-writer");
+
+        // Then
+        assertThat(deleted).isZero();
+        assertThat(articleCommentRepository.count()).isEqualTo(previousArticleCommentCount);
+        assertThat(articleRepository.findById(articleId)).get()
+                .extracting("hashtags", InstanceOfAssertFactories.COLLECTION)
+                .hasSize(hashtagCount);
+    }
+
+    @DisplayName("[Querydsl] 게시글이 없는 해시태그만 골라 지우기")
+    @Test
+    void givenHashtagIds_whenDeletingWithoutArticles_thenDeletesOnlyOrphanHashtags() {
+        // Given
+        Hashtag orphan = hashtagRepository.save(Hashtag.of("orphan"));
+        Hashtag used = articleRepository.findById(1L).orElseThrow().getHashtags().iterator().next();
+
+        // When
+        List<String> deleted = hashtagRepository.deleteWithoutArticles(List.of(orphan.getId(), used.getId()));
+
+        // Then
+        assertThat(deleted).containsExactly("orphan");
+        assertThat(hashtagRepository.findByHashtagName("orphan")).isEmpty();
+        assertThat(hashtagRepository.findByHashtagName(used.getHashtagName())).isPresent();
+        assertThat(hashtagRepository.deleteWithoutArticles(List.of())).isEmpty();
+    }
+
+    @DisplayName("[Querydsl] 게시글이 없는 해시태그 id 를 id 순서로 나눠 조회")
+    @Test
+    void givenOrphanHashtags_whenFindingIdsWithoutArticles_thenReturnsOrphanIdsAfterGivenId() {
+        // Given
+        Long first = hashtagRepository.save(Hashtag.of("orphan1")).getId();
+        Long second = hashtagRepository.save(Hashtag.of("orphan2")).getId();
+        Long third = hashtagRepository.save(Hashtag.of("orphan3")).getId();
+        Long used = articleRepository.findById(1L).orElseThrow().getHashtags().iterator().next().getId();
+
+        // When
+        List<Long> firstPage = hashtagRepository.findIdsWithoutArticles(0L, 2);
+        List<Long> nextPage = hashtagRepository.findIdsWithoutArticles(firstPage.get(firstPage.size() - 1), 2);
+
+        // Then
+        assertThat(firstPage).hasSize(2).isSorted();
+        assertThat(nextPage).isSorted().doesNotContainAnyElementsOf(firstPage);
+        assertThat(hashtagRepository.findIdsWithoutArticles(0L, Integer.MAX_VALUE))
+                .contains(first, second, third)
+                .doesNotContain(used);
+    }
+
+    @DisplayName("[Querydsl] 커서로 게시글의 부모 댓글 전체를 작성일 내림차순으로 빠짐없이 넘겨보기")
+    @Test
+    void givenCursor_whenQueryingParentComments_thenTraversesEveryParentCommentInOrder() {
+        // Given
+        Long articleId = articleCommentRepository.getReferenceById(1L).getArticle().getId();
+        List<Long> expected = articleCommentRepository.findByArticle_Id(articleId).stream()
+                .filter(comment -> comment.getParentCommentId() == null)
+                .sorted(Comparator.comparing(ArticleComment::getCreatedAt).thenComparing(ArticleComment::getId).reversed())
+                .map(ArticleComment::getId)
+                .toList();
+        List<Long> actual = new ArrayList<>();
+
+        // When
+        ArticleCursor cursor = null;
+        CursorSlice<ArticleComment> slice;
+        do {
+            slice = articleCommentRepository.findParentCommentsByCursor(articleId, cursor, 2);
+            slice.forEach(comment -> actual.add(comment.getId()));
+            ArticleComment last = slice.getContent().get(slice.getNumberOfElements() - 1);
+            cursor = ArticleCursor.of(ArticleCursor.encode(last.getCreatedAt(), last.getId()), null);
+        } while (slice.hasNext());
+
+        // Then
+        assertThat(expected).hasSizeGreaterThan(2);
+        assertThat(actual).isEqualTo(expected);
+    }
+
+    @DisplayName("[Querydsl] 커서로 대댓글을 작성순으로 조회하고, 부모 댓글별 대댓글 수 세기")
+    @Test
+    void givenParentCommentId_whenQueryingChildComments_thenReturnsChildCommentsInOrder() {
+        // Given
+        List<Long> expected = articleCommentRepository.findById(1L).orElseThrow().getChildComments().stream()
+                .map(ArticleComment::getId)
+                .toList();
+
+        // When
+        CursorSlice<ArticleComment> firstPage = articleCommentRepository.findChildCommentsByCursor(1L, null, 3);
+        ArticleComment last = firstPage.getContent().get(2);
+        CursorSlice<ArticleComment> secondPage = articleCommentRepository.findChildCommentsByCursor(1L, ArticleCursor.of(ArticleCursor.encode(last.getCreatedAt(), last.getId()), null), 3);
+        Map<Long, Long> counts = articleCommentRepository.countChildComments(List.of(1L, 2L));
+
+        // Then
+        assertThat(firstPage.hasNext()).isTrue();
+        assertThat(secondPage.hasNext()).isFalse();
+        assertThat(secondPage.hasPrevious()).isTrue();
+        assertThat(Stream.concat(firstPage.stream(), secondPage.stream()).map(ArticleComment::getId)).containsExactlyElementsOf(expected);
+        assertThat(counts).containsExactly(entry(1L, 4L));
+        assertThat(articleCommentRepository.countChildComments(List.of())).isEmpty();
+    }
+
+    @DisplayName("[Querydsl] 답글 묶음을 경로 순서(깊이 우선)로 나눠 조회하기")
+    @Test
+    void givenNestedReplies_whenQueryingThreadByPath_thenReturnsCommentsInDepthFirstOrder() {
+        // Given
+        ArticleComment root = articleCommentRepository.findById(1L).orElseThrow();
+        List<ArticleComment> children = articleCommentRepository.findChildCommentsByCursor(1L, null, 10).getContent();
+        ArticleComment grandChild = saveReply(children.get(0), "답글의 답글");
+        List<Long> expected = new ArrayList<>(List.of(root.getId(), children.get(0).getId(), grandChild.getId()));
+        children.stream().skip(1).map(ArticleComment::getId).forEach(expected::add);
+
+        // When
+        CursorSlice<ArticleComment> firstPage = articleCommentRepository.findThreadByPath(root.getPath(), null, 3);
+        String afterPath = firstPage.getContent().get(2).getPath();
+        CursorSlice<ArticleComment> secondPage = articleCommentRepository.findThreadByPath(root.getPath(), afterPath, 10);
+
+        // Then
+        assertThat(firstPage.hasNext()).isTrue();
+        assertThat(secondPage.hasNext()).isFalse();
+        assertThat(Stream.concat(firstPage.stream(), secondPage.stream()).map(ArticleComment::getId)).containsExactlyElementsOf(expected);
+        assertThat(firstPage.getContent()).extracting(ArticleComment::getDepth).containsExactly(0, 1, 2);
+        assertThat(articleCommentRepository.findThreadByPath(children.get(0).getPath(), null, 10))
+                .extracting(ArticleComment::getId)
+                .containsExactly(children.get(0).getId(), grandChild.getId());
+    }
+
+    @DisplayName("답글 삭제 테스트 - 깊이와 관계없이 답글 아래의 답글까지 delete 문 한 번으로 지운다.")
+    @Test
+    void givenNestedReplies_whenDeletingReply_thenDeletesSubtreeOnly() {
+        // Given
+        ArticleComment child = articleCommentRepository.findChildCommentsByCursor(1L, null, 1).getContent().get(0);
+        ArticleComment grandChild = saveReply(child, "답글의 답글");
+        saveReply(grandChild, "답글의 답글의 답글");
+        String userId = child.getUserAccount().getUserId();
+        long previousArticleCommentCount = articleCommentRepository.count();
+        long[] deleted = new long[1];
+
+        // When
+        long statements = queryCounter.count(() -> deleted[0] = articleCommentRepository.deleteWithChildCommentsByIdAndUserId(child.getId(), userId));
+
+        // Then
+        assertThat(deleted[0]).isEqualTo(3L);
+        assertThat(statements).isEqualTo(2); // 경로 조회 + delete
+        assertThat(articleCommentRepository.count()).isEqualTo(previousArticleCommentCount - 3);
+        assertThat(articleCommentRepository.existsById(1L)).isTrue();
+        assertThat(articleCommentRepository.countChildComments(List.of(1L))).containsExactly(entry(1L, 3L));
+    }
+
+    @DisplayName("답글 저장 테스트 - 경로는 저장하며 id 가 만들어질 때 채워져, flush 전에도 맞고 insert 한 번으로 저장된다.")
+    @Test
+    void givenParentComment_whenSavingReply_thenInsertsReplyWithPath() {
+        // Given
+        ArticleComment parentComment = articleCommentRepository.findById(1L).orElseThrow();
+        Long articleId = parentComment.getArticle().getId();
+        String userId = parentComment.getUserAccount().getUserId();
+        String parentPath = parentComment.getPath();
+        ArticleComment[] saved = new ArticleComment[1];
+
+        // When
+        long statements = queryCounter.count(() -> {
+            // 서비스처럼 게시글, 회원은 참조만 얻는다.
+            ArticleComment reply = ArticleComment.of(articleRepository.getReferenceById(articleId), userAccountRepository.getReferenceById(userId), "답글");
+            reply.setParentCommentId(parentComment.getId());
+            reply.assignPath(parentComment);
+            articleCommentRepository.save(reply);
+            assertThat(reply.getPath()).isEqualTo(parentPath + ArticleComment.pathSegment(reply.getId()));
+            articleCommentRepository.flush();
+            saved[0] = reply;
+        });
+
+        // Then
+        assertThat(statements).isEqualTo(1); // insert (경로 update 없음)
+        assertThat(saved[0].getDepth()).isEqualTo(1);
+        assertThat(articleCommentRepository.findById(saved[0].getId())).get()
+                .extracting(ArticleComment::getPath).isEqualTo(parentPath + ArticleComment.pathSegment(saved[0].getId()));
+    }
+
+    private ArticleComment saveReply(ArticleComment parentComment, String content) {
+        ArticleComment reply = ArticleComment.of(parentComment.getArticle(), parentComment.getUserAccount(), content);
+        reply.setParentCommentId(parentComment.getId());
+        reply.assignPath(parentComment);
+        articleCommentRepository.save(reply);
+        articleCommentRepository.flush();
+
+        return reply;
+    }
+
+    @DisplayName("[Querydsl] 부모 댓글 한 페이지와 대댓글 수는 댓글 수와 관계없이 같은 수의 SQL 로 조회하기")
+    @Test
+    void givenParentCommentPages_whenQuerying_thenExecutesSameNumberOfStatements() {
+        // Given
+        Long articleId = articleCommentRepository.getReferenceById(1L).getArticle().getId();
+
+        // When
+        long small = queryCounter.count(() -> loadParentCommentPage(articleId, 1));
+        long large = queryCounter.count(() -> loadParentCommentPage(articleId, 50));
+
+        // Then
+        assertThat(small).isEqualTo(large).isLessThanOrEqualTo(3);
+    }
+
+    private void loadParentCommentPage(Long articleId, int size) {
+        CursorSlice<ArticleCommentDto> comments = articleCommentRepository.findParentCommentsByCursor(articleId, null, size).map(ArticleCommentDto::from);
+        articleCommentRepository.countChildComments(comments.map(ArticleCommentDto::id).getContent());
+    }
+
     @DisplayName("[Querydsl] 전체 hashtag 리스트에서 이름만 조회하기")
     @Test
     void givenNothing_whenQueryingHashtags_thenReturnsHashtagNames() {
@@ -234,6 +511,330 @@ class JpaRepositoryTest {
         assertThat(articlePage.getTotalElements()).isEqualTo(17);
         assertThat(articlePage.getTotalPages()).isEqualTo(4);
     }
+
+    @DisplayName("[Querydsl] hashtag OR/AND/NOT 조건으로 중복 없이 게시글 검색하기")
+    @Test
+    void givenHashtagQuery_whenQueryingArticles_thenReturnsDistinctArticlePage() {
+        // Given
+        HashtagQuery hashtagQuery = HashtagQuery.parse("blue crimson fuscia -pink");
+        Pageable pageable = PageRequest.of(0, 200, Sort.by(Sort.Order.asc("title")));
+
+        // When
+        Page<ArticleSummary> articlePage = articleRepository.findByHashtagQuery(hashtagQuery, pageable);
+
+        // Then
+        assertThat(articlePage.getContent())
+                .hasSize((int) articlePage.getTotalElements())
+                .doesNotHaveDuplicates()
+                .allSatisfy(article -> assertThat(article.hashtags())
+                        .containsAnyOf("blue", "crimson", "fuscia")
+                        .doesNotContain("pink"));
+    }
+
+    @DisplayName("[Querydsl] count 쿼리 없이 검색 조건에 맞는 게시글 Slice 조회하기")
+    @Test
+    void givenSearchCondition_whenQueryingSlice_thenReturnsSliceWithoutCount() {
+        // Given
+        Pageable firstPage = PageRequest.of(0, 100, Sort.by(Sort.Order.desc("createdAt")));
+        Pageable lastPage = PageRequest.of(1, 100, Sort.by(Sort.Order.desc("createdAt")));
+        HashtagQuery hashtagQuery = HashtagQuery.parse("blue crimson -pink");
+
+        // When
+        Slice<ArticleSummary> first = articleRepository.findSliceBySearch(null, null, firstPage);
+        Slice<ArticleSummary> last = articleRepository.findSliceBySearch(null, " ", lastPage);
+        Slice<ArticleSummary> hashtags = articleRepository.findSliceByHashtagQuery(hashtagQuery, firstPage);
+
+        // Then
+        assertThat(first.getContent()).hasSize(100)
+                .extracting(ArticleSummary::id)
+                .isEqualTo(articleRepository.findAll(firstPage).map(Article::getId).getContent());
+        assertThat(first.hasNext()).isTrue();
+        assertThat(last.getContent()).hasSize(23);
+        assertThat(last.hasNext()).isFalse();
+        assertThat(articleRepository.countBySearch(null, null)).isEqualTo(123L);
+        assertThat(hashtags.getContent())
+                .hasSize((int) articleRepository.countByHashtagQuery(hashtagQuery))
+                .isEqualTo(articleRepository.findByHashtagQuery(hashtagQuery, firstPage).getContent());
+    }
+
+    @DisplayName("[Querydsl] LIKE 검색 조건의 게시글 수가 기존 검색(Containing)과 같은지 확인하기")
+    @Test
+    void givenSearchKeyword_whenCounting_thenReturnsSameCountAsDerivedQuery() {
+        // Given
+        Pageable pageable = PageRequest.of(0, 10);
+
+        // When & Then
+        assertThat(articleRepository.countBySearch(SearchType.TITLE, "Qu"))
+                .isEqualTo(articleRepository.findByTitleContaining("Qu", pageable).getTotalElements());
+        assertThat(articleRepository.countBySearch(SearchType.CONTENT, "lorem"))
+                .isEqualTo(articleRepository.findByContentContaining("lorem", pageable).getTotalElements());
+        assertThat(articleRepository.countBySearch(SearchType.ID, "jyuka"))
+                .isEqualTo(articleRepository.findByUserAccount_UserIdContaining("jyuka", pageable).getTotalElements());
+        assertThat(articleRepository.countBySearch(SearchType.NICKNAME, "Jyuka"))
+                .isEqualTo(articleRepository.findByUserAccount_NicknameContaining("Jyuka", pageable).getTotalElements());
+    }
+
+    @DisplayName("[Querydsl] 커서로 게시글 전체를 작성일 내림차순으로 빠짐없이 넘겨보기")
+    @Test
+    void givenCursor_whenQueryingArticles_thenTraversesEveryArticleInOrder() {
+        // Given
+        List<Long> expected = articleRepository.findAll(ArticleCursor.SORT).stream().map(Article::getId).toList();
+        List<Long> actual = new ArrayList<>();
+        List<CursorSlice<ArticleSummary>> slices = new ArrayList<>();
+
+        // When
+        ArticleCursor cursor = null;
+        do {
+            CursorSlice<ArticleSummary> slice = articleRepository.findByCursor(null, null, cursor, 50);
+            slice.forEach(article -> actual.add(article.id()));
+            slices.add(slice);
+            ArticleSummary last = slice.getContent().get(slice.getNumberOfElements() - 1);
+            cursor = ArticleCursor.of(ArticleCursor.encode(last.createdAt(), last.id()), null);
+        } while (slices.get(slices.size() - 1).hasNext());
+
+        ArticleSummary first = slices.get(2).getContent().get(0);
+        CursorSlice<ArticleSummary> previous = articleRepository.findByCursor(null, null, ArticleCursor.of(null, ArticleCursor.encode(first.createdAt(), first.id())), 50);
+
+        // Then
+        assertThat(actual).isEqualTo(expected);
+        assertThat(slices).extracting(CursorSlice::getNumberOfElements).containsExactly(50, 50, 23);
+        assertThat(slices.get(0).hasPrevious()).isFalse();
+        assertThat(slices.get(2).hasNext()).isFalse();
+        assertThat(previous.getContent()).isEqualTo(slices.get(1).getContent());
+        assertThat(previous.hasPrevious()).isTrue();
+        assertThat(previous.hasNext()).isTrue();
+    }
+
+    @DisplayName("[Querydsl] 커서로 첫 페이지 근처에서 이전 페이지를 요청하면 첫 페이지를 반환하기")
+    @Test
+    void givenCursorNearFirstPage_whenQueryingPreviousArticles_thenReturnsFirstPage() {
+        // Given
+        CursorSlice<ArticleSummary> firstPage = articleRepository.findByCursor(null, null, null, 10);
+        ArticleSummary third = firstPage.getContent().get(2);
+        ArticleCursor cursor = ArticleCursor.of(null, ArticleCursor.encode(third.createdAt(), third.id()));
+
+        // When
+        CursorSlice<ArticleSummary> actual = articleRepository.findByCursor(null, null, cursor, 10);
+
+        // Then
+        assertThat(actual.getContent()).isEqualTo(firstPage.getContent());
+        assertThat(actual.hasPrevious()).isFalse();
+        assertThat(actual.hasNext()).isTrue();
+    }
+
+    @DisplayName("[Querydsl] 커서로 hashtag 조건에 맞는 게시글 검색하기")
+    @Test
+    void givenHashtagQueryAndCursor_whenQueryingArticles_thenReturnsMatchingArticles() {
+        // Given
+        HashtagQuery hashtagQuery = HashtagQuery.of("blue");
+
+        // When
+        CursorSlice<ArticleSummary> slice = articleRepository.findByHashtagQueryAndCursor(hashtagQuery, null, 200);
+
+        // Then
+        assertThat(slice.getContent())
+                .hasSize((int) articleRepository.findByHashtagQuery(hashtagQuery, Pageable.unpaged()).getTotalElements())
+                .allSatisfy(article -> {
+                    assertThat(article.hashtags()).contains("blue");
+                    assertThat(article.excerpt()).hasSizeLessThanOrEqualTo(ArticleSummary.EXCERPT_LENGTH);
+                });
+        assertThat(slice.hasNext()).isFalse();
+    }
+
+    @DisplayName("[Querydsl] 해시태그 색인 생성용 (게시글 id, 해시태그 이름)을 id 순서로 끊어 조회하기")
+    @Test
+    void givenLastId_whenQueryingArticleHashtagRows_thenReturnsEveryArticleInKeysetBatches() {
+        // Given
+        UserAccount userAccount = userAccountRepository.getReferenceById("jyuka");
+        Article snowflakeArticle = articleRepository.save(Article.of(userAccount, "new article", "new content"));
+        int batchSize = 50;
+        List<ArticleHashtagRow> rows = new ArrayList<>();
+
+        // When
+        long lastId = 0L;
+        List<ArticleHashtagRow> batch;
+        int queries = 0;
+        do {
+            batch = articleRepository.findArticleHashtagRows(lastId, batchSize);
+            if (!batch.isEmpty()) {
+                lastId = batch.get(batch.size() - 1).articleId();
+            }
+            rows.addAll(batch);
+            queries++;
+        } while (!batch.isEmpty());
+
+        // Then
+        assertThat(snowflakeArticle.getId()).isGreaterThan(1L << 53);
+        assertThat(queries).isEqualTo(4); // 124개 / 50개 + 빈 조회
+        assertThat(rows).extracting(ArticleHashtagRow::articleId)
+                .isSorted()
+                .containsAll(articleRepository.findAll().stream().map(Article::getId).toList());
+    }
+
+    @DisplayName("[Querydsl] id 가 띄엄띄엄 있어도 바로 앞뒤 게시글 id 조회하기")
+    @Test
+    void givenSparseIds_whenFindingAdjacentIds_thenReturnsNeighbours() {
+        // Given
+        UserAccount userAccount = userAccountRepository.getReferenceById("jyuka");
+        Long lastSeededId = 123L;
+        Long snowflakeId = articleRepository.save(Article.of(userAccount, "new article", "new content")).getId();
+
+        // When & Then
+        assertThat(articleRepository.findPreviousId(1L)).isEmpty();
+        assertThat(articleRepository.findNextId(1L)).contains(2L);
+        assertThat(articleRepository.findNextId(lastSeededId)).contains(snowflakeId);
+        assertThat(articleRepository.findPreviousId(snowflakeId)).contains(lastSeededId);
+        assertThat(articleRepository.findNextId(snowflakeId)).isEmpty();
+    }
+
+    @DisplayName("[native] 없는 해시태그만 저장하기")
+    @Test
+    void givenHashtagName_whenInsertingIfAbsent_thenInsertsOnlyOnce() {
+        // Given
+        long previousCount = hashtagRepository.count();
+
+        // When
+        int inserted = hashtagRepository.insertIfAbsent(List.of("brand-new", "blue"));
+        int ignored = hashtagRepository.insertIfAbsent(List.of("brand-new"));
+
+        // Then
+        assertThat(inserted).isEqualTo(1);
+        assertThat(ignored).isZero();
+        assertThat(hashtagRepository.count()).isEqualTo(previousCount + 1);
+        assertThat(hashtagRepository.findByHashtagName("brand-new"))
+                .hasValueSatisfying(hashtag -> assertThat(hashtag.getCreatedBy()).isEqualTo("jyuka"));
+    }
+
+    @DisplayName("[batch] 새 해시태그가 많은 게시글을 저장하면, 해시태그 수와 관계없이 일정한 개수의 SQL 로 저장한다.")
+    @Test
+    void givenManyNewHashtags_whenSavingArticle_thenExecutesConstantStatements() {
+        // Given
+        UserAccount userAccount = userAccountRepository.getReferenceById("jyuka");
+        Set<String> hashtagNames = Stream.iterate(1, i -> i + 1).limit(30).map(i -> "new-tag-" + i).collect(Collectors.toSet());
+
+        // When
+        long statements = queryCounter.count(() -> {
+            hashtagRepository.insertIfAbsent(hashtagNames);
+            Article article = Article.of(userAccount, "new article", "new content");
+            article.addHashtags(hashtagRepository.findByHashtagNameIn(hashtagNames));
+            articleRepository.save(article);
+            articleRepository.flush();
+        });
+
+        // Then
+        // 해시태그 merge, 해시태그 조회, 게시글 insert, 게시글-해시태그 insert + 해시태그 id 구간을 새로 받는다면 시퀀스 조회
+        // (IDENTITY 였을 때는 해시태그마다 insert 하여 62)
+        assertThat(statements).isLessThanOrEqualTo(5);
+        assertThat(hashtagRepository.findByHashtagNameIn(hashtagNames)).hasSize(30);
+    }
+
+    @DisplayName("[batch] 댓글을 한 번에 많이 저장하면, 댓글마다가 아니라 batch 크기마다 insert 를 보낸다.")
+    @Test
+    void givenManyComments_whenSaving_thenInsertsInBatches() {
+        // Given
+        Article article = articleRepository.getReferenceById(1L);
+        UserAccount userAccount = userAccountRepository.getReferenceById("jyuka");
+        long previousCount = articleCommentRepository.count();
+
+        // When
+        long statements = queryCounter.count(() -> {
+            for (int i = 0; i < 100; i++) {
+                articleCommentRepository.save(ArticleComment.of(article, userAccount, "comment " + i));
+            }
+            articleCommentRepository.flush();
+        });
+
+        // Then
+        assertThat(statements).isEqualTo(1); // insert batch, 경로도 insert 에 담긴다. (IDENTITY 였을 때는 댓글마다 insert, 경로 update 하여 200)
+        assertThat(articleCommentRepository.count()).isEqualTo(previousCount + 100);
+        assertThat(articleCommentRepository.findAll()).filteredOn(comment -> comment.getContent().startsWith("comment "))
+                .allSatisfy(comment -> assertThat(comment.getId()).isGreaterThan(1000L)); // 샘플 데이터 id 와 겹치지 않는다.
+    }
+
+    @DisplayName("[id] 게시글을 저장하면, DB 를 다녀오지 않고 저장한 순서대로 커지는 Snowflake id 를 받는다.")
+    @Test
+    void givenNewArticles_whenSaving_thenAssignsTimeOrderedIdsWithoutStatements() {
+        // Given
+        UserAccount userAccount = userAccountRepository.getReferenceById("jyuka");
+        Article first = Article.of(userAccount, "first", "content");
+        Article second = Article.of(userAccount, "second", "content");
+        long before = System.currentTimeMillis();
+
+        // When
+        long statements = queryCounter.count(() -> {
+            articleRepository.save(first);
+            articleRepository.save(second);
+        });
+
+        // Then
+        assertThat(statements).isZero();
+        assertThat(first.getId()).isLessThan(second.getId());
+        assertThat(Snowflake.timestampOf(first.getId())).isBetween(before, System.currentTimeMillis());
+        assertThat(Snowflake.nodeIdOf(first.getId())).isZero();
+    }
+
+    @DisplayName("[fetch] 게시글 페이지를 조회하면, 페이지 크기와 관계없이 목록 + count + 해시태그 3번의 쿼리로 작성자와 해시태그까지 불러온다.")
+    @Test
+    void givenPageSizes_whenSelectingArticlePage_thenExecutesThreeStatements() {
+        // Given
+        Pageable smallPage = PageRequest.of(0, 10, Sort.by(Sort.Order.desc("createdAt")));
+        Pageable largePage = PageRequest.of(0, 50, Sort.by(Sort.Order.desc("createdAt")));
+
+        // When & Then
+        assertThat(countStatements(articleRepository::findAll, smallPage)).isEqualTo(3);
+        assertThat(countStatements(articleRepository::findAll, largePage)).isEqualTo(3);
+        assertThat(countStatements(pageable -> articleRepository.findAll(QArticle.article.title.isNotNull(), pageable), largePage)).isEqualTo(3);
+        assertThat(countStatements(pageable -> articleRepository.findByUserAccount_UserIdContaining("jyuka", pageable), largePage)).isEqualTo(3);
+        assertThat(countStatements(pageable -> articleRepository.findByUserAccount_NicknameContaining("", pageable), largePage)).isEqualTo(3);
+        assertThat(countStatements(pageable -> articleRepository.findByTitleContaining("", pageable), largePage)).isEqualTo(3);
+        assertThat(countStatements(pageable -> articleRepository.findByContentContaining("", pageable), largePage)).isEqualTo(3);
+    }
+
+    @DisplayName("[fetch] querydsl 로 게시글 목록을 조회하면, 페이지 크기와 관계없이 쿼리 수가 일정하다.")
+    @Test
+    void givenPageSizes_whenSelectingArticlesWithQuerydsl_thenExecutesConstantStatements() {
+        // Given
+        HashtagQuery hashtagQuery = HashtagQuery.parse("blue crimson -pink");
+        Pageable smallPage = PageRequest.of(0, 10);
+        Pageable largePage = PageRequest.of(0, 50);
+
+        // When & Then
+        assertThat(queryCounter.count(() -> articleRepository.findSliceBySearch(SearchType.NICKNAME, "", smallPage))).isEqualTo(2);
+        assertThat(queryCounter.count(() -> articleRepository.findSliceBySearch(SearchType.NICKNAME, "", largePage))).isEqualTo(2);
+        assertThat(queryCounter.count(() -> articleRepository.findPageBySearch(SearchType.TITLE, "", largePage))).isEqualTo(3);
+        assertThat(queryCounter.count(() -> articleRepository.findByHashtagQuery(hashtagQuery, largePage))).isEqualTo(3);
+        assertThat(queryCounter.count(() -> articleRepository.findPageByIds(List.of(1L, 2L, 3L, 4L, 5L), largePage))).isEqualTo(2);
+        assertThat(queryCounter.count(() -> articleRepository.findSummariesByIds(List.of(1L, 2L, 3L)))).isEqualTo(2);
+        assertThat(countStatements(pageable -> articleRepository.findByHashtagNames(List.of("blue"), pageable), largePage)).isEqualTo(3);
+        assertThat(queryCounter.count(() -> articleRepository.findByCursor(null, null, null, largePage.getPageSize()))).isEqualTo(2);
+    }
+
+    @DisplayName("[Querydsl] 게시글 목록 정보를 조회하면, 본문은 앞부분만 잘라서 작성자, 해시태그와 함께 반환한다.")
+    @Test
+    void givenArticleIds_whenSelectingSummaries_thenReturnsExcerptWithAuthorAndHashtags() {
+        // Given
+        List<Long> articleIds = List.of(1L, 2L, 3L);
+
+        // When
+        List<ArticleSummary> summaries = articleRepository.findSummariesByIds(articleIds);
+
+        // Then
+        assertThat(summaries)
+                .hasSize(3)
+                .containsExactlyInAnyOrderElementsOf(articleRepository.findAllById(articleIds).stream().map(ArticleSummary::from).toList())
+                .allSatisfy(summary -> assertThat(summary.excerpt()).hasSizeLessThanOrEqualTo(ArticleSummary.EXCERPT_LENGTH));
+    }
+
+    /**
+     * 목록 화면처럼 게시글마다 작성자와 해시태그를 읽어 실행된 쿼리 수를 센다.
+     */
+    private long countStatements(Function<Pageable, ? extends Iterable<Article>> finder, Pageable pageable) {
+        return queryCounter.count(() -> finder.apply(pageable).forEach(article -> {
+            article.getUserAccount().getNickname();
+            article.getHashtags().size();
+        }));
+    }
+
     @EnableJpaAuditing
     @TestConfiguration
     static class TestJpaConfig{
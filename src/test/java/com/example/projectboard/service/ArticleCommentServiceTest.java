@@ -6,24 +6,32 @@ import com.example.projectboard.domain.Hashtag;
 import com.example.projectboard.domain.UserAccount;
 import com.example.projectboard.dto.ArticleCommentDto;
 import com.example.projectboard.dto.UserAccountDto;
+import com.example.projectboard.dto.event.ArticleCommentEvent;
 import com.example.projectboard.repository.ArticleCommentRepository;
 import com.example.projectboard.repository.ArticleRepository;
 import com.example.projectboard.repository.UserAccountRepository;
+import com.example.projectboard.repository.querydsl.ArticleCursor;
+import com.example.projectboard.repository.querydsl.CursorSlice;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.stubbing.Answer;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.test.util.ReflectionTestUtils;
 import org.springframework.util.ReflectionUtils;
 
 import javax.persistence.EntityNotFoundException;
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 import java.util.Set;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.entry;
 import static org.assertj.core.api.Assertions.tuple;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.BDDMockito.*;
@@ -44,6 +52,9 @@ class ArticleCommentServiceTest {
     @Mock
     private UserAccountRepository userAccountRepository;
 
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
 
     @DisplayName("게시글 ID로 조회하면, 해당하는 댓글 리스트 반환한다.")
     @Test
@@ -72,6 +83,95 @@ class ArticleCommentServiceTest {
         then(articleCommentRepository).should().findByArticle_Id(articleId);
     }
 
+    @DisplayName("게시글 ID와 커서로 조회하면, 부모 댓글 한 페이지를 반환한다.")
+    @Test
+    void givenArticleIdAndCursor_whenSearchingParentComments_thenReturnsParentCommentSlice() {
+        // Given
+        Long articleId = 1L;
+        ArticleCursor cursor = ArticleCursor.of(ArticleCursor.encode(LocalDateTime.now(), 10L), null);
+        given(articleCommentRepository.findParentCommentsByCursor(articleId, cursor, 2))
+                .willReturn(new CursorSlice<>(List.of(createArticleComment(9L, "parent 9"), createArticleComment(8L, "parent 8")), 2, true, true));
+
+        // When
+        CursorSlice<ArticleCommentDto> actual = sut.searchParentComments(articleId, cursor, 2);
+
+        // Then
+        assertThat(actual).extracting("id", "content").containsExactly(tuple(9L, "parent 9"), tuple(8L, "parent 8"));
+        assertThat(actual.hasPrevious()).isTrue();
+        assertThat(actual.hasNext()).isTrue();
+        then(articleCommentRepository).should().findParentCommentsByCursor(articleId, cursor, 2);
+    }
+
+    @DisplayName("부모 댓글 ID로 조회하면, 대댓글 한 페이지를 반환한다.")
+    @Test
+    void givenParentCommentId_whenSearchingChildComments_thenReturnsChildCommentSlice() {
+        // Given
+        Long parentCommentId = 1L;
+        ArticleComment childComment = createArticleComment(2L, "child content");
+        childComment.setParentCommentId(parentCommentId);
+        given(articleCommentRepository.findChildCommentsByCursor(parentCommentId, null, 10))
+                .willReturn(new CursorSlice<>(List.of(childComment), 10, false, false));
+
+        // When
+        CursorSlice<ArticleCommentDto> actual = sut.searchChildComments(parentCommentId, null, 10);
+
+        // Then
+        assertThat(actual).extracting("id", "parentCommentId").containsExactly(tuple(2L, parentCommentId));
+        assertThat(actual.hasNext()).isFalse();
+        then(articleCommentRepository).should().findChildCommentsByCursor(parentCommentId, null, 10);
+    }
+
+    @DisplayName("댓글 ID로 조회하면, 댓글과 모든 깊이의 답글을 경로 순서로 반환한다.")
+    @Test
+    void givenArticleCommentId_whenSearchingCommentThread_thenReturnsThreadSlice() {
+        // Given
+        ArticleComment root = createArticleComment(1L, "댓글");
+        root.assignPath(null);
+        ArticleComment reply = createArticleComment(2L, "답글");
+        reply.setParentCommentId(1L);
+        reply.assignPath(root);
+        given(articleCommentRepository.findById(1L)).willReturn(Optional.of(root));
+        given(articleCommentRepository.findThreadByPath(root.getPath(), null, 10))
+                .willReturn(new CursorSlice<>(List.of(root, reply), 10, false, false));
+
+        // When
+        CursorSlice<ArticleCommentDto> actual = sut.searchCommentThread(1L, null, 10);
+
+        // Then
+        assertThat(actual).extracting("id", "parentCommentId", "path")
+                .containsExactly(tuple(1L, null, root.getPath()), tuple(2L, 1L, reply.getPath()));
+        then(articleCommentRepository).should().findThreadByPath(root.getPath(), null, 10);
+    }
+
+    @DisplayName("없는 댓글 ID로 답글 묶음을 조회하면, 빈 페이지를 반환한다.")
+    @Test
+    void givenNonexistentArticleCommentId_whenSearchingCommentThread_thenReturnsEmptySlice() {
+        // Given
+        given(articleCommentRepository.findById(1L)).willReturn(Optional.empty());
+
+        // When
+        CursorSlice<ArticleCommentDto> actual = sut.searchCommentThread(1L, null, 10);
+
+        // Then
+        assertThat(actual).isEmpty();
+        then(articleCommentRepository).should(never()).findThreadByPath(any(), any(), anyInt());
+    }
+
+    @DisplayName("부모 댓글 ID 들로 조회하면, 대댓글 수를 반환한다.")
+    @Test
+    void givenParentCommentIds_whenCountingChildComments_thenReturnsCounts() {
+        // Given
+        List<Long> parentCommentIds = List.of(1L, 2L);
+        given(articleCommentRepository.countChildComments(parentCommentIds)).willReturn(Map.of(1L, 3L));
+
+        // When
+        Map<Long, Long> actual = sut.countChildComments(parentCommentIds);
+
+        // Then
+        assertThat(actual).containsExactly(entry(1L, 3L));
+        then(articleCommentRepository).should().countChildComments(parentCommentIds);
+    }
+
     @DisplayName("댓글 정보를 입력하면 댓글을 저장한다.")
     @Test
     void givenArticleCommentInfo_whenSavingArticleComment_thenSavesArticleComment(){
@@ -81,7 +181,7 @@ class ArticleCommentServiceTest {
         // findById vs getReferenceById 차이 : 1) return 타입의 유무, 2) 예외 발생 처리, 3)DB 접근 시점
         // 참고 url : https://creampuffy.tistory.com/162
         given(articleRepository.getReferenceById(dto.articleId())).willReturn(createArticle());
-        given(articleCommentRepository.save(any(ArticleComment.class))).willReturn(null);
+        given(articleCommentRepository.save(any(ArticleComment.class))).willAnswer(savingWithId(10L));
         given(userAccountRepository.getReferenceById(dto.userAccountDto().userId())).willReturn(createUserAccount());
 
         // When
@@ -89,9 +189,11 @@ class ArticleCommentServiceTest {
 
         // Then
         then(articleRepository).should().getReferenceById(dto.articleId());
-        then(articleCommentRepository).should().save(any(ArticleComment.class));
+        then(articleCommentRepository).should().save(argThat(saved ->
+                saved.getPath().equals(ArticleComment.pathSegment(10L)) && saved.getDepth() == 0));
         then(articleCommentRepository).should(never()).getReferenceById(anyLong());
         then(userAccountRepository).should().getReferenceById(dto.userAccountDto().userId());
+        then(eventPublisher).should().publishEvent(ArticleCommentEvent.of(dto.articleId()));
     }
 
     @DisplayName("댓글 저장을 시도했는데 맞는 게시글이 없으면, 경고 로그를 찍고 아무것도 안 한다.")
@@ -108,6 +210,7 @@ class ArticleCommentServiceTest {
         then(articleRepository).should().getReferenceById(dto.articleId());
         then(articleCommentRepository).shouldHaveNoInteractions();
         then(userAccountRepository).shouldHaveNoInteractions();
+        then(eventPublisher).shouldHaveNoInteractions();
     }
 
     @DisplayName("댓글 정보를 입력하면, 댓글을 수정한다.")
@@ -150,20 +253,52 @@ class ArticleCommentServiceTest {
         // Given
         Long parentCommentId = 1L;
         ArticleComment parent = createArticleComment(parentCommentId, "댓글");
+        parent.assignPath(null);
         ArticleCommentDto child = createArticleCommentDto(parentCommentId, "대댓글");
         given(articleRepository.getReferenceById(child.articleId())).willReturn(createArticle());
         given(userAccountRepository.getReferenceById(child.userAccountDto().userId())).willReturn(createUserAccount());
         given(articleCommentRepository.getReferenceById(child.parentCommentId())).willReturn(parent);
+        given(articleCommentRepository.save(any(ArticleComment.class))).willAnswer(savingWithId(10L));
 
         // When
         sut.saveArticleComment(child);
 
         // Then
-        assertThat(child.parentCommentId()).isNotNull();
         then(articleRepository).should().getReferenceById(child.articleId());
         then(userAccountRepository).should().getReferenceById(child.userAccountDto().userId());
         then(articleCommentRepository).should().getReferenceById(child.parentCommentId());
-        then(articleCommentRepository).should(never()).save(any(ArticleComment.class));
+        then(articleCommentRepository).should().save(argThat(saved ->
+                saved.getParentCommentId().equals(parentCommentId)
+                        && saved.getPath().equals(parent.getPath() + ArticleComment.pathSegment(10L))
+                        && saved.getDepth() == 1));
+    }
+
+    @DisplayName("깊이 제한에 닿은 댓글에 답글을 달면, 그 댓글과 같은 깊이에 저장한다.")
+    @Test
+    void givenParentCommentAtMaxDepth_whenSaving_thenSavesAsSibling() {
+        // Given
+        Long grandParentCommentId = 5L;
+        Long parentCommentId = 6L;
+        ArticleComment grandParent = createArticleComment(grandParentCommentId, "댓글");
+        ArticleComment parent = createArticleComment(parentCommentId, "답글");
+        ReflectionTestUtils.setField(grandParent, "path", "0".repeat(ArticleComment.PATH_SEGMENT_LENGTH * (ArticleComment.MAX_DEPTH - 1)));
+        parent.setParentCommentId(grandParentCommentId);
+        parent.assignPath(grandParent);
+        ArticleCommentDto child = createArticleCommentDto(parentCommentId, "답글의 답글");
+        given(articleRepository.getReferenceById(child.articleId())).willReturn(createArticle());
+        given(userAccountRepository.getReferenceById(child.userAccountDto().userId())).willReturn(createUserAccount());
+        given(articleCommentRepository.getReferenceById(parentCommentId)).willReturn(parent);
+        given(articleCommentRepository.getReferenceById(grandParentCommentId)).willReturn(grandParent);
+        given(articleCommentRepository.save(any(ArticleComment.class))).willAnswer(savingWithId(10L));
+
+        // When
+        sut.saveArticleComment(child);
+
+        // Then
+        assertThat(parent.getDepth()).isEqualTo(ArticleComment.MAX_DEPTH - 1);
+        then(articleCommentRepository).should().save(argThat(saved ->
+                saved.getParentCommentId().equals(grandParentCommentId)
+                        && saved.getDepth() == ArticleComment.MAX_DEPTH - 1));
     }
 
     @DisplayName("댓글 ID를 입력하면, 댓글을 삭제한다.")
@@ -172,13 +307,31 @@ class ArticleCommentServiceTest {
         // Given
         Long articleCommentId = 1L;
         String userId = "jyuka";
-        willDoNothing().given(articleCommentRepository).deleteByIdAndUserAccount_UserId(articleCommentId, userId);
+        given(articleCommentRepository.findById(articleCommentId)).willReturn(Optional.of(createArticleComment(articleCommentId, "댓글")));
+        given(articleCommentRepository.deleteWithChildCommentsByIdAndUserId(articleCommentId, userId)).willReturn(1L);
+
+        // When
+        sut.deleteArticleComment(articleCommentId, userId);
+
+        // Then
+        then(articleCommentRepository).should().deleteWithChildCommentsByIdAndUserId(articleCommentId, userId);
+        then(eventPublisher).should().publishEvent(ArticleCommentEvent.of(1L));
+    }
+
+    @DisplayName("작성자가 아닌 사람이 댓글을 삭제하면, 아무것도 지우지 않으므로 이벤트를 발행하지 않는다.")
+    @Test
+    void givenNotOwner_whenDeletingArticleComment_thenPublishesNoEvent() {
+        // Given
+        Long articleCommentId = 1L;
+        String userId = "stranger";
+        given(articleCommentRepository.findById(articleCommentId)).willReturn(Optional.of(createArticleComment(articleCommentId, "댓글")));
 
         // When
         sut.deleteArticleComment(articleCommentId, userId);
 
         // Then
-        then(articleCommentRepository).should().deleteByIdAndUserAccount_UserId(articleCommentId, userId);
+        then(articleCommentRepository).should(never()).deleteWithChildCommentsByIdAndUserId(any(), any());
+        then(eventPublisher).shouldHaveNoInteractions();
     }
 
 
@@ -186,6 +339,18 @@ class ArticleCommentServiceTest {
         return createArticleCommentDto(null, content);
     }
 
+    /**
+     * IDENTITY 전략처럼 저장(insert) 시점에 id 를 채워 돌려준다.
+     */
+    private static Answer<ArticleComment> savingWithId(Long id) {
+        return invocation -> {
+            ArticleComment articleComment = invocation.getArgument(0);
+            ReflectionTestUtils.setField(articleComment, "id", id);
+            articleComment.onIdGenerated(id); // SnowflakeIdGenerator 처럼 id 를 알린다.
+            return articleComment;
+        };
+    }
+
     private ArticleCommentDto createArticleCommentDto(Long parentCommentId, String content) {
         return createArticleCommentDto(1L, parentCommentId, content);
     }
@@ -1,35 +1,56 @@
 package com.example.projectboard.service;
 
+import com.example.projectboard.config.PaginationProperties;
+import com.example.projectboard.config.SearchProperties;
 import com.example.projectboard.domain.Article;
 import com.example.projectboard.domain.Hashtag;
 import com.example.projectboard.domain.UserAccount;
 import com.example.projectboard.domain.constant.SearchType;
+import com.example.projectboard.domain.projection.ArticleSummary;
+import com.example.projectboard.domain.projection.HashtagUsage;
 import com.example.projectboard.dto.ArticleDto;
-import com.example.projectboard.dto.ArticleWithCommentsDto;
 import com.example.projectboard.dto.HashtagDto;
 import com.example.projectboard.dto.UserAccountDto;
+import com.example.projectboard.dto.event.ArticleEvent;
+import com.example.projectboard.dto.request.ArticleImportRequest;
 import com.example.projectboard.repository.ArticleRepository;
 import com.example.projectboard.repository.HashtagRepository;
 import com.example.projectboard.repository.UserAccountRepository;
+import com.example.projectboard.service.cache.ArticleCountCache;
+import com.example.projectboard.service.cache.ArticleSearchCache;
+import com.example.projectboard.repository.querydsl.ArticleCursor;
+import com.example.projectboard.repository.querydsl.CursorSlice;
+import com.example.projectboard.repository.querydsl.HashtagQuery;
+import com.example.projectboard.service.search.ArticleSearchIndex;
+import com.example.projectboard.service.search.HashtagBitmapIndex;
 import org.assertj.core.api.InstanceOfAssertFactories;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.roaringbitmap.RoaringBitmap;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.domain.Sort;
 import org.springframework.test.util.ReflectionTestUtils;
 
 import javax.persistence.EntityNotFoundException;
+import java.time.Duration;
 import java.time.LocalDateTime;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Optional;
 import java.util.Set;
 import java.util.stream.Collectors;
+import java.util.stream.LongStream;
 
 import static org.assertj.core.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
@@ -54,19 +75,103 @@ class ArticleServiceTest {
     @Mock
     private HashtagRepository hashtagRepository;
 
+    @Mock
+    private ArticleSearchIndex articleSearchIndex;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private ArticleSearchCache articleSearchCache;
+
+    @Mock
+    private HashtagBitmapIndex hashtagBitmapIndex;
+
+    @Mock
+    private ArticleCountCache articleCountCache;
+
+    @Spy
+    private SearchProperties searchProperties = new SearchProperties(SearchProperties.ContentBackend.INDEX);
+
+    @Spy
+    private PaginationProperties paginationProperties = new PaginationProperties(PaginationProperties.CountMode.EXACT, Duration.ofMinutes(1));
+
     @DisplayName("검색어 없이 게시글을 검색하면, 게시글 페이지를 반환한다.")
     @Test
     void givenNoSearchParameters_whenSearchingArticles_thenReturnsArticlePage(){
         // given
         Pageable pageable = Pageable.ofSize(20);
-        given(articleRepository.findAll(pageable)).willReturn(Page.empty());
+        given(articleRepository.findPageBySearch(null, null, pageable)).willReturn(Page.empty());
 
         // when
-        Page<ArticleDto> articles = sut.searchArticles(null, null, pageable);
+        Page<ArticleSummary> articles = sut.searchArticles(null, null, pageable);
 
         // then
         assertThat(articles).isEmpty();
-        then(articleRepository).should().findAll(pageable);
+        then(articleRepository).should().findPageBySearch(null, null, pageable);
+    }
+
+    @DisplayName("전체 개수를 대략적으로 구하는 설정이면, count 쿼리 없이 조회하고 캐시된 개수로 페이지를 만든다.")
+    @Test
+    void givenApproximateCountMode_whenSearchingArticles_thenReturnsPageWithCachedTotal() {
+        // Given
+        Pageable pageable = PageRequest.of(2, 1);
+        ArticleSummary article = createArticleSummary();
+        given(paginationProperties.getCountMode()).willReturn(PaginationProperties.CountMode.APPROXIMATE);
+        given(articleRepository.findSliceBySearch(SearchType.NICKNAME, "jyuka", pageable))
+                .willReturn(new SliceImpl<>(List.of(article), pageable, true));
+        given(articleCountCache.getApproximateCount(ArticleCountCache.Key.of(SearchType.NICKNAME, "jyuka")))
+                .willReturn(500L);
+
+        // When
+        Page<ArticleSummary> articles = sut.searchArticles(SearchType.NICKNAME, "jyuka", pageable);
+
+        // Then
+        assertThat(articles.getContent()).containsExactly(article);
+        assertThat(articles.getTotalElements()).isEqualTo(500L);
+        then(articleRepository).should(never()).findPageBySearch(any(), any(), any());
+    }
+
+    @DisplayName("해시태그로 정렬하면, 전체 개수를 대략적으로 구하는 설정이어도 게시글 엔티티를 조회하여 목록 정보로 바꾼다.")
+    @Test
+    void givenApproximateCountModeAndHashtagSort_whenSearchingArticles_thenReturnsExactPage() {
+        // Given
+        Pageable pageable = PageRequest.of(0, 20, Sort.by("hashtags"));
+        Article article = createArticle();
+        lenient().when(paginationProperties.getCountMode()).thenReturn(PaginationProperties.CountMode.APPROXIMATE);
+        given(articleRepository.findAll(pageable)).willReturn(new PageImpl<>(List.of(article), pageable, 1));
+
+        // When
+        Page<ArticleSummary> articles = sut.searchArticles(null, null, pageable);
+
+        // Then
+        assertThat(articles.getContent()).containsExactly(ArticleSummary.from(article));
+        assertThat(articles.getContent().get(0).hashtags()).containsExactlyInAnyOrder("java", "spring");
+        then(articleRepository).should(never()).findSliceBySearch(any(), any(), any());
+        then(articleCountCache).shouldHaveNoInteractions();
+    }
+
+    @DisplayName("캐시된 전체 개수가 실제와 다르면, 다음 페이지가 있는지를 기준으로 전체 개수를 보정한다.")
+    @Test
+    void givenStaleApproximateCount_whenSearchingArticles_thenAdjustsTotalByHasNext() {
+        // Given
+        Pageable pageable = PageRequest.of(2, 1);
+        ArticleSummary article = createArticleSummary();
+        given(paginationProperties.getCountMode()).willReturn(PaginationProperties.CountMode.APPROXIMATE);
+        given(articleRepository.findSliceBySearch(null, null, pageable))
+                .willReturn(new SliceImpl<>(List.of(article), pageable, true))
+                .willReturn(new SliceImpl<>(List.of(article), pageable, false));
+        given(articleCountCache.getApproximateCount(ArticleCountCache.Key.of(null, null))).willReturn(0L, 500L);
+
+        // When
+        Page<ArticleSummary> notCountedYet = sut.searchArticles(null, null, pageable);
+        Page<ArticleSummary> lastPage = sut.searchArticles(null, null, pageable);
+
+        // Then
+        assertThat(notCountedYet.getTotalElements()).isEqualTo(4L);
+        assertThat(notCountedYet.hasNext()).isTrue();
+        assertThat(lastPage.getTotalElements()).isEqualTo(3L);
+        assertThat(lastPage.hasNext()).isFalse();
     }
 
     @DisplayName("검색어와 함께 게시글을 검색하면, 게시글 페이지를 반환한다.")
@@ -76,14 +181,198 @@ class ArticleServiceTest {
         SearchType searchType = SearchType.TITLE;
         String searchKeyword = "title";
         Pageable pageable = Pageable.ofSize(20);
-        given(articleRepository.findByTitleContaining(searchKeyword, pageable)).willReturn(Page.empty());
+        given(articleRepository.findPageBySearch(searchType, searchKeyword, pageable)).willReturn(Page.empty());
 
         // When
-        Page<ArticleDto> articles = sut.searchArticles(searchType, searchKeyword, pageable);
+        Page<ArticleSummary> articles = sut.searchArticles(searchType, searchKeyword, pageable);
 
         // Then
         assertThat(articles).isEmpty();
-        then(articleRepository).should().findByTitleContaining(searchKeyword, pageable);
+        then(articleRepository).should().findPageBySearch(searchType, searchKeyword, pageable);
+    }
+
+    @DisplayName("검색 색인이 준비된 상태에서 제목으로 검색하면, 색인이 찾은 게시글 페이지를 반환한다.")
+    @Test
+    void givenReadySearchIndex_whenSearchingArticlesByTitle_thenReturnsArticlePageFromIndex() {
+        // Given
+        SearchType searchType = SearchType.TITLE;
+        String searchKeyword = "title";
+        Pageable pageable = Pageable.ofSize(20);
+        ArticleSummary article = createArticleSummary();
+        given(articleSearchIndex.canServe(searchKeyword, pageable.getSort())).willReturn(true);
+        given(articleSearchIndex.search(searchType, searchKeyword, pageable))
+                .willReturn(new PageImpl<>(List.of(article.id()), pageable, 1));
+        given(articleRepository.findSummariesByIds(List.of(article.id()))).willReturn(List.of(article));
+
+        // When
+        Page<ArticleSummary> articles = sut.searchArticles(searchType, searchKeyword, pageable);
+
+        // Then
+        assertThat(articles.getTotalElements()).isEqualTo(1);
+        assertThat(articles.getContent()).containsExactly(article);
+        then(articleSearchIndex).should().search(searchType, searchKeyword, pageable);
+        then(articleRepository).should().findSummariesByIds(List.of(article.id()));
+        then(articleRepository).shouldHaveNoMoreInteractions();
+    }
+
+    @DisplayName("본문 검색 방식이 전문 검색이면, 전문 검색으로 찾은 게시글 페이지를 반환한다.")
+    @Test
+    void givenFullTextBackend_whenSearchingArticlesByContent_thenReturnsArticlePageFromFullTextSearch() {
+        // Given
+        SearchType searchType = SearchType.CONTENT;
+        String searchKeyword = "content";
+        Pageable pageable = Pageable.ofSize(20);
+        ArticleSummary article = createArticleSummary();
+        given(searchProperties.getContentBackend()).willReturn(SearchProperties.ContentBackend.FULL_TEXT);
+        given(articleRepository.findByContentFullText(searchKeyword, pageable))
+                .willReturn(new PageImpl<>(List.of(article), pageable, 1));
+
+        // When
+        Page<ArticleSummary> articles = sut.searchArticles(searchType, searchKeyword, pageable);
+
+        // Then
+        assertThat(articles.getContent()).containsExactly(article);
+        then(articleRepository).should().findByContentFullText(searchKeyword, pageable);
+        then(articleSearchIndex).shouldHaveNoInteractions();
+    }
+
+    @DisplayName("본문 검색 방식이 LIKE 이면, 색인을 사용하지 않고 LIKE 검색 결과를 반환한다.")
+    @Test
+    void givenLikeBackend_whenSearchingArticlesByContent_thenReturnsArticlePageFromLikeSearch() {
+        // Given
+        SearchType searchType = SearchType.CONTENT;
+        String searchKeyword = "content";
+        Pageable pageable = Pageable.ofSize(20);
+        given(searchProperties.getContentBackend()).willReturn(SearchProperties.ContentBackend.LIKE);
+        given(articleRepository.findPageBySearch(searchType, searchKeyword, pageable)).willReturn(Page.empty());
+
+        // When
+        Page<ArticleSummary> articles = sut.searchArticles(searchType, searchKeyword, pageable);
+
+        // Then
+        assertThat(articles).isEmpty();
+        then(articleRepository).should().findPageBySearch(searchType, searchKeyword, pageable);
+        then(articleSearchIndex).shouldHaveNoInteractions();
+    }
+
+    @DisplayName("정확도순 정렬을 지원하지 않는 검색 유형이면, 작성일 내림차순으로 검색한다.")
+    @Test
+    void givenRelevanceSortWithUnsupportedSearchType_whenSearchingArticles_thenSearchesOrderedByCreatedAt() {
+        // Given
+        SearchType searchType = SearchType.ID;
+        String searchKeyword = "jyuka";
+        Pageable pageable = PageRequest.of(1, 20, Sort.by("relevance"));
+        Pageable expected = PageRequest.of(1, 20, Sort.by(Sort.Direction.DESC, "createdAt"));
+        given(articleRepository.findPageBySearch(searchType, searchKeyword, expected)).willReturn(Page.empty());
+
+        // When
+        Page<ArticleSummary> articles = sut.searchArticles(searchType, searchKeyword, pageable);
+
+        // Then
+        assertThat(articles).isEmpty();
+        then(articleRepository).should().findPageBySearch(searchType, searchKeyword, expected);
+    }
+
+    @DisplayName("캐시된 검색 결과가 있다면, 검색 쿼리 없이 캐시된 게시글 id 로 게시글 페이지를 반환한다.")
+    @Test
+    void givenCachedSearchResult_whenSearchingArticles_thenReturnsArticlePageFromCache() {
+        // Given
+        SearchType searchType = SearchType.NICKNAME;
+        String searchKeyword = " jyuka ";
+        Pageable pageable = Pageable.ofSize(20);
+        ArticleSummary article = createArticleSummary();
+        given(articleSearchCache.get(ArticleSearchCache.Key.of(searchType, "jyuka", pageable)))
+                .willReturn(new PageImpl<>(List.of(article.id()), pageable, 1));
+        given(articleRepository.findSummariesByIds(List.of(article.id()))).willReturn(List.of(article));
+
+        // When
+        Page<ArticleSummary> articles = sut.searchArticles(searchType, searchKeyword, pageable);
+
+        // Then
+        assertThat(articles.getContent()).containsExactly(article);
+        then(articleRepository).should().findSummariesByIds(List.of(article.id()));
+        then(articleRepository).shouldHaveNoMoreInteractions();
+        then(articleSearchCache).should(never()).put(any(), anyLong(), any());
+    }
+
+    @DisplayName("캐시된 검색 결과가 없다면, 검색한 결과를 캐시에 저장한다.")
+    @Test
+    void givenNoCachedSearchResult_whenSearchingArticles_thenCachesSearchResult() {
+        // Given
+        SearchType searchType = SearchType.NICKNAME;
+        String searchKeyword = "jyuka";
+        Pageable pageable = Pageable.ofSize(20);
+        ArticleSearchCache.Key key = ArticleSearchCache.Key.of(searchType, searchKeyword, pageable);
+        Page<ArticleSummary> searched = new PageImpl<>(List.of(createArticleSummary()), pageable, 1);
+        given(articleSearchCache.generation()).willReturn(3L);
+        given(articleRepository.findPageBySearch(searchType, searchKeyword, pageable)).willReturn(searched);
+
+        // When
+        Page<ArticleSummary> articles = sut.searchArticles(searchType, searchKeyword, pageable);
+
+        // Then
+        assertThat(articles.getTotalElements()).isEqualTo(1);
+        then(articleSearchCache).should().put(key, 3L, articles);
+    }
+
+    @DisplayName("검색어에 공백이 섞여 있으면, 캐시 키와 같은 정규화한 검색어로 검색한다.")
+    @Test
+    void givenKeywordWithSpaces_whenSearchingArticles_thenSearchesWithCacheKeyKeyword() {
+        // Given
+        SearchType searchType = SearchType.NICKNAME;
+        String searchKeyword = "  jyuka   admin ";
+        Pageable pageable = Pageable.ofSize(20);
+        ArticleSearchCache.Key key = ArticleSearchCache.Key.of(searchType, searchKeyword, pageable);
+        given(articleRepository.findPageBySearch(searchType, "jyuka admin", pageable)).willReturn(Page.empty(pageable));
+
+        // When
+        sut.searchArticles(searchType, searchKeyword, pageable);
+
+        // Then
+        assertThat(key.keyword()).isEqualTo("jyuka admin");
+        then(articleRepository).should().findPageBySearch(searchType, key.keyword(), pageable);
+    }
+
+    @DisplayName("커서와 함께 게시글을 검색하면, 검색 캐시를 거치지 않고 커서 다음 게시글을 반환한다.")
+    @Test
+    void givenCursor_whenSearchingArticles_thenReturnsArticleSlice() {
+        // Given
+        SearchType searchType = SearchType.TITLE;
+        String searchKeyword = "title";
+        ArticleCursor cursor = ArticleCursor.of(ArticleCursor.encode(LocalDateTime.now(), 10L), null);
+        ArticleSummary expectedArticle = ArticleSummary.from(createArticle());
+        given(articleRepository.findByCursor(searchType, searchKeyword, cursor, 20))
+                .willReturn(new CursorSlice<>(List.of(expectedArticle), 20, true, false));
+
+        // When
+        CursorSlice<ArticleSummary> articles = sut.searchArticles(searchType, searchKeyword, cursor, 20);
+
+        // Then
+        assertThat(articles.getContent()).containsExactly(expectedArticle);
+        assertThat(articles.hasPrevious()).isTrue();
+        assertThat(articles.hasNext()).isFalse();
+        then(articleRepository).should().findByCursor(searchType, searchKeyword, cursor, 20);
+        then(articleSearchCache).shouldHaveNoInteractions();
+    }
+
+    @DisplayName("커서와 함께 해시태그 검색하면, 해시태그를 가진 게시글을 커서 다음부터 반환한다.")
+    @Test
+    void givenHashtagAndCursor_whenSearchingArticlesViaHashtag_thenReturnsArticleSlice() {
+        // Given
+        String hashtagName = "java";
+        ArticleSummary expectedArticle = ArticleSummary.from(createArticle());
+        given(articleRepository.findByHashtagQueryAndCursor(HashtagQuery.of(hashtagName), null, 20))
+                .willReturn(new CursorSlice<>(List.of(expectedArticle), 20, false, true));
+
+        // When
+        CursorSlice<ArticleSummary> articles = sut.searchArticlesViaHashtag(hashtagName, null, 20);
+        CursorSlice<ArticleSummary> empty = sut.searchArticlesViaHashtag(" ", null, 20);
+
+        // Then
+        assertThat(articles.getContent()).containsExactly(expectedArticle);
+        assertThat(articles.hasNext()).isTrue();
+        assertThat(empty).isEmpty();
+        then(articleRepository).should().findByHashtagQueryAndCursor(HashtagQuery.of(hashtagName), null, 20);
     }
 
     @DisplayName("검색어 없이 게시글을 해시태그 검색하면, 빈 페이지를 반환한다.")
@@ -93,7 +382,7 @@ class ArticleServiceTest {
         Pageable pageable = Pageable.ofSize(20);
 
         // When
-        Page<ArticleDto> articles = sut.searchArticlesViaHashtag(null, pageable);
+        Page<ArticleSummary> articles = sut.searchArticlesViaHashtag(null, pageable);
 
         // Then
         assertThat(articles).isEqualTo(Page.empty(pageable));
@@ -107,71 +396,60 @@ class ArticleServiceTest {
         // Given
         String hashtagName = "java";
         Pageable pageable = Pageable.ofSize(20);
-        Article expectedArticle = createArticle();
-        given(articleRepository.findByHashtagNames(List.of(hashtagName), pageable))
+        ArticleSummary expectedArticle = createArticleSummary();
+        given(articleRepository.findByHashtagQuery(HashtagQuery.of(hashtagName), pageable))
                 .willReturn(new PageImpl<>(List.of(expectedArticle), pageable, 1));
 
         // When
-        Page<ArticleDto> articles = sut.searchArticlesViaHashtag(hashtagName, pageable);
+        Page<ArticleSummary> articles = sut.searchArticlesViaHashtag(hashtagName, pageable);
 
         // Then
-        assertThat(articles).isEqualTo(new PageImpl<>(List.of(ArticleDto.from(expectedArticle)), pageable, 1));
-        then(articleRepository).should().findByHashtagNames(List.of(hashtagName), pageable);
+        assertThat(articles).isEqualTo(new PageImpl<>(List.of(expectedArticle), pageable, 1));
+        then(articleRepository).should().findByHashtagQuery(HashtagQuery.of(hashtagName), pageable);
     }
 
-    @DisplayName("해시태그를 조회하면, 유니크 해시태그 리스트를 반환한다")
+    @DisplayName("해시태그 색인이 준비된 상태에서 여러 해시태그로 검색하면, 색인이 찾은 게시글 id 로 게시글 페이지를 반환한다.")
     @Test
-    void givenNothing_whenCalling_thenReturnsHashtags() {
-        //Given
-        List<String> expectedHashtags = List.of("java", "spring", "boot");
-        given(hashtagRepository.findAllHashtagNames()).willReturn(expectedHashtags);
-        Article article = createArticle();
-
-        //When
-        List<String> actualHashtags = sut.getHashtags();
-
-        //then
-        assertThat(actualHashtags).isEqualTo(expectedHashtags);
-        then(hashtagRepository).should().findAllHashtagNames();
-    }
-
-    @DisplayName("게시글 ID로 조회하면, 댓글 달긴 게시글을 반환한다.")
-    @Test
-    void givenArticleId_whenSearchingArticleWithComments_thenReturnsArticleWithComments() {
+    void givenReadyHashtagIndex_whenSearchingArticlesByHashtags_thenReturnsArticlePageByIds() {
         // Given
-        Long articleId = 1L;
-        Article article = createArticle();
-        given(articleRepository.findById(articleId)).willReturn(Optional.of(article));
+        String searchKeyword = "java +spring -kotlin";
+        HashtagQuery hashtagQuery = HashtagQuery.parse(searchKeyword);
+        Pageable pageable = Pageable.ofSize(20);
+        ArticleSummary expectedArticle = createArticleSummary();
+        given(hashtagBitmapIndex.isReady()).willReturn(true);
+        given(hashtagBitmapIndex.search(hashtagQuery)).willReturn(new HashtagBitmapIndex.Matches(RoaringBitmap.bitmapOf(0), new long[]{1L}));
+        given(articleRepository.findPageByIds(List.of(1L), pageable))
+                .willReturn(new PageImpl<>(List.of(expectedArticle), pageable, 1));
 
         // When
-        ArticleWithCommentsDto dto = sut.getArticleWithComments(articleId);
+        Page<ArticleSummary> articles = sut.searchArticles(SearchType.HASHTAG, searchKeyword, pageable);
 
         // Then
-        assertThat(dto)
-                .hasFieldOrPropertyWithValue("title", article.getTitle())
-                .hasFieldOrPropertyWithValue("content", article.getContent())
-                .hasFieldOrPropertyWithValue("hashtagDtos", article.getHashtags().stream()
-                        .map(HashtagDto::from)
-                        .collect(Collectors.toUnmodifiableSet())
-                );
-        then(articleRepository).should().findById(articleId);
+        assertThat(articles.getContent()).containsExactly(expectedArticle);
+        then(articleRepository).should().findPageByIds(List.of(1L), pageable);
+        then(articleRepository).shouldHaveNoMoreInteractions();
     }
 
-    @DisplayName("댓글 달린 게시글이 없으면, 예외를 던진다.")
+    @DisplayName("해시태그 색인이 찾은 게시글이 많다면, 색인의 개수를 그대로 사용하여 count 쿼리 없이 게시글 페이지를 반환한다.")
     @Test
-    void givenNonexistentArticleId_whenSearchingArticleWithComments_thenThrowsException() {
+    void givenManyArticlesInHashtagIndex_whenSearchingArticlesByHashtags_thenReturnsArticlePageWithIndexCount() {
         // Given
-        Long articleId = 0L;
-        given(articleRepository.findById(articleId)).willReturn(Optional.empty());
+        String hashtagName = "java";
+        Pageable pageable = Pageable.ofSize(20);
+        long[] articleIds = LongStream.rangeClosed(1, 5_000).toArray();
+        given(hashtagBitmapIndex.isReady()).willReturn(true);
+        given(hashtagBitmapIndex.search(HashtagQuery.of(hashtagName)))
+                .willReturn(new HashtagBitmapIndex.Matches(RoaringBitmap.bitmapOfRange(0, articleIds.length), articleIds));
+        given(articleRepository.findByHashtagQuery(HashtagQuery.of(hashtagName), pageable, 5_000L))
+                .willReturn(new PageImpl<>(List.of(), pageable, 5_000L));
 
         // When
-        Throwable t = catchThrowable(() -> sut.getArticleWithComments(articleId));
+        Page<ArticleSummary> articles = sut.searchArticlesViaHashtag(hashtagName, pageable);
 
         // Then
-        assertThat(t)
-                .isInstanceOf(EntityNotFoundException.class)
-                .hasMessage("게시글이 없습니다 - articleId: " + articleId);
-        then(articleRepository).should().findById(articleId);
+        assertThat(articles.getTotalElements()).isEqualTo(5_000L);
+        then(articleRepository).should().findByHashtagQuery(HashtagQuery.of(hashtagName), pageable, 5_000L);
+        then(articleRepository).shouldHaveNoMoreInteractions();
     }
 
     @DisplayName("게시글을 조회하면, 게시글을 반환한다.")
@@ -240,6 +518,41 @@ class ArticleServiceTest {
         then(articleRepository).should().save(any(Article.class));
         then(hashtagService).should().parseHashtagNames(dto.content());
         then(hashtagService).should().findHashtagsByNames(expectedHashtagNames);
+        then(hashtagService).should().saveHashtagsIfAbsent(Set.of("spring"));
+        then(eventPublisher).should().publishEvent(any(ArticleEvent.class));
+    }
+
+    @DisplayName("게시글 여러 개를 저장하면, 작성자와 해시태그를 한 번에 조회, 저장하고 없는 작성자의 게시글은 건너뛴다.")
+    @Test
+    void givenArticleInfos_whenSavingArticles_thenResolvesUsersAndHashtagsOnce() {
+        // Given
+        List<ArticleDto> dtos = List.of(
+                ArticleImportRequest.of("jyuka", "첫 번째 글", "#java 본문").toDto("jyuka"),
+                ArticleImportRequest.of("jyuka", "두 번째 글", "#spring 본문").toDto("jyuka"),
+                ArticleImportRequest.of("ghost", "세 번째 글", "#jpa 본문").toDto("ghost")
+        );
+        given(userAccountRepository.findAllById(Set.of("jyuka", "ghost"))).willReturn(List.of(createUserAccount("jyuka")));
+        given(hashtagService.parseHashtagNames("#java 본문")).willReturn(Set.of("java"));
+        given(hashtagService.parseHashtagNames("#spring 본문")).willReturn(Set.of("spring"));
+        given(hashtagService.findHashtagsByNames(Set.of("java", "spring"))).willReturn(new HashSet<>(Set.of(createHashtag(1L, "java"))));
+        given(hashtagService.saveHashtagsIfAbsent(Set.of("spring"))).willReturn(Set.of(createHashtag(2L, "spring")));
+
+        // When
+        Set<String> missingUserIds = sut.saveArticles(dtos);
+
+        // Then
+        assertThat(missingUserIds).containsExactly("ghost");
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<Article>> articles = ArgumentCaptor.forClass(List.class);
+        then(articleRepository).should().saveAll(articles.capture());
+        assertThat(articles.getValue())
+                .extracting(Article::getTitle, article -> article.getHashtags().stream().map(Hashtag::getHashtagName).toList())
+                .containsExactly(
+                        tuple("첫 번째 글", List.of("java")),
+                        tuple("두 번째 글", List.of("spring"))
+                );
+        then(hashtagService).should(never()).parseHashtagNames("#jpa 본문");
+        then(eventPublisher).should(times(2)).publishEvent(any(ArticleEvent.class));
     }
 
     @DisplayName("게시글의 수정 정보를 입력하면, 게시글을 수정한다.")
@@ -256,10 +569,9 @@ class ArticleServiceTest {
 
         given(articleRepository.getReferenceById(dto.id())).willReturn(article);
         given(userAccountRepository.getReferenceById(dto.userAccountDto().userId())).willReturn(dto.userAccountDto().toEntity());
-        willDoNothing().given(articleRepository).flush();
-        willDoNothing().given(hashtagService).deleteHashtagWithoutArticles(any());
         given(hashtagService.parseHashtagNames(dto.content())).willReturn(expectedHashtagNames);
         given(hashtagService.findHashtagsByNames(expectedHashtagNames)).willReturn(expectedHashtags);
+        given(hashtagService.saveHashtagsIfAbsent(expectedHashtagNames)).willReturn(Set.of(createHashtag("springboot")));
 
         //When
         sut.updateArticle(dto.id(), dto);
@@ -276,11 +588,11 @@ class ArticleServiceTest {
         // 실제로 해당 메소드가 호출 되었는지 검사
         then(articleRepository).should().getReferenceById(dto.id());
         then(userAccountRepository).should().getReferenceById(dto.userAccountDto().userId());
-        then(articleRepository).should().flush();
-        then(hashtagService).should(times(2)).deleteHashtagWithoutArticles(any());
+        then(hashtagService).should(never()).deleteHashtagsWithoutArticles(any());
         then(hashtagService).should().parseHashtagNames(dto.content());
         then(hashtagService).should().findHashtagsByNames(expectedHashtagNames);
-
+        then(hashtagService).should().saveHashtagsIfAbsent(expectedHashtagNames);
+        then(eventPublisher).should().publishEvent(any(ArticleEvent.class));
     }
 
     @DisplayName("없는 게시글의 수정 정보를 입력하면, 경고 로그를 찍고 아무 것도 하지 않는다.")
@@ -307,22 +619,34 @@ class ArticleServiceTest {
         Long articleId = 1L;
         String userId = "jyuka";
         given(articleRepository.getReferenceById(articleId)).willReturn(createArticle());
-
-        // mock 생성 과정
-        // return 값이 존재하지 않는 void 형일 경우 앞의 메소드를 사용하여 명시하여 준다.
-        willDoNothing().given(articleRepository).deleteByIdAndUserAccount_UserId(articleId, userId);
-        willDoNothing().given(articleRepository).flush();
-        willDoNothing().given(hashtagService).deleteHashtagWithoutArticles(any());
+        given(articleRepository.deleteWithCommentsByIdAndUserId(articleId, userId)).willReturn(1L);
 
         //When
         sut.deleteArticle(articleId, userId);
 
         //then
         // 실제로 해당 메소드가 호출 되었는지 검사
-        then(articleRepository).should().deleteByIdAndUserAccount_UserId(articleId, userId);
         then(articleRepository).should().getReferenceById(articleId);
-        then(articleRepository).should().flush();
-        then(hashtagService).should(times(2)).deleteHashtagWithoutArticles(any());
+        then(articleRepository).should().deleteWithCommentsByIdAndUserId(articleId, userId);
+        then(hashtagService).shouldHaveNoInteractions();
+        then(eventPublisher).should().publishEvent(any(ArticleEvent.class));
+    }
+
+    @DisplayName("게시글 작성자가 아닌 사람이 게시글을 삭제하면, 아무 것도 지우지 않는다.")
+    @Test
+    void givenArticleIdWithDifferentUser_whenDeletingArticle_thenDoesNothing(){
+        //Given
+        Long articleId = 1L;
+        given(articleRepository.getReferenceById(articleId)).willReturn(createArticle());
+
+        //When
+        sut.deleteArticle(articleId, "stranger");
+
+        //then
+        then(articleRepository).should().getReferenceById(articleId);
+        then(articleRepository).shouldHaveNoMoreInteractions();
+        then(hashtagService).shouldHaveNoInteractions();
+        then(eventPublisher).shouldHaveNoInteractions();
     }
 
     @DisplayName("게시글 작성자가 아닌 사람이 수정 정보를 입력하면, 아무 것도 하지 않는다.")
@@ -343,23 +667,28 @@ class ArticleServiceTest {
         then(articleRepository).should().getReferenceById(differentArticleId);
         then(userAccountRepository).should().getReferenceById(dto.userAccountDto().userId());
         then(hashtagService).shouldHaveNoInteractions();
+        then(eventPublisher).shouldHaveNoInteractions();
     }
 
 
 
-    @DisplayName("게시글 수를 조회하면, 게시글 수를 반환한다")
+    @DisplayName("게시글 id 를 주면, 바로 앞뒤 게시글 id 를 반환하고 없다면 null 을 반환한다.")
     @Test
-    void givenNothing_whenCountingArticles_thenReturnsArticleCount() {
+    void givenArticleId_whenFindingAdjacentArticleIds_thenReturnsNeighboursOrNull() {
         // Given
-        long expected = 0L;
-        given(articleRepository.count()).willReturn(expected);
+        Long articleId = 1L;
+        given(articleRepository.findPreviousId(articleId)).willReturn(Optional.empty());
+        given(articleRepository.findNextId(articleId)).willReturn(Optional.of(5L));
 
         // When
-        long actual = sut.getArticleCount();
+        Long previousId = sut.getPreviousArticleId(articleId);
+        Long nextId = sut.getNextArticleId(articleId);
 
         // Then
-        assertThat(actual).isEqualTo(expected);
-        then(articleRepository).should().count();
+        assertThat(previousId).isNull();
+        assertThat(nextId).isEqualTo(5L);
+        then(articleRepository).should().findPreviousId(articleId);
+        then(articleRepository).should().findNextId(articleId);
     }
 
     @DisplayName("없는 해시태그를 검색하면, 빈 페이지를 반환한다.")
@@ -368,14 +697,14 @@ class ArticleServiceTest {
         // Given
         String hashtagName = "난 없지롱";
         Pageable pageable = Pageable.ofSize(20);
-        given(articleRepository.findByHashtagNames(List.of(hashtagName), pageable)).willReturn(new PageImpl<>(List.of(), pageable, 0));
+        given(articleRepository.findByHashtagQuery(HashtagQuery.of(hashtagName), pageable)).willReturn(new PageImpl<>(List.of(), pageable, 0));
 
         // When
-        Page<ArticleDto> articles = sut.searchArticlesViaHashtag(hashtagName, pageable);
+        Page<ArticleSummary> articles = sut.searchArticlesViaHashtag(hashtagName, pageable);
 
         // Then
         assertThat(articles).isEqualTo(Page.empty(pageable));
-        then(articleRepository).should().findByHashtagNames(List.of(hashtagName), pageable);
+        then(articleRepository).should().findByHashtagQuery(HashtagQuery.of(hashtagName), pageable);
     }
 
     private UserAccount createUserAccount() {
@@ -411,6 +740,10 @@ class ArticleServiceTest {
         return article;
     }
 
+    private ArticleSummary createArticleSummary() {
+        return new ArticleSummary(1L, "title", "content", Set.of("java", "spring"), LocalDateTime.now(), "jyuka", "jyuka@email.com", "jyuka");
+    }
+
     private Hashtag createHashtag(String hashtagName) {
         return createHashtag(1L, hashtagName);
     }
@@ -0,0 +1,266 @@
+package com.example.projectboard.service;
+
+import com.example.projectboard.domain.Hashtag;
+import com.example.projectboard.domain.projection.HashtagUsage;
+import com.example.projectboard.dto.ArticleDto;
+import com.example.projectboard.dto.UserAccountDto;
+import com.example.projectboard.dto.security.BoardPrincipal;
+import com.example.projectboard.repository.ArticleRepository;
+import com.example.projectboard.repository.HashtagRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 다른 테스트와 데이터를 공유하지 않도록 별도의 인메모리 DB 를 사용한다.
+ * testdb 와 같은 H2 의 MySQL 호환 모드를 사용한다. (게시글 id 는 Snowflake 이므로 identity 가 겹치지 않는다.)
+ */
+@DisplayName("비즈니스 로직 - 해시태그 동시 저장")
+@ActiveProfiles("testdb")
+@SpringBootTest(properties = "spring.datasource.url=jdbc:h2:mem:hashtag-concurrency;mode=mysql")
+class HashtagConcurrencyTest {
+
+    private static final int THREAD_COUNT = 16;
+    private static final int ARTICLE_COUNT = 2_000;
+    private static final int HASHTAG_POOL_SIZE = 40;
+    private static final int HASHTAGS_PER_ARTICLE = 3;
+
+    private final ArticleService articleService;
+    private final ArticleRepository articleRepository;
+    private final HashtagRepository hashtagRepository;
+    private final UserAccountService userAccountService;
+    private final HashtagService hashtagService;
+    private final TransactionTemplate transactionTemplate;
+
+    HashtagConcurrencyTest(
+            @Autowired ArticleService articleService,
+            @Autowired ArticleRepository articleRepository,
+            @Autowired HashtagRepository hashtagRepository,
+            @Autowired UserAccountService userAccountService,
+            @Autowired HashtagService hashtagService,
+            @Autowired PlatformTransactionManager transactionManager
+    ) {
+        this.articleService = articleService;
+        this.articleRepository = articleRepository;
+        this.hashtagRepository = hashtagRepository;
+        this.userAccountService = userAccountService;
+        this.hashtagService = hashtagService;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    @DisplayName("여러 스레드가 겹치는 새 해시태그로 게시글을 동시에 저장하면, 모든 게시글이 저장되고 해시태그는 하나씩만 생긴다.")
+    @Test
+    void givenArticlesWithOverlappingNewHashtags_whenSavingConcurrently_thenSavesEveryArticleWithoutDuplicateHashtags() throws Exception {
+        // Given
+        UserAccountDto userAccountDto = userAccountService.searchUser("jyuka").orElseThrow();
+        long previousArticleCount = articleRepository.count();
+        List<Callable<Void>> tasks = IntStream.range(0, ARTICLE_COUNT)
+                .<Callable<Void>>mapToObj(i -> () -> {
+                    saveArticleAs(userAccountDto, i);
+                    return null;
+                })
+                .toList();
+
+        // When
+        List<Throwable> failures = invokeAll(tasks);
+
+        // Then
+        assertThat(failures).isEmpty();
+        assertThat(articleRepository.count()).isEqualTo(previousArticleCount + ARTICLE_COUNT);
+
+        List<String> stressHashtagNames = hashtagRepository.findAllHashtagNames().stream()
+                .filter(name -> name.startsWith("stress"))
+                .toList();
+        assertThat(stressHashtagNames)
+                .hasSize(HASHTAG_POOL_SIZE)
+                .doesNotHaveDuplicates();
+
+        Map<String, Long> articleCounts = hashtagRepository.findHashtagUsages().stream()
+                .collect(Collectors.toMap(HashtagUsage::hashtagName, HashtagUsage::articleCount));
+        Map<String, Long> expectedArticleCounts = IntStream.range(0, ARTICLE_COUNT)
+                .boxed()
+                .flatMap(i -> hashtagNames(i).stream())
+                .collect(Collectors.groupingBy(Function.identity(), Collectors.counting()));
+        expectedArticleCounts.forEach((name, count) -> assertThat(articleCounts).containsEntry(name, count));
+    }
+
+    @DisplayName("여러 스레드가 겹치는 새 해시태그로 게시글 묶음을 동시에 저장하면, 모든 게시글에 해시태그가 빠짐없이 붙는다.")
+    @Test
+    void givenChunksWithOverlappingNewHashtags_whenSavingConcurrently_thenLinksEveryHashtag() throws Exception {
+        // Given
+        UserAccountDto userAccountDto = userAccountService.searchUser("jyuka").orElseThrow();
+        int chunkCount = 64;
+        int chunkSize = 20;
+        long previousArticleCount = articleRepository.count();
+        List<Callable<Void>> tasks = IntStream.range(0, chunkCount)
+                .<Callable<Void>>mapToObj(chunk -> () -> {
+                    List<ArticleDto> dtos = IntStream.range(chunk * chunkSize, (chunk + 1) * chunkSize)
+                            .mapToObj(i -> ArticleDto.of(userAccountDto, "bulk " + i, "대량 저장 " + i + " #bulk" + i % HASHTAG_POOL_SIZE, null))
+                            .toList();
+                    runAs(userAccountDto, () -> articleService.saveArticles(dtos));
+                    return null;
+                })
+                .toList();
+
+        // When
+        List<Throwable> failures = invokeAll(tasks);
+
+        // Then
+        assertThat(failures).isEmpty();
+        assertThat(articleRepository.count()).isEqualTo(previousArticleCount + (long) chunkCount * chunkSize);
+        Map<String, Long> articleCounts = hashtagRepository.findHashtagUsages().stream()
+                .filter(usage -> usage.hashtagName().startsWith("bulk"))
+                .collect(Collectors.toMap(HashtagUsage::hashtagName, HashtagUsage::articleCount));
+        assertThat(articleCounts).hasSize(HASHTAG_POOL_SIZE);
+        assertThat(articleCounts.values()).containsOnly((long) chunkCount * chunkSize / HASHTAG_POOL_SIZE);
+    }
+
+    @DisplayName("먼저 조회한 뒤 다른 트랜잭션이 같은 해시태그를 저장하고 커밋해도, 저장 후 다시 읽을 때 그 해시태그를 받는다.")
+    @Test
+    void givenHashtagCommittedByAnotherTransaction_whenSavingIfAbsent_thenReadsCommittedHashtag() throws Exception {
+        // Given
+        UserAccountDto userAccountDto = userAccountService.searchUser("jyuka").orElseThrow();
+        Set<String> hashtagNames = Set.of("committedMeanwhile");
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+
+        // When
+        Set<Hashtag> hashtags;
+        try {
+            hashtags = transactionTemplate.execute(status -> {
+                assertThat(hashtagRepository.findByHashtagName("committedMeanwhile")).isEmpty();
+                runInAnotherTransaction(executor, userAccountDto, hashtagNames);
+                AtomicReference<Set<Hashtag>> saved = new AtomicReference<>();
+                runAs(userAccountDto, () -> saved.set(hashtagService.saveHashtagsIfAbsent(hashtagNames)));
+                return saved.get();
+            });
+        } finally {
+            executor.shutdown();
+        }
+
+        // Then
+        assertThat(hashtags).extracting(Hashtag::getHashtagName).containsExactly("committedMeanwhile");
+        assertThat(hashtagRepository.findByHashtagName("committedMeanwhile")).get()
+                .extracting(Hashtag::getId)
+                .isEqualTo(hashtags.iterator().next().getId());
+    }
+
+    @DisplayName("게시글이 없는 해시태그를 지우는 동안 그 해시태그로 게시글을 동시에 저장해도, 모든 게시글이 해시태그와 함께 저장된다.")
+    @Test
+    void givenOrphanHashtagsBeingCollected_whenSavingArticlesConcurrently_thenSavesEveryArticle() throws Exception {
+        // Given
+        UserAccountDto userAccountDto = userAccountService.searchUser("jyuka").orElseThrow();
+        int orphanCount = 400;
+        int collectBatchSize = 10;
+        Set<String> orphanNames = IntStream.range(0, orphanCount)
+                .mapToObj(i -> "orphan" + i)
+                .collect(Collectors.toUnmodifiableSet());
+        runAs(userAccountDto, () -> hashtagService.saveHashtagsIfAbsent(orphanNames));
+        List<Long> orphanIds = hashtagRepository.findByHashtagNameIn(orphanNames).stream().map(Hashtag::getId).sorted().toList();
+        long previousArticleCount = articleRepository.count();
+
+        List<Callable<Void>> tasks = new ArrayList<>();
+        for (int i = 0; i < orphanCount; i++) {
+            int index = i;
+            tasks.add(() -> {
+                runAs(userAccountDto, () -> articleService.saveArticle(
+                        ArticleDto.of(userAccountDto, "orphan " + index, "수거 중 저장 #orphan" + index, null)
+                ));
+                return null;
+            });
+            if (i % collectBatchSize == 0) {
+                List<Long> batch = orphanIds.subList(i, Math.min(i + collectBatchSize, orphanIds.size()));
+                tasks.add(() -> {
+                    hashtagService.deleteHashtagsWithoutArticles(batch);
+                    return null;
+                });
+            }
+        }
+
+        // When
+        List<Throwable> failures = invokeAll(tasks);
+
+        // Then
+        assertThat(failures).isEmpty();
+        assertThat(articleRepository.count()).isEqualTo(previousArticleCount + orphanCount);
+        Map<String, Long> articleCounts = hashtagRepository.findHashtagUsages().stream()
+                .filter(usage -> usage.hashtagName().startsWith("orphan"))
+                .collect(Collectors.toMap(HashtagUsage::hashtagName, HashtagUsage::articleCount));
+        assertThat(articleCounts).hasSize(orphanCount);
+        assertThat(articleCounts.values()).containsOnly(1L);
+    }
+
+    private void runInAnotherTransaction(ExecutorService executor, UserAccountDto userAccountDto, Set<String> hashtagNames) {
+        try {
+            executor.submit(() -> runAs(userAccountDto, () -> hashtagService.saveHashtagsIfAbsent(hashtagNames))).get();
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private List<Throwable> invokeAll(List<Callable<Void>> tasks) throws InterruptedException {
+        ExecutorService executor = Executors.newFixedThreadPool(THREAD_COUNT);
+        List<Throwable> failures = new ArrayList<>();
+        try {
+            for (Future<Void> future : executor.invokeAll(tasks)) {
+                try {
+                    future.get();
+                } catch (Exception e) {
+                    failures.add(e.getCause());
+                }
+            }
+        } finally {
+            executor.shutdown();
+            executor.awaitTermination(1, TimeUnit.MINUTES);
+        }
+
+        return failures;
+    }
+
+    private void saveArticleAs(UserAccountDto userAccountDto, int index) {
+        String content = "동시 저장 " + index + " " + hashtagNames(index).stream()
+                .map(name -> "#" + name)
+                .collect(Collectors.joining(" "));
+        runAs(userAccountDto, () -> articleService.saveArticle(ArticleDto.of(userAccountDto, "title " + index, content, null)));
+    }
+
+    private static void runAs(UserAccountDto userAccountDto, Runnable task) {
+        BoardPrincipal principal = BoardPrincipal.from(userAccountDto);
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(principal, null, principal.getAuthorities())
+        );
+        try {
+            task.run();
+        } finally {
+            SecurityContextHolder.clearContext();
+        }
+    }
+
+    // 이웃한 게시글끼리 해시태그가 겹치도록 고른다.
+    private static List<String> hashtagNames(int index) {
+        return IntStream.range(0, HASHTAGS_PER_ARTICLE)
+                .mapToObj(offset -> "stress" + (index + offset) % HASHTAG_POOL_SIZE)
+                .toList();
+    }
+}
@@ -2,16 +2,25 @@ package com.example.projectboard.service;
 
 import com.example.projectboard.domain.Article;
 import com.example.projectboard.domain.Hashtag;
+import com.example.projectboard.domain.projection.HashtagUsage;
+import com.example.projectboard.dto.event.HashtagDeletedEvent;
 import com.example.projectboard.repository.HashtagRepository;
+import com.example.projectboard.service.cache.ArticleCounter;
+import com.example.projectboard.service.search.HashtagNameFilter;
+import com.example.projectboard.service.search.HashtagSuggester;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
+import org.mockito.InOrder;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 
 import java.util.LinkedHashSet;
 import java.util.List;
@@ -21,8 +30,10 @@ import java.util.stream.Stream;
 
 import static org.assertj.core.api.Assertions.*;
 import static org.junit.jupiter.params.provider.Arguments.arguments;
+import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.inOrder;
 
 @DisplayName("비즈니스 로직 - 해시태그")
 @ExtendWith(MockitoExtension.class)
@@ -34,6 +45,18 @@ class HashtagServiceTest {
     @Mock
     private HashtagRepository hashtagRepository;
 
+    @Mock
+    private HashtagSuggester hashtagSuggester;
+
+    @Mock
+    private ArticleCounter articleCounter;
+
+    @Mock
+    private HashtagNameFilter hashtagNameFilter;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     @DisplayName("본문을 파싱하면, 해시태그 이름들을 중복없이 반환한다.")
     @MethodSource
     @ParameterizedTest(name = "[{index}] \"{0}\" => {1}")
@@ -96,7 +119,8 @@ class HashtagServiceTest {
     void givenHashtagNames_whenFindingHashtags_thenReturnsHashtagSet() {
         // Given
         Set<String> hashtagNames = Set.of("java", "spring", "boots");
-        given(hashtagRepository.findByHashtagNameIn(hashtagNames)).willReturn(List.of(
+        given(hashtagNameFilter.mightExist(anyString())).willReturn(true);
+        given(hashtagRepository.findByHashtagNamesForShare(hashtagNames)).willReturn(List.of(
                 Hashtag.of("java"),
                 Hashtag.of("spring")
         ));
@@ -106,7 +130,117 @@ class HashtagServiceTest {
 
         // Then
         assertThat(hashtags).hasSize(2);
-        then(hashtagRepository).should().findByHashtagNameIn(hashtagNames);
+        InOrder inOrder = inOrder(hashtagRepository);
+        inOrder.verify(hashtagRepository).lockHashtagNames(hashtagNames);
+        inOrder.verify(hashtagRepository).findByHashtagNamesForShare(hashtagNames);
+    }
+
+    @DisplayName("저장된 적 없는 해시태그 이름들을 입력하면, 이름만 잠그고 조회 없이 빈 Set을 반환한다.")
+    @Test
+    void givenNewHashtagNames_whenFindingHashtags_thenReturnsEmptySetWithoutQuery() {
+        // Given
+        Set<String> hashtagNames = Set.of("kotlin", "ktor");
+        given(hashtagNameFilter.mightExist(anyString())).willReturn(false);
+
+        // When
+        Set<Hashtag> hashtags = sut.findHashtagsByNames(hashtagNames);
+
+        // Then
+        assertThat(hashtags).isEmpty();
+        then(hashtagRepository).should().lockHashtagNames(hashtagNames);
+        then(hashtagRepository).shouldHaveNoMoreInteractions();
+    }
+
+    @DisplayName("필터에 있을 수도 있는 해시태그 이름만, DB 에서 조회한다.")
+    @Test
+    void givenMixedHashtagNames_whenFindingHashtags_thenQueriesOnlyCandidates() {
+        // Given
+        given(hashtagNameFilter.mightExist("java")).willReturn(true);
+        given(hashtagNameFilter.mightExist("kotlin")).willReturn(false);
+        given(hashtagRepository.findByHashtagNamesForShare(Set.of("java"))).willReturn(List.of(Hashtag.of("java")));
+
+        // When
+        Set<Hashtag> hashtags = sut.findHashtagsByNames(Set.of("java", "kotlin"));
+
+        // Then
+        assertThat(hashtags).hasSize(1);
+        then(hashtagRepository).should().lockHashtagNames(Set.of("java", "kotlin"));
+        then(hashtagRepository).should().findByHashtagNamesForShare(Set.of("java"));
+    }
+
+    @DisplayName("새 해시태그 이름들을 입력하면, 없는 경우에만 저장하고 저장된 해시태그를 반환한다.")
+    @Test
+    void givenNewHashtagNames_whenSavingIfAbsent_thenInsertsAndReturnsHashtags() {
+        // Given
+        Set<String> hashtagNames = Set.of("spring", "java", "kotlin");
+        given(hashtagRepository.findByHashtagNamesForShare(hashtagNames)).willReturn(List.of(
+                Hashtag.of("java"),
+                Hashtag.of("kotlin"),
+                Hashtag.of("spring")
+        ));
+
+        // When
+        Set<Hashtag> hashtags = sut.saveHashtagsIfAbsent(hashtagNames);
+
+        // Then
+        assertThat(hashtags).extracting(Hashtag::getHashtagName).containsExactlyInAnyOrder("java", "kotlin", "spring");
+        InOrder inOrder = inOrder(hashtagNameFilter, hashtagRepository);
+        inOrder.verify(hashtagNameFilter).add("java");
+        inOrder.verify(hashtagRepository).insertIfAbsent(hashtagNames);
+        inOrder.verify(hashtagRepository).findByHashtagNamesForShare(hashtagNames);
+    }
+
+    @DisplayName("저장할 해시태그 이름이 없으면, 아무 쿼리도 실행하지 않는다.")
+    @Test
+    void givenNoHashtagNames_whenSavingIfAbsent_thenReturnsEmptySetWithoutQuery() {
+        // Given
+
+        // When
+        Set<Hashtag> hashtags = sut.saveHashtagsIfAbsent(Set.of());
+
+        // Then
+        assertThat(hashtags).isEmpty();
+        then(hashtagRepository).shouldHaveNoInteractions();
+    }
+
+    @DisplayName("게시글이 없는 해시태그를 삭제하면, 해시태그 삭제 이벤트를 발행한다.")
+    @Test
+    void givenHashtagWithoutArticles_whenDeleting_thenPublishesEvent() {
+        // Given
+        Set<Long> hashtagIds = Set.of(1L, 2L);
+        given(hashtagRepository.deleteWithoutArticles(hashtagIds)).willReturn(List.of("java"));
+
+        // When
+        int deleted = sut.deleteHashtagsWithoutArticles(hashtagIds);
+
+        // Then
+        assertThat(deleted).isEqualTo(1);
+        then(hashtagRepository).should().deleteWithoutArticles(hashtagIds);
+        then(eventPublisher).should().publishEvent(HashtagDeletedEvent.of("java"));
+        then(eventPublisher).shouldHaveNoMoreInteractions();
+    }
+
+    @DisplayName("해시태그 목록을 조회하면, 게시글이 많은 순서로 요청한 페이지를 DB 조회 없이 반환한다.")
+    @Test
+    void givenPageable_whenGettingHashtagCatalogue_thenReturnsPageOfRanking() {
+        // Given
+        given(articleCounter.getHashtagRanking()).willReturn(List.of(
+                new HashtagUsage("java", 3),
+                new HashtagUsage("spring", 2),
+                new HashtagUsage("boot", 1)
+        ));
+
+        // When
+        Page<HashtagUsage> firstPage = sut.getHashtagCatalogue(PageRequest.of(0, 2));
+        Page<HashtagUsage> lastPage = sut.getHashtagCatalogue(PageRequest.of(1, 2));
+        Page<HashtagUsage> outOfRange = sut.getHashtagCatalogue(PageRequest.of(5, 2));
+
+        // Then
+        assertThat(firstPage.getContent()).extracting(HashtagUsage::hashtagName).containsExactly("java", "spring");
+        assertThat(firstPage.getTotalElements()).isEqualTo(3);
+        assertThat(lastPage.getContent()).extracting(HashtagUsage::hashtagName).containsExactly("boot");
+        assertThat(outOfRange.getContent()).isEmpty();
+        then(hashtagRepository).shouldHaveNoInteractions();
     }
 
     @DisplayName("")
@@ -154,4 +288,20 @@ class HashtagServiceTest {
         }
     }
 
-}
\ No newline at end of file
+
+    @DisplayName("해시태그 접두어를 주면, 자동완성 해시태그 리스트를 DB 조회 없이 반환한다.")
+    @Test
+    void givenPrefix_whenSuggestingHashtags_thenReturnsHashtagUsages() {
+        // Given
+        String prefix = "ja";
+        List<HashtagUsage> expected = List.of(new HashtagUsage("java", 10), new HashtagUsage("jakarta", 2));
+        given(hashtagSuggester.suggest(prefix, 10)).willReturn(expected);
+
+        // When
+        List<HashtagUsage> actual = sut.suggestHashtags(prefix, 10);
+
+        // Then
+        assertThat(actual).isEqualTo(expected);
+        then(hashtagRepository).shouldHaveNoInteractions();
+    }
+}
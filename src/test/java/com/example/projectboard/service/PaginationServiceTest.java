@@ -1,5 +1,8 @@
 package com.example.projectboard.service;
 
+import com.example.projectboard.dto.response.ArticleSummaryResponse;
+import com.example.projectboard.repository.querydsl.ArticleCursor;
+import com.example.projectboard.repository.querydsl.CursorSlice;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
@@ -8,7 +11,9 @@ import org.junit.jupiter.params.provider.MethodSource;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Set;
 import java.util.stream.Stream;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -66,4 +71,29 @@ class PaginationServiceTest {
         //then
         assertThat(barLength).isEqualTo(5);
     }
-}
\ No newline at end of file
+
+    @DisplayName("커서 페이징 결과를 주면, 첫 번째와 마지막 게시글로 이전/다음 커서를 만들어 준다.")
+    @Test
+    void givenCursorSlice_whenCalculating_thenReturnsCursorBar(){
+        //Given
+        LocalDateTime now = LocalDateTime.of(2023, 1, 1, 0, 0);
+        List<ArticleSummaryResponse> content = List.of(
+                ArticleSummaryResponse.of(3L, "title", "content", Set.of(), now.plusDays(2), "jyuka@mail.com", "jyuka"),
+                ArticleSummaryResponse.of(2L, "title", "content", Set.of(), now.plusDays(1), "jyuka@mail.com", "jyuka")
+        );
+
+        //When
+        PaginationService.CursorBar middle = sut.getCursorBar(new CursorSlice<>(content, 2, true, true));
+        PaginationService.CursorBar first = sut.getCursorBar(new CursorSlice<>(content, 2, false, true));
+        PaginationService.CursorBar empty = sut.getCursorBar(CursorSlice.empty(2));
+
+        //then
+        assertThat(middle).isEqualTo(new PaginationService.CursorBar(
+                ArticleCursor.encode(now.plusDays(2), 3L),
+                ArticleCursor.encode(now.plusDays(1), 2L)
+        ));
+        assertThat(first.previous()).isNull();
+        assertThat(first.next()).isEqualTo(middle.next());
+        assertThat(empty).isEqualTo(new PaginationService.CursorBar(null, null));
+    }
+}
@@ -2,19 +2,24 @@ package com.example.projectboard.service;
 
 import com.example.projectboard.domain.UserAccount;
 import com.example.projectboard.dto.UserAccountDto;
+import com.example.projectboard.dto.event.UserAccountSavedEvent;
 import com.example.projectboard.repository.UserAccountRepository;
+import com.example.projectboard.service.cache.UserAccountCache;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 
 import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.*;
-import static org.mockito.BDDMockito.given;
-import static org.mockito.BDDMockito.then;
+import static org.mockito.BDDMockito.*;
 
 @DisplayName("비즈니스 로직 - 회원")
 @ExtendWith(MockitoExtension.class)
@@ -26,6 +31,12 @@ class UserAccountServiceTest {
     @Mock
     private UserAccountRepository userAccountRepository;
 
+    @Spy
+    private UserAccountCache userAccountCache = new UserAccountCache(new SimpleMeterRegistry());
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     @DisplayName("존재하는 회원 ID를 검색하면, 회원 데이터를 Optional로 반환한다.")
     @Test
     void givenExistentUserId_whenSearching_thenReturnsOptionalUserData() {
@@ -83,6 +94,76 @@ class UserAccountServiceTest {
                 .hasFieldOrPropertyWithValue("createdBy", userAccount.getUserId())
                 .hasFieldOrPropertyWithValue("modifiedBy", userAccount.getUserId());
         then(userAccountRepository).should().save(userAccount);
+        then(eventPublisher).should().publishEvent(UserAccountSavedEvent.of(userAccount.getUserId()));
+    }
+
+    @DisplayName("같은 회원 ID를 여러 번 검색하면, 회원 데이터는 한 번만 조회한다.")
+    @Test
+    void givenSameUserId_whenSearchingRepeatedly_thenLoadsOnce() {
+        // Given
+        String username = "jyuka";
+        given(userAccountRepository.findById(username)).willReturn(Optional.of(createUserAccount(username)));
+
+        // When
+        Optional<UserAccountDto> first = sut.searchUser(username);
+        Optional<UserAccountDto> second = sut.searchUser(username);
+
+        // Then
+        assertThat(second).isEqualTo(first).isPresent();
+        then(userAccountRepository).should(times(1)).findById(username);
+    }
+
+    @DisplayName("존재하지 않던 회원이 가입하면, 트랜잭션이 커밋된 이후의 검색에서 새 회원 데이터를 반환한다.")
+    @Test
+    void givenSignedUpUser_whenSearching_thenReturnsSavedUserData() {
+        // Given
+        UserAccount userAccount = createUserAccount("kakao_123");
+        given(userAccountRepository.findById(userAccount.getUserId()))
+                .willReturn(Optional.empty())
+                .willReturn(Optional.of(userAccount));
+        given(userAccountRepository.save(userAccount)).willReturn(createSigningUpUserAccount(userAccount.getUserId()));
+        sut.searchUser(userAccount.getUserId());
+
+        // When
+        sut.saveUser(
+                userAccount.getUserId(),
+                userAccount.getUserPassword(),
+                userAccount.getEmail(),
+                userAccount.getNickname(),
+                userAccount.getMemo()
+        );
+        ArgumentCaptor<UserAccountSavedEvent> event = ArgumentCaptor.forClass(UserAccountSavedEvent.class);
+        then(eventPublisher).should().publishEvent(event.capture());
+        userAccountCache.onUserAccountSavedEvent(event.getValue()); // 커밋 이후
+        Optional<UserAccountDto> result = sut.searchUser(userAccount.getUserId());
+
+        // Then
+        assertThat(result).isPresent();
+        then(userAccountRepository).should(times(2)).findById(userAccount.getUserId());
+    }
+
+    @DisplayName("회원을 저장해도, 트랜잭션이 커밋되기 전에는 캐시에서 지우지 않는다.")
+    @Test
+    void givenCachedUser_whenSavingBeforeCommit_thenDoesNotEvictCache() {
+        // Given
+        UserAccount userAccount = createUserAccount("jyuka");
+        given(userAccountRepository.findById(userAccount.getUserId())).willReturn(Optional.of(userAccount));
+        given(userAccountRepository.save(userAccount)).willReturn(createSigningUpUserAccount(userAccount.getUserId()));
+        sut.searchUser(userAccount.getUserId());
+
+        // When
+        sut.saveUser(
+                userAccount.getUserId(),
+                userAccount.getUserPassword(),
+                userAccount.getEmail(),
+                userAccount.getNickname(),
+                userAccount.getMemo()
+        );
+        sut.searchUser(userAccount.getUserId());
+
+        // Then
+        then(userAccountRepository).should(times(1)).findById(userAccount.getUserId());
+        then(userAccountCache).should(never()).onUserAccountSavedEvent(any());
     }
 
 
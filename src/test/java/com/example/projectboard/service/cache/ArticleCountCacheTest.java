@@ -0,0 +1,71 @@
+package com.example.projectboard.service.cache;
+
+import com.example.projectboard.config.PaginationProperties;
+import com.example.projectboard.domain.constant.SearchType;
+import com.example.projectboard.repository.ArticleRepository;
+import com.example.projectboard.repository.querydsl.HashtagQuery;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.Executor;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.*;
+
+@DisplayName("캐시 - 게시글 전체 개수")
+class ArticleCountCacheTest {
+
+    private final ArticleRepository articleRepository = mock(ArticleRepository.class);
+    private final PaginationProperties paginationProperties = new PaginationProperties(PaginationProperties.CountMode.APPROXIMATE, Duration.ofMinutes(1));
+
+    @DisplayName("검색 조건별로 개수를 한 번만 세고, 이후에는 캐시된 개수를 반환한다.")
+    @Test
+    void givenSearchConditions_whenGettingApproximateCount_thenCountsOncePerCondition() {
+        // Given
+        ArticleCountCache sut = new ArticleCountCache(articleRepository, paginationProperties, new SimpleMeterRegistry(), Runnable::run);
+        HashtagQuery hashtagQuery = HashtagQuery.parse("java +spring");
+        given(articleRepository.countBySearch(null, null)).willReturn(123L);
+        given(articleRepository.countBySearch(SearchType.TITLE, "spring")).willReturn(10L);
+        given(articleRepository.countByContentFullText("spring")).willReturn(20L);
+        given(articleRepository.countByHashtagQuery(hashtagQuery)).willReturn(30L);
+
+        // When & Then
+        assertThat(sut.getApproximateCount(ArticleCountCache.Key.of(SearchType.TITLE, " "))).isEqualTo(123L);
+        assertThat(sut.getApproximateCount(ArticleCountCache.Key.of(null, null))).isEqualTo(123L);
+        assertThat(sut.getApproximateCount(ArticleCountCache.Key.of(SearchType.TITLE, "spring"))).isEqualTo(10L);
+        assertThat(sut.getApproximateCount(ArticleCountCache.Key.ofFullText("spring"))).isEqualTo(20L);
+        assertThat(sut.getApproximateCount(ArticleCountCache.Key.of(hashtagQuery))).isEqualTo(30L);
+        then(articleRepository).should(times(1)).countBySearch(null, null);
+    }
+
+    @DisplayName("개수를 아직 세는 중이라면, 기다리지 않고 0 을 반환한다.")
+    @Test
+    void givenCountInProgress_whenGettingApproximateCount_thenReturnsZeroWithoutWaiting() {
+        // Given
+        Executor never = command -> {};
+        ArticleCountCache sut = new ArticleCountCache(articleRepository, paginationProperties, new SimpleMeterRegistry(), never);
+
+        // When
+        long actual = sut.getApproximateCount(ArticleCountCache.Key.of(null, null));
+
+        // Then
+        assertThat(actual).isZero();
+        then(articleRepository).shouldHaveNoInteractions();
+    }
+
+    @DisplayName("개수를 세다 실패하면, 0 을 반환하고 다음 요청에서 다시 센다.")
+    @Test
+    void givenCountFailure_whenGettingApproximateCount_thenReturnsZeroAndRetries() {
+        // Given
+        ArticleCountCache sut = new ArticleCountCache(articleRepository, paginationProperties, new SimpleMeterRegistry(), Runnable::run);
+        given(articleRepository.countBySearch(null, null))
+                .willThrow(new IllegalStateException("connection closed"))
+                .willReturn(123L);
+
+        // When & Then
+        assertThat(sut.getApproximateCount(ArticleCountCache.Key.of(null, null))).isZero();
+        assertThat(sut.getApproximateCount(ArticleCountCache.Key.of(null, null))).isEqualTo(123L);
+    }
+}
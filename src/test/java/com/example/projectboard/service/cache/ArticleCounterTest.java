@@ -0,0 +1,191 @@
+package com.example.projectboard.service.cache;
+
+import com.example.projectboard.domain.projection.HashtagUsage;
+import com.example.projectboard.dto.ArticleDto;
+import com.example.projectboard.dto.HashtagDto;
+import com.example.projectboard.dto.UserAccountDto;
+import com.example.projectboard.dto.event.ArticleEvent;
+import com.example.projectboard.repository.HashtagRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.*;
+
+@DisplayName("캐시 - 해시태그별 게시글 수")
+@ExtendWith(MockitoExtension.class)
+class ArticleCounterTest {
+
+    @InjectMocks
+    private ArticleCounter sut;
+
+    @Mock
+    private HashtagRepository hashtagRepository;
+
+    @DisplayName("DB 에서 다시 세면, 해시태그별 게시글 수를 반환한다.")
+    @Test
+    void givenArticles_whenReconciling_thenReturnsCounts() {
+        // Given
+        given(hashtagRepository.findHashtagUsages()).willReturn(List.of(new HashtagUsage("java", 10L)));
+
+        // When
+        sut.reconcile();
+
+        // Then
+        assertThat(sut.getHashtagArticleCount("java")).isEqualTo(10L);
+        assertThat(sut.getHashtagArticleCount("spring")).isZero();
+    }
+
+    @DisplayName("게시글이 등록, 수정, 삭제되면 쿼리 없이 개수를 갱신한다.")
+    @Test
+    void givenArticleEvents_whenApplying_thenUpdatesCountsWithoutQuery() {
+        // Given
+        given(hashtagRepository.findHashtagUsages()).willReturn(List.of(new HashtagUsage("java", 1L)));
+        sut.reconcile();
+        ArticleDto created = createArticleDto("java", "spring");
+        ArticleDto updated = createArticleDto("spring", "jpa");
+
+        // When & Then
+        sut.onArticleEvent(ArticleEvent.created(created));
+        assertThat(sut.getHashtagArticleCount("java")).isEqualTo(2L);
+        assertThat(sut.getHashtagArticleCount("spring")).isEqualTo(1L);
+
+        sut.onArticleEvent(ArticleEvent.updated(created, updated));
+        assertThat(sut.getHashtagArticleCount("java")).isEqualTo(1L);
+        assertThat(sut.getHashtagArticleCount("spring")).isEqualTo(1L);
+        assertThat(sut.getHashtagArticleCount("jpa")).isEqualTo(1L);
+
+        sut.onArticleEvent(ArticleEvent.deleted(updated));
+        assertThat(sut.getHashtagArticleCount("spring")).isZero();
+        assertThat(sut.getHashtagArticleCount("jpa")).isZero();
+        then(hashtagRepository).should(times(1)).findHashtagUsages();
+    }
+
+    @DisplayName("해시태그 순위를 조회하면, 게시글이 많은 순서(같다면 이름 순서)로 반환하고 개수가 바뀌면 다시 정렬한다.")
+    @Test
+    void givenHashtagCounts_whenGettingRanking_thenReturnsHashtagsOrderedByArticleCount() {
+        // Given
+        given(hashtagRepository.findHashtagUsages()).willReturn(List.of(
+                new HashtagUsage("spring", 2L),
+                new HashtagUsage("java", 3L),
+                new HashtagUsage("boot", 2L)
+        ));
+        sut.reconcile();
+
+        // When & Then
+        assertThat(sut.getHashtagRanking()).containsExactly(
+                new HashtagUsage("java", 3L),
+                new HashtagUsage("boot", 2L),
+                new HashtagUsage("spring", 2L)
+        );
+
+        sut.onArticleEvent(ArticleEvent.created(createArticleDto("spring", "spring_boot")));
+        sut.onArticleEvent(ArticleEvent.created(createArticleDto("spring")));
+        assertThat(sut.getHashtagRanking()).containsExactly(
+                new HashtagUsage("spring", 4L),
+                new HashtagUsage("java", 3L),
+                new HashtagUsage("boot", 2L),
+                new HashtagUsage("spring_boot", 1L)
+        );
+    }
+
+    @DisplayName("순위를 정렬하는 도중에 개수가 바뀌면, 정렬한 순위를 저장하지 않고 다음 조회 때 다시 정렬한다.")
+    @Test
+    void givenCountChangedWhileRanking_whenGettingRanking_thenDoesNotKeepStaleRanking() throws Exception {
+        // Given
+        given(hashtagRepository.findHashtagUsages()).willReturn(IntStream.range(0, 20_000)
+                .mapToObj(i -> new HashtagUsage("tag" + i, 1L))
+                .toList());
+        sut.reconcile();
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        ArticleDto article = createArticleDto("java");
+        ArticleDto other = createArticleDto("other");
+
+        try {
+            for (int round = 1; round <= 50; round++) {
+                // When
+                sut.onArticleEvent(ArticleEvent.created(other)); // 저장된 순위를 비운다.
+                sut.onArticleEvent(ArticleEvent.deleted(other));
+                CyclicBarrier barrier = new CyclicBarrier(2);
+                Future<?> writer = executor.submit(() -> {
+                    barrier.await();
+                    TimeUnit.MILLISECONDS.sleep(1); // 정렬하는 도중에 개수를 바꾼다.
+                    sut.onArticleEvent(ArticleEvent.created(article));
+                    return null;
+                });
+                Future<?> reader = executor.submit(() -> {
+                    barrier.await();
+                    sut.getHashtagRanking();
+                    return null;
+                });
+                writer.get();
+                reader.get();
+
+                // Then
+                assertThat(sut.getHashtagRanking()).first().isEqualTo(new HashtagUsage("java", (long) round));
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @DisplayName("다시 세는 도중에 게시글이 등록되면, 새로 센 값에 반영한다.")
+    @Test
+    void givenArticleCreatedWhileReconciling_whenReconciling_thenKeepsChange() {
+        // Given
+        given(hashtagRepository.findHashtagUsages()).willAnswer(invocation -> {
+            sut.onArticleEvent(ArticleEvent.created(createArticleDto("java")));
+            return List.of(new HashtagUsage("spring", 5L));
+        });
+
+        // When
+        sut.reconcile();
+
+        // Then
+        assertThat(sut.getHashtagArticleCount("java")).isEqualTo(1L);
+        assertThat(sut.getHashtagArticleCount("spring")).isEqualTo(5L);
+    }
+
+    @DisplayName("다시 세다가 실패하면, 기존 값을 유지한다.")
+    @Test
+    void givenQueryFailure_whenReconciling_thenKeepsPreviousCounts() {
+        // Given
+        sut.onArticleEvent(ArticleEvent.created(createArticleDto("java")));
+        given(hashtagRepository.findHashtagUsages()).willThrow(new IllegalStateException("connection refused"));
+
+        // When
+        sut.reconcile();
+
+        // Then
+        assertThat(sut.getHashtagArticleCount("java")).isEqualTo(1L);
+    }
+
+    private ArticleDto createArticleDto(String... hashtagNames) {
+        return ArticleDto.of(
+                1L,
+                UserAccountDto.of("jyuka", "pw", "jyuka@mail.com", "jyuka", null),
+                "title",
+                "content",
+                Arrays.stream(hashtagNames).map(HashtagDto::of).collect(Collectors.toUnmodifiableSet()),
+                LocalDateTime.now(),
+                "jyuka",
+                LocalDateTime.now(),
+                "jyuka"
+        );
+    }
+}
@@ -0,0 +1,162 @@
+package com.example.projectboard.service.cache;
+
+import com.example.projectboard.dto.ArticleCommentDto;
+import com.example.projectboard.dto.ArticleDto;
+import com.example.projectboard.dto.UserAccountDto;
+import com.example.projectboard.dto.event.ArticleCommentEvent;
+import com.example.projectboard.dto.event.ArticleEvent;
+import com.example.projectboard.dto.response.ArticleCommentsResponse;
+import com.example.projectboard.dto.response.ArticleWithCommentsResponse;
+import com.example.projectboard.repository.querydsl.ArticleCursor;
+import com.example.projectboard.repository.querydsl.CursorSlice;
+import com.example.projectboard.service.ArticleCommentService;
+import com.example.projectboard.service.ArticleService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import javax.persistence.EntityNotFoundException;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.BDDMockito.*;
+
+@DisplayName("캐시 - 게시글 상세")
+class ArticleDetailCacheTest {
+
+    private static final LocalDateTime COMMENT_CREATED_AT = LocalDateTime.of(2023, 3, 14, 10, 0);
+
+    private final ArticleService articleService = mock(ArticleService.class);
+    private final ArticleCommentService articleCommentService = mock(ArticleCommentService.class);
+    private final ArticleDetailCache sut = new ArticleDetailCache(articleService, articleCommentService, new SimpleMeterRegistry());
+
+    @BeforeEach
+    void setUp() {
+        given(articleCommentService.searchParentComments(anyLong(), any(), eq(ArticleDetailCache.COMMENT_PAGE_SIZE)))
+                .willAnswer(invocation -> createParentComments(invocation.getArgument(0)));
+        given(articleCommentService.countChildComments(any())).willReturn(Map.of(1L, 3L));
+    }
+
+    @DisplayName("같은 게시글을 여러 번 조회하면, 게시글과 댓글 첫 페이지는 한 번만 조회한다.")
+    @Test
+    void givenSameArticleId_whenGettingRepeatedly_thenLoadsOnce() {
+        // Given
+        given(articleService.getArticle(1L)).willReturn(createArticleDto(1L, "content"));
+
+        // When
+        ArticleWithCommentsResponse first = sut.get(1L);
+        ArticleWithCommentsResponse second = sut.get(1L);
+
+        // Then
+        assertThat(second).isSameAs(first);
+        assertThat(first.articleCommentsResponse().comments())
+                .singleElement()
+                .hasFieldOrPropertyWithValue("childCommentCount", 3L);
+        assertThat(first.articleCommentsResponse().hasNext()).isTrue();
+        then(articleService).should(times(1)).getArticle(1L);
+        then(articleCommentService).should(times(1)).searchParentComments(1L, null, ArticleDetailCache.COMMENT_PAGE_SIZE);
+        then(articleCommentService).should(times(1)).countChildComments(List.of(1L));
+    }
+
+    @DisplayName("다음 댓글 페이지를 조회하면, 캐시하지 않고 매번 커서로 조회한다.")
+    @Test
+    void givenCursor_whenGettingComments_thenLoadsWithoutCaching() {
+        // Given
+        ArticleCursor cursor = ArticleCursor.of(ArticleCursor.encode(LocalDateTime.now(), 1L), null);
+
+        // When
+        ArticleCommentsResponse first = sut.getComments(1L, cursor);
+        ArticleCommentsResponse second = sut.getComments(1L, cursor);
+
+        // Then
+        assertThat(second).isEqualTo(first);
+        then(articleCommentService).should(times(2)).searchParentComments(1L, cursor, ArticleDetailCache.COMMENT_PAGE_SIZE);
+        then(articleService).shouldHaveNoInteractions();
+    }
+
+    @DisplayName("게시글이 수정되거나 댓글이 바뀌면, 해당 게시글의 캐시만 지운다.")
+    @Test
+    void givenArticleAndCommentEvents_whenApplying_thenEvictsOnlyThatArticle() {
+        // Given
+        given(articleService.getArticle(1L)).willReturn(createArticleDto(1L, "content"));
+        given(articleService.getArticle(2L)).willReturn(createArticleDto(2L, "content"));
+        sut.get(1L);
+        sut.get(2L);
+        ArticleDto article = ArticleDto.of(1L, createUserAccountDto(), "title", "content", Set.of(), LocalDateTime.now(), "jyuka", LocalDateTime.now(), "jyuka");
+
+        // When
+        sut.onArticleEvent(ArticleEvent.updated(article, article));
+        sut.get(1L);
+        sut.onArticleCommentEvent(ArticleCommentEvent.of(1L));
+        sut.get(1L);
+        sut.get(2L);
+
+        // Then
+        then(articleService).should(times(3)).getArticle(1L);
+        then(articleService).should(times(1)).getArticle(2L);
+    }
+
+    @DisplayName("없는 게시글은 캐시하지 않고 예외를 그대로 던진다.")
+    @Test
+    void givenNonexistentArticleId_whenGetting_thenThrowsWithoutCaching() {
+        // Given
+        given(articleService.getArticle(0L)).willThrow(new EntityNotFoundException("게시글이 없습니다 - articleId: 0"));
+
+        // When & Then
+        assertThatThrownBy(() -> sut.get(0L)).isInstanceOf(EntityNotFoundException.class);
+        assertThatThrownBy(() -> sut.get(0L)).isInstanceOf(EntityNotFoundException.class);
+        then(articleService).should(times(2)).getArticle(0L);
+    }
+
+    @DisplayName("너무 긴 게시글은 캐시하지 않는다.")
+    @Test
+    void givenTooLargeArticle_whenGetting_thenDoesNotCache() {
+        // Given
+        given(articleService.getArticle(1L)).willReturn(createArticleDto(1L, "가".repeat(1024 * 1024)));
+
+        // When
+        sut.get(1L);
+        sut.get(1L);
+
+        // Then
+        then(articleService).should(times(2)).getArticle(1L);
+    }
+
+    @DisplayName("게시글의 무게는 본문과 댓글의 길이에 비례한다.")
+    @Test
+    void givenArticles_whenWeighing_thenWeightGrowsWithContentLength() {
+        // Given
+        ArticleCommentsResponse comments = ArticleCommentsResponse.from(createParentComments(1L));
+        ArticleWithCommentsResponse shortArticle = ArticleWithCommentsResponse.from(createArticleDto(1L, "content"), comments);
+        ArticleWithCommentsResponse longArticle = ArticleWithCommentsResponse.from(createArticleDto(1L, "content".repeat(100)), comments);
+
+        // When
+        int shortWeight = ArticleDetailCache.weigh(shortArticle);
+        int longWeight = ArticleDetailCache.weigh(longArticle);
+
+        // Then
+        assertThat(longWeight - shortWeight).isEqualTo("content".length() * 99 * 2);
+    }
+
+    private ArticleDto createArticleDto(Long id, String content) {
+        return ArticleDto.of(id, createUserAccountDto(), "title", content, Set.of(), LocalDateTime.now(), "jyuka", LocalDateTime.now(), "jyuka");
+    }
+
+    private CursorSlice<ArticleCommentDto> createParentComments(Long articleId) {
+        return new CursorSlice<>(
+                List.of(ArticleCommentDto.of(1L, articleId, createUserAccountDto(), null, "comment", COMMENT_CREATED_AT, "jyuka", COMMENT_CREATED_AT, "jyuka")),
+                ArticleDetailCache.COMMENT_PAGE_SIZE,
+                false,
+                true
+        );
+    }
+
+    private UserAccountDto createUserAccountDto() {
+        return UserAccountDto.of("jyuka", "pw", "jyuka@mail.com", "jyuka", null);
+    }
+}
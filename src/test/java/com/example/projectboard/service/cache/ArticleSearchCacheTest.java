@@ -0,0 +1,144 @@
+package com.example.projectboard.service.cache;
+
+import com.example.projectboard.domain.constant.SearchType;
+import com.example.projectboard.domain.projection.ArticleSummary;
+import com.example.projectboard.dto.ArticleDto;
+import com.example.projectboard.dto.HashtagDto;
+import com.example.projectboard.dto.UserAccountDto;
+import com.example.projectboard.dto.event.ArticleEvent;
+import com.example.projectboard.service.search.ArticleSearchIndex;
+import com.example.projectboard.service.search.HashtagBitmapIndex;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.annotation.Order;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("캐시 - 게시글 검색 결과")
+class ArticleSearchCacheTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final ArticleSearchCache sut = new ArticleSearchCache(meterRegistry);
+
+    @DisplayName("검색어는 앞뒤 공백을 없애고 연속된 공백을 하나로 줄인 값으로 캐시를 찾는다.")
+    @Test
+    void givenKeywordWithSpaces_whenGettingCache_thenFindsByNormalizedKeyword() {
+        // Given
+        Pageable pageable = Pageable.ofSize(10);
+        sut.put(ArticleSearchCache.Key.of(SearchType.TITLE, "spring  boot", pageable), sut.generation(), articlePage());
+
+        // When
+        Page<Long> actual = sut.get(ArticleSearchCache.Key.of(SearchType.TITLE, " spring boot ", pageable));
+
+        // Then
+        assertThat(actual.getContent()).containsExactly(1L);
+        assertThat(meterRegistry.get("cache.gets").tag("cache", "articleSearch").tag("result", "hit").functionCounter().count())
+                .isEqualTo(1);
+    }
+
+    @DisplayName("게시글 이벤트는 검색 색인이 먼저 반영하고, 검색 캐시는 그 뒤에 지운다.")
+    @Test
+    void givenArticleEventListeners_whenOrdering_thenIndexesComeBeforeSearchCache() throws Exception {
+        // Given
+        int cacheOrder = articleEventListenerOrder(ArticleSearchCache.class);
+
+        // When & Then
+        assertThat(articleEventListenerOrder(ArticleSearchIndex.class)).isLessThan(cacheOrder);
+        assertThat(articleEventListenerOrder(HashtagBitmapIndex.class)).isLessThan(cacheOrder);
+    }
+
+    @DisplayName("게시글이 바뀌면, 바뀌기 전후의 게시글이 검색 조건에 걸리는 캐시만 지운다.")
+    @Test
+    void givenArticleEvent_whenApplying_thenEvictsOnlyMatchingQueries() {
+        // Given
+        Pageable pageable = Pageable.ofSize(10);
+        ArticleSearchCache.Key all = ArticleSearchCache.Key.of(null, null, pageable);
+        ArticleSearchCache.Key springTitle = ArticleSearchCache.Key.of(SearchType.TITLE, "spring", pageable);
+        ArticleSearchCache.Key kotlinTitle = ArticleSearchCache.Key.of(SearchType.TITLE, "kotlin", pageable);
+        ArticleSearchCache.Key javaHashtag = ArticleSearchCache.Key.ofHashtagName("java", pageable);
+        ArticleSearchCache.Key nickname = ArticleSearchCache.Key.of(SearchType.NICKNAME, "admin", pageable);
+        List.of(all, springTitle, kotlinTitle, javaHashtag, nickname)
+                .forEach(key -> sut.put(key, sut.generation(), articlePage()));
+
+        // When
+        sut.onArticleEvent(ArticleEvent.updated(
+                createArticleDto("Spring Boot", Set.of()),
+                createArticleDto("Spring Boot 3", Set.of(HashtagDto.of("Java")))
+        ));
+
+        // Then
+        assertThat(sut.get(all)).isNull();
+        assertThat(sut.get(springTitle)).isNull();
+        assertThat(sut.get(javaHashtag)).isNull();
+        assertThat(sut.get(kotlinTitle)).isNotNull();
+        assertThat(sut.get(nickname)).isNotNull();
+    }
+
+    @DisplayName("한글 검색어의 3-gram 이 흩어져 있을 뿐인 게시글은 검색 색인에도 걸리지 않으므로, 바뀌어도 캐시를 지우지 않는다.")
+    @Test
+    void givenKoreanKeyword_whenApplyingEventOfArticleWithScatteredTrigrams_thenKeepsCache() {
+        // Given
+        ArticleSearchCache.Key key = ArticleSearchCache.Key.of(SearchType.CONTENT, "스프링부트", Pageable.ofSize(10));
+        sut.put(key, sut.generation(), articlePage());
+
+        // When & Then
+        sut.onArticleEvent(ArticleEvent.created(createArticleDto("제목", "스프링 프링부 링부트", Set.of())));
+        assertThat(sut.get(key)).isNotNull();
+
+        sut.onArticleEvent(ArticleEvent.created(createArticleDto("제목", "오늘은 스프링부트를 공부했다", Set.of())));
+        assertThat(sut.get(key)).isNull();
+    }
+
+    @DisplayName("검색하는 도중 캐시가 지워졌다면, 검색 결과를 저장하지 않는다.")
+    @Test
+    void givenInvalidationDuringSearch_whenPutting_thenDoesNotCache() {
+        // Given
+        ArticleSearchCache.Key key = ArticleSearchCache.Key.of(SearchType.TITLE, "spring", Pageable.ofSize(10));
+        long generation = sut.generation();
+        sut.onArticleEvent(ArticleEvent.created(createArticleDto("kotlin", Set.of())));
+
+        // When
+        sut.put(key, generation, articlePage());
+
+        // Then
+        assertThat(sut.get(key)).isNull();
+    }
+
+    private Page<ArticleSummary> articlePage() {
+        return new PageImpl<>(
+                List.of(new ArticleSummary(1L, "title", "content", Set.of(), LocalDateTime.now(), "jyuka", "jyuka@mail.com", "jyuka")),
+                Pageable.ofSize(10),
+                1
+        );
+    }
+
+    private ArticleDto createArticleDto(String title, Set<HashtagDto> hashtags) {
+        return createArticleDto(title, "content", hashtags);
+    }
+
+    private ArticleDto createArticleDto(String title, String content, Set<HashtagDto> hashtags) {
+        return ArticleDto.of(
+                1L,
+                UserAccountDto.of("jyuka", "pw", "jyuka@mail.com", "jyuka", null),
+                title,
+                content,
+                hashtags,
+                LocalDateTime.now(),
+                "jyuka",
+                LocalDateTime.now(),
+                "jyuka"
+        );
+    }
+
+    private static int articleEventListenerOrder(Class<?> listener) throws NoSuchMethodException {
+        return listener.getMethod("onArticleEvent", ArticleEvent.class).getAnnotation(Order.class).value();
+    }
+}
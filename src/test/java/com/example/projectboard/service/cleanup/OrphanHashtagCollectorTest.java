@@ -0,0 +1,147 @@
+package com.example.projectboard.service.cleanup;
+
+import com.example.projectboard.dto.ArticleDto;
+import com.example.projectboard.dto.HashtagDto;
+import com.example.projectboard.dto.UserAccountDto;
+import com.example.projectboard.dto.event.ArticleEvent;
+import com.example.projectboard.repository.HashtagRepository;
+import com.example.projectboard.service.HashtagService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.BDDMockito.*;
+
+@DisplayName("정리 - 게시글이 없어진 해시태그 수거")
+@ExtendWith(MockitoExtension.class)
+class OrphanHashtagCollectorTest {
+
+    @InjectMocks
+    private OrphanHashtagCollector sut;
+
+    @Mock
+    private HashtagService hashtagService;
+
+    @Mock
+    private HashtagRepository hashtagRepository;
+
+    @DisplayName("게시글이 수정, 삭제되면 빠진 해시태그만 DB 조회 없이 후보로 기록한다.")
+    @Test
+    void givenArticleEvents_whenApplying_thenRecordsRemovedHashtagsOnly() {
+        // Given
+        ArticleDto created = createArticleDto(hashtag(1L, "java"), hashtag(2L, "spring"));
+        ArticleDto updated = createArticleDto(hashtag(2L, "spring"), hashtag(3L, "jpa"));
+
+        // When
+        sut.onArticleEvent(ArticleEvent.created(created));
+        sut.onArticleEvent(ArticleEvent.updated(created, updated));
+        sut.onArticleEvent(ArticleEvent.deleted(updated));
+
+        // Then
+        assertThat(sut.getCandidateCount()).isEqualTo(3);
+        then(hashtagService).shouldHaveNoInteractions();
+        then(hashtagRepository).shouldHaveNoInteractions();
+    }
+
+    @DisplayName("수거하면, 후보를 BATCH_SIZE 개씩 나눠 지우고 후보를 비운다.")
+    @Test
+    void givenCandidates_whenCollecting_thenDeletesInBatches() {
+        // Given
+        int candidateCount = OrphanHashtagCollector.BATCH_SIZE + 1;
+        sut.onArticleEvent(ArticleEvent.deleted(createArticleDto(LongStream.rangeClosed(1, candidateCount)
+                .mapToObj(id -> hashtag(id, "tag" + id))
+                .toArray(HashtagDto[]::new))));
+        given(hashtagService.deleteHashtagsWithoutArticles(anyCollection())).willReturn(1);
+
+        // When
+        sut.collect();
+
+        // Then
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<Collection<Long>> batches = ArgumentCaptor.forClass(Collection.class);
+        then(hashtagService).should(times(2)).deleteHashtagsWithoutArticles(batches.capture());
+        assertThat(batches.getAllValues()).extracting(Collection::size)
+                .containsExactly(OrphanHashtagCollector.BATCH_SIZE, 1);
+        assertThat(sut.getCandidateCount()).isZero();
+    }
+
+    @DisplayName("후보가 없으면, 아무것도 조회하지 않는다.")
+    @Test
+    void givenNoCandidates_whenCollecting_thenDoesNothing() {
+        // Given
+
+        // When
+        sut.collect();
+
+        // Then
+        then(hashtagService).shouldHaveNoInteractions();
+    }
+
+    @DisplayName("수거하다가 실패하면, 후보를 남겨두고 다음 주기에 다시 시도한다.")
+    @Test
+    void givenFailure_whenCollecting_thenKeepsCandidates() {
+        // Given
+        sut.onArticleEvent(ArticleEvent.deleted(createArticleDto(hashtag(1L, "java"), hashtag(2L, "spring"))));
+        given(hashtagService.deleteHashtagsWithoutArticles(anyCollection()))
+                .willThrow(new IllegalStateException("connection refused"))
+                .willReturn(2);
+
+        // When & Then
+        sut.collect();
+        assertThat(sut.getCandidateCount()).isEqualTo(2);
+
+        sut.collect();
+        assertThat(sut.getCandidateCount()).isZero();
+        then(hashtagService).should(times(2)).deleteHashtagsWithoutArticles(anyCollection());
+    }
+
+    @DisplayName("전체를 훑으면, 게시글이 없는 해시태그를 id 순서로 나눠 찾아 지운다.")
+    @Test
+    void givenOrphanHashtags_whenSweeping_thenDeletesPageByPage() {
+        // Given
+        List<Long> firstPage = LongStream.rangeClosed(1, OrphanHashtagCollector.BATCH_SIZE).boxed().toList();
+        List<Long> lastPage = List.of(1000L);
+        given(hashtagRepository.findIdsWithoutArticles(0L, OrphanHashtagCollector.BATCH_SIZE)).willReturn(firstPage);
+        given(hashtagRepository.findIdsWithoutArticles((long) OrphanHashtagCollector.BATCH_SIZE, OrphanHashtagCollector.BATCH_SIZE)).willReturn(lastPage);
+        given(hashtagService.deleteHashtagsWithoutArticles(any())).willReturn(1);
+
+        // When
+        sut.sweep();
+
+        // Then
+        then(hashtagService).should().deleteHashtagsWithoutArticles(firstPage);
+        then(hashtagService).should().deleteHashtagsWithoutArticles(lastPage);
+        then(hashtagRepository).should(times(2)).findIdsWithoutArticles(anyLong(), anyInt());
+    }
+
+    private HashtagDto hashtag(Long id, String hashtagName) {
+        return HashtagDto.of(id, hashtagName, null, null, null, null);
+    }
+
+    private ArticleDto createArticleDto(HashtagDto... hashtagDtos) {
+        return ArticleDto.of(
+                1L,
+                UserAccountDto.of("jyuka", "pw", "jyuka@mail.com", "jyuka", null),
+                "title",
+                "content",
+                Set.of(hashtagDtos),
+                LocalDateTime.now(),
+                "jyuka",
+                LocalDateTime.now(),
+                "jyuka"
+        );
+    }
+}
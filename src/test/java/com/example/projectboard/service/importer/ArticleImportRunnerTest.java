@@ -0,0 +1,72 @@
+package com.example.projectboard.service.importer;
+
+import com.example.projectboard.config.ArticleImportProperties;
+import com.example.projectboard.dto.UserAccountDto;
+import com.example.projectboard.dto.response.ArticleImportResponse;
+import com.example.projectboard.dto.security.BoardPrincipal;
+import com.example.projectboard.service.UserAccountService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.boot.DefaultApplicationArguments;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.io.BufferedReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.BDDMockito.*;
+
+@DisplayName("비즈니스 로직 - 시작 시 게시글 불러오기")
+class ArticleImportRunnerTest {
+
+    private final ArticleImportService articleImportService = mock(ArticleImportService.class);
+    private final UserAccountService userAccountService = mock(UserAccountService.class);
+
+    @DisplayName("파일과 불러오는 사용자를 주면, 그 사용자로 로그인한 상태에서 파일을 불러오고 끝나면 로그아웃한다.")
+    @Test
+    void givenFileAndOperator_whenRunning_thenImportsFileAsOperator(@TempDir Path directory) throws Exception {
+        // Given
+        Path file = Files.writeString(directory.resolve("articles.ndjson"), "{\"userId\": \"jyuka\", \"title\": \"제목\", \"content\": \"본문\"}\n", StandardCharsets.UTF_8);
+        ArticleImportRunner sut = new ArticleImportRunner(articleImportService, userAccountService, new ArticleImportProperties(500, file, "jyuka"));
+        given(userAccountService.searchUser("jyuka")).willReturn(Optional.of(UserAccountDto.of("jyuka", "pw", "jyuka@mail.com", "jyuka", null)));
+        String[] firstLine = new String[1];
+        Authentication[] authentication = new Authentication[1];
+        given(articleImportService.importArticles(any(Reader.class), isNull())).willAnswer(invocation -> {
+            firstLine[0] = ((BufferedReader) invocation.getArgument(0)).readLine();
+            authentication[0] = SecurityContextHolder.getContext().getAuthentication();
+            return ArticleImportResponse.of(1, 0, List.of());
+        });
+
+        // When
+        sut.run(new DefaultApplicationArguments());
+
+        // Then
+        assertThat(firstLine[0]).contains("\"title\": \"제목\"");
+        assertThat(authentication[0].getPrincipal())
+                .isInstanceOf(BoardPrincipal.class)
+                .hasFieldOrPropertyWithValue("username", "jyuka");
+        assertThat(SecurityContextHolder.getContext().getAuthentication()).isNull();
+    }
+
+    @DisplayName("불러오는 사용자가 없다면, 파일을 읽지 않고 예외를 던진다.")
+    @Test
+    void givenUnknownOperator_whenRunning_thenThrowsException(@TempDir Path directory) {
+        // Given
+        ArticleImportRunner sut = new ArticleImportRunner(articleImportService, userAccountService, new ArticleImportProperties(500, directory.resolve("articles.ndjson"), null));
+
+        // When & Then
+        assertThatThrownBy(() -> sut.run(new DefaultApplicationArguments()))
+                .isInstanceOf(IllegalStateException.class);
+        then(articleImportService).shouldHaveNoInteractions();
+    }
+}
@@ -0,0 +1,187 @@
+package com.example.projectboard.service.importer;
+
+import com.example.projectboard.config.ArticleImportProperties;
+import com.example.projectboard.domain.Article;
+import com.example.projectboard.dto.ArticleDto;
+import com.example.projectboard.dto.response.ArticleImportResponse;
+import com.example.projectboard.service.ArticleService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.io.StringReader;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.BDDMockito.*;
+
+@DisplayName("비즈니스 로직 - 게시글 대량 등록")
+@ExtendWith(MockitoExtension.class)
+class ArticleImportServiceTest {
+
+    @InjectMocks
+    private ArticleImportService sut;
+
+    @Mock
+    private ArticleService articleService;
+
+    @Spy
+    private ObjectMapper objectMapper = new ObjectMapper();
+
+    @Spy
+    private ArticleImportProperties articleImportProperties = new ArticleImportProperties(2, null, null);
+
+    @DisplayName("NDJSON 을 읽으면, chunkSize 개씩 나눠 저장한다.")
+    @Test
+    void givenNdjson_whenImporting_thenSavesInChunks() throws Exception {
+        // Given
+        String ndjson = IntStream.rangeClosed(1, 5)
+                .mapToObj(i -> "{\"userId\": \"jyuka\", \"title\": \"title " + i + "\", \"content\": \"content #" + i + "\"}")
+                .collect(Collectors.joining("\n"));
+        given(articleService.saveArticles(anyList())).willReturn(Set.of());
+
+        // When
+        ArticleImportResponse response = sut.importArticles(new StringReader(ndjson), null);
+
+        // Then
+        assertThat(response.imported()).isEqualTo(5);
+        assertThat(response.skipped()).isZero();
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<ArticleDto>> chunks = ArgumentCaptor.forClass(List.class);
+        then(articleService).should(times(3)).saveArticles(chunks.capture());
+        assertThat(chunks.getAllValues()).extracting(List::size).containsExactly(2, 2, 1);
+        assertThat(chunks.getAllValues().get(2).get(0))
+                .hasFieldOrPropertyWithValue("title", "title 5")
+                .hasFieldOrPropertyWithValue("content", "content #5");
+    }
+
+    @DisplayName("형식이 잘못되었거나 작성자가 없는 줄은, 건너뛰고 줄 번호와 이유를 반환한다.")
+    @Test
+    void givenInvalidLines_whenImporting_thenSkipsThemWithReasons() throws Exception {
+        // Given
+        String ndjson = """
+                {"userId": "jyuka", "title": "title", "content": "content"}
+                not json
+
+                {"userId": "jyuka", "title": " ", "content": "content"}
+                {"title": "title", "content": "content"}
+                {"userId": "ghost", "title": "title", "content": "content"}
+                """;
+        given(articleService.saveArticles(anyList())).willReturn(Set.of("ghost"));
+
+        // When
+        ArticleImportResponse response = sut.importArticles(new StringReader(ndjson), null);
+
+        // Then
+        assertThat(response.imported()).isEqualTo(1);
+        assertThat(response.skipped()).isEqualTo(4);
+        assertThat(response.errors()).containsExactly(
+                "2번째 줄: JSON 형식이 아닙니다.",
+                "4번째 줄: 제목과 본문이 필요합니다.",
+                "5번째 줄: 작성자(userId)가 없습니다.",
+                "6번째 줄: 없는 사용자입니다 - userId: ghost"
+        );
+    }
+
+    @DisplayName("작성자를 정해 등록하면, 작성자를 생략한 줄은 그 작성자로 등록하고 다른 작성자의 줄은 건너뛴다.")
+    @Test
+    void givenOwner_whenImporting_thenImportsAsOwnerOnly() throws Exception {
+        // Given
+        String ndjson = """
+                {"title": "title", "content": "content"}
+                {"userId": "jyuka2", "title": "title", "content": "content"}
+                """;
+        given(articleService.saveArticles(anyList())).willReturn(Set.of());
+
+        // When
+        ArticleImportResponse response = sut.importArticles(new StringReader(ndjson), "jyuka");
+
+        // Then
+        assertThat(response.imported()).isEqualTo(1);
+        assertThat(response.errors()).containsExactly("2번째 줄: 다른 사용자의 게시글은 등록할 수 없습니다 - userId: jyuka2");
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<ArticleDto>> chunk = ArgumentCaptor.forClass(List.class);
+        then(articleService).should().saveArticles(chunk.capture());
+        assertThat(chunk.getValue()).extracting(dto -> dto.userAccountDto().userId()).containsExactly("jyuka");
+    }
+
+    @DisplayName("묶음 저장이 실패하면, 그 묶음을 한 줄씩 다시 저장해 실패한 줄만 건너뛰고 계속 저장한다.")
+    @Test
+    void givenFailingChunk_whenImporting_thenRetriesRowByRowAndSkipsFailingRowOnly() throws Exception {
+        // Given
+        String ndjson = IntStream.rangeClosed(1, 3)
+                .mapToObj(i -> "{\"userId\": \"jyuka\", \"title\": \"title " + i + "\", \"content\": \"content\"}")
+                .collect(Collectors.joining("\n"));
+        given(articleService.saveArticles(anyList())).willAnswer(invocation -> {
+            List<ArticleDto> dtos = invocation.getArgument(0);
+            if (dtos.stream().anyMatch(dto -> dto.title().equals("title 2"))) {
+                throw new IllegalStateException("db error");
+            }
+            return Set.of();
+        });
+
+        // When
+        ArticleImportResponse response = sut.importArticles(new StringReader(ndjson), null);
+
+        // Then
+        assertThat(response.imported()).isEqualTo(2);
+        assertThat(response.skipped()).isEqualTo(1);
+        assertThat(response.errors()).containsExactly("2번째 줄: 저장하지 못했습니다 - IllegalStateException");
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<ArticleDto>> chunks = ArgumentCaptor.forClass(List.class);
+        then(articleService).should(times(4)).saveArticles(chunks.capture());
+        assertThat(chunks.getAllValues()).extracting(List::size).containsExactly(2, 1, 1, 1);
+    }
+
+    @DisplayName("제목이나 본문이 컬럼 길이보다 길면, 묶음을 저장하기 전에 그 줄만 건너뛴다.")
+    @Test
+    void givenTooLongTitleOrContent_whenImporting_thenSkipsThoseLinesBeforeSaving() throws Exception {
+        // Given
+        String ndjson = String.join("\n",
+                "{\"userId\": \"jyuka\", \"title\": \"" + "가".repeat(Article.TITLE_MAX_LENGTH) + "\", \"content\": \"content\"}",
+                "{\"userId\": \"jyuka\", \"title\": \"" + "가".repeat(Article.TITLE_MAX_LENGTH + 1) + "\", \"content\": \"content\"}",
+                "{\"userId\": \"jyuka\", \"title\": \"title\", \"content\": \"" + "a".repeat(Article.CONTENT_MAX_LENGTH + 1) + "\"}",
+                "{\"userId\": \"jyuka\", \"title\": \"" + "😀".repeat(Article.TITLE_MAX_LENGTH) + "\", \"content\": \"content\"}"
+        );
+        given(articleService.saveArticles(anyList())).willReturn(Set.of());
+
+        // When
+        ArticleImportResponse response = sut.importArticles(new StringReader(ndjson), null);
+
+        // Then
+        assertThat(response.imported()).isEqualTo(2);
+        assertThat(response.errors()).containsExactly(
+                "2번째 줄: 제목은 255자, 본문은 10000자까지 입력할 수 있습니다.",
+                "3번째 줄: 제목은 255자, 본문은 10000자까지 입력할 수 있습니다."
+        );
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<ArticleDto>> chunk = ArgumentCaptor.forClass(List.class);
+        then(articleService).should().saveArticles(chunk.capture());
+        assertThat(chunk.getValue()).hasSize(2);
+    }
+
+    @DisplayName("건너뛴 줄이 많아도, 이유는 MAX_ERRORS 개까지만 모은다.")
+    @Test
+    void givenManyInvalidLines_whenImporting_thenKeepsErrorsBounded() throws Exception {
+        // Given
+        String ndjson = "not json\n".repeat(ArticleImportService.MAX_ERRORS + 10);
+
+        // When
+        ArticleImportResponse response = sut.importArticles(new StringReader(ndjson), null);
+
+        // Then
+        assertThat(response.skipped()).isEqualTo(ArticleImportService.MAX_ERRORS + 10);
+        assertThat(response.errors()).hasSize(ArticleImportService.MAX_ERRORS);
+        then(articleService).shouldHaveNoInteractions();
+    }
+}
@@ -0,0 +1,228 @@
+package com.example.projectboard.service.search;
+
+import com.example.projectboard.domain.constant.SearchType;
+import com.example.projectboard.domain.projection.ArticleSearchDocument;
+import com.example.projectboard.dto.ArticleDto;
+import com.example.projectboard.dto.UserAccountDto;
+import com.example.projectboard.dto.event.ArticleEvent;
+import com.example.projectboard.repository.ArticleRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+
+@DisplayName("검색 - 게시글 역색인")
+@ExtendWith(MockitoExtension.class)
+class ArticleSearchIndexTest {
+
+    private static final LocalDateTime NOW = LocalDateTime.of(2023, 1, 1, 0, 0);
+
+    @InjectMocks
+    private ArticleSearchIndex sut;
+
+    @Mock
+    private ArticleRepository articleRepository;
+
+    @BeforeEach
+    void setUp() {
+        given(articleRepository.findByIdGreaterThanOrderByIdAsc(eq(0L), any(Pageable.class))).willReturn(List.of(
+                new Document(1L, "Spring Boot", "spring data jpa", NOW.plusDays(1)),
+                new Document(2L, "Java", "java spring", NOW.plusDays(3)),
+                new Document(3L, "Spring Security", "oauth kakao", NOW.plusDays(2))
+        ));
+        sut.rebuild();
+    }
+
+    @DisplayName("검색어를 주면, 검색어가 들어간 게시글 id 를 작성일 내림차순으로 반환한다.")
+    @Test
+    void givenKeyword_whenSearching_thenReturnsArticleIdsOrderedByCreatedAtDesc() {
+        // Given
+        Pageable pageable = PageRequest.of(0, 10);
+
+        // When
+        Page<Long> actual = sut.search(SearchType.TITLE, "spring", pageable);
+
+        // Then
+        assertThat(actual.getContent()).containsExactly(3L, 1L);
+        assertThat(actual.getTotalElements()).isEqualTo(2);
+    }
+
+    @DisplayName("여러 단어로 검색하면, LIKE 검색처럼 검색어가 그대로 들어있는 게시글만 대소문자 구분 없이 반환한다.")
+    @Test
+    void givenKeywords_whenSearching_thenReturnsArticlesContainingWholeKeyword() {
+        // Given
+        Pageable pageable = PageRequest.of(0, 10);
+
+        // When
+        Page<Long> actual = sut.search(SearchType.CONTENT, "JAVA spring", pageable);
+
+        // Then
+        assertThat(actual.getContent()).containsExactly(2L);
+        assertThat(sut.search(SearchType.CONTENT, "spring java", pageable)).isEmpty();
+    }
+
+    @DisplayName("작성일 오름차순 페이지를 요청하면, 해당 페이지의 게시글 id 만 반환한다.")
+    @Test
+    void givenAscendingPage_whenSearching_thenReturnsRequestedPage() {
+        // Given
+        Pageable pageable = PageRequest.of(1, 1, Sort.by(Sort.Order.asc("createdAt")));
+
+        // When
+        Page<Long> actual = sut.search(SearchType.TITLE, "spring", pageable);
+
+        // Then
+        assertThat(actual.getContent()).containsExactly(3L);
+        assertThat(actual.getTotalPages()).isEqualTo(2);
+    }
+
+    @DisplayName("정확도순으로 검색하면, 제목에도 검색어가 들어간 게시글을 먼저 반환한다.")
+    @Test
+    void givenRelevanceSort_whenSearching_thenReturnsArticleIdsOrderedByScore() {
+        // Given
+        Pageable pageable = PageRequest.of(0, 10, Sort.by("relevance"));
+
+        // When
+        Page<Long> actual = sut.search(SearchType.CONTENT, "spring", pageable);
+
+        // Then
+        assertThat(actual.getContent()).containsExactly(1L, 2L);
+        assertThat(actual.getTotalElements()).isEqualTo(2);
+    }
+
+    @DisplayName("정확도순으로 두 번째 페이지를 요청하면, 상위 k 개 중 해당 페이지의 게시글 id 만 반환한다.")
+    @Test
+    void givenRelevanceSortAndSecondPage_whenSearching_thenReturnsRequestedPage() {
+        // Given
+        sut.onArticleEvent(ArticleEvent.created(createArticleDto(4L, "Spring", "spring spring spring")));
+        Pageable pageable = PageRequest.of(1, 2, Sort.by("relevance"));
+
+        // When
+        Page<Long> actual = sut.search(SearchType.CONTENT, "spring", pageable);
+
+        // Then
+        assertThat(actual.getContent()).containsExactly(2L);
+        assertThat(actual.getTotalElements()).isEqualTo(3);
+        assertThat(sut.search(SearchType.CONTENT, "spring", PageRequest.of(0, 2, Sort.by("relevance"))).getContent())
+                .containsExactly(4L, 1L);
+    }
+
+    @DisplayName("게시글이 등록, 수정, 삭제되면 색인에 반영한다.")
+    @Test
+    void givenArticleEvents_whenApplying_thenUpdatesIndex() {
+        // Given
+        ArticleDto created = createArticleDto(4L, "Kotlin", "spring kotlin");
+        ArticleDto updated = createArticleDto(4L, "Kotlin", "ktor kotlin");
+        Pageable pageable = PageRequest.of(0, 10);
+
+        // When & Then
+        sut.onArticleEvent(ArticleEvent.created(created));
+        assertThat(sut.search(SearchType.CONTENT, "spring", pageable).getContent()).containsExactly(4L, 2L, 1L);
+
+        sut.onArticleEvent(ArticleEvent.updated(created, updated));
+        assertThat(sut.search(SearchType.CONTENT, "spring", pageable).getContent()).containsExactly(2L, 1L);
+        assertThat(sut.search(SearchType.CONTENT, "kotlin", pageable).getContent()).containsExactly(4L);
+
+        sut.onArticleEvent(ArticleEvent.deleted(updated));
+        assertThat(sut.search(SearchType.CONTENT, "kotlin", pageable)).isEmpty();
+    }
+
+    @DisplayName("한글 검색어는 단어의 일부만 입력해도 검색된다.")
+    @Test
+    void givenPartialKoreanKeyword_whenSearching_thenReturnsArticlesContainingKeyword() {
+        // Given
+        Pageable pageable = PageRequest.of(0, 10);
+        sut.onArticleEvent(ArticleEvent.created(createArticleDto(4L, "스프링부트를 공부하자", "오늘은 스프링부트와 JPA 를 공부했다.")));
+        sut.onArticleEvent(ArticleEvent.created(createArticleDto(5L, "스프링은 어렵다", "부트캠프")));
+
+        // When & Then
+        assertThat(sut.search(SearchType.TITLE, "스프링", pageable).getContent()).containsExactlyInAnyOrder(4L, 5L);
+        assertThat(sut.search(SearchType.TITLE, "프링부트", pageable).getContent()).containsExactly(4L);
+        assertThat(sut.search(SearchType.CONTENT, "부트와 jpa", pageable).getContent()).containsExactly(4L);
+    }
+
+    @DisplayName("영문 검색어도 단어의 일부만 입력하면, LIKE 검색처럼 그 단어를 포함하는 게시글을 반환한다.")
+    @Test
+    void givenPartialEnglishKeyword_whenSearching_thenReturnsArticlesContainingKeyword() {
+        // Given
+        Pageable pageable = PageRequest.of(0, 10);
+        sut.onArticleEvent(ArticleEvent.created(createArticleDto(4L, "SpringBoot 3.0", "spring-boot-starter-data-jpa")));
+
+        // When & Then
+        assertThat(sut.search(SearchType.TITLE, "Spring", pageable).getContent()).containsExactly(4L, 3L, 1L);
+        assertThat(sut.search(SearchType.TITLE, "boot", pageable).getContent()).containsExactly(4L, 1L);
+        assertThat(sut.search(SearchType.CONTENT, "starter-data-JP", pageable).getContent()).containsExactly(4L);
+        assertThat(sut.search(SearchType.CONTENT, "kakaotalk", pageable)).isEmpty();
+    }
+
+    @DisplayName("검색어의 n-gram 이 본문 여기저기에 흩어져 있을 뿐이라면, 결과와 전체 개수에 넣지 않는다.")
+    @Test
+    void givenScatteredNgrams_whenSearching_thenExcludesArticle() {
+        // Given
+        sut.onArticleEvent(ArticleEvent.created(createArticleDto(4L, "스프링 공부", "스프링 교재, 프링부 라는 단어, 링부트 라는 단어")));
+        sut.onArticleEvent(ArticleEvent.created(createArticleDto(5L, "스프링부트", "spring 은 좋다, boot 도 좋다")));
+        sut.onArticleEvent(ArticleEvent.created(createArticleDto(6L, "부트", "Spring Boot 시작하기")));
+        Pageable pageable = PageRequest.of(0, 10);
+
+        // When
+        Page<Long> koreanActual = sut.search(SearchType.CONTENT, "스프링부트", pageable);
+        Page<Long> englishActual = sut.search(SearchType.CONTENT, "spring boot", pageable);
+
+        // Then
+        assertThat(koreanActual.getContent()).isEmpty();
+        assertThat(koreanActual.getTotalElements()).isZero();
+        assertThat(englishActual.getContent()).containsExactly(6L);
+        assertThat(englishActual.getTotalElements()).isEqualTo(1);
+        assertThat(sut.search(SearchType.TITLE, "스프링부트", pageable).getContent()).containsExactly(5L);
+    }
+
+    @DisplayName("작성일 외의 정렬 조건이나 한 글자 검색어는 색인으로 처리하지 않는다.")
+    @Test
+    void givenUnsupportedSortOrKeyword_whenCheckingServable_thenReturnsFalse() {
+        // Given
+
+        // When & Then
+        assertThat(sut.canServe("spring", Sort.unsorted())).isTrue();
+        assertThat(sut.canServe("spring", Sort.by(Sort.Order.desc("createdAt")))).isTrue();
+        assertThat(sut.canServe("spring", Sort.by("relevance"))).isTrue();
+        assertThat(sut.canServe("spring", Sort.by(Sort.Order.desc("title")))).isFalse();
+        assertThat(sut.canServe("봄", Sort.unsorted())).isFalse();
+        assertThat(sut.canServe("c", Sort.unsorted())).isFalse();
+    }
+
+    private ArticleDto createArticleDto(Long id, String title, String content) {
+        return ArticleDto.of(
+                id,
+                UserAccountDto.of("jyuka", "pw", "jyuka@mail.com", "jyuka", null),
+                title,
+                content,
+                Set.of(),
+                NOW.plusDays(10),
+                "jyuka",
+                NOW.plusDays(10),
+                "jyuka"
+        );
+    }
+
+    private record Document(Long id, String title, String content, LocalDateTime createdAt) implements ArticleSearchDocument {
+        @Override public Long getId() { return id; }
+        @Override public String getTitle() { return title; }
+        @Override public String getContent() { return content; }
+        @Override public LocalDateTime getCreatedAt() { return createdAt; }
+    }
+}
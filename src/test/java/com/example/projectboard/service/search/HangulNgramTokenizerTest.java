@@ -0,0 +1,94 @@
+package com.example.projectboard.service.search;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.util.Set;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.params.provider.Arguments.arguments;
+
+@DisplayName("검색 - 한글 n-gram 토크나이저")
+class HangulNgramTokenizerTest {
+
+    private final HangulNgramTokenizer sut = new HangulNgramTokenizer();
+
+    @DisplayName("본문을 자르면, 한글과 그 외 문자(소문자로 바꿔서)를 각각 2-gram/3-gram 으로 반환한다.")
+    @MethodSource
+    @ParameterizedTest(name = "[{index}] \"{0}\" => {1}")
+    void givenText_whenTokenizing_thenReturnsTokens(String input, Set<String> expected) {
+        // Given
+
+        // When
+        Set<String> actual = sut.tokenize(input);
+
+        // Then
+        assertThat(actual).containsExactlyInAnyOrderElementsOf(expected);
+    }
+
+    static Stream<Arguments> givenText_whenTokenizing_thenReturnsTokens() {
+        return Stream.of(
+                arguments(null, Set.of()),
+                arguments("", Set.of()),
+                arguments("   ", Set.of()),
+                arguments("Java Spring", Set.of("ja", "av", "va", "jav", "ava", "sp", "pr", "ri", "in", "ng", "spr", "pri", "rin", "ing")),
+                arguments("#my_db, JPA!", Set.of("my", "y_", "_d", "db", "my_", "y_d", "_db", "jp", "pa", "jpa")),
+                arguments("봄", Set.of("봄")),
+                arguments("스프링", Set.of("스프", "프링", "스프링")),
+                arguments("스프링을 배우자", Set.of("스프", "프링", "링을", "스프링", "프링을", "배우", "우자", "배우자")),
+                arguments("jpa스프링", Set.of("jp", "pa", "jpa", "스프", "프링", "스프링")),
+                arguments("2023년 #부트", Set.of("20", "02", "23", "202", "023", "년", "부트"))
+        );
+    }
+
+    @DisplayName("검색어를 자르면, 세 글자 이상은 3-gram 만 반환한다.")
+    @MethodSource
+    @ParameterizedTest(name = "[{index}] \"{0}\" => {1}")
+    void givenQuery_whenTokenizing_thenReturnsQueryTokens(String input, Set<String> expected) {
+        // Given
+
+        // When
+        Set<String> actual = sut.tokenizeQuery(input);
+
+        // Then
+        assertThat(actual).containsExactlyInAnyOrderElementsOf(expected);
+    }
+
+    static Stream<Arguments> givenQuery_whenTokenizing_thenReturnsQueryTokens() {
+        return Stream.of(
+                arguments(null, Set.of()),
+                arguments("Spring", Set.of("spr", "pri", "rin", "ing")),
+                arguments("DB", Set.of("db")),
+                arguments("부트", Set.of("부트")),
+                arguments("스프링부트", Set.of("스프링", "프링부", "링부트")),
+                arguments("스프링 jpa", Set.of("스프링", "jpa"))
+        );
+    }
+
+    @DisplayName("한 글자 단어가 들어간 검색어는 색인으로 검색할 수 없다고 판단한다.")
+    @MethodSource
+    @ParameterizedTest(name = "[{index}] \"{0}\" => {1}")
+    void givenQuery_whenCheckingSearchable_thenReturnsResult(String input, boolean expected) {
+        // Given
+
+        // When
+        boolean actual = sut.isSearchable(input);
+
+        // Then
+        assertThat(actual).isEqualTo(expected);
+    }
+
+    static Stream<Arguments> givenQuery_whenCheckingSearchable_thenReturnsResult() {
+        return Stream.of(
+                arguments(null, false),
+                arguments("spring", true),
+                arguments("부트", true),
+                arguments("봄", false),
+                arguments("봄 스프링", false),
+                arguments("c spring", false)
+        );
+    }
+}
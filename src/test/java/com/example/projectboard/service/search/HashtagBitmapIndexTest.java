@@ -0,0 +1,167 @@
+package com.example.projectboard.service.search;
+
+import com.example.projectboard.domain.id.Snowflake;
+import com.example.projectboard.domain.projection.ArticleHashtagRow;
+import com.example.projectboard.dto.ArticleDto;
+import com.example.projectboard.dto.HashtagDto;
+import com.example.projectboard.dto.UserAccountDto;
+import com.example.projectboard.dto.event.ArticleEvent;
+import com.example.projectboard.repository.ArticleRepository;
+import com.example.projectboard.repository.querydsl.HashtagQuery;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.never;
+import static org.mockito.BDDMockito.then;
+
+@DisplayName("검색 - 해시태그 비트맵 색인")
+@ExtendWith(MockitoExtension.class)
+class HashtagBitmapIndexTest {
+
+    @InjectMocks
+    private HashtagBitmapIndex sut;
+
+    @Mock
+    private ArticleRepository articleRepository;
+
+    @BeforeEach
+    void setUp() {
+        given(articleRepository.findArticleHashtagRows(0L, HashtagBitmapIndex.REBUILD_BATCH_SIZE)).willReturn(List.of(
+                new ArticleHashtagRow(1L, "java"),
+                new ArticleHashtagRow(1L, "spring"),
+                new ArticleHashtagRow(2L, "java"),
+                new ArticleHashtagRow(2L, "kotlin"),
+                new ArticleHashtagRow(3L, "spring"),
+                new ArticleHashtagRow(4L, null)
+        ));
+        sut.rebuild();
+    }
+
+    @DisplayName("해시태그 검색 조건을 주면, OR/AND/NOT 을 계산한 게시글 id 를 반환한다.")
+    @Test
+    void givenHashtagQuery_whenSearching_thenReturnsMatchingArticleIds() {
+        // Given
+
+        // When & Then
+        assertThat(sut.isReady()).isTrue();
+        assertThat(sut.search(HashtagQuery.parse("java spring")).articleIds()).containsExactly(1L, 2L, 3L);
+        assertThat(sut.search(HashtagQuery.parse("+java +spring")).articleIds()).containsExactly(1L);
+        assertThat(sut.search(HashtagQuery.parse("java -kotlin")).articleIds()).containsExactly(1L);
+        assertThat(sut.search(HashtagQuery.parse("-java")).articleIds()).containsExactly(3L, 4L);
+        assertThat(sut.search(HashtagQuery.parse("spring +java +none")).isEmpty()).isTrue();
+    }
+
+    @DisplayName("검색 결과를 수정해도 색인에는 영향이 없다.")
+    @Test
+    void givenSearchResult_whenModifying_thenIndexIsNotAffected() {
+        // Given
+        HashtagQuery hashtagQuery = HashtagQuery.of("java");
+
+        // When
+        sut.search(hashtagQuery).ordinals().add(2);
+
+        // Then
+        assertThat(sut.search(hashtagQuery).articleIds()).containsExactly(1L, 2L);
+    }
+
+    @DisplayName("게시글 id 가 Snowflake 처럼 크고 띄엄띄엄 있어도, 게시글 수만큼만 끊어 읽어 색인을 만든다.")
+    @Test
+    void givenSnowflakeIds_whenRebuilding_thenReadsInKeysetBatches() {
+        // Given
+        long firstId = new Snowflake(1).nextId();
+        List<ArticleHashtagRow> firstBatch = LongStream.range(0, HashtagBitmapIndex.REBUILD_BATCH_SIZE)
+                .mapToObj(i -> new ArticleHashtagRow(firstId + i * 1_000_003L, i % 2 == 0 ? "java" : null))
+                .toList();
+        long lastIdOfFirstBatch = firstBatch.get(firstBatch.size() - 1).articleId();
+        long lastArticleId = lastIdOfFirstBatch + 5_000_000_000L;
+        given(articleRepository.findArticleHashtagRows(0L, HashtagBitmapIndex.REBUILD_BATCH_SIZE)).willReturn(firstBatch);
+        given(articleRepository.findArticleHashtagRows(lastIdOfFirstBatch, HashtagBitmapIndex.REBUILD_BATCH_SIZE)).willReturn(List.of(
+                new ArticleHashtagRow(lastArticleId, "java"),
+                new ArticleHashtagRow(lastArticleId, "spring")
+        ));
+
+        // When
+        sut.rebuild();
+
+        // Then
+        then(articleRepository).should().findArticleHashtagRows(lastIdOfFirstBatch, HashtagBitmapIndex.REBUILD_BATCH_SIZE);
+        then(articleRepository).should(never()).findArticleHashtagRows(lastArticleId, HashtagBitmapIndex.REBUILD_BATCH_SIZE);
+        assertThat(sut.search(HashtagQuery.parse("-none")).count()).isEqualTo(HashtagBitmapIndex.REBUILD_BATCH_SIZE + 1);
+        assertThat(sut.search(HashtagQuery.of("java")).count()).isEqualTo(HashtagBitmapIndex.REBUILD_BATCH_SIZE / 2 + 1);
+        assertThat(sut.search(HashtagQuery.of("spring")).articleIds()).containsExactly(lastArticleId);
+    }
+
+    @DisplayName("게시글 id 가 Snowflake 처럼 띄엄띄엄 있어도, 비트맵은 게시글 번호로 압축되어 게시글 하나당 몇 byte 만 차지한다.")
+    @Test
+    void givenSnowflakeIds_whenRebuilding_thenKeepsBitmapsCompact() {
+        // Given
+        int articleCount = 20_000;
+        long firstId = new Snowflake(1).nextId();
+        // 밀리초마다 게시글 하나씩 쓰였다고 보고 타임스탬프 칸(2^22)씩 띄운다.
+        long[] articleIds = LongStream.range(0, articleCount).map(i -> firstId + (i << 22)).toArray();
+        List<ArticleHashtagRow> rows = LongStream.range(0, articleCount)
+                .mapToObj(i -> new ArticleHashtagRow(articleIds[(int) i], "tag" + i % 10))
+                .toList();
+        given(articleRepository.findArticleHashtagRows(0L, HashtagBitmapIndex.REBUILD_BATCH_SIZE)).willReturn(rows);
+
+        // When
+        sut.rebuild();
+
+        // Then
+        assertThat(sut.search(HashtagQuery.of("tag3")).count()).isEqualTo(articleCount / 10);
+        assertThat(sut.search(HashtagQuery.of("tag3")).articleIds().get(0)).isEqualTo(articleIds[3]);
+        // 게시글 하나가 전체 비트맵과 해시태그 비트맵에 한 번씩 들어간다. (id 를 그대로 넣으면 구간마다 수십 byte)
+        assertThat(sut.getSizeInBytes()).isLessThan(articleCount * 2L * 4);
+    }
+
+    @DisplayName("게시글이 등록, 수정, 삭제되면 색인에 반영한다.")
+    @Test
+    void givenArticleEvents_whenApplying_thenUpdatesIndex() {
+        // Given
+        ArticleDto created = createArticleDto(5L, "java", "jpa");
+        ArticleDto updated = createArticleDto(5L, "jpa");
+        HashtagQuery java = HashtagQuery.of("java");
+
+        // When & Then
+        sut.onArticleEvent(ArticleEvent.created(created));
+        assertThat(sut.search(java).articleIds()).containsExactly(1L, 2L, 5L);
+
+        sut.onArticleEvent(ArticleEvent.updated(created, updated));
+        sut.onArticleEvent(ArticleEvent.updated(created, updated));
+        assertThat(sut.search(java).articleIds()).containsExactly(1L, 2L);
+        assertThat(sut.search(HashtagQuery.of("jpa")).articleIds()).containsExactly(5L);
+
+        sut.onArticleEvent(ArticleEvent.deleted(updated));
+        assertThat(sut.search(HashtagQuery.of("jpa")).isEmpty()).isTrue();
+        assertThat(sut.search(HashtagQuery.parse("-java")).articleIds()).containsExactly(3L, 4L);
+    }
+
+    private ArticleDto createArticleDto(Long id, String... hashtagNames) {
+        Set<HashtagDto> hashtags = Arrays.stream(hashtagNames).map(HashtagDto::of).collect(Collectors.toUnmodifiableSet());
+        return ArticleDto.of(
+                id,
+                UserAccountDto.of("jyuka", "pw", "jyuka@mail.com", "jyuka", null),
+                "title",
+                "content",
+                hashtags,
+                LocalDateTime.now(),
+                "jyuka",
+                LocalDateTime.now(),
+                "jyuka"
+        );
+    }
+}
@@ -0,0 +1,89 @@
+package com.example.projectboard.service.search;
+
+import com.example.projectboard.dto.event.HashtagDeletedEvent;
+import com.example.projectboard.repository.HashtagRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+
+@DisplayName("검색 - 해시태그 이름 필터")
+@ExtendWith(MockitoExtension.class)
+class HashtagNameFilterTest {
+
+    @InjectMocks
+    private HashtagNameFilter sut;
+
+    @Mock
+    private HashtagRepository hashtagRepository;
+
+    @DisplayName("필터를 만들기 전에는, 모든 해시태그가 있을 수 있다고 판단한다.")
+    @Test
+    void givenNotRebuilt_whenChecking_thenReturnsTrue() {
+        // Given
+
+        // When & Then
+        assertThat(sut.mightExist("java")).isTrue();
+    }
+
+    @DisplayName("저장된 해시태그는 항상 있다고, 대부분의 새 해시태그는 없다고 판단한다.")
+    @Test
+    void givenSavedHashtags_whenChecking_thenHasNoFalseNegative() {
+        // Given
+        List<String> saved = IntStream.range(0, 1_000).mapToObj(i -> "tag" + i).toList();
+        given(hashtagRepository.findAllHashtagNames()).willReturn(saved);
+        sut.rebuild();
+
+        // When
+        long falsePositives = IntStream.range(1_000, 11_000)
+                .mapToObj(i -> "tag" + i)
+                .filter(sut::mightExist)
+                .count();
+
+        // Then
+        assertThat(saved).allMatch(sut::mightExist);
+        assertThat(falsePositives).isLessThan(100);
+    }
+
+    @DisplayName("해시태그가 추가되거나 삭제가 커밋되면, 필터에 반영한다.")
+    @Test
+    void givenAddedAndDeletedHashtags_whenChecking_thenReflectsChanges() {
+        // Given
+        given(hashtagRepository.findAllHashtagNames()).willReturn(List.of("java", "spring"));
+        sut.rebuild();
+
+        // When & Then
+        assertThat(sut.mightExist("kotlin")).isFalse();
+        sut.add("kotlin");
+        assertThat(sut.mightExist("kotlin")).isTrue();
+
+        sut.onHashtagDeletedEvent(HashtagDeletedEvent.of("kotlin"));
+        assertThat(sut.mightExist("kotlin")).isFalse();
+        assertThat(sut.mightExist("java")).isTrue();
+    }
+
+    @DisplayName("필터를 만드는 도중에 추가된 해시태그는, 새 필터에도 반영한다.")
+    @Test
+    void givenHashtagAddedWhileRebuilding_whenChecking_thenReturnsTrue() {
+        // Given
+        given(hashtagRepository.findAllHashtagNames()).willAnswer(invocation -> {
+            sut.add("kotlin");
+            return List.of("java");
+        });
+
+        // When
+        sut.rebuild();
+
+        // Then
+        assertThat(sut.mightExist("kotlin")).isTrue();
+        assertThat(sut.mightExist("java")).isTrue();
+    }
+}
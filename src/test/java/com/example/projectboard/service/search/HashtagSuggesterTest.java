@@ -0,0 +1,136 @@
+package com.example.projectboard.service.search;
+
+import com.example.projectboard.domain.projection.HashtagUsage;
+import com.example.projectboard.dto.ArticleDto;
+import com.example.projectboard.dto.HashtagDto;
+import com.example.projectboard.dto.UserAccountDto;
+import com.example.projectboard.dto.event.ArticleEvent;
+import com.example.projectboard.repository.HashtagRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Random;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+
+@DisplayName("검색 - 해시태그 자동완성")
+@ExtendWith(MockitoExtension.class)
+class HashtagSuggesterTest {
+
+    @InjectMocks
+    private HashtagSuggester sut;
+
+    @Mock
+    private HashtagRepository hashtagRepository;
+
+    @BeforeEach
+    void setUp() {
+        given(hashtagRepository.findHashtagUsages()).willReturn(List.of(
+                new HashtagUsage("java", 5),
+                new HashtagUsage("javascript", 8),
+                new HashtagUsage("JPA", 3),
+                new HashtagUsage("spring", 10),
+                new HashtagUsage("자바", 1)
+        ));
+        sut.rebuild();
+    }
+
+    @DisplayName("접두어를 주면, 대소문자 구분 없이 접두어로 시작하는 해시태그를 게시글이 많은 순서로 반환한다.")
+    @Test
+    void givenPrefix_whenSuggesting_thenReturnsHashtagsOrderedByArticleCount() {
+        // Given
+
+        // When & Then
+        assertThat(sut.suggest("ja", 10)).extracting(HashtagUsage::hashtagName).containsExactly("javascript", "java");
+        assertThat(sut.suggest("J", 2)).extracting(HashtagUsage::hashtagName).containsExactly("javascript", "java");
+        assertThat(sut.suggest("jp", 10)).containsExactly(new HashtagUsage("JPA", 3));
+        assertThat(sut.suggest("자", 10)).containsExactly(new HashtagUsage("자바", 1));
+        assertThat(sut.suggest("kotlin", 10)).isEmpty();
+        assertThat(sut.suggest("", 1)).containsExactly(new HashtagUsage("spring", 10));
+    }
+
+    @DisplayName("게시글의 해시태그가 바뀌면, 게시글 수를 갱신하고 게시글이 없는 해시태그는 지운다.")
+    @Test
+    void givenArticleEvents_whenApplying_thenUpdatesTrie() {
+        // Given
+        ArticleDto created = createArticleDto("kotlin", "자바");
+        ArticleDto updated = createArticleDto("kotlin");
+
+        // When & Then
+        sut.onArticleEvent(ArticleEvent.created(created));
+        assertThat(sut.suggest("k", 10)).containsExactly(new HashtagUsage("kotlin", 1));
+        assertThat(sut.suggest("자", 10)).containsExactly(new HashtagUsage("자바", 2));
+
+        sut.onArticleEvent(ArticleEvent.updated(created, updated));
+        assertThat(sut.suggest("자", 10)).containsExactly(new HashtagUsage("자바", 1));
+
+        sut.onArticleEvent(ArticleEvent.deleted(updated));
+        assertThat(sut.suggest("k", 10)).isEmpty();
+    }
+
+    @DisplayName("게시글 수가 오르내려 순위가 바뀌어도, 노드마다 둔 상위 목록이 전체를 정렬한 결과와 같다.")
+    @Test
+    void givenRankingChanges_whenSuggesting_thenReturnsSameAsSortingEveryHashtag() {
+        // Given
+        Map<String, Long> counts = new HashMap<>(Map.of("java", 5L, "javascript", 8L, "JPA", 3L, "spring", 10L, "자바", 1L));
+        Random random = new Random(42);
+
+        for (int step = 0; step < 3_000; step++) {
+            // When
+            String name = "tag" + random.nextInt(HashtagSuggester.MAX_LIMIT * 3);
+            if (random.nextInt(3) > 0 || !counts.containsKey(name)) {
+                sut.onArticleEvent(ArticleEvent.created(createArticleDto(name)));
+                counts.merge(name, 1L, Long::sum);
+            } else {
+                sut.onArticleEvent(ArticleEvent.deleted(createArticleDto(name)));
+                counts.computeIfPresent(name, (key, count) -> count > 1 ? count - 1 : null);
+            }
+
+            // Then
+            if (step % 100 == 0) {
+                for (String prefix : List.of("", "t", "tag1", "tag12", "ja")) {
+                    assertThat(sut.suggest(prefix, HashtagSuggester.MAX_LIMIT)).as("prefix: %s", prefix)
+                            .isEqualTo(sortByArticleCount(counts, prefix));
+                }
+            }
+        }
+        assertThat(sut.suggest("t", HashtagSuggester.MAX_LIMIT + 10)).hasSize(HashtagSuggester.MAX_LIMIT);
+    }
+
+    private static List<HashtagUsage> sortByArticleCount(Map<String, Long> counts, String prefix) {
+        return counts.entrySet().stream()
+                .filter(entry -> entry.getKey().toLowerCase(Locale.ROOT).startsWith(prefix))
+                .map(entry -> new HashtagUsage(entry.getKey(), entry.getValue()))
+                .sorted(Comparator.comparingLong(HashtagUsage::articleCount).reversed().thenComparing(HashtagUsage::hashtagName))
+                .limit(HashtagSuggester.MAX_LIMIT)
+                .toList();
+    }
+
+    private ArticleDto createArticleDto(String... hashtagNames) {
+        return ArticleDto.of(
+                1L,
+                UserAccountDto.of("jyuka", "pw", "jyuka@mail.com", "jyuka", null),
+                "title",
+                "content",
+                Arrays.stream(hashtagNames).map(HashtagDto::of).collect(Collectors.toUnmodifiableSet()),
+                LocalDateTime.now(),
+                "jyuka",
+                LocalDateTime.now(),
+                "jyuka"
+        );
+    }
+}
@@ -0,0 +1,42 @@
+package com.example.projectboard.util;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.springframework.boot.test.context.TestComponent;
+
+import javax.persistence.EntityManager;
+import javax.persistence.EntityManagerFactory;
+
+/**
+ * 테스트 도구 - 실행된 SQL 문 개수 세기
+ *
+ * Hibernate 통계(hibernate.generate_statistics=true)의 prepared statement 개수를 사용한다.
+ * 영속성 컨텍스트에 이미 올라온 엔티티는 select 없이 반환되므로, 세기 전에 flush / clear 하여 매번 DB 에서 읽도록 한다.
+ * <pre>
+ *     long count = queryCounter.count(() -> articleRepository.findAll(pageable).map(ArticleDto::from));
+ * </pre>
+ */
+@TestComponent
+public class QueryCounter {
+
+    private final EntityManager entityManager;
+    private final Statistics statistics;
+
+    public QueryCounter(EntityManager entityManager, EntityManagerFactory entityManagerFactory) {
+        this.entityManager = entityManager;
+        this.statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        if (!statistics.isStatisticsEnabled()) {
+            throw new IllegalStateException("hibernate.generate_statistics 설정이 꺼져 있습니다.");
+        }
+    }
+
+    public long count(Runnable action) {
+        entityManager.flush();
+        entityManager.clear();
+        statistics.clear();
+
+        action.run();
+
+        return statistics.getPrepareStatementCount();
+    }
+}